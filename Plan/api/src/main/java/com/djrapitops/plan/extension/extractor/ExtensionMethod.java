@@ -22,9 +22,7 @@ import com.djrapitops.plan.extension.Group;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Implementation detail, abstracts away some method reflection to a more usable API.
@@ -34,11 +32,19 @@ public class ExtensionMethod {
     private final Method method;
 
     private final Class<?> returnType;
+    private final Map<Class<? extends Annotation>, Annotation> annotations;
+    private String pluginName;
 
     public ExtensionMethod(DataExtension extension, Method method) {
         this.extension = extension;
         this.method = method;
         returnType = method.getReturnType();
+
+        // Resolved once, annotations are read every time values are gathered.
+        annotations = new HashMap<>();
+        for (Annotation annotation : method.getAnnotations()) {
+            annotations.put(annotation.annotationType(), annotation);
+        }
     }
 
     public boolean isInaccessible() {
@@ -50,7 +56,7 @@ public class ExtensionMethod {
     }
 
     public <T extends Annotation> Optional<T> getAnnotation(Class<T> ofType) {
-        return Optional.ofNullable(method.getAnnotation(ofType));
+        return Optional.ofNullable(ofType.cast(annotations.get(ofType)));
     }
 
     public <T extends Annotation> T getExistingAnnotation(Class<T> ofType) {
@@ -125,12 +131,17 @@ public class ExtensionMethod {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ExtensionMethod that = (ExtensionMethod) o;
-        return Objects.equals(extension.getPluginName(), that.extension.getPluginName()) && Objects.equals(method, that.method) && Objects.equals(returnType, that.returnType);
+        return Objects.equals(getPluginName(), that.getPluginName()) && Objects.equals(method, that.method) && Objects.equals(returnType, that.returnType);
+    }
+
+    private String getPluginName() {
+        if (pluginName == null) pluginName = extension.getPluginName();
+        return pluginName;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(extension.getPluginName(), method, returnType);
+        return Objects.hash(getPluginName(), method, returnType);
     }
 
     @Override
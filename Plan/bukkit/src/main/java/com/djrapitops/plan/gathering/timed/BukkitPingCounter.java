@@ -164,7 +164,7 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
                 history.add(new DateObj<>(time, ping));
                 if (history.size() >= 30) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history), config.getTimeZone())
                     );
                     history.clear();
                 }
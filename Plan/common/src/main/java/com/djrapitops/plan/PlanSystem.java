@@ -38,6 +38,7 @@ import com.djrapitops.plan.settings.SchedulerSvc;
 import com.djrapitops.plan.settings.SettingsSvc;
 import com.djrapitops.plan.settings.locale.LocaleSystem;
 import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerStartTransaction;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -194,6 +195,8 @@ public class PlanSystem implements SubSystem {
                 taskSystem
         );
 
+        databaseSystem.getDatabase().executeTransaction(new StoreServerStartTransaction(serverInfo.getServerUUID(), SERVER_ENABLE_TIME));
+
         // Disables Webserver if Proxy is detected in the database
         if (serverInfo.getServer().isNotProxy()) {
             processing.submitNonCritical(new NonProxyWebserverDisableChecker(
@@ -332,6 +335,10 @@ public class PlanSystem implements SubSystem {
         return componentService;
     }
 
+    public QuerySvc getQueryService() {
+        return queryService;
+    }
+
     public static long getServerEnableTime() {
         return SERVER_ENABLE_TIME;
     }
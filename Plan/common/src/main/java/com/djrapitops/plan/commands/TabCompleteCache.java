@@ -21,6 +21,7 @@ import com.djrapitops.plan.gathering.ServerSensor;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.query.QuerySvc;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
@@ -32,7 +33,7 @@ import org.jetbrains.annotations.NotNull;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * In charge of holding tab completion data for commands, as tab completion is done on server thread.
@@ -42,37 +43,45 @@ import java.util.stream.Collectors;
 @Singleton
 public class TabCompleteCache implements SubSystem {
 
+    private static final int MAX_MATCHES = 100;
+
     private final Processing processing;
     private final PlanFiles files;
     private final DBSystem dbSystem;
     private final ServerSensor<?> serverSensor;
+    private final QuerySvc queryService;
 
-    private final Set<String> playerIdentifiers;
-    private final Set<String> serverIdentifiers;
-    private final Set<String> userIdentifiers;
-    private final Set<String> backupFileNames;
-    private final Set<String> webGroupIdentifiers;
+    private final Map<UUID, String> playerNames;
+    private final TabCompleteIndex playerIdentifiers;
+    private final TabCompleteIndex serverIdentifiers;
+    private final TabCompleteIndex userIdentifiers;
+    private final TabCompleteIndex backupFileNames;
+    private final TabCompleteIndex webGroupIdentifiers;
 
     @Inject
     public TabCompleteCache(
             Processing processing,
             PlanFiles files,
             DBSystem dbSystem,
-            ServerSensor<?> serverSensor
+            ServerSensor<?> serverSensor,
+            QuerySvc queryService
     ) {
         this.processing = processing;
         this.files = files;
         this.dbSystem = dbSystem;
         this.serverSensor = serverSensor;
-        playerIdentifiers = new HashSet<>();
-        serverIdentifiers = new HashSet<>();
-        userIdentifiers = new HashSet<>();
-        backupFileNames = new HashSet<>();
-        webGroupIdentifiers = new HashSet<>();
+        this.queryService = queryService;
+        playerNames = new ConcurrentHashMap<>();
+        playerIdentifiers = new TabCompleteIndex();
+        serverIdentifiers = new TabCompleteIndex();
+        userIdentifiers = new TabCompleteIndex();
+        backupFileNames = new TabCompleteIndex();
+        webGroupIdentifiers = new TabCompleteIndex();
     }
 
     @Override
     public void enable() {
+        queryService.subscribeToPlayerRemoveEvent(this::removePlayerIdentifier);
         processing.submitNonCritical(() -> {
             refreshPlayerIdentifiers();
             refreshServerIdentifiers();
@@ -96,7 +105,33 @@ public class TabCompleteCache implements SubSystem {
     }
 
     private void refreshPlayerIdentifiers() {
-        playerIdentifiers.addAll(dbSystem.getDatabase().query(UserIdentifierQueries.fetchAllPlayerNames()).values());
+        Map<UUID, String> storedNames = dbSystem.getDatabase().query(UserIdentifierQueries.fetchAllPlayerNames());
+        playerNames.putAll(storedNames);
+        playerIdentifiers.addAll(storedNames.values());
+        playerIdentifiers.addAll(serverSensor.getOnlinePlayerNames());
+    }
+
+    /**
+     * Add a player name to tab completion, called when a player joins so that the index stays up to date.
+     *
+     * @param playerUUID UUID of the player.
+     * @param playerName Name of the player.
+     */
+    public void addPlayerIdentifier(UUID playerUUID, String playerName) {
+        String previousName = playerNames.put(playerUUID, playerName);
+        if (previousName != null && !previousName.equals(playerName)) {
+            playerIdentifiers.remove(previousName);
+        }
+        playerIdentifiers.add(playerName);
+    }
+
+    /**
+     * Remove a player name from tab completion, called when the player's data is removed from the database.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void removePlayerIdentifier(UUID playerUUID) {
+        playerIdentifiers.remove(playerNames.remove(playerUUID));
     }
 
     private void refreshUserIdentifiers() {
@@ -114,10 +149,12 @@ public class TabCompleteCache implements SubSystem {
 
     @Override
     public void disable() {
+        playerNames.clear();
         playerIdentifiers.clear();
         serverIdentifiers.clear();
         userIdentifiers.clear();
         backupFileNames.clear();
+        webGroupIdentifiers.clear();
     }
 
     public List<String> getMatchingServerIdentifiers(@Untrusted String searchFor) {
@@ -125,7 +162,6 @@ public class TabCompleteCache implements SubSystem {
     }
 
     public List<String> getMatchingPlayerIdentifiers(@Untrusted String searchFor) {
-        playerIdentifiers.addAll(serverSensor.getOnlinePlayerNames());
         return findMatches(playerIdentifiers, searchFor);
     }
 
@@ -142,14 +178,11 @@ public class TabCompleteCache implements SubSystem {
     }
 
     @NotNull
-    List<String> findMatches(Collection<String> searchList, @Untrusted String searchFor) {
-        List<String> filtered = searchList.stream()
-                .filter(identifier -> searchFor == null || searchFor.isEmpty() || identifier.startsWith(searchFor))
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .collect(Collectors.toList());
-        if (filtered.size() >= 100) {
+    private List<String> findMatches(TabCompleteIndex index, @Untrusted String searchFor) {
+        List<String> matches = index.findMatches(searchFor, MAX_MATCHES);
+        if (matches.size() >= MAX_MATCHES) {
             return Collections.emptyList();
         }
-        return filtered;
+        return matches;
     }
 }
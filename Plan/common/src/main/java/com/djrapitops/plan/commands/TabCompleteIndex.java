@@ -0,0 +1,87 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.commands;
+
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted index of identifiers that can be searched for identifiers starting with some text.
+ * <p>
+ * Identifiers are ordered by their lowercase form, so all identifiers that start with the searched text are next
+ * to each other and can be found with a range lookup instead of going through every identifier.
+ * Searching is case-insensitive.
+ *
+ * @author AuroraLS3
+ */
+class TabCompleteIndex {
+
+    // Separates the lowercase form from the original, so that "Name" and "name" are both kept.
+    private static final char SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, String> identifiers;
+
+    TabCompleteIndex() {
+        identifiers = new ConcurrentSkipListMap<>();
+    }
+
+    private static String toKey(String identifier) {
+        return identifier.toLowerCase(Locale.ROOT) + SEPARATOR + identifier;
+    }
+
+    void add(String identifier) {
+        if (identifier != null) identifiers.put(toKey(identifier), identifier);
+    }
+
+    void addAll(Collection<String> toAdd) {
+        for (String identifier : toAdd) {
+            add(identifier);
+        }
+    }
+
+    void remove(String identifier) {
+        if (identifier != null) identifiers.remove(toKey(identifier));
+    }
+
+    void clear() {
+        identifiers.clear();
+    }
+
+    /**
+     * Find identifiers that start with given text.
+     *
+     * @param searchFor Beginning of the identifier, null or empty matches every identifier.
+     * @param limit     Maximum number of matches to return.
+     * @return Matching identifiers in case-insensitive order, at most {@code limit}.
+     */
+    List<String> findMatches(@Untrusted String searchFor, int limit) {
+        NavigableMap<String, String> range = identifiers;
+        if (searchFor != null && !searchFor.isEmpty()) {
+            String prefix = searchFor.toLowerCase(Locale.ROOT);
+            range = identifiers.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+
+        List<String> matches = new ArrayList<>(Math.min(limit, 16));
+        for (String identifier : range.values()) {
+            if (matches.size() >= limit) break;
+            matches.add(identifier);
+        }
+        return matches;
+    }
+}
@@ -140,7 +140,7 @@ public class DatabaseCommands {
             sender.send(locale.getString(CommandLang.DB_BACKUP_CREATE, fileName, dbName));
             toDB = sqliteFactory.usingFileCalled(fileName);
             toDB.init();
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, progressReporter(sender))).get();
         } catch (DBOpException | ExecutionException e) {
             errorLogger.error(e, ErrorContext.builder().related(sender, arguments).build());
         } catch (InterruptedException e) {
@@ -199,7 +199,7 @@ public class DatabaseCommands {
             fromDB.init();
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getType().getName()));
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, progressReporter(sender))).get();
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -242,7 +242,7 @@ public class DatabaseCommands {
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getName()));
 
-            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase)).get();
+            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase, progressReporter(sender))).get();
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
 
@@ -259,6 +259,19 @@ public class DatabaseCommands {
     }
 
 
+    private BackupCopyTransaction.ProgressListener progressReporter(CMDSender sender) {
+        Map<String, Integer> reportedPercentages = new HashMap<>();
+        return (step, copiedUpTo, largestId) -> {
+            int percentage = largestId > 0 ? (int) (copiedUpTo * 100L / largestId) : 100;
+            Integer reported = reportedPercentages.get(step);
+            // Report every 10% to avoid flooding the sender with messages on large tables
+            if (reported == null || percentage >= reported + 10 || percentage == 100 && reported < 100) {
+                reportedPercentages.put(step, percentage);
+                sender.send(locale.getString(CommandLang.DB_COPY_PROGRESS, step, percentage));
+            }
+        };
+    }
+
     public void onClear(CMDSender sender, @Untrusted Arguments arguments) {
         DBType fromDB = arguments.get(0).flatMap(DBType::getForName)
                 .orElseThrow(() -> new IllegalArgumentException(locale.getString(CommandLang.FAIL_INCORRECT_DB, arguments.get(0).orElse(SUPPORTED_DB_OPTIONS))));
@@ -17,8 +17,11 @@
 package com.djrapitops.plan.commands.subcommands;
 
 import com.djrapitops.plan.PlanPlugin;
+import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.extension.ExtensionUpdateStatistics;
 import com.djrapitops.plan.commands.use.Arguments;
 import com.djrapitops.plan.commands.use.CMDSender;
+import com.djrapitops.plan.delivery.webserver.RequestLoadGuard;
 import com.djrapitops.plan.gathering.listeners.Status;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.locale.Locale;
@@ -26,7 +29,9 @@ import com.djrapitops.plan.settings.locale.lang.CommandLang;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -35,6 +40,9 @@ import net.playeranalytics.plugin.PluginInformation;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Singleton
 public class PluginStatusCommands {
@@ -46,6 +54,8 @@ public class PluginStatusCommands {
     private final DBSystem dbSystem;
     private final Status status;
     private final VersionChecker versionChecker;
+    private final ExtensionSvc extensionService;
+    private final RequestLoadGuard requestLoadGuard;
     private final ErrorLogger errorLogger;
 
     @Inject
@@ -57,6 +67,8 @@ public class PluginStatusCommands {
             DBSystem dbSystem,
             Status status,
             VersionChecker versionChecker,
+            ExtensionSvc extensionService,
+            RequestLoadGuard requestLoadGuard,
             ErrorLogger errorLogger
     ) {
         this.plugin = plugin;
@@ -66,6 +78,8 @@ public class PluginStatusCommands {
         this.dbSystem = dbSystem;
         this.status = status;
         this.versionChecker = versionChecker;
+        this.extensionService = extensionService;
+        this.requestLoadGuard = requestLoadGuard;
         this.errorLogger = errorLogger;
     }
 
@@ -110,17 +124,34 @@ public class PluginStatusCommands {
         String proxyAvailable = database.query(ServerQueries.fetchProxyServers()).isEmpty() ? no : yes;
 
 
-        String[] messages = {
+        List<String> messages = new ArrayList<>(List.of(
                 locale.getString(CommandLang.HEADER_INFO),
                 "",
                 locale.getString(CommandLang.INFO_VERSION, pluginInformation.getVersion()),
                 locale.getString(CommandLang.INFO_UPDATE, updateAvailable),
                 locale.getString(CommandLang.INFO_DATABASE, database.getType().getName() + " (" + database.getState().name() + ")"),
                 locale.getString(CommandLang.INFO_PROXY_CONNECTION, proxyAvailable),
-                locale.getString(CommandLang.INFO_SERVER_UUID, serverInfo.getServerUUID()),
-                "",
-                ">"
-        };
-        sender.send(messages);
+                locale.getString(CommandLang.INFO_SERVER_UUID, serverInfo.getServerUUID())
+        ));
+        if (database instanceof SQLDB) {
+            SQLDB sqlDB = (SQLDB) database;
+            for (TransactionPriority priority : TransactionPriority.values()) {
+                messages.add(locale.getString(CommandLang.INFO_TRANSACTIONS, priority.name().toLowerCase(),
+                        sqlDB.getTransactionQueueSize(priority), sqlDB.getExecutedTransactionCount(priority),
+                        sqlDB.getDroppedTransactionCount(priority)));
+            }
+        }
+        for (ExtensionUpdateStatistics statistics : extensionService.getUpdateStatistics()) {
+            messages.add(locale.getString(CommandLang.INFO_EXTENSION_UPDATES,
+                    statistics.getPluginName(), statistics.getUpdates(), statistics.getAverageTimeMs(),
+                    statistics.getMaxTimeMs(), statistics.getSlowUpdates(), statistics.getPendingUpdates()));
+        }
+        messages.add(locale.getString(CommandLang.INFO_RATE_LIMITED, requestLoadGuard.getRateLimitedCount()));
+        for (Map.Entry<String, Long> rejected : requestLoadGuard.getRejectedCountsByPath().entrySet()) {
+            messages.add(locale.getString(CommandLang.INFO_REJECTED_REQUESTS, rejected.getKey(), rejected.getValue()));
+        }
+        messages.add("");
+        messages.add(">");
+        sender.send(messages.toArray(new String[0]));
     }
 }
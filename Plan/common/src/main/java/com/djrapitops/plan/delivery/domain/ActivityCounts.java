@@ -0,0 +1,77 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Objects;
+
+/**
+ * Data class for player activity of a single day or hour, fetched with a single query.
+ *
+ * @author AuroraLS3
+ */
+public class ActivityCounts {
+    private final int uniquePlayers;
+    private final int newPlayers;
+    private final long playtime;
+    private final int sessionCount;
+
+    public ActivityCounts(int uniquePlayers, int newPlayers, long playtime, int sessionCount) {
+        this.uniquePlayers = uniquePlayers;
+        this.newPlayers = newPlayers;
+        this.playtime = playtime;
+        this.sessionCount = sessionCount;
+    }
+
+    public int getUniquePlayers() {
+        return uniquePlayers;
+    }
+
+    public int getNewPlayers() {
+        return newPlayers;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ActivityCounts that = (ActivityCounts) o;
+        return uniquePlayers == that.uniquePlayers && newPlayers == that.newPlayers && playtime == that.playtime && sessionCount == that.sessionCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uniquePlayers, newPlayers, playtime, sessionCount);
+    }
+
+    @Override
+    public String toString() {
+        return "ActivityCounts{" +
+                "uniquePlayers=" + uniquePlayers +
+                ", newPlayers=" + newPlayers +
+                ", playtime=" + playtime +
+                ", sessionCount=" + sessionCount +
+                '}';
+    }
+}
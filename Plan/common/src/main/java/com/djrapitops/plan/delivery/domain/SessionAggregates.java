@@ -0,0 +1,77 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Objects;
+
+/**
+ * Data class for session totals of a timespan, fetched with a single query.
+ *
+ * @author AuroraLS3
+ */
+public class SessionAggregates {
+    private final long sessionCount;
+    private final long playtime;
+    private final long mobKills;
+    private final long deaths;
+
+    public SessionAggregates(long sessionCount, long playtime, long mobKills, long deaths) {
+        this.sessionCount = sessionCount;
+        this.playtime = playtime;
+        this.mobKills = mobKills;
+        this.deaths = deaths;
+    }
+
+    public long getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public long getMobKills() {
+        return mobKills;
+    }
+
+    public long getDeaths() {
+        return deaths;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SessionAggregates that = (SessionAggregates) o;
+        return sessionCount == that.sessionCount && playtime == that.playtime && mobKills == that.mobKills && deaths == that.deaths;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sessionCount, playtime, mobKills, deaths);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionAggregates{" +
+                "sessionCount=" + sessionCount +
+                ", playtime=" + playtime +
+                ", mobKills=" + mobKills +
+                ", deaths=" + deaths +
+                '}';
+    }
+}
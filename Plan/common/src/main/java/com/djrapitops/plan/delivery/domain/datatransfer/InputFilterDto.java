@@ -48,6 +48,10 @@ public class InputFilterDto {
         return kind;
     }
 
+    List<Object> toCanonicalForm() {
+        return Arrays.asList(kind, parameters == null ? Collections.emptyMap() : new TreeMap<>(parameters));
+    }
+
     public Optional<String> get(String key) {
         if (parameters == null) return Optional.empty();
         return Optional.ofNullable(parameters.get(key));
@@ -17,7 +17,10 @@
 package com.djrapitops.plan.delivery.domain.datatransfer;
 
 import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.google.gson.Gson;
+import org.apache.commons.codec.digest.DigestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -41,6 +44,24 @@ public class InputQueryDto {
         return filters;
     }
 
+    /**
+     * Hash the query so that same view and filters result in the same hash.
+     * <p>
+     * Servers of the view and parameters of each filter are sorted, filter order is kept since it affects the result path.
+     *
+     * @return SHA-256 hex string.
+     */
+    public String getCanonicalHash() {
+        List<Object> canonical = new ArrayList<>();
+        canonical.add(view != null ? view.toCanonicalForm() : null);
+        if (filters != null) {
+            for (InputFilterDto filter : filters) {
+                canonical.add(filter != null ? filter.toCanonicalForm() : null);
+            }
+        }
+        return DigestUtils.sha256Hex(new Gson().toJson(canonical));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
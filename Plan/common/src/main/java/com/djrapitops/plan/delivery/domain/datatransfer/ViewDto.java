@@ -24,6 +24,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -72,6 +74,14 @@ public class ViewDto {
                 .collect(Collectors.toList());
     }
 
+    List<Object> toCanonicalForm() {
+        List<String> serverUUIDs = servers == null ? Collections.emptyList() : servers.stream()
+                .map(ServerDto::getServerUUID)
+                .sorted()
+                .collect(Collectors.toList());
+        return Arrays.asList(afterDate, afterTime, beforeDate, beforeTime, serverUUIDs);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -48,6 +48,7 @@ public class PlayerKeys {
 
     public static final Key<ActiveSession> ACTIVE_SESSION = new Key<>(ActiveSession.class, "active_session");
     public static final Key<List<FinishedSession>> SESSIONS = CommonKeys.SESSIONS;
+    public static final Key<List<FinishedSession>> LATEST_SESSIONS = new Key<>(new Type<>() {}, "latest_sessions");
     public static final Key<WorldTimes> WORLD_TIMES = CommonKeys.WORLD_TIMES;
 
     public static final Key<List<PlayerKill>> PLAYER_KILLS = CommonKeys.PLAYER_KILLS;
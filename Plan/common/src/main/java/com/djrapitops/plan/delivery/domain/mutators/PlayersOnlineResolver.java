@@ -16,37 +16,41 @@
  */
 package com.djrapitops.plan.delivery.domain.mutators;
 
-import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 
 /**
- * Resolves dates into players online numbers with a help of a NavigableMap.
+ * Resolves dates into players online numbers with a help of a date sorted {@link TPSSeries}.
  * <p>
- * Time Complexity of O(n / 2) with the use of TreeMap.
+ * Time Complexity of O(log n) with binary search over the date column.
  *
  * @author AuroraLS3
  */
-public class PlayersOnlineResolver extends TreeMap<Long, Integer> {
+public class PlayersOnlineResolver {
 
+    private final TPSSeries series;
+
+    /**
+     * Create a new resolver.
+     * <p>
+     * The series of the mutator is sorted by date in place instead of copied, so the mutator should not be
+     * read concurrently while the resolver is created.
+     *
+     * @param mutator Mutator with the data, its order is changed to ascending date order.
+     */
     public PlayersOnlineResolver(TPSMutator mutator) {
-        List<Point> points = mutator.playersOnlinePoints();
-        for (Point point : points) {
-            double date = point.getX();
-            double value = point.getY();
-            put((long) date, (int) value);
-        }
+        series = mutator.getSeries();
+        series.sortByDate();
     }
 
     public Optional<Integer> getOnlineOn(long date) {
-        Map.Entry<Long, Integer> entry = floorEntry(date);
-        if (entry == null) {
+        int index = series.floorIndex(date);
+        if (index == -1) {
             return Optional.empty();
         }
-        return Optional.of(entry.getValue());
+        return Optional.of(series.getPlayers(index));
     }
 
     public int findLonelyJoins(List<Long> joinDates) {
@@ -58,7 +62,7 @@ public class PlayersOnlineResolver extends TreeMap<Long, Integer> {
     }
 
     public boolean isServerOnline(long date, long timeLimit) {
-        Long lastEntry = floorKey(date);
-        return date - lastEntry < timeLimit;
+        int index = series.floorIndex(date);
+        return index != -1 && date - series.getDate(index) < timeLimit;
     }
-}
\ No newline at end of file
+}
@@ -17,129 +17,141 @@
 package com.djrapitops.plan.delivery.domain.mutators;
 
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraph;
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.PlayersOnlineArrays;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
 import com.djrapitops.plan.gathering.domain.TPS;
-import com.djrapitops.plan.utilities.comparators.TPSComparator;
-import com.djrapitops.plan.utilities.java.Lists;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntToDoubleFunction;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * Mutator for a list of TPS data.
  * <p>
  * Can be used to get properties of a large number of TPS entries easily.
+ * The data is held as a {@link TPSSeries} so that aggregation does not need an object per data point.
  *
  * @author AuroraLS3
  */
 public class TPSMutator {
 
-    private final List<TPS> tpsData;
+    private final TPSSeries tpsData;
 
     public TPSMutator(List<TPS> tpsData) {
+        this(TPSSeries.of(tpsData));
+    }
+
+    public TPSMutator(TPSSeries tpsData) {
         this.tpsData = tpsData;
     }
 
     public static TPSMutator copyOf(TPSMutator mutator) {
-        return new TPSMutator(new ArrayList<>(mutator.tpsData));
+        return new TPSMutator(mutator.tpsData.copy());
     }
 
     public TPSMutator filterBy(Predicate<TPS> filter) {
-        return new TPSMutator(Lists.filter(tpsData, filter));
+        return new TPSMutator(tpsData.filter(index -> filter.test(tpsData.get(index))));
     }
 
     public TPSMutator filterDataBetween(long after, long before) {
-        return filterBy(tps -> tps.getDate() >= after && tps.getDate() <= before);
+        return new TPSMutator(tpsData.filter(index -> {
+            long date = tpsData.getDate(index);
+            return date >= after && date <= before;
+        }));
     }
 
     public TPSMutator filterTPSBetween(double above, double below) {
-        return filterBy(tps -> tps.getTicksPerSecond() > above && tps.getTicksPerSecond() < below);
+        return new TPSMutator(tpsData.filter(index -> {
+            double tps = tpsData.getTicksPerSecond(index);
+            return tps > above && tps < below;
+        }));
     }
 
+    /**
+     * Get the data points as {@link TPS} objects.
+     *
+     * @return New list with an object for each data point.
+     */
     public List<TPS> all() {
+        return tpsData.toList();
+    }
+
+    /**
+     * Get the series backing this mutator.
+     * <p>
+     * The series is not copied, so changes to it (like {@link TPSSeries#sortByDate()}) are visible in this mutator.
+     *
+     * @return The backing series.
+     */
+    public TPSSeries getSeries() {
         return tpsData;
     }
 
     public List<Point> playersOnlinePoints() {
-        return Lists.map(tpsData, tps -> new Point(tps.getDate(), tps.getPlayers()));
+        return toPoints(tpsData::getPlayers, false);
     }
 
     public List<Point> tpsPoints() {
-        return Lists.map(tpsData, tps -> new Point(tps.getDate(), tps.getTicksPerSecond()));
+        return toPoints(tpsData::getTicksPerSecond, false);
     }
 
     public List<Point> cpuPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getCPUUsage()))
-                .filter(point -> point.getY() != -1)
-                .collect(Collectors.toList());
+        return toPoints(tpsData::getCPUUsage, true);
     }
 
     public List<Point> ramUsagePoints() {
-        return Lists.map(tpsData, tps -> new Point(tps.getDate(), tps.getUsedMemory()));
+        return toPoints(tpsData::getUsedMemory, false);
     }
 
     public List<Point> entityPoints() {
-        return Lists.map(tpsData, tps -> new Point(tps.getDate(), tps.getEntityCount()));
+        return toPoints(tpsData::getEntityCount, false);
     }
 
     public List<Point> chunkPoints() {
-        return Lists.map(tpsData, tps -> new Point(tps.getDate(), tps.getChunksLoaded()));
+        return toPoints(tpsData::getChunksLoaded, false);
     }
 
     public List<Point> freeDiskPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getFreeDiskSpace()))
-                .filter(point -> point.getY() != -1)
-                .collect(Collectors.toList());
+        return toPoints(tpsData::getFreeDiskSpace, true);
+    }
+
+    private List<Point> toPoints(IntToDoubleFunction values, boolean skipUnavailable) {
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double value = values.applyAsDouble(i);
+            if (skipUnavailable && value == -1) continue;
+            points.add(new Point(tpsData.getDate(i), value));
+        }
+        return points;
     }
 
     public long serverDownTime() {
-        long lastDate = -1;
+        tpsData.sortByDate();
         long downTime = 0;
-        tpsData.sort(new TPSComparator());
-        for (TPS tps : tpsData) {
-            long date = tps.getDate();
-            if (lastDate == -1) {
-                lastDate = date;
-                continue;
-            }
-
-            long diff = date - lastDate;
+        for (int i = 1; i < tpsData.size(); i++) {
+            long diff = tpsData.getDate(i) - tpsData.getDate(i - 1);
             if (diff > TimeUnit.MINUTES.toMillis(3L)) {
                 downTime += diff;
             }
-            lastDate = date;
         }
-
         return downTime;
     }
 
     public long serverOccupiedTime() {
-        long lastDate = -1;
+        tpsData.sortByDate();
         long activeTime = 0;
-        tpsData.sort(new TPSComparator());
-        for (TPS tps : tpsData) {
-            long date = tps.getDate();
-            if (lastDate == -1) {
-                lastDate = date;
-                continue;
-            }
-
-            int players = tps.getPlayers();
-            long diff = date - lastDate;
-            if (players > 0 && diff <= TimeUnit.MINUTES.toMillis(3L)) {
+        for (int i = 1; i < tpsData.size(); i++) {
+            long diff = tpsData.getDate(i) - tpsData.getDate(i - 1);
+            if (tpsData.getPlayers(i) > 0 && diff <= TimeUnit.MINUTES.toMillis(3L)) {
                 activeTime += diff;
             }
-
-            lastDate = date;
         }
-
         return activeTime;
     }
 
@@ -149,8 +161,8 @@ public class TPSMutator {
         }
 
         long count = 0;
-        for (TPS tps : tpsData) {
-            if (tps.getTicksPerSecond() >= threshold) {
+        for (int i = 0; i < tpsData.size(); i++) {
+            if (tpsData.getTicksPerSecond(i) >= threshold) {
                 count++;
             }
         }
@@ -162,8 +174,8 @@ public class TPSMutator {
         boolean wasLow = false;
         int spikeCount = 0;
 
-        for (TPS tpsObj : tpsData) {
-            double tps = tpsObj.getTicksPerSecond();
+        for (int i = 0; i < tpsData.size(); i++) {
+            double tps = tpsData.getTicksPerSecond(i);
             if (0 <= tps && tps < threshold) {
                 if (!wasLow) {
                     spikeCount++;
@@ -177,97 +189,120 @@ public class TPSMutator {
         return spikeCount;
     }
 
+    private double averageOfAvailable(IntToDoubleFunction values) {
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < tpsData.size(); i++) {
+            double value = values.applyAsDouble(i);
+            if (value >= 0) {
+                sum += value;
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : -1;
+    }
+
     public int averagePlayers() {
-        return (int) tpsData.stream()
-                .mapToInt(TPS::getPlayers)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return (int) averageOfAvailable(tpsData::getPlayers);
     }
 
     public double averageTPS() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getTicksPerSecond)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return averageOfAvailable(tpsData::getTicksPerSecond);
     }
 
     public double averageCPU() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getCPUUsage)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return averageOfAvailable(tpsData::getCPUUsage);
     }
 
     public double averageRAM() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getUsedMemory)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return averageOfAvailable(tpsData::getUsedMemory);
     }
 
     public double averageEntities() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getEntityCount)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return averageOfAvailable(tpsData::getEntityCount);
     }
 
     public double averageChunks() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getChunksLoaded)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return averageOfAvailable(tpsData::getChunksLoaded);
     }
 
     public double averageFreeDisk() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getFreeDiskSpace)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return averageOfAvailable(tpsData::getFreeDiskSpace);
     }
 
     public long maxFreeDisk() {
-        return tpsData.stream()
-                .mapToLong(TPS::getFreeDiskSpace)
-                .filter(num -> num >= 0)
-                .max().orElse(-1);
+        long max = -1;
+        for (int i = 0; i < tpsData.size(); i++) {
+            max = Math.max(max, tpsData.getFreeDiskSpace(i));
+        }
+        return max;
     }
 
     public long minFreeDisk() {
-        return tpsData.stream()
-                .mapToLong(TPS::getFreeDiskSpace)
-                .filter(num -> num >= 0)
-                .min().orElse(-1);
+        long min = -1;
+        for (int i = 0; i < tpsData.size(); i++) {
+            long freeDisk = tpsData.getFreeDiskSpace(i);
+            if (freeDisk >= 0 && (min == -1 || freeDisk < min)) {
+                min = freeDisk;
+            }
+        }
+        return min;
     }
 
     public double averagePlayersOnline() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getPlayers)
-                .average().orElse(-1);
+        if (tpsData.isEmpty()) return -1;
+        double sum = 0;
+        for (int i = 0; i < tpsData.size(); i++) {
+            sum += tpsData.getPlayers(i);
+        }
+        return sum / tpsData.size();
     }
 
     public Optional<TPS> getLast() {
         if (tpsData.isEmpty()) return Optional.empty();
         // else
-        tpsData.sort(new TPSComparator());
+        tpsData.sortByDate();
         return Optional.of(tpsData.get(tpsData.size() - 1));
     }
 
+    public PlayersOnlineArrays toPlayersOnlineArrays() {
+        return new PlayersOnlineArrays(tpsData);
+    }
+
     public List<Number[]> toArrays(LineGraph.GapStrategy gapStrategy) {
         List<Number[]> arrays = new ArrayList<>();
         Long lastX = null;
-        for (TPS tps : tpsData) {
-            long date = tps.getDate();
+        for (int i = 0; i < tpsData.size(); i++) {
+            long date = tpsData.getDate(i);
             if (gapStrategy.fillGaps && lastX != null && date - lastX > gapStrategy.acceptableGapMs) {
                 addMissingPoints(arrays, lastX, date, gapStrategy);
             }
             lastX = date;
 
-            arrays.add(tps.toArray());
+            arrays.add(toArray(i));
         }
         return arrays;
     }
 
+    private Number[] toArray(int index) {
+        double tps = tpsData.getTicksPerSecond(index);
+        double cpu = tpsData.getCPUUsage(index);
+        long ram = tpsData.getUsedMemory(index);
+        int entities = tpsData.getEntityCount(index);
+        int chunks = tpsData.getChunksLoaded(index);
+        long disk = tpsData.getFreeDiskSpace(index);
+        return new Number[]{
+                tpsData.getDate(index),
+                tpsData.getPlayers(index),
+                tps >= 0 ? tps : null,
+                cpu >= 0 ? cpu : null,
+                ram >= 0 ? ram : null,
+                entities >= 0 ? entities : null,
+                chunks >= 0 ? chunks : null,
+                disk >= 0 ? disk : null
+        };
+    }
+
     private void addMissingPoints(List<Number[]> arrays, Long lastX, long date, LineGraph.GapStrategy gapStrategy) {
         long iterate = lastX + gapStrategy.diffToFirstGapPointMs;
         while (iterate < date) {
@@ -43,6 +43,7 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
@@ -56,6 +57,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -104,8 +106,8 @@ public class JSONFactory {
         Database database = dbSystem.getDatabase();
 
         return new PlayersTableJSONCreator(
-                database.query(new ServerTablePlayersQuery(serverUUID, System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
-                database.query(new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers)),
+                database.queryReadOnly(new ServerTablePlayersQuery(serverUUID, System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
+                database.queryReadOnly(new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers)),
                 openPlayerLinksInNewTab,
                 formatters, locale
         ).toJSONMap();
@@ -118,7 +120,7 @@ public class JSONFactory {
 
         Database database = dbSystem.getDatabase();
 
-        List<ServerUUID> mainServerUUIDs = database.query(ServerQueries.fetchProxyServers())
+        List<ServerUUID> mainServerUUIDs = database.queryReadOnly(ServerQueries.fetchProxyServers())
                 .stream()
                 .map(Server::getUuid)
                 .collect(Collectors.toList());
@@ -126,8 +128,9 @@ public class JSONFactory {
 
         Map<UUID, ExtensionTabData> allPluginData = new HashMap<>();
 
-        for (ServerUUID serverUUID : mainServerUUIDs) {
-            Map<UUID, ExtensionTabData> pluginData = database.query(new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers));
+        Map<ServerUUID, Map<UUID, ExtensionTabData>> pluginDataOfServers = ServerFanOut.queryEach(database, mainServerUUIDs,
+                serverUUID -> new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers));
+        for (Map<UUID, ExtensionTabData> pluginData : pluginDataOfServers.values()) {
             for (Map.Entry<UUID, ExtensionTabData> entry : pluginData.entrySet()) {
                 UUID playerUUID = entry.getKey();
                 ExtensionTabData dataFromServer = entry.getValue();
@@ -142,7 +145,7 @@ public class JSONFactory {
 
 
         return new PlayersTableJSONCreator(
-                database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
+                database.queryReadOnly(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
                 allPluginData,
                 openPlayerLinksInNewTab,
                 formatters, locale,
@@ -152,29 +155,59 @@ public class JSONFactory {
 
     public List<RetentionData> playerRetentionAsJSONMap(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
-        return db.query(PlayerRetentionQueries.fetchRetentionData(serverUUID));
+        return db.queryReadOnly(PlayerRetentionQueries.fetchRetentionData(serverUUID));
     }
 
     public List<RetentionData> networkPlayerRetentionAsJSONMap() {
         Database db = dbSystem.getDatabase();
-        return db.query(PlayerRetentionQueries.fetchRetentionData());
+        return db.queryReadOnly(PlayerRetentionQueries.fetchRetentionData());
+    }
+
+    public Map<String, Object> playerRetentionCurveAsJSONMap(ServerUUID serverUUID) {
+        Database db = dbSystem.getDatabase();
+        return retentionCurveAsJSONMap(db.queryReadOnly(PlayerRetentionQueries.fetchRetentionCurve(serverUUID)));
+    }
+
+    public Map<String, Object> networkPlayerRetentionCurveAsJSONMap() {
+        Database db = dbSystem.getDatabase();
+        return retentionCurveAsJSONMap(db.queryReadOnly(PlayerRetentionQueries.fetchRetentionCurve()));
+    }
+
+    private Map<String, Object> retentionCurveAsJSONMap(Map<Integer, Integer> playersByDaysStayed) {
+        int playerCount = 0;
+        List<Map<String, Object>> points = new ArrayList<>();
+        List<Integer> days = new ArrayList<>(playersByDaysStayed.keySet());
+        Collections.reverse(days);
+        // Players that stayed for x days have also stayed for every day before it.
+        for (Integer day : days) {
+            playerCount += playersByDaysStayed.get(day);
+            points.add(Maps.builder(String.class, Object.class)
+                    .put("days", day)
+                    .put("players", playerCount)
+                    .build());
+        }
+        Collections.reverse(points);
+        return Maps.builder(String.class, Object.class)
+                .put("player_count", playerCount)
+                .put("retention_curve", points)
+                .build();
     }
 
     public Map<UUID, String> playerJoinAddresses(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
-        return db.query(JoinAddressQueries.latestJoinAddressesOfPlayers(serverUUID));
+        return db.queryReadOnly(JoinAddressQueries.latestJoinAddressesOfPlayers(serverUUID));
     }
 
     public Map<UUID, String> playerJoinAddresses() {
         Database db = dbSystem.getDatabase();
-        return db.query(JoinAddressQueries.latestJoinAddressesOfPlayers());
+        return db.queryReadOnly(JoinAddressQueries.latestJoinAddressesOfPlayers());
     }
 
     public List<Map<String, Object>> serverSessionsAsJSONMap(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
 
         Integer perPageLimit = config.get(DisplaySettings.SESSIONS_PER_PAGE);
-        List<FinishedSession> sessions = db.query(SessionQueries.fetchLatestSessionsOfServer(serverUUID, perPageLimit));
+        List<FinishedSession> sessions = db.queryReadOnly(SessionQueries.fetchLatestSessionsOfServer(serverUUID, perPageLimit));
         // Add online sessions
         if (serverUUID.equals(serverInfo.getServerUUID())) {
             addActiveSessions(sessions);
@@ -193,7 +226,7 @@ public class JSONFactory {
         Database db = dbSystem.getDatabase();
         Integer perPageLimit = config.get(DisplaySettings.SESSIONS_PER_PAGE);
 
-        List<FinishedSession> sessions = db.query(SessionQueries.fetchLatestSessions(perPageLimit));
+        List<FinishedSession> sessions = db.queryReadOnly(SessionQueries.fetchLatestSessions(perPageLimit));
         // Add online sessions
         if (serverInfo.getServer().isProxy()) {
             addActiveSessions(sessions);
@@ -219,7 +252,7 @@ public class JSONFactory {
 
     public List<Map<String, Object>> serverPlayerKillsAsJSONMaps(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
-        List<PlayerKill> kills = db.query(KillQueries.fetchPlayerKillsOnServer(serverUUID, 100));
+        List<PlayerKill> kills = db.queryReadOnly(KillQueries.fetchPlayerKillsOnServer(serverUUID, 100));
         return new PlayerKillMutator(kills).toJSONAsMap(formatters);
     }
 
@@ -238,7 +271,7 @@ public class JSONFactory {
         Formatter<Double> decimals = formatters.decimals();
         Formatter<Long> timeAmount = formatters.timeAmount();
 
-        Map<ServerUUID, Server> serverInformation = db.query(ServerQueries.fetchPlanServerInformation());
+        Map<ServerUUID, Server> serverInformation = db.queryReadOnly(ServerQueries.fetchPlanServerInformation());
         ServerUUID proxyUUID = serverInformation.values().stream()
                 .filter(Server::isProxy)
                 .findFirst()
@@ -249,12 +282,28 @@ public class JSONFactory {
             server.getId().ifPresent(serverId -> serverUuidToId.put(server.getUuid(), serverId));
         }
 
-        Map<Integer, List<TPS>> tpsDataByServerId = db.query(
-                TPSQueries.fetchTPSDataOfAllServersBut(weekAgo, now, proxyUUID)
-        );
-        Map<ServerUUID, Integer> totalPlayerCounts = db.query(PlayerCountQueries.newPlayerCounts(0, now));
-        Map<ServerUUID, Integer> newPlayerCounts = db.query(PlayerCountQueries.newPlayerCounts(weekAgo, now));
-        Map<ServerUUID, Integer> uniquePlayerCounts = db.query(PlayerCountQueries.uniquePlayerCounts(weekAgo, now));
+        List<ServerUUID> gameServerUUIDs = serverInformation.values().stream()
+                .filter(Server::isNotProxy)
+                .map(Server::getUuid)
+                .collect(Collectors.toList());
+        long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
+
+        QueryBatch batch = db.queryBatchReadOnly();
+        Supplier<Map<Integer, List<TPS>>> tpsData = batch.add(TPSQueries.fetchTPSDataOfAllServersBut(weekAgo, now, proxyUUID));
+        Supplier<Map<ServerUUID, Integer>> totalPlayers = batch.add(PlayerCountQueries.newPlayerCounts(0, now));
+        Supplier<Map<ServerUUID, Integer>> newPlayers = batch.add(PlayerCountQueries.newPlayerCounts(weekAgo, now));
+        Supplier<Map<ServerUUID, Integer>> uniquePlayers = batch.add(PlayerCountQueries.uniquePlayerCounts(weekAgo, now));
+        Map<ServerUUID, Supplier<Optional<DateObj<Integer>>>> recentPeakData = ServerFanOut.addEach(batch, gameServerUUIDs,
+                serverUUID -> TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Map<ServerUUID, Supplier<Optional<DateObj<Integer>>>> allTimePeakData = ServerFanOut.addEach(batch, gameServerUUIDs,
+                TPSQueries::fetchAllTimePeakPlayerCount);
+
+        Map<ServerUUID, Optional<DateObj<Integer>>> recentPeaks = ServerFanOut.getAll(recentPeakData);
+        Map<ServerUUID, Optional<DateObj<Integer>>> allTimePeaks = ServerFanOut.getAll(allTimePeakData);
+        Map<Integer, List<TPS>> tpsDataByServerId = tpsData.get();
+        Map<ServerUUID, Integer> totalPlayerCounts = totalPlayers.get();
+        Map<ServerUUID, Integer> newPlayerCounts = newPlayers.get();
+        Map<ServerUUID, Integer> uniquePlayerCounts = uniquePlayers.get();
 
         List<Map<String, Object>> servers = new ArrayList<>();
         serverInformation.entrySet()
@@ -268,17 +317,15 @@ public class JSONFactory {
                     server.put("serverUUID", entry.getValue().getUuid().toString());
                     server.put("playersOnlineColor", theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE));
 
-                    Optional<DateObj<Integer>> recentPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, now - TimeUnit.DAYS.toMillis(2L)));
-                    Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+                    Optional<DateObj<Integer>> recentPeak = recentPeaks.get(serverUUID);
+                    Optional<DateObj<Integer>> allTimePeak = allTimePeaks.get(serverUUID);
                     server.put("last_peak_date", recentPeak.map(DateObj::getDate).map(year).orElse("-"));
                     server.put("best_peak_date", allTimePeak.map(DateObj::getDate).map(year).orElse("-"));
                     server.put("last_peak_players", recentPeak.map(DateObj::getValue).orElse(0));
                     server.put("best_peak_players", allTimePeak.map(DateObj::getValue).orElse(0));
 
                     TPSMutator tpsMonth = new TPSMutator(tpsDataByServerId.getOrDefault(serverUuidToId.get(serverUUID), Collections.emptyList()));
-                    server.put("playersOnline", tpsMonth.all().stream()
-                            .map(tps -> new double[]{tps.getDate(), tps.getPlayers()})
-                            .toArray(double[][]::new));
+                    server.put("playersOnline", tpsMonth.toPlayersOnlineArrays());
                     server.put("players", totalPlayerCounts.getOrDefault(serverUUID, 0));
                     server.put("new_players", newPlayerCounts.getOrDefault(serverUUID, 0));
                     server.put("unique_players", uniquePlayerCounts.getOrDefault(serverUUID, 0));
@@ -299,14 +346,14 @@ public class JSONFactory {
     }
 
     public Map<String, Object> pingPerGeolocation(ServerUUID serverUUID) {
-        Map<String, Ping> pingByGeolocation = dbSystem.getDatabase().query(PingQueries.fetchPingDataOfServerByGeolocation(serverUUID));
+        Map<String, Ping> pingByGeolocation = dbSystem.getDatabase().queryReadOnly(PingQueries.fetchPingDataOfServerByGeolocation(serverUUID));
         return Maps.builder(String.class, Object.class)
                 .put("table", turnToTableEntries(pingByGeolocation))
                 .build();
     }
 
     public Map<String, Object> pingPerGeolocation() {
-        Map<String, Ping> pingByGeolocation = dbSystem.getDatabase().query(PingQueries.fetchPingDataOfNetworkByGeolocation());
+        Map<String, Ping> pingByGeolocation = dbSystem.getDatabase().queryReadOnly(PingQueries.fetchPingDataOfNetworkByGeolocation());
         return Maps.builder(String.class, Object.class)
                 .put("table", turnToTableEntries(pingByGeolocation))
                 .build();
@@ -329,7 +376,7 @@ public class JSONFactory {
     }
 
     public Map<String, List<ServerDto>> listServers() {
-        Collection<Server> servers = dbSystem.getDatabase().query(ServerQueries.fetchPlanServerInformationCollection());
+        Collection<Server> servers = dbSystem.getDatabase().queryReadOnly(ServerQueries.fetchPlanServerInformationCollection());
         return Collections.singletonMap("servers", servers.stream()
                 .map(ServerDto::fromServer)
                 .collect(Collectors.toList()));
@@ -19,7 +19,7 @@ package com.djrapitops.plan.delivery.rendering.json;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
-import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
@@ -33,7 +33,6 @@ import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -77,14 +76,14 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
+        TPSSeries tpsData = db.queryReadOnly(TPSQueries.fetchTPSSeriesOfServer(monthAgo, now, serverUUID));
 
         serverOverview.put("numbers", createNumbersMap(tpsData));
         serverOverview.put("insights", createInsightsMap(tpsData));
         return serverOverview;
     }
 
-    private Map<String, Object> createNumbersMap(List<TPS> tpsData) {
+    private Map<String, Object> createNumbersMap(TPSSeries tpsData) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
@@ -145,7 +144,7 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
         return value != -1 ? percentage.apply(value / 100.0) : locale.get(GenericLang.UNAVAILABLE).toString();
     }
 
-    private Map<String, Object> createInsightsMap(List<TPS> tpsData) {
+    private Map<String, Object> createInsightsMap(TPSSeries tpsData) {
         TPSMutator tpsMutator = new TPSMutator(tpsData);
         Double tpsThreshold = config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
         TPSMutator lowTPS = tpsMutator.filterTPSBetween(-1, tpsThreshold);
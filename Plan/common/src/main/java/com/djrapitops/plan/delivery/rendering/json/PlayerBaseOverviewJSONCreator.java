@@ -22,7 +22,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
@@ -33,6 +33,7 @@ import javax.inject.Singleton;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Playerbase Overview tab.
@@ -69,54 +70,69 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
     }
 
     private Map<String, Object> createTrendsMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
         long twoMonthsAgo = now - TimeUnit.DAYS.toMillis(60L);
         Long playThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().queryBatchReadOnly();
+        Supplier<Integer> playersBeforeResult = batch.add(PlayerCountQueries.newPlayerCount(0L, monthAgo, serverUUID));
+        Supplier<Integer> playersAfterResult = batch.add(PlayerCountQueries.newPlayerCount(0L, now, serverUUID));
+        Supplier<Integer> regularBeforeResult = batch.add(ActivityIndexQueries.fetchRegularPlayerCount(monthAgo, serverUUID, playThreshold));
+        Supplier<Integer> regularAfterResult = batch.add(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playThreshold));
+        Supplier<Long> avgPlaytimeBeforeResult = batch.add(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo, serverUUID));
+        Supplier<Long> avgPlaytimeAfterResult = batch.add(SessionQueries.averagePlaytimePerPlayer(monthAgo, now, serverUUID));
+        Supplier<Long> avgAfkBeforeResult = batch.add(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo, serverUUID));
+        Supplier<Long> avgAfkAfterResult = batch.add(SessionQueries.averageAfkPerPlayer(monthAgo, now, serverUUID));
+        Supplier<Long> avgRegularPlaytimeBeforeResult = batch.add(ActivityIndexQueries.averagePlaytimePerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
+        Supplier<Long> avgRegularPlaytimeAfterResult = batch.add(ActivityIndexQueries.averagePlaytimePerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Long> avgRegularSessionLengthBeforeResult = batch.add(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
+        Supplier<Long> avgRegularSessionLengthAfterResult = batch.add(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Long> avgRegularAfkBeforeResult = batch.add(ActivityIndexQueries.averageAFKPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
+        Supplier<Long> avgRegularAfkAfterResult = batch.add(ActivityIndexQueries.averageAFKPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+
         Map<String, Object> trends = new HashMap<>();
 
-        Integer playersBefore = db.query(PlayerCountQueries.newPlayerCount(0L, monthAgo, serverUUID));
-        Integer playersAfter = db.query(PlayerCountQueries.newPlayerCount(0L, now, serverUUID));
+        Integer playersBefore = playersBeforeResult.get();
+        Integer playersAfter = playersAfterResult.get();
         trends.put("total_players_then", playersBefore);
         trends.put("total_players_now", playersAfter);
         trends.put("total_players_trend", new Trend(playersBefore, playersAfter, false));
 
-        Integer regularBefore = db.query(ActivityIndexQueries.fetchRegularPlayerCount(monthAgo, serverUUID, playThreshold));
-        Integer regularAfter = db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playThreshold));
+        Integer regularBefore = regularBeforeResult.get();
+        Integer regularAfter = regularAfterResult.get();
         trends.put("regular_players_then", regularBefore);
         trends.put("regular_players_now", regularAfter);
         trends.put("regular_players_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long avgPlaytimeBefore = db.query(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgPlaytimeAfter = db.query(SessionQueries.averagePlaytimePerPlayer(monthAgo, now, serverUUID));
+        Long avgPlaytimeBefore = avgPlaytimeBeforeResult.get();
+        Long avgPlaytimeAfter = avgPlaytimeAfterResult.get();
         trends.put("playtime_avg_then", timeAmount.apply(avgPlaytimeBefore));
         trends.put("playtime_avg_now", timeAmount.apply(avgPlaytimeAfter));
         trends.put("playtime_avg_trend", new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount));
 
-        Long avgAfkBefore = db.query(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgAfkAfter = db.query(SessionQueries.averageAfkPerPlayer(monthAgo, now, serverUUID));
+        Long avgAfkBefore = avgAfkBeforeResult.get();
+        Long avgAfkAfter = avgAfkAfterResult.get();
         double afkPercentageBefore = Percentage.calculate(avgAfkBefore, avgPlaytimeBefore);
         double afkPercentageAfter = Percentage.calculate(avgAfkAfter, avgPlaytimeAfter);
         trends.put("afk_then", percentage.apply(afkPercentageBefore));
         trends.put("afk_now", percentage.apply(afkPercentageAfter));
         trends.put("afk_trend", new Trend(afkPercentageBefore, afkPercentageAfter, Trend.REVERSED, percentage));
 
-        Long avgRegularPlaytimeBefore = db.query(ActivityIndexQueries.averagePlaytimePerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
-        Long avgRegularPlaytimeAfter = db.query(ActivityIndexQueries.averagePlaytimePerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Long avgRegularPlaytimeBefore = avgRegularPlaytimeBeforeResult.get();
+        Long avgRegularPlaytimeAfter = avgRegularPlaytimeAfterResult.get();
         trends.put("regular_playtime_avg_then", timeAmount.apply(avgRegularPlaytimeBefore));
         trends.put("regular_playtime_avg_now", timeAmount.apply(avgRegularPlaytimeAfter));
         trends.put("regular_playtime_avg_trend", new Trend(avgRegularPlaytimeBefore, avgRegularPlaytimeAfter, false, timeAmount));
 
-        Long avgRegularSessionLengthBefore = db.query(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
-        Long avgRegularSessionLengthAfter = db.query(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Long avgRegularSessionLengthBefore = avgRegularSessionLengthBeforeResult.get();
+        Long avgRegularSessionLengthAfter = avgRegularSessionLengthAfterResult.get();
         trends.put("regular_session_avg_then", timeAmount.apply(avgRegularSessionLengthBefore));
         trends.put("regular_session_avg_now", timeAmount.apply(avgRegularSessionLengthAfter));
         trends.put("regular_session_avg_trend", new Trend(avgRegularSessionLengthBefore, avgRegularSessionLengthAfter, false, timeAmount));
 
-        Long avgRegularAfkBefore = db.query(ActivityIndexQueries.averageAFKPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
-        Long avgRegularAfkAfter = db.query(ActivityIndexQueries.averageAFKPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Long avgRegularAfkBefore = avgRegularAfkBeforeResult.get();
+        Long avgRegularAfkAfter = avgRegularAfkAfterResult.get();
         double afkRegularPercentageBefore = Percentage.calculate(avgRegularAfkBefore, avgRegularPlaytimeBefore);
         double afkRegularPercentageAfter = Percentage.calculate(avgRegularAfkAfter, avgRegularPlaytimeAfter);
         trends.put("regular_afk_avg_then", percentage.apply(afkRegularPercentageBefore));
@@ -127,23 +143,30 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
     }
 
     private Map<String, Object> createInsightsMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long halfMonthAgo = now - TimeUnit.DAYS.toMillis(15L);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
         Long playThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().queryBatchReadOnly();
+        Supplier<Integer> newToRegularResult = batch.add(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Integer> newToRegularBeforeResult = batch.add(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, halfMonthAgo, serverUUID, playThreshold));
+        Supplier<Integer> newToRegularAfterResult = batch.add(ActivityIndexQueries.countNewPlayersTurnedRegular(halfMonthAgo, now, serverUUID, playThreshold));
+        Supplier<Integer> regularToInactiveResult = batch.add(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Integer> regularToInactiveBeforeResult = batch.add(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, halfMonthAgo, serverUUID, playThreshold));
+        Supplier<Integer> regularToInactiveAfterResult = batch.add(ActivityIndexQueries.countRegularPlayersTurnedInactive(halfMonthAgo, now, serverUUID, playThreshold));
+
         Map<String, Object> insights = new HashMap<>();
 
-        int newToRegular = db.query(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, now, serverUUID, playThreshold));
-        Integer newToRegularBefore = db.query(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, halfMonthAgo, serverUUID, playThreshold));
-        Integer newToRegularAfter = db.query(ActivityIndexQueries.countNewPlayersTurnedRegular(halfMonthAgo, now, serverUUID, playThreshold));
+        int newToRegular = newToRegularResult.get();
+        Integer newToRegularBefore = newToRegularBeforeResult.get();
+        Integer newToRegularAfter = newToRegularAfterResult.get();
         insights.put("new_to_regular", newToRegular);
         insights.put("new_to_regular_trend", new Trend(newToRegularBefore, newToRegularAfter, false));
 
-        Integer regularToInactive = db.query(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, now, serverUUID, playThreshold));
-        Integer regularToInactiveBefore = db.query(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, halfMonthAgo, serverUUID, playThreshold));
-        Integer regularToInactiveAfter = db.query(ActivityIndexQueries.countRegularPlayersTurnedInactive(halfMonthAgo, now, serverUUID, playThreshold));
+        Integer regularToInactive = regularToInactiveResult.get();
+        Integer regularToInactiveBefore = regularToInactiveBeforeResult.get();
+        Integer regularToInactiveAfter = regularToInactiveAfterResult.get();
         insights.put("regular_to_inactive", regularToInactive);
         insights.put("regular_to_inactive_trend", new Trend(regularToInactiveBefore, regularToInactiveAfter, Trend.REVERSED));
 
@@ -30,6 +30,7 @@ import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
 import com.djrapitops.plan.extension.implementation.results.ExtensionData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
@@ -45,7 +46,7 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerQuery;
+import com.djrapitops.plan.storage.database.queries.containers.PlayerPageContainerQuery;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
@@ -95,17 +96,18 @@ public class PlayerJSONCreator {
     }
 
     public long getLastSeen(UUID playerUUID) {
-        return dbSystem.getDatabase().query(SessionQueries.lastSeen(playerUUID));
+        return dbSystem.getDatabase().queryReadOnly(SessionQueries.lastSeen(playerUUID));
     }
 
     public Map<String, Object> createJSONAsMap(UUID playerUUID, Predicate<WebPermission> hasPermission) {
         Database db = dbSystem.getDatabase();
 
-        Map<ServerUUID, String> serverNames = db.query(ServerQueries.fetchServerNames());
-        PlayerContainer player = db.query(new PlayerContainerQuery(playerUUID));
+        Map<ServerUUID, String> serverNames = db.queryReadOnly(ServerQueries.fetchServerNames());
+        PlayerContainer player = db.queryReadOnly(new PlayerPageContainerQuery(playerUUID, config.get(DisplaySettings.SESSIONS_PER_PAGE)));
         SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
+        List<FinishedSession> latestSessions = player.getValue(PlayerKeys.LATEST_SESSIONS).orElse(Collections.emptyList());
 
-        PingMutator.forContainer(player).addPingToSessions(sessionsMutator.all());
+        PingMutator.forContainer(player).addPingToSessions(latestSessions);
 
         Map<String, Object> data = new HashMap<>();
 
@@ -115,19 +117,20 @@ public class PlayerJSONCreator {
 
         if (hasPermission.test(WebPermission.PAGE_PLAYER_OVERVIEW)) {
             data.put("info", createInfoJSONMap(player, serverNames));
-            data.put("online_activity", createOnlineActivityJSONMap(sessionsMutator));
+            data.put("online_activity", createOnlineActivityJSONMap(sessionsMutator, PlayerVersusMutator.forContainer(player)));
             data.put("nicknames", player.getValue(PlayerKeys.NICKNAMES)
                     .map(nicks -> Nickname.fromDataNicknames(nicks, serverNames, year))
                     .orElse(Collections.emptyList()));
             data.put("connections", player.getValue(PlayerKeys.GEO_INFO)
                     .map(geoInfo -> ConnectionInfo.fromGeoInfo(geoInfo, year))
                     .orElse(Collections.emptyList()));
-            data.put("punchcard_series", graphs.special().punchCard(sessionsMutator).getDots());
+            int[][] sessionStarts = db.queryReadOnly(SessionQueries.sessionStartsPerHourOfWeek(playerUUID, config.getTimeZone().getOffset(now)));
+            data.put("punchcard_series", graphs.special().punchCard(sessionStarts).getDots());
         } else {
             data.put("info", createLimitedInfoMap(player));
         }
         if (hasPermission.test(WebPermission.PAGE_PLAYER_SESSIONS)) {
-            data.put("sessions", sessionsMutator.sort(new DateHolderRecentComparator()).toServerNameJSONMaps(graphs, config.getWorldAliasSettings(), formatters));
+            data.put("sessions", new SessionsMutator(latestSessions).sort(new DateHolderRecentComparator()).toServerNameJSONMaps(graphs, config.getWorldAliasSettings(), formatters));
             data.put("sessions_per_page", config.get(DisplaySettings.SESSIONS_PER_PAGE));
             WorldPie worldPie = graphs.pie().worldPie(player.getValue(PlayerKeys.WORLD_TIMES).orElse(new WorldTimes()));
             data.put("world_pie_series", worldPie.getSlices());
@@ -176,12 +179,14 @@ public class PlayerJSONCreator {
                 .build();
     }
 
-    private Map<String, Object> createOnlineActivityJSONMap(SessionsMutator sessionsMutator) {
+    private Map<String, Object> createOnlineActivityJSONMap(SessionsMutator sessionsMutator, PlayerVersusMutator playerVersus) {
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         SessionsMutator sessions30d = sessionsMutator.filterSessionsBetween(monthAgo, now);
         SessionsMutator sessions7d = sessions30d.filterSessionsBetween(weekAgo, now);
+        PlayerVersusMutator playerVersus30d = playerVersus.filterBetween(monthAgo, now);
+        PlayerVersusMutator playerVersus7d = playerVersus30d.filterBetween(weekAgo, now);
 
         Map<String, Object> onlineActivity = new HashMap<>();
 
@@ -191,7 +196,7 @@ public class PlayerJSONCreator {
         onlineActivity.put("average_session_length_30d", timeAmount.apply(sessions30d.toAverageSessionLength()));
         onlineActivity.put("median_session_length_30d", timeAmount.apply(sessions30d.toMedianSessionLength()));
         onlineActivity.put("session_count_30d", sessions30d.count());
-        onlineActivity.put("player_kill_count_30d", sessions30d.toPlayerKillCount());
+        onlineActivity.put("player_kill_count_30d", playerVersus30d.toPlayerKillCount());
         onlineActivity.put("mob_kill_count_30d", sessions30d.toMobKillCount());
         onlineActivity.put("death_count_30d", sessions30d.toDeathCount());
 
@@ -201,7 +206,7 @@ public class PlayerJSONCreator {
         onlineActivity.put("average_session_length_7d", timeAmount.apply(sessions7d.toAverageSessionLength()));
         onlineActivity.put("median_session_length_7d", timeAmount.apply(sessions7d.toMedianSessionLength()));
         onlineActivity.put("session_count_7d", sessions7d.count());
-        onlineActivity.put("player_kill_count_7d", sessions7d.toPlayerKillCount());
+        onlineActivity.put("player_kill_count_7d", playerVersus7d.toPlayerKillCount());
         onlineActivity.put("mob_kill_count_7d", sessions7d.toMobKillCount());
         onlineActivity.put("death_count_7d", sessions7d.toDeathCount());
 
@@ -337,8 +342,8 @@ public class PlayerJSONCreator {
 
     public List<ExtensionsDto> playerExtensionData(UUID playerUUID) {
         Database database = dbSystem.getDatabase();
-        Map<ServerUUID, List<ExtensionData>> extensionPlayerData = database.query(new ExtensionPlayerDataQuery(playerUUID));
-        Map<ServerUUID, Server> servers = database.query(ServerQueries.fetchPlanServerInformation());
+        Map<ServerUUID, List<ExtensionData>> extensionPlayerData = database.queryReadOnly(new ExtensionPlayerDataQuery(playerUUID));
+        Map<ServerUUID, Server> servers = database.queryReadOnly(ServerQueries.fetchPlanServerInformation());
 
         List<ExtensionsDto> playerData = new ArrayList<>();
         for (Map.Entry<ServerUUID, Server> entry : servers.entrySet()) {
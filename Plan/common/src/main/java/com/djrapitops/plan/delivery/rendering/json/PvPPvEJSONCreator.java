@@ -67,27 +67,27 @@ public class PvPPvEJSONCreator implements ServerTabJSONCreator<Map<String, Objec
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
         Map<String, Object> numbers = new HashMap<>();
-        Long pks = db.query(KillQueries.playerKillCount(0L, now, serverUUID));
-        Long pks7d = db.query(KillQueries.playerKillCount(weekAgo, now, serverUUID));
-        Long pks30d = db.query(KillQueries.playerKillCount(monthAgo, now, serverUUID));
+        Long pks = db.queryReadOnly(KillQueries.playerKillCount(0L, now, serverUUID));
+        Long pks7d = db.queryReadOnly(KillQueries.playerKillCount(weekAgo, now, serverUUID));
+        Long pks30d = db.queryReadOnly(KillQueries.playerKillCount(monthAgo, now, serverUUID));
         numbers.put("player_kills_total", pks);
         numbers.put("player_kills_30d", pks30d);
         numbers.put("player_kills_7d", pks7d);
 
-        numbers.put("player_kdr_avg", decimals.apply(db.query(KillQueries.averageKDR(0L, now, serverUUID))));
-        numbers.put("player_kdr_avg_30d", decimals.apply(db.query(KillQueries.averageKDR(monthAgo, now, serverUUID))));
-        numbers.put("player_kdr_avg_7d", decimals.apply(db.query(KillQueries.averageKDR(weekAgo, now, serverUUID))));
+        numbers.put("player_kdr_avg", decimals.apply(db.queryReadOnly(KillQueries.averageKDR(0L, now, serverUUID))));
+        numbers.put("player_kdr_avg_30d", decimals.apply(db.queryReadOnly(KillQueries.averageKDR(monthAgo, now, serverUUID))));
+        numbers.put("player_kdr_avg_7d", decimals.apply(db.queryReadOnly(KillQueries.averageKDR(weekAgo, now, serverUUID))));
 
-        Long mobKills = db.query(KillQueries.mobKillCount(0L, now, serverUUID));
-        Long mobKills30d = db.query(KillQueries.mobKillCount(monthAgo, now, serverUUID));
-        Long mobKills7d = db.query(KillQueries.mobKillCount(weekAgo, now, serverUUID));
+        Long mobKills = db.queryReadOnly(KillQueries.mobKillCount(0L, now, serverUUID));
+        Long mobKills30d = db.queryReadOnly(KillQueries.mobKillCount(monthAgo, now, serverUUID));
+        Long mobKills7d = db.queryReadOnly(KillQueries.mobKillCount(weekAgo, now, serverUUID));
         numbers.put("mob_kills_total", mobKills);
         numbers.put("mob_kills_30d", mobKills30d);
         numbers.put("mob_kills_7d", mobKills7d);
 
-        Long deaths = db.query(KillQueries.deathCount(0L, now, serverUUID));
-        Long deaths30d = db.query(KillQueries.deathCount(monthAgo, now, serverUUID));
-        Long deaths7d = db.query(KillQueries.deathCount(weekAgo, now, serverUUID));
+        Long deaths = db.queryReadOnly(KillQueries.deathCount(0L, now, serverUUID));
+        Long deaths30d = db.queryReadOnly(KillQueries.deathCount(monthAgo, now, serverUUID));
+        Long deaths7d = db.queryReadOnly(KillQueries.deathCount(weekAgo, now, serverUUID));
         numbers.put("deaths_total", deaths);
         numbers.put("deaths_30d", deaths30d);
         numbers.put("deaths_7d", deaths7d);
@@ -117,7 +117,7 @@ public class PvPPvEJSONCreator implements ServerTabJSONCreator<Map<String, Objec
 
         Map<String, Object> insights = new HashMap<>();
 
-        List<String> top3Weapons = db.query(KillQueries.topWeaponsOfServer(monthAgo, now, serverUUID, 3));
+        List<String> top3Weapons = db.queryReadOnly(KillQueries.topWeaponsOfServer(monthAgo, now, serverUUID, 3));
         insights.put("weapon_1st", getWeapon(top3Weapons, 0).orElse("-"));
         insights.put("weapon_2nd", getWeapon(top3Weapons, 1).orElse("-"));
         insights.put("weapon_3rd", getWeapon(top3Weapons, 2).orElse("-"));
@@ -93,7 +93,7 @@ public class ServerAccordion {
             server.put("longest_session_length", timeAmount.apply(sessionsMutator.toLongestSessionLength()));
 
             server.put("mob_kills", sessionsMutator.toMobKillCount());
-            server.put("player_kills", sessionsMutator.toPlayerKillCount());
+            server.put("player_kills", ofServer.getValue(PerServerKeys.PLAYER_KILL_COUNT).orElseGet(sessionsMutator::toPlayerKillCount));
             server.put("deaths", sessionsMutator.toDeathCount());
 
             WorldPie worldPie = graphs.pie().worldPie(worldTimes);
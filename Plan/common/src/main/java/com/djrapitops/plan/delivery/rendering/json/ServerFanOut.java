@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utility for running the same query for many servers at once when creating network JSON.
+ * <p>
+ * Queries are run with a {@link QueryBatch}, so at most as many run at the same time as the database query pool allows.
+ * If one of the queries fails the rest are cancelled and the failure is thrown.
+ *
+ * @author AuroraLS3
+ */
+public class ServerFanOut {
+
+    private ServerFanOut() {
+        /* Static method class */
+    }
+
+    /**
+     * Run a query for each server and wait for all results.
+     *
+     * @param db            Database to query.
+     * @param serverUUIDs   Servers to run the query for.
+     * @param queryOfServer Function that creates the query of a server.
+     * @param <T>           Type of the result.
+     * @return Map: Server UUID - Result, in the order of given servers.
+     * @throws com.djrapitops.plan.exceptions.database.DBOpException If any of the queries fails.
+     */
+    public static <T> Map<ServerUUID, T> queryEach(Database db, Collection<ServerUUID> serverUUIDs, Function<ServerUUID, Query<T>> queryOfServer) {
+        return getAll(addEach(db.queryBatchReadOnly(), serverUUIDs, queryOfServer));
+    }
+
+    /**
+     * Add a query of each server to a batch.
+     * <p>
+     * Allows fanning out multiple different queries per server before waiting for any of them.
+     *
+     * @param batch         Batch to add the queries to.
+     * @param serverUUIDs   Servers to run the query for.
+     * @param queryOfServer Function that creates the query of a server.
+     * @param <T>           Type of the result.
+     * @return Map: Server UUID - Supplier that waits for the result, in the order of given servers.
+     */
+    public static <T> Map<ServerUUID, Supplier<T>> addEach(QueryBatch batch, Collection<ServerUUID> serverUUIDs, Function<ServerUUID, Query<T>> queryOfServer) {
+        Map<ServerUUID, Supplier<T>> results = new LinkedHashMap<>();
+        for (ServerUUID serverUUID : serverUUIDs) {
+            results.put(serverUUID, batch.add(queryOfServer.apply(serverUUID)));
+        }
+        return results;
+    }
+
+    /**
+     * Wait for all results added with {@link #addEach(QueryBatch, Collection, Function)}.
+     *
+     * @param results Map: Server UUID - Supplier that waits for the result.
+     * @param <T>     Type of the result.
+     * @return Map: Server UUID - Result, in the same order.
+     * @throws com.djrapitops.plan.exceptions.database.DBOpException If any of the queries fails.
+     */
+    public static <T> Map<ServerUUID, T> getAll(Map<ServerUUID, Supplier<T>> results) {
+        Map<ServerUUID, T> merged = new LinkedHashMap<>();
+        for (Map.Entry<ServerUUID, Supplier<T>> entry : results.entrySet()) {
+            merged.put(entry.getKey(), entry.getValue().get());
+        }
+        return merged;
+    }
+}
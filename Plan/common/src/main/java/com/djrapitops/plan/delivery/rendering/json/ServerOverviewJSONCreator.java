@@ -18,12 +18,14 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateHolder;
 import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.delivery.domain.SessionAggregates;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.gathering.ServerSensor;
 import com.djrapitops.plan.gathering.ServerUptimeCalculator;
 import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -33,6 +35,7 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.ServerAggregateQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
@@ -47,6 +50,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Server Overview tab.
@@ -102,23 +106,29 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
     }
 
     private Map<String, Object> createLast7DaysMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
+        QueryBatch batch = dbSystem.getDatabase().queryBatchReadOnly();
+        Supplier<Integer> uniquePlayers = batch.add(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> uniquePlayersPerDay = batch.add(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID));
+        Supplier<Integer> newPlayers = batch.add(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> retainedPlayers = batch.add(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        Supplier<TPSSeries> tpsData = batch.add(TPSQueries.fetchTPSSeriesOfServer(weekAgo, now, serverUUID));
+
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        sevenDays.put("unique_players_day", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID)));
+        sevenDays.put("unique_players", uniquePlayers.get());
+        sevenDays.put("unique_players_day", uniquePlayersPerDay.get());
 
-        int new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        int new7d = newPlayers.get();
+        int retained7d = retainedPlayers.get();
         double retentionPercentage7d = Percentage.calculate(retained7d, new7d, -1);
 
         sevenDays.put("new_players", new7d);
         sevenDays.put("new_players_retention", retained7d);
         sevenDays.put("new_players_retention_perc", percentage.apply(retentionPercentage7d));
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(weekAgo, now, serverUUID)));
+        TPSMutator tpsMutator = new TPSMutator(tpsData.get());
         double averageTPS = tpsMutator.averageTPS();
         sevenDays.put("average_tps", averageTPS != -1 ? decimals.apply(averageTPS) : locale.get(GenericLang.UNAVAILABLE).toString());
         sevenDays.put("low_tps_spikes", tpsMutator.lowTpsSpikeCount(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
@@ -133,25 +143,34 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = db.queryBatchReadOnly();
+        Supplier<Integer> users = batch.add(ServerAggregateQueries.serverUserCount(serverUUID));
+        Supplier<Integer> regularPlayers = batch.add(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<Optional<DateObj<Integer>>> recentPeak = batch.add(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Supplier<Optional<DateObj<Integer>>> bestPeak = batch.add(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Supplier<SessionAggregates> allTime = batch.add(SessionQueries.sessionAggregates(0L, now, serverUUID));
+        Supplier<Long> playerKills = batch.add(KillQueries.playerKillCount(0L, now, serverUUID));
+
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(ServerAggregateQueries.serverUserCount(serverUUID));
+        Integer userCount = users.get();
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold)));
+        numbers.put("regular_players", regularPlayers.get());
         numbers.put("online_players", getOnlinePlayers(serverUUID, db));
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Optional<DateObj<Integer>> lastPeak = recentPeak.get();
+        Optional<DateObj<Integer>> allTimePeak = bestPeak.get();
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now, serverUUID));
+        SessionAggregates sessions = allTime.get();
+        long totalPlaytime = sessions.getPlaytime();
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        numbers.put("sessions", db.query(SessionQueries.sessionCount(0L, now, serverUUID)));
-        numbers.put("player_kills", db.query(KillQueries.playerKillCount(0L, now, serverUUID)));
-        numbers.put("mob_kills", db.query(KillQueries.mobKillCount(0L, now, serverUUID)));
-        numbers.put("deaths", db.query(KillQueries.deathCount(0L, now, serverUUID)));
+        numbers.put("sessions", sessions.getSessionCount());
+        numbers.put("player_kills", playerKills.get());
+        numbers.put("mob_kills", sessions.getMobKills());
+        numbers.put("deaths", sessions.getDeaths());
         numbers.put("current_uptime", serverUptimeCalculator.getServerUptimeMillis(serverUUID).map(timeAmount)
                 .orElse(locale.getString(GenericLang.UNAVAILABLE)));
 
@@ -161,46 +180,60 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
     private Object getOnlinePlayers(ServerUUID serverUUID, Database db) {
         return serverUUID.equals(serverInfo.getServerUUID())
                 ? serverSensor.getOnlinePlayerCount()
-                : db.query(TPSQueries.fetchLatestTPSEntryForServer(serverUUID))
+                : db.queryReadOnly(TPSQueries.fetchLatestTPSEntryForServer(serverUUID))
                 .map(TPS::getPlayers).map(Object::toString)
                 .orElse(locale.get(GenericLang.UNKNOWN).toString());
     }
 
     private Map<String, Object> createWeeksMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long oneWeekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long twoWeeksAgo = now - TimeUnit.DAYS.toMillis(14L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().queryBatchReadOnly();
+        Supplier<Integer> uniqueBeforeResult = batch.add(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Integer> uniqueAfterResult = batch.add(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        Supplier<Integer> newBeforeResult = batch.add(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Integer> newAfterResult = batch.add(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        Supplier<Integer> regularBeforeResult = batch.add(ActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
+        Supplier<Integer> regularAfterResult = batch.add(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<SessionAggregates> sessionsBeforeResult = batch.add(SessionQueries.sessionAggregates(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<SessionAggregates> sessionsAfterResult = batch.add(SessionQueries.sessionAggregates(oneWeekAgo, now, serverUUID));
+        Supplier<Long> pksBeforeResult = batch.add(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> pksAfterResult = batch.add(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+
         Map<String, Object> weeks = new HashMap<>();
 
         weeks.put("start", day.apply(twoWeeksAgo));
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        Integer uniqueBefore = uniqueBeforeResult.get();
+        Integer uniqueAfter = uniqueAfterResult.get();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        Integer newBefore = newBeforeResult.get();
+        Integer newAfter = newAfterResult.get();
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(ActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
-        int regularAfter = db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        int regularBefore = regularBeforeResult.get();
+        int regularAfter = regularAfterResult.get();
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now, serverUUID));
+        SessionAggregates sessionTotalsBefore = sessionsBeforeResult.get();
+        SessionAggregates sessionTotalsAfter = sessionsAfterResult.get();
+
+        long playtimeBefore = sessionTotalsBefore.getPlaytime();
+        long playtimeAfter = sessionTotalsAfter.getPlaytime();
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -208,29 +241,29 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now, serverUUID));
+        long sessionsBefore = sessionTotalsBefore.getSessionCount();
+        long sessionsAfter = sessionTotalsAfter.getSessionCount();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
         weeks.put("sessions_trend", sessionsTrend);
 
-        Long pksBefore = db.query(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long pksAfter = db.query(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+        Long pksBefore = pksBeforeResult.get();
+        Long pksAfter = pksAfterResult.get();
         Trend pksTrend = new Trend(pksBefore, pksAfter, false);
         weeks.put("player_kills_before", pksBefore);
         weeks.put("player_kills_after", pksAfter);
         weeks.put("player_kills_trend", pksTrend);
 
-        Long mkBefore = db.query(KillQueries.mobKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long mkAfter = db.query(KillQueries.mobKillCount(oneWeekAgo, now, serverUUID));
+        long mkBefore = sessionTotalsBefore.getMobKills();
+        long mkAfter = sessionTotalsAfter.getMobKills();
         Trend mkTrend = new Trend(mkBefore, mkAfter, false);
         weeks.put("mob_kills_before", mkBefore);
         weeks.put("mob_kills_after", mkAfter);
         weeks.put("mob_kills_trend", mkTrend);
 
-        Long deathsBefore = db.query(KillQueries.deathCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long deathsAfter = db.query(KillQueries.deathCount(oneWeekAgo, now, serverUUID));
+        long deathsBefore = sessionTotalsBefore.getDeaths();
+        long deathsAfter = sessionTotalsAfter.getDeaths();
         Trend deathTrend = new Trend(deathsBefore, deathsAfter, true);
         weeks.put("deaths_before", deathsBefore);
         weeks.put("deaths_after", deathsAfter);
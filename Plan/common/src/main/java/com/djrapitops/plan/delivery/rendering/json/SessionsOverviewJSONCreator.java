@@ -20,10 +20,10 @@ import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.gathering.domain.GMTimes;
-import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
@@ -34,6 +34,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Sessions tab.
@@ -64,12 +65,16 @@ public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<Str
     }
 
     private Map<String, Object> createInsightsMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
-        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
-        TPSMutator tpsMutator = new TPSMutator(tpsData);
+        QueryBatch batch = dbSystem.getDatabase().queryBatchReadOnly();
+        Supplier<TPSSeries> tpsData = batch.add(TPSQueries.fetchTPSSeriesOfServer(monthAgo, now, serverUUID));
+        Supplier<Long> playtimeResult = batch.add(SessionQueries.playtime(monthAgo, now, serverUUID));
+        Supplier<Long> afkTimeResult = batch.add(SessionQueries.afkTime(monthAgo, now, serverUUID));
+        Supplier<GMTimes> gmTimesResult = batch.add(WorldTimesQueries.fetchGMTimes(monthAgo, now, serverUUID));
+
+        TPSMutator tpsMutator = new TPSMutator(tpsData.get());
 
         Map<String, Object> insights = new HashMap<>();
 
@@ -78,13 +83,13 @@ public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<Str
         insights.put("server_occupied", timeAmount.apply(occupied));
         insights.put("server_occupied_perc", percentage.apply(Percentage.calculate(occupied, uptime, -1)));
 
-        Long playtime = db.query(SessionQueries.playtime(monthAgo, now, serverUUID));
-        Long afkTime = db.query(SessionQueries.afkTime(monthAgo, now, serverUUID));
+        Long playtime = playtimeResult.get();
+        Long afkTime = afkTimeResult.get();
         insights.put("total_playtime", timeAmount.apply(playtime));
         insights.put("afk_time", timeAmount.apply(afkTime));
         insights.put("afk_time_perc", percentage.apply(Percentage.calculate(afkTime, playtime, -1)));
 
-        GMTimes gmTimes = db.query(WorldTimesQueries.fetchGMTimes(monthAgo, now, serverUUID));
+        GMTimes gmTimes = gmTimesResult.get();
         Optional<String> mostUsedGameMode = gmTimes.getMostUsedGameMode();
         Long longestGMTime = mostUsedGameMode.map(gmTimes::getTime).orElse(-1L);
         insights.put("most_active_gamemode", mostUsedGameMode.map(WordUtils::capitalizeFully).orElse("Not Known"));
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs;
 
+import com.djrapitops.plan.delivery.domain.ActivityCounts;
 import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.JoinAddressCount;
@@ -24,8 +25,8 @@ import com.djrapitops.plan.delivery.domain.datatransfer.ServerDto;
 import com.djrapitops.plan.delivery.domain.datatransfer.graphs.GraphCollection;
 import com.djrapitops.plan.delivery.domain.datatransfer.graphs.ServerSpecificLineGraph;
 import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
-import com.djrapitops.plan.delivery.domain.mutators.PingMutator;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
+import com.djrapitops.plan.delivery.rendering.json.ServerFanOut;
 import com.djrapitops.plan.delivery.rendering.json.graphs.bar.BarGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraphFactory;
@@ -36,7 +37,6 @@ import com.djrapitops.plan.delivery.rendering.json.graphs.pie.PieSlice;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
 import com.djrapitops.plan.delivery.rendering.json.graphs.special.WorldMap;
 import com.djrapitops.plan.delivery.rendering.json.graphs.stack.StackGraph;
-import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.identification.Server;
@@ -66,6 +66,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -102,7 +103,7 @@ public class GraphJSONCreator {
         Database db = dbSystem.getDatabase();
         LineGraphFactory lineGraphs = graphs.line();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180);
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(halfYearAgo, now, serverUUID)));
+        TPSMutator tpsMutator = new TPSMutator(db.queryReadOnly(TPSQueries.fetchTPSSeriesOfServer(halfYearAgo, now, serverUUID)));
         return '{' +
                 "\"playersOnline\":" + lineGraphs.playersOnlineGraph(tpsMutator).toHighChartsSeries() +
                 ",\"tps\":" + lineGraphs.tpsGraph(tpsMutator).toHighChartsSeries() +
@@ -136,11 +137,11 @@ public class GraphJSONCreator {
         long lowestResolution = TimeUnit.MINUTES.toMillis(20);
         long lowResolution = TimeUnit.MINUTES.toMillis(5);
         Database db = dbSystem.getDatabase();
-        TPSMutator lowestResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServerInResolution(0, twoMonthsAgo, lowestResolution, serverUUID)));
-        TPSMutator lowResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServerInResolution(twoMonthsAgo, monthAgo, lowResolution, serverUUID)));
-        TPSMutator highResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID)));
+        TPSMutator lowestResolutionData = new TPSMutator(db.queryReadOnly(TPSQueries.fetchTPSSeriesOfServerInResolution(0, twoMonthsAgo, lowestResolution, serverUUID)));
+        TPSMutator lowResolutionData = new TPSMutator(db.queryReadOnly(TPSQueries.fetchTPSSeriesOfServerInResolution(twoMonthsAgo, monthAgo, lowResolution, serverUUID)));
+        TPSMutator highResolutionData = new TPSMutator(db.queryReadOnly(TPSQueries.fetchTPSSeriesOfServer(monthAgo, now, serverUUID)));
 
-        String serverName = db.query(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
+        String serverName = db.queryReadOnly(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
                 .map(Server::getIdentifiableName)
                 .orElse(serverUUID.toString());
 
@@ -196,7 +197,7 @@ public class GraphJSONCreator {
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
 
         List<Point> points = Lists.map(
-                db.query(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, serverUUID)),
+                db.queryReadOnly(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, serverUUID)),
                 Point::fromDateObj
         );
         return "{\"playersOnline\":" + graphs.line().lineGraph(points).toHighChartsSeries() +
@@ -204,35 +205,38 @@ public class GraphJSONCreator {
     }
 
     public String uniqueAndNewGraphJSON(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
-                PlayerCountQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
-        );
-        NavigableMap<Long, Integer> newPerDay = db.query(
-                PlayerCountQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
+        NavigableMap<Long, ActivityCounts> activityPerDay = dbSystem.getDatabase().queryReadOnly(
+                PlayerCountQueries.activityPerDay(halfYearAgo, now, timeZoneOffset, serverUUID)
         );
-
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
+        return createUniqueAndNewJSON(activityPerDay, TimeUnit.DAYS.toMillis(1L));
     }
 
     public String hourlyUniqueAndNewGraphJSON(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
-                PlayerCountQueries.hourlyUniquePlayerCounts(weekAgo, now, timeZoneOffset, serverUUID)
-        );
-        NavigableMap<Long, Integer> newPerDay = db.query(
-                PlayerCountQueries.newPlayerCounts(weekAgo, now, timeZoneOffset, serverUUID)
+        NavigableMap<Long, ActivityCounts> activityPerHour = dbSystem.getDatabase().queryReadOnly(
+                PlayerCountQueries.hourlyActivity(weekAgo, now, timeZoneOffset, serverUUID)
         );
+        return createUniqueAndNewJSON(activityPerHour, TimeUnit.HOURS.toMillis(1L));
+    }
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
+    private String createUniqueAndNewJSON(NavigableMap<Long, ActivityCounts> activity, long gapFillPeriod) {
+        return createUniqueAndNewJSON(graphs.line(),
+                mapValues(activity, ActivityCounts::getUniquePlayers),
+                mapValues(activity, ActivityCounts::getNewPlayers),
+                gapFillPeriod);
+    }
+
+    private static <T> NavigableMap<Long, T> mapValues(NavigableMap<Long, ActivityCounts> activity, Function<ActivityCounts, T> mapper) {
+        NavigableMap<Long, T> mapped = new TreeMap<>();
+        for (Map.Entry<Long, ActivityCounts> entry : activity.entrySet()) {
+            mapped.put(entry.getKey(), mapper.apply(entry.getValue()));
+        }
+        return mapped;
     }
 
     public String createUniqueAndNewJSON(LineGraphFactory lineGraphs, NavigableMap<Long, Integer> uniquePerDay, NavigableMap<Long, Integer> newPerDay, long gapFillPeriod) {
@@ -252,67 +256,57 @@ public class GraphJSONCreator {
     }
 
     public String uniqueAndNewGraphJSON() {
-        Database db = dbSystem.getDatabase();
-        LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
-                PlayerCountQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset)
-        );
-        NavigableMap<Long, Integer> newPerDay = db.query(
-                PlayerCountQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset)
+        NavigableMap<Long, ActivityCounts> activityPerDay = dbSystem.getDatabase().queryReadOnly(
+                PlayerCountQueries.activityPerDay(halfYearAgo, now, timeZoneOffset)
         );
-
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
+        return createUniqueAndNewJSON(activityPerDay, TimeUnit.DAYS.toMillis(1L));
     }
 
     public String hourlyUniqueAndNewGraphJSON() {
-        Database db = dbSystem.getDatabase();
-        LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
-                PlayerCountQueries.hourlyUniquePlayerCounts(weekAgo, now, timeZoneOffset)
-        );
-        NavigableMap<Long, Integer> newPerDay = db.query(
-                PlayerCountQueries.hourlyNewPlayerCounts(weekAgo, now, timeZoneOffset)
+        NavigableMap<Long, ActivityCounts> activityPerHour = dbSystem.getDatabase().queryReadOnly(
+                PlayerCountQueries.hourlyActivity(weekAgo, now, timeZoneOffset)
         );
-
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
+        return createUniqueAndNewJSON(activityPerHour, TimeUnit.HOURS.toMillis(1L));
     }
 
     public String serverCalendarJSON(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
-                PlayerCountQueries.uniquePlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
-        );
-        NavigableMap<Long, Integer> newPerDay = db.query(
-                PlayerCountQueries.newPlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
-        );
-        NavigableMap<Long, Long> playtimePerDay = db.query(
-                SessionQueries.playtimePerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
-        );
-        NavigableMap<Long, Integer> sessionsPerDay = db.query(
-                SessionQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
-        );
+        return createCalendarJSON(dbSystem.getDatabase().queryReadOnly(
+                PlayerCountQueries.activityPerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
+        ));
+    }
+
+    public String networkCalendarJSON() {
+        long now = System.currentTimeMillis();
+        long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
+        int timeZoneOffset = config.getTimeZone().getOffset(now);
+        return createCalendarJSON(dbSystem.getDatabase().queryReadOnly(
+                PlayerCountQueries.activityPerDay(twoYearsAgo, now, timeZoneOffset)
+        ));
+    }
+
+    private String createCalendarJSON(NavigableMap<Long, ActivityCounts> activityPerDay) {
         return "{\"data\":" +
                 graphs.calendar().serverCalendar(
-                        uniquePerDay,
-                        newPerDay,
-                        playtimePerDay,
-                        sessionsPerDay
+                        mapValues(activityPerDay, ActivityCounts::getUniquePlayers),
+                        mapValues(activityPerDay, ActivityCounts::getNewPlayers),
+                        mapValues(activityPerDay, ActivityCounts::getPlaytime),
+                        mapValues(activityPerDay, ActivityCounts::getSessionCount)
                 ).toCalendarSeries() +
                 ",\"firstDay\":" + 1 + '}';
     }
 
     public Map<String, Object> serverWorldPieJSONAsMap(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
-        WorldTimes worldTimes = db.query(WorldTimesQueries.fetchServerTotalWorldTimes(serverUUID));
+        WorldTimes worldTimes = db.queryReadOnly(WorldTimesQueries.fetchServerTotalWorldTimes(serverUUID));
         WorldPie worldPie = graphs.pie().worldPie(worldTimes);
 
         return Maps.builder(String.class, Object.class)
@@ -328,7 +322,7 @@ public class GraphJSONCreator {
 
         DateMap<Map<String, Integer>> activityData = new DateMap<>();
         for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
+            activityData.put(time, db.queryReadOnly(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
         }
 
         return createActivityGraphJSON(activityData);
@@ -353,7 +347,7 @@ public class GraphJSONCreator {
 
         DateMap<Map<String, Integer>> activityData = new DateMap<>();
         for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold)));
+            activityData.put(time, db.queryReadOnly(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold)));
         }
 
         return createActivityGraphJSON(activityData);
@@ -361,7 +355,7 @@ public class GraphJSONCreator {
 
     public Map<String, Object> geolocationGraphsJSONAsMap(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
-        Map<String, Integer> geolocationCounts = db.query(GeoInfoQueries.serverGeolocationCounts(serverUUID));
+        Map<String, Integer> geolocationCounts = db.queryReadOnly(GeoInfoQueries.serverGeolocationCounts(serverUUID));
 
         return createGeolocationJSON(geolocationCounts);
     }
@@ -384,7 +378,7 @@ public class GraphJSONCreator {
 
     public Map<String, Object> geolocationGraphsJSONAsMap() {
         Database db = dbSystem.getDatabase();
-        Map<String, Integer> geolocationCounts = db.query(GeoInfoQueries.networkGeolocationCounts());
+        Map<String, Integer> geolocationCounts = db.queryReadOnly(GeoInfoQueries.networkGeolocationCounts());
 
         return createGeolocationJSON(geolocationCounts);
     }
@@ -392,9 +386,9 @@ public class GraphJSONCreator {
     public String pingGraphsJSON(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
-        List<Ping> pings = db.query(PingQueries.fetchPingDataOfServer(now - TimeUnit.DAYS.toMillis(180L), now, serverUUID));
+        List<Ping> pings = db.queryReadOnly(PingQueries.fetchDailyPingDataOfServer(now - TimeUnit.DAYS.toMillis(180L), now, config.getTimeZone(), serverUUID));
 
-        PingGraph pingGraph = graphs.line().pingGraph(new PingMutator(pings).mutateToByMinutePings().all());
+        PingGraph pingGraph = graphs.line().pingGraph(pings);
 
         return "{\"min_ping_series\":" + pingGraph.getMinGraph().toHighChartsSeries() +
                 ",\"avg_ping_series\":" + pingGraph.getAvgGraph().toHighChartsSeries() +
@@ -409,11 +403,24 @@ public class GraphJSONCreator {
     public Map<String, Object> punchCardJSONAsMap(ServerUUID serverUUID) {
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        List<FinishedSession> sessions = dbSystem.getDatabase().query(
-                SessionQueries.fetchServerSessionsWithoutKillOrWorldData(monthAgo, now, serverUUID)
+        int[][] sessionStarts = dbSystem.getDatabase().queryReadOnly(
+                SessionQueries.sessionStartsPerHourOfWeek(monthAgo, now, config.getTimeZone().getOffset(now), serverUUID)
+        );
+        return createPunchCardJSON(sessionStarts);
+    }
+
+    public Map<String, Object> punchCardJSONAsMap() {
+        long now = System.currentTimeMillis();
+        long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
+        int[][] sessionStarts = dbSystem.getDatabase().queryReadOnly(
+                SessionQueries.sessionStartsPerHourOfWeek(monthAgo, now, config.getTimeZone().getOffset(now))
         );
+        return createPunchCardJSON(sessionStarts);
+    }
+
+    private Map<String, Object> createPunchCardJSON(int[][] sessionStarts) {
         return Maps.builder(String.class, Object.class)
-                .put("punchCard", graphs.special().punchCard(sessions).getDots())
+                .put("punchCard", graphs.special().punchCard(sessionStarts).getDots())
                 .put("color", theme.getValue(ThemeVal.GRAPH_PUNCHCARD))
                 .build();
     }
@@ -422,7 +429,7 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
         String[] pieColors = theme.getPieColors(ThemeVal.GRAPH_WORLD_PIE);
-        Map<String, Long> playtimePerServer = dbSystem.getDatabase().query(SessionQueries.playtimePerServer(monthAgo, now));
+        Map<String, Long> playtimePerServer = dbSystem.getDatabase().queryReadOnly(SessionQueries.playtimePerServer(monthAgo, now));
 
         return Maps.builder(String.class, Object.class)
                 .put("server_pie_colors", pieColors)
@@ -432,7 +439,7 @@ public class GraphJSONCreator {
 
     public Map<String, Object> playerHostnamePieJSONAsMap() {
         String[] pieColors = theme.getPieColors(ThemeVal.GRAPH_WORLD_PIE);
-        Map<String, Integer> joinAddresses = dbSystem.getDatabase().query(JoinAddressQueries.latestJoinAddresses());
+        Map<String, Integer> joinAddresses = dbSystem.getDatabase().queryReadOnly(JoinAddressQueries.latestJoinAddresses());
 
         translateUnknown(joinAddresses);
 
@@ -446,7 +453,7 @@ public class GraphJSONCreator {
 
     public Map<String, Object> playerHostnamePieJSONAsMap(ServerUUID serverUUID) {
         String[] pieColors = theme.getPieColors(ThemeVal.GRAPH_WORLD_PIE);
-        Map<String, Integer> joinAddresses = dbSystem.getDatabase().query(JoinAddressQueries.latestJoinAddresses(serverUUID));
+        Map<String, Integer> joinAddresses = dbSystem.getDatabase().queryReadOnly(JoinAddressQueries.latestJoinAddresses(serverUUID));
 
         translateUnknown(joinAddresses);
 
@@ -468,14 +475,14 @@ public class GraphJSONCreator {
 
     public Map<String, Object> joinAddressesByDay(ServerUUID serverUUID, long after, long before) {
         String[] pieColors = theme.getPieColors(ThemeVal.GRAPH_WORLD_PIE);
-        List<DateObj<Map<String, Integer>>> joinAddresses = dbSystem.getDatabase().query(JoinAddressQueries.joinAddressesPerDay(serverUUID, config.getTimeZone().getOffset(System.currentTimeMillis()), after, before));
+        List<DateObj<Map<String, Integer>>> joinAddresses = dbSystem.getDatabase().queryReadOnly(JoinAddressQueries.joinAddressesPerDay(serverUUID, config.getTimeZone().getOffset(System.currentTimeMillis()), after, before));
 
         return mapToJson(pieColors, joinAddresses);
     }
 
     public Map<String, Object> joinAddressesByDay(long after, long before) {
         String[] pieColors = theme.getPieColors(ThemeVal.GRAPH_WORLD_PIE);
-        List<DateObj<Map<String, Integer>>> joinAddresses = dbSystem.getDatabase().query(JoinAddressQueries.joinAddressesPerDay(config.getTimeZone().getOffset(System.currentTimeMillis()), after, before));
+        List<DateObj<Map<String, Integer>>> joinAddresses = dbSystem.getDatabase().queryReadOnly(JoinAddressQueries.joinAddressesPerDay(config.getTimeZone().getOffset(System.currentTimeMillis()), after, before));
 
         return mapToJson(pieColors, joinAddresses);
     }
@@ -507,11 +514,16 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
 
+        List<Server> proxies = db.queryReadOnly(ServerQueries.fetchProxyServers());
+        Map<ServerUUID, List<DateObj<Integer>>> playersOnline = ServerFanOut.queryEach(db,
+                Lists.map(proxies, Server::getUuid),
+                proxyUUID -> TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, proxyUUID)
+        );
+
         List<ServerSpecificLineGraph> proxyGraphs = new ArrayList<>();
-        for (Server proxy : db.query(ServerQueries.fetchProxyServers())) {
-            ServerUUID proxyUUID = proxy.getUuid();
+        for (Server proxy : proxies) {
             List<Double[]> points = Lists.map(
-                    db.query(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, proxyUUID)),
+                    playersOnline.get(proxy.getUuid()),
                     point -> Point.fromDateObj(point).toArray()
             );
             proxyGraphs.add(new ServerSpecificLineGraph(points, ServerDto.fromServer(proxy)));
@@ -21,7 +21,6 @@ import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
-import com.djrapitops.plan.gathering.domain.PlayerKills;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.HtmlLang;
 import com.djrapitops.plan.settings.theme.Theme;
@@ -46,6 +45,7 @@ public class PlayerCalendar {
     private final TimeZone timeZone;
 
     private final List<FinishedSession> allSessions;
+    private final List<PlayerKill> playerKills;
     private final long registered;
 
     PlayerCalendar(
@@ -58,6 +58,7 @@ public class PlayerCalendar {
             TimeZone timeZone
     ) {
         this.allSessions = container.getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>());
+        this.playerKills = container.getValue(PlayerKeys.PLAYER_KILLS).orElse(new ArrayList<>());
         this.registered = container.getValue(PlayerKeys.REGISTERED).orElse(0L);
 
         this.timeAmount = timeAmount;
@@ -105,16 +106,16 @@ public class PlayerCalendar {
                             start + timeZone.getOffset(start))
                     .withEnd(end + timeZone.getOffset(end))
             );
+        }
 
-            for (PlayerKill kill : session.getExtraData(PlayerKills.class).map(PlayerKills::asList).orElseGet(ArrayList::new)) {
-                long time = kill.getDate();
-                String victim = kill.getVictim().getName();
-                entries.add(CalendarEntry
-                        .of(locale.getString(HtmlLang.KILLED) + ": " + victim, time)
-                        .withEnd(time + fiveMinutes)
-                        .withColor(theme.getValue(ThemeVal.RED))
-                );
-            }
+        for (PlayerKill kill : playerKills) {
+            long time = kill.getDate();
+            String victim = kill.getVictim().getName();
+            entries.add(CalendarEntry
+                    .of(locale.getString(HtmlLang.KILLED) + ": " + victim, time)
+                    .withEnd(time + fiveMinutes)
+                    .withColor(theme.getValue(ThemeVal.RED))
+            );
         }
 
         return entries;
@@ -25,9 +25,9 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  * @author AuroraLS3
  * @see TPSCounter
  */
-class CPUGraph extends LineGraph {
+class CPUGraph extends TPSSeriesGraph {
 
     CPUGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.cpuPoints(), displayGaps);
+        super(mutator, mutator.getSeries()::getCPUUsage, true, displayGaps);
     }
 }
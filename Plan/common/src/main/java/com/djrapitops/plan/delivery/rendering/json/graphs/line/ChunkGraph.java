@@ -25,9 +25,9 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  * @author AuroraLS3
  * @see TPSCounter
  */
-class ChunkGraph extends LineGraph {
+class ChunkGraph extends TPSSeriesGraph {
 
     ChunkGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.chunkPoints(), displayGaps);
+        super(mutator, mutator.getSeries()::getChunksLoaded, false, displayGaps);
     }
 }
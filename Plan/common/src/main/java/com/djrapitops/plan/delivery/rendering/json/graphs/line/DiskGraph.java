@@ -25,9 +25,9 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  * @author AuroraLS3
  * @see TPSCounter
  */
-class DiskGraph extends LineGraph {
+class DiskGraph extends TPSSeriesGraph {
 
     DiskGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.freeDiskPoints(), displayGaps);
+        super(mutator, mutator.getSeries()::getFreeDiskSpace, true, displayGaps);
     }
 }
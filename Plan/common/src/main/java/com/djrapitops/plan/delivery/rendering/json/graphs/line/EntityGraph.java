@@ -25,9 +25,9 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  * @author AuroraLS3
  * @see TPSCounter
  */
-class EntityGraph extends LineGraph {
+class EntityGraph extends TPSSeriesGraph {
 
     EntityGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.entityPoints(), displayGaps);
+        super(mutator, mutator.getSeries()::getEntityCount, false, displayGaps);
     }
 }
@@ -30,16 +30,10 @@ import java.util.concurrent.TimeUnit;
 public class LineGraph implements HighChart {
 
     private final List<Point> points;
-    private final GapStrategy gapStrategy;
+    protected final GapStrategy gapStrategy;
 
     public LineGraph(List<Point> points, boolean displayGaps) {
-        this(points, new GapStrategy(
-                displayGaps,
-                TimeUnit.MINUTES.toMillis(3),  // Acceptable gap
-                TimeUnit.MINUTES.toMillis(1),  // To first filler
-                TimeUnit.MINUTES.toMillis(30), // Filler frequency
-                null
-        ));
+        this(points, defaultGapStrategy(displayGaps));
     }
 
     public LineGraph(List<Point> points, GapStrategy gapStrategy) {
@@ -73,6 +67,16 @@ public class LineGraph implements HighChart {
         return arrayBuilder.toString();
     }
 
+    static GapStrategy defaultGapStrategy(boolean displayGaps) {
+        return new GapStrategy(
+                displayGaps,
+                TimeUnit.MINUTES.toMillis(3),  // Acceptable gap
+                TimeUnit.MINUTES.toMillis(1),  // To first filler
+                TimeUnit.MINUTES.toMillis(30), // Filler frequency
+                null
+        );
+    }
+
     public List<Point> getPoints() {
         if (gapStrategy.fillGaps) {
             return MutatorFunctions.addMissing(points, gapStrategy);
@@ -80,7 +84,7 @@ public class LineGraph implements HighChart {
         return points;
     }
 
-    private void addMissingPoints(StringBuilder arrayBuilder, Long lastX, long date) {
+    protected void addMissingPoints(StringBuilder arrayBuilder, Long lastX, long date) {
         long iterate = lastX + gapStrategy.diffToFirstGapPointMs;
         while (iterate < date) {
             arrayBuilder.append("[").append(iterate).append(",").append(gapStrategy.fillWith).append("],");
@@ -0,0 +1,80 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs.line;
+
+import com.djrapitops.plan.gathering.domain.TPSSeries;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Players online points of a {@link TPSSeries} that Gson writes as {@code [[date, players], ...]}
+ * directly from the primitive columns, without an array per data point.
+ *
+ * @author AuroraLS3
+ */
+@JsonAdapter(PlayersOnlineArrays.Adapter.class)
+public class PlayersOnlineArrays {
+
+    private final TPSSeries series;
+
+    public PlayersOnlineArrays(TPSSeries series) {
+        this.series = series;
+    }
+
+    static class Adapter extends TypeAdapter<PlayersOnlineArrays> {
+        @Override
+        public void write(JsonWriter out, PlayersOnlineArrays value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            TPSSeries series = value.series;
+            out.beginArray();
+            for (int i = 0; i < series.size(); i++) {
+                out.beginArray().value(series.getDate(i)).value(series.getPlayers(i)).endArray();
+            }
+            out.endArray();
+        }
+
+        /**
+         * Read the points back, values other than the date and players online are not written so they are -1.
+         */
+        @Override
+        public PlayersOnlineArrays read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TPSSeries series = new TPSSeries();
+            in.beginArray();
+            while (in.hasNext()) {
+                in.beginArray();
+                long date = in.nextLong();
+                int players = in.nextInt();
+                in.endArray();
+                series.add(date, -1, players, -1, -1, -1, -1, -1);
+            }
+            in.endArray();
+            return new PlayersOnlineArrays(series);
+        }
+    }
+}
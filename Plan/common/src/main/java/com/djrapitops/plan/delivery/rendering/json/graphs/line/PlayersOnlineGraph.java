@@ -25,9 +25,9 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  * @author AuroraLS3
  * @see TPSCounter
  */
-class PlayersOnlineGraph extends LineGraph {
+class PlayersOnlineGraph extends TPSSeriesGraph {
 
     PlayersOnlineGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.playersOnlinePoints(), displayGaps);
+        super(mutator, mutator.getSeries()::getPlayers, false, displayGaps);
     }
 }
@@ -25,9 +25,9 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  * @author AuroraLS3
  * @see TPSCounter
  */
-class RamGraph extends LineGraph {
+class RamGraph extends TPSSeriesGraph {
 
     RamGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.ramUsagePoints(), displayGaps);
+        super(mutator, mutator.getSeries()::getUsedMemory, false, displayGaps);
     }
 }
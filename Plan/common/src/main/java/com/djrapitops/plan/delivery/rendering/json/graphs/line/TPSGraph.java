@@ -25,9 +25,9 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  * @author AuroraLS3
  * @see TPSCounter
  */
-class TPSGraph extends LineGraph {
+class TPSGraph extends TPSSeriesGraph {
 
     TPSGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.tpsPoints(), displayGaps);
+        super(mutator, mutator.getSeries()::getTicksPerSecond, false, displayGaps);
     }
 }
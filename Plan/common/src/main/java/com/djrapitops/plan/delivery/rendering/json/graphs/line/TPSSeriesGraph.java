@@ -0,0 +1,88 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs.line;
+
+import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
+import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * LineGraph of one column of a {@link TPSSeries} that is written directly from the primitive arrays.
+ *
+ * @author AuroraLS3
+ */
+class TPSSeriesGraph extends LineGraph {
+
+    private final TPSSeries series;
+    private final IntToDoubleFunction values;
+    private final boolean skipUnavailable;
+
+    /**
+     * Create a new graph.
+     *
+     * @param mutator         Data to draw.
+     * @param values          Function to get the value of each index in the series.
+     * @param skipUnavailable Should values of -1 (not gathered) be left out.
+     * @param displayGaps     Should gaps in the data be filled.
+     */
+    TPSSeriesGraph(TPSMutator mutator, IntToDoubleFunction values, boolean skipUnavailable, boolean displayGaps) {
+        super(Collections.emptyList(), defaultGapStrategy(displayGaps));
+        this.series = mutator.getSeries();
+        this.values = values;
+        this.skipUnavailable = skipUnavailable;
+    }
+
+    @Override
+    public String toHighChartsSeries() {
+        StringBuilder arrayBuilder = new StringBuilder(series.size() * 24).append('[');
+
+        Long lastX = null;
+        for (int i = 0; i < series.size(); i++) {
+            double y = values.applyAsDouble(i);
+            if (skipUnavailable && y == -1) continue;
+            long date = series.getDate(i);
+
+            if (lastX != null) {
+                arrayBuilder.append(',');
+                if (gapStrategy.fillGaps && date - lastX > gapStrategy.acceptableGapMs) {
+                    addMissingPoints(arrayBuilder, lastX, date);
+                }
+            }
+            lastX = date;
+
+            arrayBuilder.append('[').append(date).append(',').append(y).append(']');
+        }
+
+        return arrayBuilder.append(']').toString();
+    }
+
+    @Override
+    public List<Point> getPoints() {
+        List<Point> points = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            double y = values.applyAsDouble(i);
+            if (skipUnavailable && y == -1) continue;
+            points.add(new Point(series.getDate(i), y));
+        }
+        return gapStrategy.fillGaps ? MutatorFunctions.addMissing(points, gapStrategy) : points;
+    }
+}
@@ -16,9 +16,8 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs.special;
 
-import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
-
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Bubble Chart that represents login "punches" of players.
@@ -27,57 +26,25 @@ import java.util.*;
  */
 public class PunchCard {
 
-    private final SessionsMutator sessions;
-    private final TimeZone timeZone;
-
-    /**
-     * Constructor for the graph.
-     *
-     * @param sessions All sessions of All users this PunchCard represents.
-     * @param timeZone TimeZone to use for the hour grouping.
-     */
-    PunchCard(SessionsMutator sessions, TimeZone timeZone) {
-        this.sessions = sessions;
-        this.timeZone = timeZone;
-    }
-
     /*
      * First number signifies the Day of Week. (0 = Monday, 6 = Sunday)
      * Second number signifies the Hour of Day. (0 = 0 AM, 23 = 11 PM)
      */
-    private int[][] getDaysAndHours(Collection<Long> sessionStarts) {
-        return sessionStarts.stream().map((Long start) -> {
-            Calendar day = Calendar.getInstance(timeZone);
-            day.setTimeInMillis(start);
-            int hourOfDay = day.get(Calendar.HOUR_OF_DAY); // 0 AM is 0
-            int dayOfWeek = day.get(Calendar.DAY_OF_WEEK) - 2; // Monday is 0, Sunday is -1
-            if (dayOfWeek > 6) { // If Hour added a day on Sunday, move to Monday
-                dayOfWeek = 0;
-            }
-            if (dayOfWeek < 0) { // Move Sunday to 6
-                dayOfWeek = 6;
-            }
-            return new int[]{dayOfWeek, hourOfDay};
-        }).toArray(int[][]::new);
-    }
+    private final int[][] dayHourMatrix;
 
-    private int[][] turnIntoMatrix(Collection<Long> sessionStarts) {
-        int[][] daysAndHours = getDaysAndHours(sessionStarts);
-        int[][] matrix = createZeroMatrix();
-        for (int[] dayAndHour : daysAndHours) {
-            int day = dayAndHour[0];
-            int hour = dayAndHour[1];
-            matrix[day][hour] = matrix[day][hour] + 1;
-        }
-        return matrix;
+    /**
+     * Constructor for the graph.
+     *
+     * @param sessionStartsPerHourOfWeek Session starts of all users this PunchCard represents,
+     *                                   grouped by day of week and hour of day in the configured timezone.
+     */
+    PunchCard(int[][] sessionStartsPerHourOfWeek) {
+        this.dayHourMatrix = sessionStartsPerHourOfWeek;
     }
 
     public List<Dot> getDots() {
         List<Dot> dots = new ArrayList<>();
 
-        List<Long> sessionStarts = sessions.toSessionStarts();
-
-        int[][] dayHourMatrix = turnIntoMatrix(sessionStarts);
         int big = findBiggestValue(dayHourMatrix);
         int[][] scaled = scale(dayHourMatrix, big);
 
@@ -94,16 +61,6 @@ public class PunchCard {
         return dots;
     }
 
-    private int[][] createZeroMatrix() {
-        int[][] dataArray = new int[7][24];
-        for (int i = 0; i < 7; i++) {
-            for (int j = 0; j < 24; j++) {
-                dataArray[i][j] = 0;
-            }
-        }
-        return dataArray;
-    }
-
     private int findBiggestValue(int[][] dataArray) {
         int highest = 1;
         for (int i = 0; i < 7; i++) {
@@ -16,9 +16,6 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs.special;
 
-import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
-import com.djrapitops.plan.gathering.domain.FinishedSession;
-import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -29,7 +26,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,26 +37,27 @@ import java.util.Map;
 public class SpecialGraphFactory {
 
     private final PlanFiles files;
-    private final PlanConfig config;
     private final Gson gson;
     private final ErrorLogger errorLogger;
 
     private Map<String, String> geoCodes = null;
 
     @Inject
-    public SpecialGraphFactory(PlanFiles files, PlanConfig config, Gson gson, ErrorLogger errorLogger) {
+    public SpecialGraphFactory(PlanFiles files, Gson gson, ErrorLogger errorLogger) {
         this.files = files;
-        this.config = config;
         this.gson = gson;
         this.errorLogger = errorLogger;
     }
 
-    public PunchCard punchCard(List<FinishedSession> sessions) {
-        return punchCard(new SessionsMutator(sessions));
-    }
-
-    public PunchCard punchCard(SessionsMutator sessions) {
-        return new PunchCard(sessions, config.getTimeZone());
+    /**
+     * Create a PunchCard.
+     *
+     * @param sessionStartsPerHourOfWeek Matrix [day of week][hour of day], Monday is 0, 0 AM is 0.
+     *                                   See {@link com.djrapitops.plan.storage.database.queries.objects.SessionQueries#sessionStartsPerHourOfWeek(long, long, long)}
+     * @return PunchCard graph.
+     */
+    public PunchCard punchCard(int[][] sessionStartsPerHourOfWeek) {
+        return new PunchCard(sessionStartsPerHourOfWeek);
     }
 
     public WorldMap worldMap(Map<String, Integer> geolocationCounts) {
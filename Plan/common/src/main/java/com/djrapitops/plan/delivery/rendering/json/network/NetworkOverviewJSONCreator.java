@@ -31,6 +31,7 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
@@ -42,6 +43,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /network-page Network Overview tab.
@@ -98,15 +100,23 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
+        QueryBatch batch = db.queryBatchReadOnly();
+        Supplier<Integer> unique1d = batch.add(PlayerCountQueries.uniquePlayerCount(dayAgo, now));
+        Supplier<Integer> unique7d = batch.add(PlayerCountQueries.uniquePlayerCount(weekAgo, now));
+        Supplier<Integer> unique30d = batch.add(PlayerCountQueries.uniquePlayerCount(monthAgo, now));
+        Supplier<Integer> new1d = batch.add(PlayerCountQueries.newPlayerCount(dayAgo, now));
+        Supplier<Integer> new7d = batch.add(PlayerCountQueries.newPlayerCount(weekAgo, now));
+        Supplier<Integer> new30d = batch.add(PlayerCountQueries.newPlayerCount(monthAgo, now));
+
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players_1d", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now)));
-        sevenDays.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now)));
-        sevenDays.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now)));
+        sevenDays.put("unique_players_1d", unique1d.get());
+        sevenDays.put("unique_players_7d", unique7d.get());
+        sevenDays.put("unique_players_30d", unique30d.get());
 
-        sevenDays.put("new_players_1d", db.query(PlayerCountQueries.newPlayerCount(dayAgo, now)));
-        sevenDays.put("new_players_7d", db.query(PlayerCountQueries.newPlayerCount(weekAgo, now)));
-        sevenDays.put("new_players_30d", db.query(PlayerCountQueries.newPlayerCount(monthAgo, now)));
+        sevenDays.put("new_players_1d", new1d.get());
+        sevenDays.put("new_players_7d", new7d.get());
+        sevenDays.put("new_players_30d", new30d.get());
 
         return sevenDays;
     }
@@ -117,23 +127,32 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
         long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        ServerUUID serverUUID = serverInfo.getServerUUID();
+
+        QueryBatch batch = db.queryBatchReadOnly();
+        Supplier<Integer> users = batch.add(PlayerCountQueries.newPlayerCount(0L, now));
+        Supplier<Integer> regularPlayers = batch.add(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        Supplier<Optional<DateObj<Integer>>> recentPeak = batch.add(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Supplier<Optional<DateObj<Integer>>> bestPeak = batch.add(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Supplier<Long> playtime = batch.add(SessionQueries.playtime(0L, now));
+        Supplier<Long> sessions = batch.add(SessionQueries.sessionCount(0L, now));
+
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(PlayerCountQueries.newPlayerCount(0L, now));
+        Integer userCount = users.get();
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold)));
+        numbers.put("regular_players", regularPlayers.get());
         numbers.put("online_players", serverSensor.getOnlinePlayerCount());
-        ServerUUID serverUUID = serverInfo.getServerUUID();
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Optional<DateObj<Integer>> lastPeak = recentPeak.get();
+        Optional<DateObj<Integer>> allTimePeak = bestPeak.get();
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now));
+        Long totalPlaytime = playtime.get();
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        Long sessionCount = db.query(SessionQueries.sessionCount(0L, now));
+        Long sessionCount = sessions.get();
         numbers.put("sessions", sessionCount);
         numbers.put("session_length_avg", sessionCount != 0 ? timeAmount.apply(totalPlaytime / sessionCount) : "-");
         numbers.put("current_uptime", serverUptimeCalculator.getServerUptimeMillis(serverUUID).map(timeAmount)
@@ -143,40 +162,51 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
     }
 
     private Map<String, Object> createWeeksMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long oneWeekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long twoWeeksAgo = now - TimeUnit.DAYS.toMillis(14L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().queryBatchReadOnly();
+        Supplier<Integer> uniqueBeforeResult = batch.add(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo));
+        Supplier<Integer> uniqueAfterResult = batch.add(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now));
+        Supplier<Integer> newBeforeResult = batch.add(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo));
+        Supplier<Integer> newAfterResult = batch.add(PlayerCountQueries.newPlayerCount(oneWeekAgo, now));
+        Supplier<Integer> regularBeforeResult = batch.add(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
+        Supplier<Integer> regularAfterResult = batch.add(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        Supplier<Long> playtimeBeforeResult = batch.add(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo));
+        Supplier<Long> playtimeAfterResult = batch.add(SessionQueries.playtime(oneWeekAgo, now));
+        Supplier<Long> sessionsBeforeResult = batch.add(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo));
+        Supplier<Long> sessionsAfterResult = batch.add(SessionQueries.sessionCount(oneWeekAgo, now));
+
         Map<String, Object> weeks = new HashMap<>();
 
         weeks.put("start", day.apply(twoWeeksAgo));
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now));
+        Integer uniqueBefore = uniqueBeforeResult.get();
+        Integer uniqueAfter = uniqueAfterResult.get();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now));
+        Integer newBefore = newBeforeResult.get();
+        Integer newAfter = newAfterResult.get();
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
-        int regularAfter = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        int regularBefore = regularBeforeResult.get();
+        int regularAfter = regularAfterResult.get();
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now));
+        Long playtimeBefore = playtimeBeforeResult.get();
+        Long playtimeAfter = playtimeAfterResult.get();
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -184,8 +214,8 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now));
+        Long sessionsBefore = sessionsBeforeResult.get();
+        Long sessionsAfter = sessionsAfterResult.get();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
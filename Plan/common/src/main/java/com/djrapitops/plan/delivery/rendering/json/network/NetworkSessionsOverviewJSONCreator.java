@@ -65,8 +65,8 @@ public class NetworkSessionsOverviewJSONCreator implements NetworkTabJSONCreator
 
         Map<String, Object> insights = new HashMap<>();
 
-        Long playtime = db.query(SessionQueries.playtime(monthAgo, now));
-        Long afkTime = db.query(SessionQueries.afkTime(monthAgo, now));
+        Long playtime = db.queryReadOnly(SessionQueries.playtime(monthAgo, now));
+        Long afkTime = db.queryReadOnly(SessionQueries.afkTime(monthAgo, now));
         insights.put("total_playtime", timeAmount.apply(playtime));
         insights.put("afk_time", timeAmount.apply(afkTime));
         insights.put("afk_time_perc", percentage.apply(Percentage.calculate(afkTime, playtime, -1)));
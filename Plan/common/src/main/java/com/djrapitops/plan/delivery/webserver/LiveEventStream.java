@@ -0,0 +1,336 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.google.gson.Gson;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes live changes to connected dashboards as Server-Sent Events.
+ * <p>
+ * Gathering code publishes events here as they happen. Each event is serialized once and the same bytes are handed to
+ * every subscriber on a single writer thread, so slow connections never hold up the thread that published the event.
+ * Subscribers must not block in {@link Subscriber#send(byte[])}, a subscriber that can't keep up should be dropped.
+ * <p>
+ * A stream is reserved when the request is resolved and claimed once the connection is ready to receive events,
+ * so that the amount of open streams can't go over the limit.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class LiveEventStream {
+
+    public static final String MIME_TYPE = "text/event-stream";
+    // Internal header from the resolver to the webserver, removed before the response is sent.
+    public static final String RESERVATION_HEADER = "X-Plan-Live-Stream-Reservation";
+    static final int MAX_SUBSCRIBERS = 100;
+    private static final long RESERVATION_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1L);
+    // Below the default 30 second idle timeout of the Jetty connector.
+    private static final long HEARTBEAT_PERIOD_SECONDS = 15;
+    private static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Gson gson = new Gson();
+    private final Map<Subscriber, Boolean> subscribers = new ConcurrentHashMap<>(); // Subscriber -> Can see players
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger(0); // Reserved and subscribed
+    private final Map<ServerUUID, TPS> latestTPS = new ConcurrentHashMap<>();
+    private ScheduledExecutorService writer;
+
+    @Inject
+    public LiveEventStream() {
+        // Dagger requires empty inject constructor
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Reserve a stream for a request.
+     *
+     * @param playersVisible Should the stream include names and UUIDs of players joining and leaving.
+     * @return Reservation, or empty if too many streams are open already.
+     */
+    public Optional<Reservation> reserve(boolean playersVisible) {
+        removeExpiredReservations();
+        if (openStreams.incrementAndGet() > MAX_SUBSCRIBERS) {
+            openStreams.decrementAndGet();
+            return Optional.empty();
+        }
+        Reservation reservation = new Reservation(UUID.randomUUID().toString(), playersVisible);
+        reservations.put(reservation.getId(), reservation);
+        return Optional.of(reservation);
+    }
+
+    /**
+     * Take a reservation made with {@link #reserve(boolean)} for subscribing or cancelling.
+     *
+     * @param reservationId ID of the reservation.
+     * @return Reservation, or empty if it was already taken or it expired.
+     */
+    public Optional<Reservation> claim(String reservationId) {
+        return Optional.ofNullable(reservations.remove(reservationId));
+    }
+
+    /**
+     * Free a claimed reservation that was not used for subscribing.
+     *
+     * @param reservation Claimed reservation.
+     */
+    public void cancel(Reservation reservation) {
+        openStreams.decrementAndGet();
+    }
+
+    private void removeExpiredReservations() {
+        long expired = System.currentTimeMillis() - RESERVATION_TIMEOUT_MS;
+        for (Reservation reservation : reservations.values()) {
+            if (reservation.created < expired && reservations.remove(reservation.getId(), reservation)) {
+                openStreams.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Start sending events to a subscriber.
+     * <p>
+     * The subscriber first receives the latest TPS of each server and the amount of sessions in progress.
+     *
+     * @param reservation Claimed reservation.
+     * @param subscriber  Connection to write events to.
+     */
+    public void subscribe(Reservation reservation, Subscriber subscriber) {
+        execute(() -> {
+            // Events are only written by this thread, so nothing published later can arrive before the initial state.
+            subscribers.put(subscriber, reservation.playersVisible);
+            try {
+                for (Map.Entry<ServerUUID, TPS> entry : latestTPS.entrySet()) {
+                    subscriber.send(toFrame("tps", new TPSEvent(entry.getKey(), entry.getValue())));
+                }
+                subscriber.send(toFrame("online", new OnlineEvent(countSessionsInProgress())));
+            } catch (IOException | IllegalStateException disconnected) {
+                disconnect(subscriber);
+            }
+        });
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+        ScheduledExecutorService running = getRunningWriter();
+        if (running == null) {
+            remove(subscriber);
+            return;
+        }
+        try {
+            // Removed on the writer thread so that a pending subscription is added before it is removed.
+            running.execute(() -> remove(subscriber));
+        } catch (RejectedExecutionException closed) {
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber) != null) {
+            openStreams.decrementAndGet();
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.close();
+    }
+
+    public void publishJoin(ServerUUID serverUUID, UUID playerUUID, String playerName, long time) {
+        publishSessionEvent("join", serverUUID, playerUUID, playerName, time);
+    }
+
+    public void publishLeave(ServerUUID serverUUID, UUID playerUUID, String playerName, long time) {
+        publishSessionEvent("leave", serverUUID, playerUUID, playerName, time);
+    }
+
+    private void publishSessionEvent(String event, ServerUUID serverUUID, UUID playerUUID, String playerName, long time) {
+        if (subscribers.isEmpty()) return;
+        execute(() -> {
+            Map<String, Integer> sessionsInProgress = countSessionsInProgress();
+            broadcast(toFrame(event, new SessionEvent(serverUUID, playerUUID, playerName, time, sessionsInProgress)),
+                    toFrame(event, new SessionEvent(serverUUID, null, null, time, sessionsInProgress)));
+        });
+    }
+
+    public void publishTPS(ServerUUID serverUUID, TPS tps) {
+        latestTPS.put(serverUUID, tps);
+        if (subscribers.isEmpty()) return;
+        execute(() -> {
+            byte[] frame = toFrame("tps", new TPSEvent(serverUUID, tps));
+            broadcast(frame, frame);
+        });
+    }
+
+    private static Map<String, Integer> countSessionsInProgress() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<ServerUUID, Integer> count : SessionCache.countActiveSessionsByServer().entrySet()) {
+            counts.put(Objects.toString(count.getKey()), count.getValue());
+        }
+        return counts;
+    }
+
+    private byte[] toFrame(String event, Object data) {
+        return ("event: " + event + "\ndata: " + gson.toJson(data) + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void broadcast(byte[] frame, byte[] frameWithoutPlayers) {
+        for (Map.Entry<Subscriber, Boolean> entry : subscribers.entrySet()) {
+            Subscriber subscriber = entry.getKey();
+            try {
+                subscriber.send(Boolean.TRUE.equals(entry.getValue()) ? frame : frameWithoutPlayers);
+            } catch (IOException | IllegalStateException disconnected) {
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        if (!subscribers.isEmpty()) broadcast(HEARTBEAT, HEARTBEAT);
+    }
+
+    private void execute(Runnable runnable) {
+        try {
+            getWriter().execute(runnable);
+        } catch (RejectedExecutionException closed) {
+            // Stream is closing
+        }
+    }
+
+    private synchronized ScheduledExecutorService getRunningWriter() {
+        return writer;
+    }
+
+    private synchronized ScheduledExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern("Plan Live event stream-%d")
+                    .daemon(true)
+                    .build());
+            writer.scheduleAtFixedRate(this::sendHeartbeat, HEARTBEAT_PERIOD_SECONDS, HEARTBEAT_PERIOD_SECONDS, TimeUnit.SECONDS);
+        }
+        return writer;
+    }
+
+    /**
+     * Disconnect all subscribers and stop the writer thread.
+     */
+    public synchronized void close() {
+        if (writer != null) {
+            writer.shutdownNow();
+            writer = null;
+        }
+        subscribers.keySet().forEach(Subscriber::close);
+        subscribers.clear();
+        reservations.clear();
+        openStreams.set(0);
+    }
+
+    /**
+     * Connection that receives events.
+     */
+    public interface Subscriber {
+
+        /**
+         * Write a Server-Sent Event frame to the connection without blocking.
+         *
+         * @param frame Serialized event, shared between all subscribers.
+         * @throws IOException If the connection was closed or it is not keeping up with the events.
+         */
+        void send(byte[] frame) throws IOException;
+
+        void close();
+    }
+
+    /**
+     * Reserved slot for a stream.
+     */
+    public static class Reservation {
+        private final String id;
+        private final boolean playersVisible;
+        private final long created;
+
+        Reservation(String id, boolean playersVisible) {
+            this.id = id;
+            this.playersVisible = playersVisible;
+            this.created = System.currentTimeMillis();
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    static class SessionEvent {
+        final String serverUUID;
+        final String playerUUID;
+        final String playerName;
+        final long time;
+        final Map<String, Integer> sessionsInProgress;
+
+        SessionEvent(ServerUUID serverUUID, UUID playerUUID, String playerName, long time, Map<String, Integer> sessionsInProgress) {
+            this.serverUUID = serverUUID.toString();
+            this.playerUUID = playerUUID != null ? playerUUID.toString() : null;
+            this.playerName = playerName;
+            this.time = time;
+            this.sessionsInProgress = sessionsInProgress;
+        }
+    }
+
+    static class OnlineEvent {
+        final Map<String, Integer> sessionsInProgress;
+
+        OnlineEvent(Map<String, Integer> sessionsInProgress) {
+            this.sessionsInProgress = sessionsInProgress;
+        }
+    }
+
+    static class TPSEvent {
+        final String serverUUID;
+        final long date;
+        final double tps;
+        final int playersOnline;
+        final double cpu;
+        final long ram;
+        final int entities;
+        final int chunks;
+
+        TPSEvent(ServerUUID serverUUID, TPS tps) {
+            this.serverUUID = serverUUID.toString();
+            this.date = tps.getDate();
+            this.tps = tps.getTicksPerSecond();
+            this.playersOnline = tps.getPlayers();
+            this.cpu = tps.getCPUUsage();
+            this.ram = tps.getUsedMemory();
+            this.entities = tps.getEntityCount();
+            this.chunks = tps.getChunksLoaded();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Guards against too many requests overloading the server.
+ * <p>
+ * Each address has a token bucket that refills at Requests_per_second, and each expensive endpoint
+ * can only be processed by a limited amount of threads at the same time.
+ * Requests from the machine itself are not rate limited.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class RequestLoadGuard {
+
+    public static final long RETRY_BUSY_AFTER_SECONDS = 5;
+    private static final long QUEUE_TIMEOUT_SECONDS = 15;
+    // Reverse proxies without X-Forwarded-For would otherwise put every user in the same bucket.
+    private static final Set<String> NOT_RATE_LIMITED = Set.of("127.0.0.1", "0:0:0:0:0:0:0:1", "[0:0:0:0:0:0:0:1]", "::1", "[::1]");
+
+    private final WebserverConfiguration webserverConfiguration;
+
+    private final Cache<String, TokenBucket> tokenBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .build();
+    private final Map<String, EndpointLimit> endpointLimits = new ConcurrentHashMap<>();
+    private final AtomicLong rateLimited = new AtomicLong(0);
+
+    @Inject
+    public RequestLoadGuard(WebserverConfiguration webserverConfiguration) {
+        this.webserverConfiguration = webserverConfiguration;
+    }
+
+    /**
+     * Take a token from the bucket of the accessor.
+     *
+     * @param accessor Address of the requester.
+     * @return 0 if the request is allowed, otherwise seconds until the next request is allowed.
+     */
+    public long consumeToken(@Untrusted String accessor) {
+        int perSecond = webserverConfiguration.getRequestsPerSecondLimit();
+        if (perSecond <= 0 || NOT_RATE_LIMITED.contains(accessor)) return 0;
+
+        int burst = webserverConfiguration.getRequestBurstLimit();
+        long now = System.currentTimeMillis();
+        TokenBucket bucket = tokenBuckets.get(accessor, key -> new TokenBucket(burst, now));
+        long retryAfter = bucket.tryConsume(perSecond, burst, now);
+        if (retryAfter > 0) {
+            rateLimited.incrementAndGet();
+            warnAboutRejectedRequests();
+        }
+        return retryAfter;
+    }
+
+    /**
+     * Process a request, waiting for a free slot if the endpoint is limited.
+     *
+     * @param path    Path of the request, eg. /v1/query
+     * @param process Processing of the request.
+     * @param <T>     Type of the result.
+     * @return Result, or empty if the endpoint has too many requests queued already.
+     */
+    public <T> Optional<T> processLimited(@Untrusted String path, Supplier<T> process) {
+        if (!webserverConfiguration.getLimitedEndpoints().contains(path)) return Optional.of(process.get());
+
+        EndpointLimit limit = endpointLimits.computeIfAbsent(path,
+                key -> new EndpointLimit(webserverConfiguration.getLimitedEndpointMaxConcurrent()));
+        if (!limit.acquire(webserverConfiguration.getLimitedEndpointMaxQueued())) {
+            limit.rejected.incrementAndGet();
+            warnAboutRejectedRequests();
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(process.get());
+        } finally {
+            limit.permits.release();
+        }
+    }
+
+    private void warnAboutRejectedRequests() {
+        webserverConfiguration.getWebserverLogMessages().warnAboutRejectedRequests(getRateLimitedCount(), getRejectedCount());
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.get();
+    }
+
+    public long getRejectedCount() {
+        long total = 0;
+        for (EndpointLimit limit : endpointLimits.values()) {
+            total += limit.rejected.get();
+        }
+        return total;
+    }
+
+    public Map<String, Long> getRejectedCountsByPath() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, EndpointLimit> entry : endpointLimits.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().rejected.get());
+        }
+        return counts;
+    }
+
+    private static class TokenBucket {
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(int burst, long now) {
+            tokens = burst;
+            lastRefill = now;
+        }
+
+        synchronized long tryConsume(int perSecond, int burst, long now) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * perSecond / 1000.0);
+            lastRefill = now;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1.0 - tokens) / perSecond));
+        }
+    }
+
+    private static class EndpointLimit {
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger(0);
+        private final AtomicLong rejected = new AtomicLong(0);
+
+        private EndpointLimit(int maxConcurrent) {
+            permits = new Semaphore(maxConcurrent);
+        }
+
+        boolean acquire(int maxQueued) {
+            if (permits.tryAcquire()) return true;
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                return false;
+            }
+            try {
+                return permits.tryAcquire(QUEUE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+    }
+}
@@ -506,6 +506,30 @@ public class ResponseFactory {
                 .build();
     }
 
+    public Response tooManyRequests429(long retryAfterSeconds) {
+        return Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(Maps.builder(String.class, Object.class)
+                        .put("status", 429)
+                        .put("error", "Too many requests, try again in " + retryAfterSeconds + " seconds.")
+                        .build())
+                .setStatus(429)
+                .setHeader(HttpHeader.RETRY_AFTER.asString(), retryAfterSeconds)
+                .build();
+    }
+
+    public Response serviceUnavailable503(long retryAfterSeconds) {
+        return Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(Maps.builder(String.class, Object.class)
+                        .put("status", 503)
+                        .put("error", "Server is busy processing similar requests, try again in " + retryAfterSeconds + " seconds.")
+                        .build())
+                .setStatus(503)
+                .setHeader(HttpHeader.RETRY_AFTER.asString(), retryAfterSeconds)
+                .build();
+    }
+
     public Response badRequest(String errorMessage, String target) {
         return Response.builder()
                 .setMimeType(MimeType.JSON)
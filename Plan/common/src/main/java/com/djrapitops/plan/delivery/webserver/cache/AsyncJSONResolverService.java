@@ -16,20 +16,28 @@
  */
 package com.djrapitops.plan.delivery.webserver.cache;
 
+import com.djrapitops.plan.TaskSystem;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,8 +53,10 @@ public class AsyncJSONResolverService {
     private final PlanConfig config;
     private final Processing processing;
     private final JSONStorage jsonStorage;
+    private final ErrorLogger errorLogger;
     private final Map<String, Future<JSONStorage.StoredJSON>> currentlyProcessing;
     private final Map<String, Long> previousUpdates;
+    private final Map<String, JSONAccess> accesses;
     private final ReentrantLock accessLock; // Access lock prevents double processing same resource
     private final Formatter<Long> httpLastModifiedFormatter;
 
@@ -55,35 +65,69 @@ public class AsyncJSONResolverService {
             PlanConfig config,
             Formatters formatters,
             Processing processing,
-            JSONStorage jsonStorage
+            JSONStorage jsonStorage,
+            ErrorLogger errorLogger
     ) {
         this.config = config;
         this.processing = processing;
         this.jsonStorage = jsonStorage;
+        this.errorLogger = errorLogger;
 
         currentlyProcessing = new ConcurrentHashMap<>();
         previousUpdates = new ConcurrentHashMap<>();
+        accesses = new ConcurrentHashMap<>();
         accessLock = new ReentrantLock();
 
         httpLastModifiedFormatter = formatters.httpLastModifiedLong();
     }
 
+    /**
+     * Resolve json from cache or create it.
+     * <p>
+     * The creator is kept for refreshing frequently accessed json in the background,
+     * so it should only depend on the parameters of the identifier, not on the request.
+     *
+     * @param newerThanTimestamp Timestamp of the request, if given.
+     * @param dataID             Type of the json.
+     * @param serverUUID         Server the json is about.
+     * @param creator            Creates the json of the given server.
+     * @param <T>                Type of the created object.
+     * @return Stored json.
+     */
     public <T> JSONStorage.StoredJSON resolve(
             Optional<Long> newerThanTimestamp, DataID dataID, ServerUUID serverUUID, Function<ServerUUID, T> creator
     ) {
         String identifier = dataID.of(serverUUID);
         Supplier<T> jsonCreator = () -> creator.apply(serverUUID);
+        accessed(identifier, jsonCreator);
         return getStoredOrCreateJSON(newerThanTimestamp, identifier, jsonCreator);
     }
 
-
+    /**
+     * Resolve network json from cache or create it.
+     * <p>
+     * The creator is kept for refreshing frequently accessed json in the background,
+     * so it should not depend on the request.
+     *
+     * @param newerThanTimestamp Timestamp of the request, if given.
+     * @param dataID             Type of the json.
+     * @param jsonCreator        Creates the json.
+     * @param <T>                Type of the created object.
+     * @return Stored json.
+     */
     public <T> JSONStorage.StoredJSON resolve(
             Optional<Long> newerThanTimestamp, DataID dataID, Supplier<T> jsonCreator
     ) {
         String identifier = dataID.name();
+        accessed(identifier, jsonCreator);
         return getStoredOrCreateJSON(newerThanTimestamp, identifier, jsonCreator);
     }
 
+    private void accessed(String identifier, Supplier<?> jsonCreator) {
+        // Creator of the first access is kept, it only depends on the parameters of the identifier.
+        accesses.computeIfAbsent(identifier, key -> new JSONAccess(jsonCreator)).accessed();
+    }
+
     private <T> JSONStorage.StoredJSON getStoredOrCreateJSON(
             Optional<Long> givenTimestamp, String identifier, Supplier<T> jsonCreator
     ) {
@@ -165,4 +209,132 @@ public class AsyncJSONResolverService {
     public Formatter<Long> getHttpLastModifiedFormatter() {
         return httpLastModifiedFormatter;
     }
+
+    /**
+     * Regenerate frequently accessed json before it expires from memory cache.
+     * <p>
+     * Hottest json is refreshed first, one at a time on the non-critical executor.
+     * Each json is refreshed at a different point between 60% and 80% of the memory cache lifetime
+     * so that json of different servers is not all generated at the same time.
+     *
+     * @param timeBudgetMs How long refreshing can take before the rest is left for next time.
+     */
+    public void refreshHotJSON(long timeBudgetMs) {
+        long start = System.currentTimeMillis();
+        long expiresAfter = config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE);
+
+        List<Map.Entry<String, JSONAccess>> hot = new ArrayList<>();
+        for (Map.Entry<String, JSONAccess> entry : accesses.entrySet()) {
+            JSONAccess access = entry.getValue();
+            access.cool();
+            if (access.isCold()) {
+                accesses.remove(entry.getKey(), access);
+            } else if (access.isHot()) {
+                hot.add(entry);
+            }
+        }
+        hot.sort(Comparator.comparingDouble((Map.Entry<String, JSONAccess> entry) -> entry.getValue().heat).reversed());
+
+        for (Map.Entry<String, JSONAccess> entry : hot) {
+            long timeLeft = timeBudgetMs - (System.currentTimeMillis() - start);
+            if (timeLeft <= 0) return;
+
+            String identifier = entry.getKey();
+            double jitter = 0.6 + 0.2 * Math.floorMod(identifier.hashCode(), 100) / 100.0;
+            long refreshAfter = previousUpdates.getOrDefault(identifier, 0L) + (long) (expiresAfter * jitter);
+            if (refreshAfter <= start && !refresh(identifier, entry.getValue().jsonCreator, timeLeft)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Refresh json and wait for it to be created.
+     *
+     * @return false if the json was not created in time, it is left to finish in the background.
+     * Failure to create the json is logged and true is returned so that the next json is refreshed.
+     */
+    private boolean refresh(String identifier, Supplier<?> jsonCreator, long timeoutMs) {
+        Future<JSONStorage.StoredJSON> updatedJSON;
+        accessLock.lock();
+        try {
+            if (currentlyProcessing.containsKey(identifier)) return true;
+            updatedJSON = submitToProcessing(identifier, jsonCreator);
+            if (updatedJSON == null) return false; // Processing has been shut down
+            currentlyProcessing.put(identifier, updatedJSON);
+        } finally {
+            accessLock.unlock();
+        }
+        try {
+            updatedJSON.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            currentlyProcessing.remove(identifier, updatedJSON);
+            errorLogger.warn(e.getCause() != null ? e.getCause() : e, ErrorContext.builder()
+                    .related("Refreshing json in the background", identifier).build());
+            return true;
+        }
+        // In case the update finished before it was marked as processing
+        currentlyProcessing.remove(identifier, updatedJSON);
+        return true;
+    }
+
+    @Singleton
+    public static class WarmingTask extends TaskSystem.Task {
+        private static final long TIME_BUDGET_MS = TimeUnit.SECONDS.toMillis(10L);
+
+        private final AsyncJSONResolverService jsonResolverService;
+
+        @Inject
+        public WarmingTask(AsyncJSONResolverService jsonResolverService) {
+            this.jsonResolverService = jsonResolverService;
+        }
+
+        @Override
+        public void register(RunnableFactory runnableFactory) {
+            long delay = TimeAmount.toTicks(30L + ThreadLocalRandom.current().nextInt(30), TimeUnit.SECONDS);
+            long period = TimeAmount.toTicks(30L, TimeUnit.SECONDS);
+            runnableFactory.create(this).runTaskTimerAsynchronously(delay, period);
+        }
+
+        @Override
+        public void run() {
+            jsonResolverService.refreshHotJSON(TIME_BUDGET_MS);
+        }
+    }
+
+    private static class JSONAccess {
+        // Heat halves in 10 minutes when refreshHotJSON is called every 30 seconds.
+        private static final double COOLING = 0.966;
+        private static final double HOT = 2.0;
+        private static final double COLD = 0.01;
+
+        private final AtomicInteger recentAccesses = new AtomicInteger(0);
+        private final Supplier<?> jsonCreator;
+        private volatile double heat;
+
+        JSONAccess(Supplier<?> jsonCreator) {
+            this.jsonCreator = jsonCreator;
+        }
+
+        void accessed() {
+            recentAccesses.incrementAndGet();
+        }
+
+        void cool() {
+            heat = heat * COOLING + recentAccesses.getAndSet(0);
+        }
+
+        boolean isHot() {
+            return heat >= HOT;
+        }
+
+        boolean isCold() {
+            return heat < COLD;
+        }
+    }
 }
@@ -55,6 +55,7 @@ public enum DataID {
     LIST_SERVERS,
     JOIN_ADDRESSES_BY_DAY,
     PLAYER_RETENTION,
+    PLAYER_RETENTION_CURVE,
     PLAYER_JOIN_ADDRESSES,
     ;
 
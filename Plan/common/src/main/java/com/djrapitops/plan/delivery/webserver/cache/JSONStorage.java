@@ -18,6 +18,7 @@ package com.djrapitops.plan.delivery.webserver.cache;
 
 import com.djrapitops.plan.SubSystem;
 import com.google.gson.Gson;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -68,10 +69,13 @@ public interface JSONStorage extends SubSystem {
     final class StoredJSON {
         public final String json;
         public final long timestamp;
+        private final String etag;
 
         public StoredJSON(String json, long timestamp) {
             this.json = json;
             this.timestamp = timestamp;
+            // Timestamp is part of the hash, since the dashboard uses it to tell if the data is up to date.
+            this.etag = '"' + DigestUtils.sha256Hex(json) + '"';
         }
 
         public String getJson() {
@@ -82,6 +86,15 @@ public interface JSONStorage extends SubSystem {
             return timestamp;
         }
 
+        /**
+         * Get strong ETag of the json content.
+         *
+         * @return Quoted SHA-256 hash of the stored json, including its timestamp.
+         */
+        public String getEtag() {
+            return etag;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -28,6 +28,7 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
+import java.util.List;
 
 @Singleton
 public class WebserverConfiguration {
@@ -128,4 +129,24 @@ public class WebserverConfiguration {
     public boolean isRegistrationEnabled() {
         return config.isFalse(WebserverSettings.DISABLED_REGISTRATION);
     }
+
+    public int getRequestsPerSecondLimit() {
+        return config.get(WebserverSettings.RATE_LIMIT_REQUESTS_PER_SECOND);
+    }
+
+    public int getRequestBurstLimit() {
+        return config.get(WebserverSettings.RATE_LIMIT_BURST);
+    }
+
+    public List<String> getLimitedEndpoints() {
+        return config.get(WebserverSettings.LIMITED_ENDPOINTS);
+    }
+
+    public int getLimitedEndpointMaxConcurrent() {
+        return config.get(WebserverSettings.LIMITED_ENDPOINT_MAX_CONCURRENT);
+    }
+
+    public int getLimitedEndpointMaxQueued() {
+        return config.get(WebserverSettings.LIMITED_ENDPOINT_MAX_QUEUED);
+    }
 }
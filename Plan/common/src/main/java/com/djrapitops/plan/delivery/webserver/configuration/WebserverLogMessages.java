@@ -42,6 +42,7 @@ public class WebserverLogMessages {
     private final Addresses addresses;
 
     private final AtomicLong warnedAboutXForwardedSecurityIssue = new AtomicLong(0L);
+    private final AtomicLong warnedAboutRejectedRequests = new AtomicLong(0L);
 
     @Inject
     public WebserverLogMessages(Formatters formatters, PluginLogger logger, ErrorLogger errorLogger, Locale locale, Addresses addresses) {
@@ -62,6 +63,14 @@ public class WebserverLogMessages {
         }
     }
 
+    public void warnAboutRejectedRequests(long rateLimited, long overCapacity) {
+        if (System.currentTimeMillis() - warnedAboutRejectedRequests.get() > TimeUnit.MINUTES.toMillis(2L)) {
+            logger.warn(locale.getString(PluginLang.WEB_SERVER_NOTIFY_REJECTED_REQUESTS, rateLimited, overCapacity));
+            logger.warn(locale.getString(PluginLang.WEB_SERVER_NOTIFY_REJECTED_REQUESTS_LIMITS, "Webserver.Security.Rate_limit"));
+            warnedAboutRejectedRequests.set(System.currentTimeMillis());
+        }
+    }
+
     public void warnAboutWhitelistBlock(@Untrusted String accessAddress, @Untrusted String requestedURIString) {
         logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_IP_WHITELIST_BLOCK, accessAddress, requestedURIString));
     }
@@ -0,0 +1,136 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
+import jakarta.servlet.*;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a Jetty response open for {@link LiveEventStream} events.
+ * <p>
+ * Events are written with non-blocking IO, so a stalled connection doesn't hold up the writer thread of the stream.
+ * Events wait in a small queue while the previous write is in progress, and the connection is dropped if it fills up.
+ * <p>
+ * The connection is closed after a while so that the browser reconnects and the user is authenticated again.
+ *
+ * @author AuroraLS3
+ */
+public class JettyEventStreamSubscriber implements LiveEventStream.Subscriber, AsyncListener, WriteListener {
+
+    private static final long MAX_CONNECTION_TIME_MS = TimeUnit.MINUTES.toMillis(30L);
+    private static final int MAX_QUEUED_FRAMES = 64;
+
+    private final LiveEventStream liveEventStream;
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final Queue<byte[]> queued = new ArrayBlockingQueue<>(MAX_QUEUED_FRAMES);
+    private boolean unflushed = false;
+
+    private JettyEventStreamSubscriber(LiveEventStream liveEventStream, AsyncContext asyncContext, ServletOutputStream out) {
+        this.liveEventStream = liveEventStream;
+        this.asyncContext = asyncContext;
+        this.out = out;
+    }
+
+    /**
+     * Turn a response with sent headers into a subscription.
+     *
+     * @param liveEventStream Stream to subscribe to.
+     * @param reservation     Claimed reservation of the stream.
+     * @param asyncContext    Started async context of the request.
+     * @param content         Beginning of the stream, written before any events.
+     * @throws IOException If the connection was already closed.
+     */
+    public static void subscribe(LiveEventStream liveEventStream, LiveEventStream.Reservation reservation, AsyncContext asyncContext, byte[] content) throws IOException {
+        asyncContext.setTimeout(MAX_CONNECTION_TIME_MS);
+        JettyEventStreamSubscriber subscriber = new JettyEventStreamSubscriber(liveEventStream, asyncContext, asyncContext.getResponse().getOutputStream());
+        subscriber.queued.add(content);
+        asyncContext.addListener(subscriber);
+        // Switches the output to non-blocking mode and writes the content once the connection is ready
+        subscriber.out.setWriteListener(subscriber);
+        liveEventStream.subscribe(reservation, subscriber);
+    }
+
+    @Override
+    public void send(byte[] frame) throws IOException {
+        if (!queued.offer(frame)) {
+            throw new IOException("Connection is not keeping up with the events");
+        }
+        writeQueued();
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        writeQueued();
+    }
+
+    private synchronized void writeQueued() throws IOException {
+        // isReady returning false makes Jetty call onWritePossible once the previous write has finished.
+        while (out.isReady()) {
+            byte[] frame = queued.poll();
+            if (frame != null) {
+                out.write(frame);
+                unflushed = true;
+            } else if (unflushed) {
+                out.flush();
+                unflushed = false;
+            } else {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        liveEventStream.unsubscribe(this);
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException alreadyComplete) {
+            // Connection was closed already
+        }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        liveEventStream.unsubscribe(this);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Not used
+    }
+}
@@ -18,22 +18,27 @@ package com.djrapitops.plan.delivery.webserver.http;
 
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.webserver.Addresses;
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
 import com.djrapitops.plan.delivery.webserver.auth.AuthenticationExtractor;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import net.playeranalytics.plugin.server.PluginLogger;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.Optional;
 
 @Singleton
 public class JettyRequestHandler extends AbstractHandler {
@@ -42,16 +47,18 @@ public class JettyRequestHandler extends AbstractHandler {
     private final AuthenticationExtractor authenticationExtractor;
     private final Addresses addresses;
     private final RequestHandler requestHandler;
+    private final LiveEventStream liveEventStream;
     private final PlanConfig config;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
     @Inject
-    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger) {
+    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, LiveEventStream liveEventStream, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger) {
         this.webserverConfiguration = webserverConfiguration;
         this.authenticationExtractor = authenticationExtractor;
         this.addresses = addresses;
         this.requestHandler = requestHandler;
+        this.liveEventStream = liveEventStream;
         this.config = config;
         this.logger = logger;
         this.errorLogger = errorLogger;
@@ -62,7 +69,14 @@ public class JettyRequestHandler extends AbstractHandler {
         try {
             InternalRequest internalRequest = new JettyInternalRequest(baseRequest, servletRequest, webserverConfiguration, authenticationExtractor);
             Response response = requestHandler.getResponse(internalRequest);
-            new JettyResponseSender(response, servletRequest, servletResponse, addresses).send();
+            Optional<LiveEventStream.Reservation> reservation = claimLiveEventStream(response);
+            JettyResponseSender responseSender = new JettyResponseSender(response, servletRequest, servletResponse, addresses);
+            if (reservation.isPresent() && isEventStream(servletRequest, response)) {
+                startEventStream(servletRequest, response, responseSender, reservation.get());
+            } else {
+                reservation.ifPresent(liveEventStream::cancel);
+                responseSender.send();
+            }
             baseRequest.setHandled(true);
         } catch (Exception e) {
             if (config.isTrue(PluginSettings.DEV_MODE)) {
@@ -75,4 +89,26 @@ public class JettyRequestHandler extends AbstractHandler {
         }
 
     }
+
+    private Optional<LiveEventStream.Reservation> claimLiveEventStream(Response response) {
+        String reservationId = response.getHeaders().remove(LiveEventStream.RESERVATION_HEADER);
+        return reservationId != null ? liveEventStream.claim(reservationId) : Optional.empty();
+    }
+
+    private void startEventStream(HttpServletRequest servletRequest, Response response, JettyResponseSender responseSender, LiveEventStream.Reservation reservation) throws IOException {
+        try {
+            AsyncContext asyncContext = servletRequest.startAsync();
+            responseSender.setEventStreamHead();
+            JettyEventStreamSubscriber.subscribe(liveEventStream, reservation, asyncContext, response.getBytes());
+        } catch (IOException | RuntimeException e) {
+            liveEventStream.cancel(reservation);
+            throw e;
+        }
+    }
+
+    private boolean isEventStream(HttpServletRequest servletRequest, Response response) {
+        return "GET".equals(servletRequest.getMethod())
+                && response.getCode() == 200
+                && StringUtils.startsWith(response.getHeaders().get(HttpHeader.CONTENT_TYPE.asString()), LiveEventStream.MIME_TYPE);
+    }
 }
@@ -57,6 +57,16 @@ public class JettyResponseSender {
         }
     }
 
+    /**
+     * Set headers of an event stream, the content is written by {@link JettyEventStreamSubscriber}.
+     */
+    public void setEventStreamHead() {
+        response.getHeaders().remove(HttpHeader.CONTENT_LENGTH.asString());
+        response.getHeaders().remove(HttpHeader.ACCEPT_RANGES.asString());
+        setResponseHeaders();
+        servletResponse.setStatus(response.getCode());
+    }
+
     private boolean canGzip() {
         String method = servletRequest.getMethod();
         String mimeType = response.getHeaders().get(HttpHeader.CONTENT_TYPE.asString());
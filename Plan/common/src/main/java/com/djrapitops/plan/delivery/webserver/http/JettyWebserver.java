@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.delivery.webserver.http;
 
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
 import com.djrapitops.plan.delivery.webserver.ResponseResolver;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverLogMessages;
@@ -51,6 +52,7 @@ public class JettyWebserver implements WebServer {
     private final LegacyJettySSLContextLoader legacyJettySSLContextLoader;
     private final JettyRequestHandler jettyRequestHandler;
     private final ResponseResolver responseResolver;
+    private final LiveEventStream liveEventStream;
     private final WebserverLogMessages webserverLogMessages;
 
     private int port;
@@ -58,13 +60,14 @@ public class JettyWebserver implements WebServer {
     private Server webserver;
 
     @Inject
-    public JettyWebserver(PluginLogger logger, WebserverConfiguration webserverConfiguration, LegacyJettySSLContextLoader legacyJettySSLContextLoader, JettyRequestHandler jettyRequestHandler, ResponseResolver responseResolver) {
+    public JettyWebserver(PluginLogger logger, WebserverConfiguration webserverConfiguration, LegacyJettySSLContextLoader legacyJettySSLContextLoader, JettyRequestHandler jettyRequestHandler, ResponseResolver responseResolver, LiveEventStream liveEventStream) {
         this.logger = logger;
         this.webserverConfiguration = webserverConfiguration;
         webserverLogMessages = webserverConfiguration.getWebserverLogMessages();
         this.legacyJettySSLContextLoader = legacyJettySSLContextLoader;
         this.jettyRequestHandler = jettyRequestHandler;
         this.responseResolver = responseResolver;
+        this.liveEventStream = liveEventStream;
     }
 
     @Override
@@ -253,6 +256,7 @@ public class JettyWebserver implements WebServer {
 
     @Override
     public void disable() {
+        liveEventStream.close();
         try {
             if (webserver != null) {
                 webserver.stop();
@@ -19,6 +19,7 @@ package com.djrapitops.plan.delivery.webserver.http;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.webserver.PassBruteForceGuard;
+import com.djrapitops.plan.delivery.webserver.RequestLoadGuard;
 import com.djrapitops.plan.delivery.webserver.ResponseFactory;
 import com.djrapitops.plan.delivery.webserver.ResponseResolver;
 import com.djrapitops.plan.delivery.webserver.auth.FailReason;
@@ -40,13 +41,15 @@ public class RequestHandler {
     private final ResponseResolver responseResolver;
 
     private final PassBruteForceGuard bruteForceGuard;
+    private final RequestLoadGuard loadGuard;
     private final AccessLogger accessLogger;
 
     @Inject
-    public RequestHandler(WebserverConfiguration webserverConfiguration, ResponseFactory responseFactory, ResponseResolver responseResolver, AccessLogger accessLogger) {
+    public RequestHandler(WebserverConfiguration webserverConfiguration, ResponseFactory responseFactory, ResponseResolver responseResolver, RequestLoadGuard loadGuard, AccessLogger accessLogger) {
         this.webserverConfiguration = webserverConfiguration;
         this.responseFactory = responseFactory;
         this.responseResolver = responseResolver;
+        this.loadGuard = loadGuard;
         this.accessLogger = accessLogger;
 
         bruteForceGuard = new PassBruteForceGuard();
@@ -57,8 +60,11 @@ public class RequestHandler {
 
         Response response;
         @Untrusted Request request = null;
+        long retryAfter = loadGuard.consumeToken(accessAddress);
         if (bruteForceGuard.shouldPreventRequest(accessAddress)) {
             response = responseFactory.failedLoginAttempts403();
+        } else if (retryAfter > 0) {
+            response = responseFactory.tooManyRequests429(retryAfter);
         } else if (!webserverConfiguration.getAllowedIpList().isAllowed(accessAddress)) {
             webserverConfiguration.getWebserverLogMessages()
                     .warnAboutWhitelistBlock(accessAddress, internalRequest.getRequestedURIString());
@@ -84,7 +90,8 @@ public class RequestHandler {
 
     private Response attemptToResolve(@Untrusted Request request, @Untrusted String accessAddress) {
         Response response = protocolUpgradeResponse(request)
-                .orElseGet(() -> responseResolver.getResponse(request));
+                .orElseGet(() -> loadGuard.processLimited(request.getPath().asString(), () -> responseResolver.getResponse(request))
+                        .orElseGet(() -> responseFactory.serviceUnavailable503(RequestLoadGuard.RETRY_BUSY_AFTER_SECONDS)));
         request.getUser().ifPresent(user -> processSuccessfulLogin(response.getCode(), accessAddress));
         return response;
     }
@@ -153,22 +153,35 @@ public class GraphsJSONResolver extends JSONResolver {
     private JSONStorage.StoredJSON getGraphJSON(@Untrusted Request request, DataID dataID) {
         Optional<Long> timestamp = Identifiers.getTimestamp(request);
 
+        // Parsed beforehand so that the json creators kept for refreshing don't hold on to the request.
+        boolean ranged = dataID == DataID.JOIN_ADDRESSES_BY_DAY;
+        long after = ranged ? getEpochMs(request.getQuery(), "after").orElse(0L) : 0L;
+        Optional<Long> before = ranged ? getEpochMs(request.getQuery(), "before") : Optional.empty();
+
         JSONStorage.StoredJSON storedJSON;
         if (request.getQuery().get("server").isPresent()) {
             ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
             storedJSON = jsonResolverService.resolve(
                     timestamp, dataID, serverUUID,
-                    theServerUUID -> generateGraphDataJSONOfType(dataID, theServerUUID, request.getQuery())
+                    theServerUUID -> generateGraphDataJSONOfType(dataID, theServerUUID, after, before)
             );
         } else {
             // Assume network
             storedJSON = jsonResolverService.resolve(
-                    timestamp, dataID, () -> generateGraphDataJSONOfType(dataID, request.getQuery())
+                    timestamp, dataID, () -> generateGraphDataJSONOfType(dataID, after, before)
             );
         }
         return storedJSON;
     }
 
+    private Optional<Long> getEpochMs(@Untrusted URIQuery query, String parameter) {
+        try {
+            return query.get(parameter).map(Long::parseLong);
+        } catch (@Untrusted NumberFormatException e) {
+            throw new BadRequestException("'after' or 'before' is not a epoch millisecond (number)");
+        }
+    }
+
     private DataID getDataID(@Untrusted String type) {
         switch (type) {
             case "performance":
@@ -254,6 +267,9 @@ public class GraphsJSONResolver extends JSONResolver {
                 return List.of(WebPermission.PAGE_NETWORK_SESSIONS_SERVER_PIE);
             case GRAPH_WORLD_MAP:
                 return List.of(WebPermission.PAGE_NETWORK_GEOLOCATIONS_MAP);
+            case GRAPH_PUNCHCARD:
+            case GRAPH_CALENDAR:
+                return List.of(WebPermission.PAGE_NETWORK_OVERVIEW_GRAPHS);
             case GRAPH_ONLINE_PROXIES:
                 return List.of(WebPermission.PAGE_NETWORK_OVERVIEW_GRAPHS_ONLINE);
             case GRAPH_HOSTNAME_PIE:
@@ -265,7 +281,7 @@ public class GraphsJSONResolver extends JSONResolver {
         }
     }
 
-    private Object generateGraphDataJSONOfType(DataID id, ServerUUID serverUUID, @Untrusted URIQuery query) {
+    private Object generateGraphDataJSONOfType(DataID id, ServerUUID serverUUID, long after, Optional<Long> before) {
         switch (id) {
             case GRAPH_PERFORMANCE:
                 return graphJSON.performanceGraphJSON(serverUUID);
@@ -292,20 +308,13 @@ public class GraphsJSONResolver extends JSONResolver {
             case GRAPH_PUNCHCARD:
                 return graphJSON.punchCardJSONAsMap(serverUUID);
             case JOIN_ADDRESSES_BY_DAY:
-                try {
-                    return graphJSON.joinAddressesByDay(serverUUID,
-                            query.get("after").map(Long::parseLong).orElse(0L),
-                            query.get("before").map(Long::parseLong).orElse(System.currentTimeMillis())
-                    );
-                } catch (@Untrusted NumberFormatException e) {
-                    throw new BadRequestException("'after' or 'before' is not a epoch millisecond (number)");
-                }
+                return graphJSON.joinAddressesByDay(serverUUID, after, before.orElseGet(System::currentTimeMillis));
             default:
                 throw new BadRequestException("Graph type not supported with server-parameter (" + id.name() + ")");
         }
     }
 
-    private Object generateGraphDataJSONOfType(DataID id, @Untrusted URIQuery query) {
+    private Object generateGraphDataJSONOfType(DataID id, long after, Optional<Long> before) {
         switch (id) {
             case GRAPH_ACTIVITY:
                 return graphJSON.activityGraphsJSONAsMap();
@@ -313,6 +322,8 @@ public class GraphsJSONResolver extends JSONResolver {
                 return graphJSON.uniqueAndNewGraphJSON();
             case GRAPH_HOURLY_UNIQUE_NEW:
                 return graphJSON.hourlyUniqueAndNewGraphJSON();
+            case GRAPH_CALENDAR:
+                return graphJSON.networkCalendarJSON();
             case GRAPH_SERVER_PIE:
                 return graphJSON.serverPreferencePieJSONAsMap();
             case GRAPH_HOSTNAME_PIE:
@@ -321,15 +332,10 @@ public class GraphsJSONResolver extends JSONResolver {
                 return graphJSON.geolocationGraphsJSONAsMap();
             case GRAPH_ONLINE_PROXIES:
                 return graphJSON.proxyPlayersOnlineGraphs();
+            case GRAPH_PUNCHCARD:
+                return graphJSON.punchCardJSONAsMap();
             case JOIN_ADDRESSES_BY_DAY:
-                try {
-                    return graphJSON.joinAddressesByDay(
-                            query.get("after").map(Long::parseLong).orElse(0L),
-                            query.get("before").map(Long::parseLong).orElse(System.currentTimeMillis())
-                    );
-                } catch (@Untrusted NumberFormatException e) {
-                    throw new BadRequestException("'after' or 'before' is not a epoch millisecond (number)");
-                }
+                return graphJSON.joinAddressesByDay(after, before.orElseGet(System::currentTimeMillis));
             default:
                 throw new BadRequestException("Graph type not supported without server-parameter (" + id.name() + ")");
         }
@@ -26,6 +26,7 @@ import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Maps;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpHeader;
 
 import java.util.Optional;
@@ -45,11 +46,11 @@ public abstract class JSONResolver implements Resolver {
                     .build();
         }
 
-        Optional<Long> browserCached = Identifiers.getEtag(request);
-        if (browserCached.isPresent() && browserCached.get() == storedJSON.getTimestamp()) {
+        if (isCachedByBrowser(request, storedJSON.getEtag())) {
             return Response.builder()
                     .setStatus(304)
                     .setContent(new byte[0])
+                    .setHeader(HttpHeader.ETAG.asString(), storedJSON.getEtag())
                     .build();
         }
 
@@ -58,10 +59,21 @@ public abstract class JSONResolver implements Resolver {
                 .setJSONContent(storedJSON.getJson())
                 .setHeader(HttpHeader.CACHE_CONTROL.asString(), CacheStrategy.CHECK_ETAG_USER_SPECIFIC)
                 .setHeader(HttpHeader.LAST_MODIFIED.asString(), getHttpLastModifiedFormatter().apply(storedJSON.getTimestamp()))
-                .setHeader(HttpHeader.ETAG.asString(), storedJSON.getTimestamp())
+                .setHeader(HttpHeader.ETAG.asString(), storedJSON.getEtag())
                 .build();
     }
 
+    private static boolean isCachedByBrowser(@Untrusted Request request, String etag) {
+        @Untrusted Optional<String> ifNoneMatch = Identifiers.getStringEtag(request);
+        if (ifNoneMatch.isEmpty()) return false;
+
+        for (@Untrusted String browserCached : StringUtils.split(ifNoneMatch.get(), ',')) {
+            String tag = StringUtils.removeStart(browserCached.trim(), "W/");
+            if ("*".equals(tag) || etag.equals(tag)) return true;
+        }
+        return false;
+    }
+
     protected abstract Formatter<Long> getHttpLastModifiedFormatter();
 
 }
@@ -0,0 +1,116 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.gathering.cache.LeaderboardCache;
+import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves /v1/leaderboard JSON requests.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+@Path("/v1/leaderboard")
+public class LeaderboardJSONResolver implements Resolver {
+
+    private final Identifiers identifiers;
+    private final LeaderboardCache leaderboardCache;
+
+    @Inject
+    public LeaderboardJSONResolver(Identifiers identifiers, LeaderboardCache leaderboardCache) {
+        this.identifiers = identifiers;
+        this.leaderboardCache = leaderboardCache;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        return user.hasPermission(WebPermission.PAGE_SERVER_PLAYERS);
+    }
+
+    @GET
+    @Operation(
+            description = "Get top 10 players of a server in a category",
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
+                    @ApiResponse(responseCode = "400", description = "If 'server' or 'category' parameter is missing or invalid")
+            },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, required = true, name = "server", description = "Server identifier to get data for", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, required = true, name = "category", description = "What to rank players by", examples = {
+                            @ExampleObject("playtime"),
+                            @ExampleObject("active_playtime"),
+                            @ExampleObject("player_kills"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "timespan", description = "How far back data is taken into account (default total)", examples = {
+                            @ExampleObject("month"),
+                            @ExampleObject("week"),
+                            @ExampleObject("day"),
+                            @ExampleObject("total"),
+                    })
+            },
+            requestBody = @RequestBody(content = @Content(examples = @ExampleObject()))
+    )
+    @Override
+    public Optional<Response> resolve(@Untrusted Request request) {
+        ServerUUID serverUUID = identifiers.getServerUUID(request);
+        @Untrusted String categoryName = request.getQuery().get("category")
+                .orElseThrow(() -> new BadRequestException("Missing 'category' query parameter"));
+        LeaderboardCache.Category category = LeaderboardCache.Category.fromName(categoryName)
+                .orElseThrow(() -> new BadRequestException("Unknown 'category' query parameter"));
+        LeaderboardCache.TimeSpan timeSpan = request.getQuery().get("timespan")
+                .map(timeSpanName -> LeaderboardCache.TimeSpan.fromName(timeSpanName)
+                        .orElseThrow(() -> new BadRequestException("Unknown 'timespan' query parameter")))
+                .orElse(LeaderboardCache.TimeSpan.TOTAL);
+
+        return Optional.of(Response.builder()
+                .setJSONContent(Map.of(
+                        "category", category.getName(),
+                        "timespan", timeSpan.getName(),
+                        "leaderboard", leaderboardCache.getLeaderboard(category, timeSpan, serverUUID)
+                ))
+                .build());
+    }
+}
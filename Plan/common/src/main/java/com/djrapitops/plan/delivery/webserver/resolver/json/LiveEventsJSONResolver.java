@@ -0,0 +1,102 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Opens a Server-Sent Events stream of players joining and leaving and the latest TPS of each server.
+ * <p>
+ * Names and UUIDs of the players are only included for users that can see the players or sessions of servers.
+ *
+ * @author AuroraLS3
+ * @see LiveEventStream for the events.
+ */
+@Singleton
+@Path("/v1/live")
+public class LiveEventsJSONResolver implements Resolver {
+
+    private static final long RECONNECT_DELAY_MS = 10000;
+
+    private final LiveEventStream liveEventStream;
+
+    @Inject
+    public LiveEventsJSONResolver(LiveEventStream liveEventStream) {
+        this.liveEventStream = liveEventStream;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        return user.hasPermission(WebPermission.ACCESS_SERVER) || user.hasPermission(WebPermission.ACCESS_NETWORK);
+    }
+
+    @GET
+    @Operation(
+            description = "Stream of live events as Server-Sent Events: 'online' and 'tps' of each server on connect, then 'join', 'leave' and 'tps' as they happen",
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(mediaType = LiveEventStream.MIME_TYPE, examples = @ExampleObject(
+                            value = "event: join\ndata: {\"serverUUID\":\"1fb39d2a-eb82-4868-b245-1fad17d823b3\",\"playerUUID\":\"...\",\"playerName\":\"Player\",\"time\":1700000000000,\"sessionsInProgress\":{\"1fb39d2a-eb82-4868-b245-1fad17d823b3\":1}}"
+                    ))),
+                    @ApiResponse(responseCode = "503", description = "Too many dashboards are connected already")
+            },
+            requestBody = @RequestBody(content = @Content(examples = @ExampleObject()))
+    )
+    @Override
+    public Optional<Response> resolve(Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        Optional<LiveEventStream.Reservation> reservation = liveEventStream.reserve(canSeePlayers(user));
+        if (reservation.isEmpty()) {
+            return Optional.of(Response.builder()
+                    .setStatus(503)
+                    .setHeader("Retry-After", RECONNECT_DELAY_MS / 1000)
+                    .setContent("Too many live event streams are open")
+                    .setMimeType("text/plain")
+                    .build());
+        }
+        return Optional.of(Response.builder()
+                .setMimeType(LiveEventStream.MIME_TYPE)
+                .setHeader("Cache-Control", "no-cache")
+                .setHeader("X-Accel-Buffering", "no")
+                .setHeader(LiveEventStream.RESERVATION_HEADER, reservation.get().getId())
+                .setContent("retry: " + RECONNECT_DELAY_MS + "\n\n")
+                .build());
+    }
+
+    private boolean canSeePlayers(WebUser user) {
+        return user.hasPermission(WebPermission.PAGE_SERVER_PLAYERS)
+                || user.hasPermission(WebPermission.PAGE_SERVER_SESSIONS)
+                || user.hasPermission(WebPermission.PAGE_NETWORK_PLAYERS)
+                || user.hasPermission(WebPermission.PAGE_NETWORK_SESSIONS);
+    }
+}
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.auth.WebPermission;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.rendering.json.ServerFanOut;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
 import com.djrapitops.plan.delivery.web.resolver.Response;
@@ -130,13 +131,16 @@ public class NetworkPerformanceJSONResolver implements Resolver {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        Map<Integer, List<TPS>> tpsData = db.query(TPSQueries.fetchTPSDataOfServers(monthAgo, now, serverUUIDs));
+        Map<ServerUUID, List<TPS>> tpsData = ServerFanOut.queryEach(db, serverUUIDs,
+                serverUUID -> TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
+        // Servers without data are not counted towards averages
+        tpsData.values().removeIf(List::isEmpty);
 
         serverOverview.put("numbers", createNumbersMap(tpsData));
         return serverOverview;
     }
 
-    private Map<String, Object> createNumbersMap(Map<Integer, List<TPS>> tpsData) {
+    private Map<String, Object> createNumbersMap(Map<ServerUUID, List<TPS>> tpsData) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
@@ -149,10 +153,10 @@ public class NetworkPerformanceJSONResolver implements Resolver {
         TPSMutator tpsDataWeek = tpsDataMonth.filterDataBetween(weekAgo, now);
         TPSMutator tpsDataDay = tpsDataWeek.filterDataBetween(dayAgo, now);
 
-        Map<Integer, TPSMutator> mutatorsOfServersMonth = new HashMap<>();
-        Map<Integer, TPSMutator> mutatorsOfServersWeek = new HashMap<>();
-        Map<Integer, TPSMutator> mutatorsOfServersDay = new HashMap<>();
-        for (Map.Entry<Integer, List<TPS>> entry : tpsData.entrySet()) {
+        Map<ServerUUID, TPSMutator> mutatorsOfServersMonth = new HashMap<>();
+        Map<ServerUUID, TPSMutator> mutatorsOfServersWeek = new HashMap<>();
+        Map<ServerUUID, TPSMutator> mutatorsOfServersDay = new HashMap<>();
+        for (Map.Entry<ServerUUID, List<TPS>> entry : tpsData.entrySet()) {
             TPSMutator mutator = new TPSMutator(entry.getValue());
             mutatorsOfServersMonth.put(entry.getKey(), mutator);
             mutatorsOfServersWeek.put(entry.getKey(), mutator.filterDataBetween(weekAgo, now));
@@ -203,7 +207,7 @@ public class NetworkPerformanceJSONResolver implements Resolver {
         return numbers;
     }
 
-    private long getTotalDowntime(Map<Integer, TPSMutator> mutatorsOfServersMonth) {
+    private long getTotalDowntime(Map<ServerUUID, TPSMutator> mutatorsOfServersMonth) {
         long downTime = 0L;
         for (TPSMutator tpsMutator : mutatorsOfServersMonth.values()) {
             downTime += tpsMutator.serverDownTime();
@@ -39,6 +39,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
@@ -50,6 +51,8 @@ import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.QueryTablePlayersQuery;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Maps;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.gson.Gson;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -69,11 +72,19 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 @Singleton
 @Path("/v1/query")
 public class QueryJSONResolver implements Resolver {
 
+    private static final String QUERY_IDENTIFIER = "query";
+    private static final Pattern QUERY_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int MAX_CACHED_QUERY_RESULTS = 20;
+
     private final QueryFilters filters;
 
     private final PlanConfig config;
@@ -85,6 +96,8 @@ public class QueryJSONResolver implements Resolver {
     private final Formatters formatters;
     private final Gson gson;
 
+    private Cache<String, CompletableFuture<JSONStorage.StoredJSON>> queryResults;
+
     @Inject
     public QueryJSONResolver(
             QueryFilters filters,
@@ -115,7 +128,7 @@ public class QueryJSONResolver implements Resolver {
 
     @GET
     @Operation(
-            description = "Perform a query or get cached results. Use q to do new query, timestamp to see cached query.",
+            description = "Perform a query or get cached results. Use q to do new query, hash or timestamp to see cached query.",
             responses = {
                     @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
                     @ApiResponse(responseCode = "400 (invalid view)", description = "If 'view' date formats does not match afterDate dd/mm/yyyy, afterTime hh:mm, beforeDate dd/mm/yyyy, beforeTime hh:mm"),
@@ -123,6 +136,7 @@ public class QueryJSONResolver implements Resolver {
                     @ApiResponse(responseCode = "400 (invalid query)", description = "If request body is empty and 'q' json request parameter doesn't contain 'view' property"),
             },
             parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "hash", description = "Hash of a cached query, given in results of the query"),
                     @Parameter(in = ParameterIn.QUERY, name = "timestamp", description = "Epoch millisecond for cached query"),
                     @Parameter(in = ParameterIn.QUERY, name = "q", description = "URI encoded json, alternative is to POST in request body", schema = @Schema(implementation = InputQueryDto.class))
             },
@@ -138,13 +152,60 @@ public class QueryJSONResolver implements Resolver {
         if (cachedResult.isPresent()) return cachedResult.get();
 
         InputQueryDto inputQuery = parseInputQuery(request);
+        JSONStorage.StoredJSON stored = getOrPerformQuery(inputQuery);
+        return Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(stored.json)
+                .build();
+    }
+
+    private synchronized Cache<String, CompletableFuture<JSONStorage.StoredJSON>> getQueryResults() {
+        if (queryResults == null) {
+            queryResults = Caffeine.newBuilder()
+                    .expireAfterWrite(config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE), TimeUnit.MILLISECONDS)
+                    .maximumSize(MAX_CACHED_QUERY_RESULTS)
+                    .build();
+        }
+        return queryResults;
+    }
+
+    private JSONStorage.StoredJSON getOrPerformQuery(InputQueryDto inputQuery) {
+        String hash = inputQuery.getCanonicalHash();
+        CompletableFuture<JSONStorage.StoredJSON> performing = new CompletableFuture<>();
+        CompletableFuture<JSONStorage.StoredJSON> previous = getQueryResults().asMap().putIfAbsent(hash, performing);
+        if (previous != null) {
+            // Same query was already done recently or is being done by another request right now.
+            return waitFor(previous);
+        }
+
+        try {
+            JSONStorage.StoredJSON stored = performQuery(hash, inputQuery);
+            performing.complete(stored);
+            return stored;
+        } catch (RuntimeException e) {
+            getQueryResults().asMap().remove(hash, performing);
+            performing.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private JSONStorage.StoredJSON waitFor(CompletableFuture<JSONStorage.StoredJSON> queryResult) {
+        try {
+            return queryResult.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    private JSONStorage.StoredJSON performQuery(String hash, InputQueryDto inputQuery) {
         @Untrusted List<InputFilterDto> queries = inputQuery.getFilters();
 
         Filter.Result result = filters.apply(queries);
         List<Filter.ResultPath> resultPath = result.getInverseResultPath();
         Collections.reverse(resultPath);
 
-        return buildAndStoreResponse(inputQuery, result, resultPath);
+        return buildAndStoreResults(hash, inputQuery, result, resultPath);
     }
 
     private InputQueryDto parseInputQuery(@Untrusted Request request) {
@@ -170,20 +231,35 @@ public class QueryJSONResolver implements Resolver {
     }
 
     private Optional<Response> checkForCachedResult(@Untrusted Request request) {
+        Optional<JSONStorage.StoredJSON> cached = request.getQuery().get("hash")
+                .map(this::getCachedResultByHash)
+                .orElseGet(() -> getCachedResultByTimestamp(request));
+        return cached.map(results -> Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(results.json)
+                .build());
+    }
+
+    private Optional<JSONStorage.StoredJSON> getCachedResultByHash(@Untrusted String hash) {
+        if (!QUERY_HASH_PATTERN.matcher(hash).matches()) {
+            throw new BadRequestException("'hash' was not a valid query hash. Remove parameter or fix it.");
+        }
+        CompletableFuture<JSONStorage.StoredJSON> inMemory = getQueryResults().getIfPresent(hash);
+        if (inMemory != null) return Optional.of(waitFor(inMemory));
+        return jsonStorage.fetchJSON(QUERY_IDENTIFIER + '-' + hash);
+    }
+
+    private Optional<JSONStorage.StoredJSON> getCachedResultByTimestamp(@Untrusted Request request) {
         try {
             return request.getQuery().get("timestamp")
                     .map(Long::parseLong)
-                    .flatMap(queryTimestamp -> jsonStorage.fetchExactJson("query", queryTimestamp))
-                    .map(results -> Response.builder()
-                            .setMimeType(MimeType.JSON)
-                            .setJSONContent(results.json)
-                            .build());
+                    .flatMap(queryTimestamp -> jsonStorage.fetchExactJson(QUERY_IDENTIFIER, queryTimestamp));
         } catch (@Untrusted NumberFormatException e) {
             throw new BadRequestException("Could not parse 'timestamp' into a number. Remove parameter or fix it.");
         }
     }
 
-    private Response buildAndStoreResponse(InputQueryDto input, Filter.Result result, List<Filter.ResultPath> resultPath) {
+    private JSONStorage.StoredJSON buildAndStoreResults(String hash, InputQueryDto input, Filter.Result result, List<Filter.ResultPath> resultPath) {
         try {
             long timestamp = System.currentTimeMillis();
             @Untrusted Map<String, Object> json = Maps.builder(String.class, Object.class)
@@ -191,17 +267,16 @@ public class QueryJSONResolver implements Resolver {
                     .put("view", input.getView())
                     .put("filters", input.getFilters()) // filters json may contain untrusted data
                     .put("timestamp", timestamp)
+                    .put("hash", hash)
                     .build();
             if (!result.isEmpty()) {
                 json.put("data", getDataFor(result.getResultUserIds(), input.getView()));
             }
 
-            JSONStorage.StoredJSON stored = jsonStorage.storeJson("query", json, timestamp);
-
-            return Response.builder()
-                    .setMimeType(MimeType.JSON)
-                    .setJSONContent(stored.json)
-                    .build();
+            String identifier = QUERY_IDENTIFIER + '-' + hash;
+            JSONStorage.StoredJSON stored = jsonStorage.storeJson(identifier, json, timestamp);
+            jsonStorage.invalidateOlder(identifier, timestamp);
+            return stored;
         } catch (ParseException e) {
             throw new BadRequestException("'view' date format was incorrect (expecting afterDate dd/mm/yyyy, afterTime hh:mm, beforeDate dd/mm/yyyy, beforeTime hh:mm})");
         }
@@ -79,7 +79,10 @@ public class RootJSONResolver {
             ServerIdentityJSONResolver serverIdentityJSONResolver,
             ExtensionJSONResolver extensionJSONResolver,
             RetentionJSONResolver retentionJSONResolver,
+            RetentionCurveJSONResolver retentionCurveJSONResolver,
+            LeaderboardJSONResolver leaderboardJSONResolver,
             PlayerJoinAddressJSONResolver playerJoinAddressJSONResolver,
+            LiveEventsJSONResolver liveEventsJSONResolver,
 
             WebGroupJSONResolver webGroupJSONResolver,
             WebGroupPermissionJSONResolver webGroupPermissionJSONResolver,
@@ -115,7 +118,10 @@ public class RootJSONResolver {
                 .add("whoami", whoAmIJSONResolver)
                 .add("extensionData", extensionJSONResolver)
                 .add("retention", retentionJSONResolver)
-                .add("joinAddresses", playerJoinAddressJSONResolver);
+                .add("retentionCurve", retentionCurveJSONResolver)
+                .add("leaderboard", leaderboardJSONResolver)
+                .add("joinAddresses", playerJoinAddressJSONResolver)
+                .add("live", liveEventsJSONResolver);
 
         this.webServer = webServer;
         // These endpoints require authentication to be enabled.
@@ -48,7 +48,7 @@ public class ExtensionServerDataUpdater extends TaskSystem.Task {
 
     @Override
     public void run() {
-        service.updateServerValues(CallEvents.SERVER_PERIODICAL);
+        service.scheduleServerValuesUpdate(CallEvents.SERVER_PERIODICAL);
     }
 
     @Override
@@ -25,7 +25,7 @@ import com.djrapitops.plan.extension.implementation.builder.ExtDataBuilder;
 import com.djrapitops.plan.extension.implementation.providers.gathering.DataValueGatherer;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.UUIDUtility;
-import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.query.QuerySvc;
 import com.djrapitops.plan.settings.config.ExtensionSettings;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -36,10 +36,7 @@ import net.playeranalytics.plugin.server.PluginLogger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -54,7 +51,7 @@ public class ExtensionSvc implements ExtensionService {
     private final DBSystem dbSystem;
     private final ComponentSvc componentService;
     private final ServerInfo serverInfo;
-    private final Processing processing;
+    private final ExtensionUpdateScheduler updateScheduler;
     private final ExtensionRegister extensionRegister;
     private final UUIDUtility uuidUtility;
     private final PluginLogger logger;
@@ -69,8 +66,9 @@ public class ExtensionSvc implements ExtensionService {
             DBSystem dbSystem,
             ComponentSvc componentService,
             ServerInfo serverInfo,
-            Processing processing,
+            ExtensionUpdateScheduler updateScheduler,
             ExtensionRegister extensionRegister,
+            QuerySvc queryService,
             UUIDUtility uuidUtility,
             PluginLogger logger,
             ErrorLogger errorLogger
@@ -79,7 +77,7 @@ public class ExtensionSvc implements ExtensionService {
         this.dbSystem = dbSystem;
         this.componentService = componentService;
         this.serverInfo = serverInfo;
-        this.processing = processing;
+        this.updateScheduler = updateScheduler;
         this.extensionRegister = extensionRegister;
         this.uuidUtility = uuidUtility;
         this.logger = logger;
@@ -87,6 +85,9 @@ public class ExtensionSvc implements ExtensionService {
 
         extensionGatherers = new HashMap<>();
         enabled = new AtomicBoolean(true);
+
+        // Stored icons and providers were removed, gatherers need to store them again.
+        queryService.subscribeDataClearEvent(() -> extensionGatherers.values().forEach(DataValueGatherer::clearDefinitionCache));
     }
 
     public void register() {
@@ -124,15 +125,16 @@ public class ExtensionSvc implements ExtensionService {
         gatherer.storeExtensionInformation();
         extensionGatherers.put(pluginName, gatherer);
 
-        processing.submitNonCritical(() -> updateServerValues(gatherer, CallEvents.SERVER_EXTENSION_REGISTER));
+        scheduleServerValuesUpdate(gatherer, CallEvents.SERVER_EXTENSION_REGISTER);
 
         logger.info("Registered extension: " + pluginName);
-        return Optional.of(new CallerImplementation(gatherer, this, processing));
+        return Optional.of(new CallerImplementation(gatherer, this));
     }
 
     @Override
     public void unregister(DataExtension extension) {
         extensionGatherers.remove(extension.getPluginName());
+        updateScheduler.remove(extension.getPluginName());
     }
 
     @Override
@@ -159,6 +161,29 @@ public class ExtensionSvc implements ExtensionService {
         return !pluginsConfig.isEnabled(pluginName);
     }
 
+    /**
+     * Schedule update of player values of all extensions with {@link ExtensionUpdateScheduler}.
+     *
+     * @param playerUUID UUID of the player, can be null if name is given.
+     * @param playerName Name of the player, can be null if UUID is given.
+     * @param event      Event that caused the update.
+     */
+    public void schedulePlayerValuesUpdate(UUID playerUUID, String playerName, CallEvents event) {
+        if (!enabled.get()) return; // Plugin is disabling
+        for (DataValueGatherer gatherer : extensionGatherers.values()) {
+            schedulePlayerValuesUpdate(gatherer, playerUUID, playerName, event);
+        }
+    }
+
+    public void schedulePlayerValuesUpdate(DataValueGatherer gatherer, UUID playerUUID, String playerName, CallEvents event) {
+        if (!enabled.get()) return; // Plugin is disabling
+        if (gatherer.shouldSkipEvent(event)) return;
+        if (playerUUID == null && playerName == null) return;
+
+        updateScheduler.schedulePlayerUpdate(gatherer.getPluginName(), playerUUID, playerName,
+                () -> updatePlayerValues(gatherer, playerUUID, playerName, event));
+    }
+
     public void updatePlayerValues(UUID playerUUID, String playerName, CallEvents event) {
         if (!enabled.get()) return; // Plugin is disabling
         for (DataValueGatherer gatherer : extensionGatherers.values()) {
@@ -181,6 +206,25 @@ public class ExtensionSvc implements ExtensionService {
         gatherer.updateValues(realUUID, realPlayerName);
     }
 
+    /**
+     * Schedule update of server values of all extensions with {@link ExtensionUpdateScheduler}.
+     *
+     * @param event Event that caused the update.
+     */
+    public void scheduleServerValuesUpdate(CallEvents event) {
+        if (!enabled.get()) return; // Plugin is disabling
+        for (DataValueGatherer gatherer : extensionGatherers.values()) {
+            scheduleServerValuesUpdate(gatherer, event);
+        }
+    }
+
+    public void scheduleServerValuesUpdate(DataValueGatherer gatherer, CallEvents event) {
+        if (!enabled.get()) return; // Plugin is disabling
+        if (gatherer.shouldSkipEvent(event)) return;
+
+        updateScheduler.scheduleServerUpdate(gatherer.getPluginName(), () -> updateServerValues(gatherer, event));
+    }
+
     public void updateServerValues(CallEvents event) {
         if (!enabled.get()) return; // Plugin is disabling
         for (DataValueGatherer gatherer : extensionGatherers.values()) {
@@ -197,5 +241,10 @@ public class ExtensionSvc implements ExtensionService {
 
     public void disableUpdates() {
         enabled.set(false);
+        updateScheduler.clear();
+    }
+
+    public List<ExtensionUpdateStatistics> getUpdateStatistics() {
+        return updateScheduler.getStatistics();
     }
 }
\ No newline at end of file
@@ -0,0 +1,282 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension;
+
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.processing.Processing;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.server.PluginLogger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules {@link DataExtension} updates so that slow extensions can not take over {@link Processing}.
+ * <p>
+ * - Each extension runs at most {@link #MAX_CONCURRENT_UPDATES} updates at a time, rest of the updates wait in a queue.
+ * - An update for a player that is already waiting replaces the waiting update.
+ * - Online players and server values are updated before offline players.
+ * - Extension that goes over its time budget {@link #SLOW_UPDATES_BEFORE_BACKOFF} times in a row has its updates delayed,
+ * doubling the delay every time it happens again until updates are fast again.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class ExtensionUpdateScheduler {
+
+    static final int MAX_CONCURRENT_UPDATES = 2;
+    static final long DEFAULT_TIME_BUDGET_MS = TimeUnit.SECONDS.toMillis(1L);
+    static final int SLOW_UPDATES_BEFORE_BACKOFF = 5;
+    static final long INITIAL_BACKOFF_MS = TimeUnit.SECONDS.toMillis(30L);
+    static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(10L);
+
+    private static final String SERVER_UPDATE = "server";
+
+    private final Processing processing;
+    private final RunnableFactory runnableFactory;
+    private final PluginLogger logger;
+    private final long timeBudgetNanos;
+
+    private final Map<String, UpdateQueue> queues;
+
+    @Inject
+    public ExtensionUpdateScheduler(
+            Processing processing,
+            RunnableFactory runnableFactory,
+            PluginLogger logger
+    ) {
+        this(processing, runnableFactory, logger, DEFAULT_TIME_BUDGET_MS);
+    }
+
+    ExtensionUpdateScheduler(
+            Processing processing,
+            RunnableFactory runnableFactory,
+            PluginLogger logger,
+            long timeBudgetMs
+    ) {
+        this.processing = processing;
+        this.runnableFactory = runnableFactory;
+        this.logger = logger;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+
+        queues = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Schedule update of player values of an extension.
+     *
+     * @param pluginName Name of the extension.
+     * @param playerUUID UUID of the player, can be null if name is given.
+     * @param playerName Name of the player, can be null if UUID is given.
+     * @param update     Update to run.
+     */
+    public void schedulePlayerUpdate(String pluginName, UUID playerUUID, String playerName, Runnable update) {
+        Object player = playerUUID != null ? playerUUID : playerName;
+        boolean online = playerUUID != null && SessionCache.getCachedSession(playerUUID).isPresent();
+        getQueue(pluginName).add(player, online, update);
+    }
+
+    public void scheduleServerUpdate(String pluginName, Runnable update) {
+        getQueue(pluginName).add(SERVER_UPDATE, true, update);
+    }
+
+    private UpdateQueue getQueue(String pluginName) {
+        return queues.computeIfAbsent(pluginName, UpdateQueue::new);
+    }
+
+    /**
+     * Drop waiting updates of an extension.
+     *
+     * @param pluginName Name of the extension.
+     */
+    public void remove(String pluginName) {
+        UpdateQueue removed = queues.remove(pluginName);
+        if (removed != null) removed.clear();
+    }
+
+    /**
+     * Drop all waiting updates.
+     */
+    public void clear() {
+        for (UpdateQueue queue : queues.values()) {
+            queue.clear();
+        }
+        queues.clear();
+    }
+
+    public List<ExtensionUpdateStatistics> getStatistics() {
+        List<ExtensionUpdateStatistics> statistics = new ArrayList<>();
+        for (UpdateQueue queue : queues.values()) {
+            statistics.add(queue.getStatistics());
+        }
+        statistics.sort(Comparator.comparing(ExtensionUpdateStatistics::getPluginName));
+        return statistics;
+    }
+
+    public Optional<ExtensionUpdateStatistics> getStatistics(String pluginName) {
+        return Optional.ofNullable(queues.get(pluginName)).map(UpdateQueue::getStatistics);
+    }
+
+    private class UpdateQueue {
+        private final String pluginName;
+        // LinkedHashMap keeps the order and replaces the update of same player in place.
+        private final Map<Object, Runnable> prioritized;
+        private final Map<Object, Runnable> pending;
+
+        private int running;
+        private boolean cleared;
+
+        private long updates;
+        private long totalTimeNanos;
+        private long maxTimeNanos;
+        private long slowUpdates;
+        private long coalescedUpdates;
+        private int slowUpdatesInARow;
+        private int backoffCount;
+        private long backoffUntil;
+
+        UpdateQueue(String pluginName) {
+            this.pluginName = pluginName;
+            prioritized = new LinkedHashMap<>();
+            pending = new LinkedHashMap<>();
+        }
+
+        synchronized void add(Object key, boolean priority, Runnable update) {
+            if (cleared) return;
+            if (prioritized.containsKey(key) || pending.containsKey(key)) {
+                coalescedUpdates++;
+            }
+            if (priority) {
+                pending.remove(key);
+                prioritized.put(key, update);
+            } else if (prioritized.containsKey(key)) {
+                prioritized.put(key, update);
+            } else {
+                pending.put(key, update);
+            }
+            dispatch();
+        }
+
+        private synchronized void dispatch() {
+            while (!cleared && running < MAX_CONCURRENT_UPDATES && System.currentTimeMillis() >= backoffUntil) {
+                boolean fromPrioritized = !prioritized.isEmpty();
+                Map.Entry<Object, Runnable> next = poll(fromPrioritized ? prioritized : pending);
+                if (next == null) return;
+
+                running++;
+                if (!submit(next.getValue())) {
+                    running--;
+                    // Keep the update pending so that it is not lost, it is attempted again on next dispatch.
+                    requeue(fromPrioritized ? prioritized : pending, next);
+                    return;
+                }
+            }
+        }
+
+        private boolean submit(Runnable update) {
+            try {
+                CompletableFuture<Boolean> submitted = processing.submitNonCritical(() -> run(update));
+                return submitted != null;
+            } catch (RejectedExecutionException processingHasShutDown) {
+                return false;
+            }
+        }
+
+        private Map.Entry<Object, Runnable> poll(Map<Object, Runnable> from) {
+            Iterator<Map.Entry<Object, Runnable>> iterator = from.entrySet().iterator();
+            if (!iterator.hasNext()) return null;
+            Map.Entry<Object, Runnable> next = iterator.next();
+            iterator.remove();
+            return new AbstractMap.SimpleImmutableEntry<>(next.getKey(), next.getValue());
+        }
+
+        private void requeue(Map<Object, Runnable> into, Map.Entry<Object, Runnable> update) {
+            if (prioritized.containsKey(update.getKey()) || pending.containsKey(update.getKey())) {
+                return; // A newer update for the same key has been added
+            }
+            Map<Object, Runnable> rest = new LinkedHashMap<>(into);
+            into.clear();
+            into.put(update.getKey(), update.getValue());
+            into.putAll(rest);
+        }
+
+        private void run(Runnable update) {
+            long start = System.nanoTime();
+            try {
+                update.run();
+            } finally {
+                finished(System.nanoTime() - start);
+            }
+        }
+
+        private synchronized void finished(long durationNanos) {
+            running--;
+            updates++;
+            totalTimeNanos += durationNanos;
+            maxTimeNanos = Math.max(maxTimeNanos, durationNanos);
+
+            if (durationNanos > timeBudgetNanos) {
+                slowUpdates++;
+                slowUpdatesInARow++;
+                if (slowUpdatesInARow >= SLOW_UPDATES_BEFORE_BACKOFF) {
+                    backOff();
+                }
+            } else {
+                slowUpdatesInARow = 0;
+                backoffCount = 0;
+            }
+            dispatch();
+        }
+
+        private void backOff() {
+            slowUpdatesInARow = 0;
+            long backoffMs = Math.min(INITIAL_BACKOFF_MS << Math.min(backoffCount, 20), MAX_BACKOFF_MS);
+            backoffCount++;
+            backoffUntil = System.currentTimeMillis() + backoffMs;
+
+            logger.warn("Extension " + pluginName + " updates took over " + TimeUnit.NANOSECONDS.toMillis(timeBudgetNanos) +
+                    "ms " + SLOW_UPDATES_BEFORE_BACKOFF + " times in a row, delaying its updates by " +
+                    TimeUnit.MILLISECONDS.toSeconds(backoffMs) + "s. " + getStatistics());
+            runnableFactory.create(this::dispatch)
+                    .runTaskLaterAsynchronously(backoffMs, TimeUnit.MILLISECONDS);
+        }
+
+        synchronized void clear() {
+            cleared = true;
+            prioritized.clear();
+            pending.clear();
+        }
+
+        synchronized ExtensionUpdateStatistics getStatistics() {
+            return new ExtensionUpdateStatistics(
+                    pluginName,
+                    updates,
+                    TimeUnit.NANOSECONDS.toMillis(totalTimeNanos),
+                    TimeUnit.NANOSECONDS.toMillis(maxTimeNanos),
+                    slowUpdates,
+                    coalescedUpdates,
+                    prioritized.size() + pending.size(),
+                    backoffUntil > System.currentTimeMillis() ? backoffUntil : 0L
+            );
+        }
+    }
+}
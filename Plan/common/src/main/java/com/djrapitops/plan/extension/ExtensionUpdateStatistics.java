@@ -0,0 +1,127 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension;
+
+import java.util.Objects;
+
+/**
+ * Snapshot of how long updates of a {@link DataExtension} have taken.
+ *
+ * @author AuroraLS3
+ * @see ExtensionUpdateScheduler
+ */
+public class ExtensionUpdateStatistics {
+
+    private final String pluginName;
+    private final long updates;
+    private final long totalTimeMs;
+    private final long maxTimeMs;
+    private final long slowUpdates;
+    private final long coalescedUpdates;
+    private final int pendingUpdates;
+    private final long backoffUntil;
+
+    public ExtensionUpdateStatistics(
+            String pluginName,
+            long updates, long totalTimeMs, long maxTimeMs, long slowUpdates,
+            long coalescedUpdates, int pendingUpdates, long backoffUntil
+    ) {
+        this.pluginName = pluginName;
+        this.updates = updates;
+        this.totalTimeMs = totalTimeMs;
+        this.maxTimeMs = maxTimeMs;
+        this.slowUpdates = slowUpdates;
+        this.coalescedUpdates = coalescedUpdates;
+        this.pendingUpdates = pendingUpdates;
+        this.backoffUntil = backoffUntil;
+    }
+
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    public long getUpdates() {
+        return updates;
+    }
+
+    public long getAverageTimeMs() {
+        return updates > 0 ? totalTimeMs / updates : 0L;
+    }
+
+    public long getMaxTimeMs() {
+        return maxTimeMs;
+    }
+
+    /**
+     * @return How many updates went over the time budget.
+     */
+    public long getSlowUpdates() {
+        return slowUpdates;
+    }
+
+    /**
+     * @return How many updates were merged with an update that was already waiting.
+     */
+    public long getCoalescedUpdates() {
+        return coalescedUpdates;
+    }
+
+    public int getPendingUpdates() {
+        return pendingUpdates;
+    }
+
+    /**
+     * @return Epoch ms until which updates are delayed, 0 if updates are not being delayed.
+     */
+    public long getBackoffUntil() {
+        return backoffUntil;
+    }
+
+    public boolean isBackingOff(long now) {
+        return backoffUntil > now;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExtensionUpdateStatistics that = (ExtensionUpdateStatistics) o;
+        return updates == that.updates && totalTimeMs == that.totalTimeMs && maxTimeMs == that.maxTimeMs
+                && slowUpdates == that.slowUpdates && coalescedUpdates == that.coalescedUpdates
+                && pendingUpdates == that.pendingUpdates && backoffUntil == that.backoffUntil
+                && Objects.equals(pluginName, that.pluginName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pluginName, updates, totalTimeMs, maxTimeMs, slowUpdates, coalescedUpdates, pendingUpdates, backoffUntil);
+    }
+
+    @Override
+    public String toString() {
+        return "ExtensionUpdateStatistics{" +
+                "pluginName='" + pluginName + '\'' +
+                ", updates=" + updates +
+                ", averageTimeMs=" + getAverageTimeMs() +
+                ", maxTimeMs=" + maxTimeMs +
+                ", slowUpdates=" + slowUpdates +
+                ", coalescedUpdates=" + coalescedUpdates +
+                ", pendingUpdates=" + pendingUpdates +
+                ", backoffUntil=" + backoffUntil +
+                '}';
+    }
+}
@@ -20,7 +20,6 @@ import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.Caller;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.extension.implementation.providers.gathering.DataValueGatherer;
-import com.djrapitops.plan.processing.Processing;
 
 import java.util.UUID;
 
@@ -33,16 +32,13 @@ public class CallerImplementation implements Caller {
 
     private final DataValueGatherer gatherer;
     private final ExtensionSvc extensionService;
-    private final Processing processing;
 
     public CallerImplementation(
             DataValueGatherer gatherer,
-            ExtensionSvc extensionService,
-            Processing processing
+            ExtensionSvc extensionService
     ) {
         this.gatherer = gatherer;
         this.extensionService = extensionService;
-        this.processing = processing;
     }
 
     @Override
@@ -50,11 +46,11 @@ public class CallerImplementation implements Caller {
         if (playerUUID == null && playerName == null) {
             throw new IllegalArgumentException("playerUUID and name were null, can not update unidentifiable player!");
         }
-        processing.submitNonCritical(() -> extensionService.updatePlayerValues(gatherer, playerUUID, playerName, CallEvents.MANUAL));
+        extensionService.schedulePlayerValuesUpdate(gatherer, playerUUID, playerName, CallEvents.MANUAL);
     }
 
     @Override
     public void updateServerData() {
-        processing.submitNonCritical(() -> extensionService.updateServerValues(gatherer, CallEvents.MANUAL));
+        extensionService.scheduleServerValuesUpdate(gatherer, CallEvents.MANUAL);
     }
 }
\ No newline at end of file
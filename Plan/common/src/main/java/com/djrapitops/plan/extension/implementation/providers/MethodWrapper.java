@@ -21,6 +21,8 @@ import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -28,12 +30,15 @@ import java.util.Optional;
 
 /**
  * Wrap a Method so that it is easier to call.
+ * <p>
+ * The method is turned into a {@link MethodHandle} once, so that calls do not go through reflection.
  *
  * @author AuroraLS3
  */
 public class MethodWrapper<T> {
 
     private final Method method;
+    private final MethodHandle methodHandle;
     private final Class<T> returnType;
     private final MethodType methodType;
     private boolean disabled = false;
@@ -42,12 +47,26 @@ public class MethodWrapper<T> {
         this.method = method;
         this.returnType = returnType;
         methodType = MethodType.forMethod(this.method);
+        methodHandle = toMethodHandle(method);
+    }
+
+    private static MethodHandle toMethodHandle(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            // Receiver and return value as Object so that Parameters can use invokeExact.
+            return handle.asType(handle.type()
+                    .changeParameterType(0, Object.class)
+                    .changeReturnType(Object.class));
+        } catch (IllegalAccessException | SecurityException e) {
+            return null; // Fall back to reflection
+        }
     }
 
     public T callMethod(DataExtension extension, Parameters with) {
         if (disabled) return null;
         try {
-            return returnType.cast(with.usingOn(extension, method));
+            Object result = methodHandle != null ? with.usingOn(extension, methodHandle) : with.usingOn(extension, method);
+            return returnType.cast(result);
         } catch (InvocationTargetException notReadyToBeCalled) {
             Throwable cause = notReadyToBeCalled.getCause();
             if (cause instanceof NotReadyException || cause instanceof UnsupportedOperationException) {
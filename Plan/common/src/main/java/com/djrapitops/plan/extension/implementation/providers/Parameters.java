@@ -21,6 +21,7 @@ import com.djrapitops.plan.extension.Group;
 import com.djrapitops.plan.extension.implementation.MethodType;
 import com.djrapitops.plan.identification.ServerUUID;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.UUID;
@@ -40,6 +41,16 @@ public interface Parameters {
 
     Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException;
 
+    /**
+     * Call a method handle with these parameters.
+     *
+     * @param extension Extension to call the method on.
+     * @param method    Method handle with Object receiver and return types.
+     * @return Return value of the method.
+     * @throws InvocationTargetException If the method throws, like {@link Method#invoke(Object, Object...)} would.
+     */
+    Object usingOn(DataExtension extension, MethodHandle method) throws InvocationTargetException;
+
     MethodType getMethodType();
 
     ServerUUID getServerUUID();
@@ -64,6 +75,15 @@ public interface Parameters {
             return method.invoke(extension);
         }
 
+        @Override
+        public Object usingOn(DataExtension extension, MethodHandle method) throws InvocationTargetException {
+            try {
+                return (Object) method.invokeExact((Object) extension);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
         @Override
         public MethodType getMethodType() {
             return MethodType.SERVER;
@@ -100,6 +120,19 @@ public interface Parameters {
             }
         }
 
+        @Override
+        public Object usingOn(DataExtension extension, MethodHandle method) throws InvocationTargetException {
+            try {
+                if (UUID.class.equals(method.type().parameterType(1))) {
+                    return (Object) method.invokeExact((Object) extension, playerUUID);
+                } else {
+                    return (Object) method.invokeExact((Object) extension, playerName);
+                }
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
         @Override
         public MethodType getMethodType() {
             return MethodType.PLAYER;
@@ -125,6 +158,16 @@ public interface Parameters {
             return method.invoke(extension, group);
         }
 
+        @Override
+        public Object usingOn(DataExtension extension, MethodHandle method) throws InvocationTargetException {
+            Group group = this::getGroupName;
+            try {
+                return (Object) method.invokeExact((Object) extension, group);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
         public String getGroupName() {
             return groupName;
         }
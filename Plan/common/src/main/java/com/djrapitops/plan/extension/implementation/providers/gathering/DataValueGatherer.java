@@ -34,11 +34,11 @@ import com.djrapitops.plan.extension.implementation.TabInformation;
 import com.djrapitops.plan.extension.implementation.builder.*;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.ExtensionDefinitionCache;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreExtensionValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreTabInformationTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.*;
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -48,10 +48,7 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.RejectedExecutionException;
 
 /**
@@ -69,6 +66,8 @@ public class DataValueGatherer {
     private final ErrorLogger errorLogger;
 
     private final Set<ExtensionMethod> brokenMethods;
+    private final Map<ExtensionMethod, MethodWrapper<?>> methodWrappers;
+    private final ExtensionDefinitionCache definitionCache;
 
     public DataValueGatherer(
             ExtensionWrapper extension,
@@ -85,6 +84,30 @@ public class DataValueGatherer {
         this.errorLogger = errorLogger;
 
         this.brokenMethods = new HashSet<>();
+        this.methodWrappers = prepareMethodWrappers(extension.getMethods().values());
+        this.definitionCache = new ExtensionDefinitionCache();
+    }
+
+    private static Map<ExtensionMethod, MethodWrapper<?>> prepareMethodWrappers(Collection<ExtensionMethods> methodsByParameterType) {
+        Map<ExtensionMethod, MethodWrapper<?>> wrappers = new HashMap<>();
+        for (ExtensionMethods methods : methodsByParameterType) {
+            prepareMethodWrappers(wrappers, methods.getBooleanProviders(), Boolean.class);
+            prepareMethodWrappers(wrappers, methods.getDoubleProviders(), Double.class);
+            prepareMethodWrappers(wrappers, methods.getPercentageProviders(), Double.class);
+            prepareMethodWrappers(wrappers, methods.getNumberProviders(), Long.class);
+            prepareMethodWrappers(wrappers, methods.getStringProviders(), String.class);
+            prepareMethodWrappers(wrappers, methods.getComponentProviders(), Component.class);
+            prepareMethodWrappers(wrappers, methods.getGroupProviders(), String[].class);
+            prepareMethodWrappers(wrappers, methods.getTableProviders(), Table.class);
+            prepareMethodWrappers(wrappers, methods.getDataBuilderProviders(), ExtensionDataBuilder.class);
+        }
+        return wrappers;
+    }
+
+    private static void prepareMethodWrappers(Map<ExtensionMethod, MethodWrapper<?>> wrappers, List<ExtensionMethod> providers, Class<?> returnType) {
+        for (ExtensionMethod provider : providers) {
+            wrappers.put(provider, new MethodWrapper<>(provider.getMethod(), returnType));
+        }
     }
 
     public boolean shouldSkipEvent(CallEvents event) {
@@ -103,6 +126,10 @@ public class DataValueGatherer {
         return extension.getPluginName();
     }
 
+    public void clearDefinitionCache() {
+        definitionCache.clear();
+    }
+
     public void storeExtensionInformation() {
         String pluginName = extension.getPluginName();
         Icon pluginIcon = extension.getPluginIcon();
@@ -110,6 +137,9 @@ public class DataValueGatherer {
         long time = System.currentTimeMillis();
         ServerUUID serverUUID = serverInfo.getServerUUID();
 
+        // Extension was (re-)registered, definitions might have changed or been removed.
+        definitionCache.clear();
+
         Database database = dbSystem.getDatabase();
         database.executeTransaction(new StoreIconTransaction(pluginIcon));
         database.executeTransaction(new StorePluginTransaction(pluginName, time, serverUUID, pluginIcon));
@@ -318,8 +348,12 @@ public class DataValueGatherer {
 
     private <T> T callMethod(ExtensionMethod provider, Parameters params, Class<T> returnType) {
         try {
-            return new MethodWrapper<>(provider.getMethod(), returnType)
-                    .callMethod(extension.getExtension(), params);
+            MethodWrapper<?> wrapper = methodWrappers.get(provider);
+            if (wrapper == null || wrapper.getReturnType() != returnType) {
+                throw new IllegalStateException("No prepared method wrapper returning " + returnType.getSimpleName() +
+                        " for " + getPluginName() + "#" + provider.getMethodName());
+            }
+            return returnType.cast(wrapper.callMethod(extension.getExtension(), params));
         } catch (DataExtensionMethodCallException e) {
             brokenMethods.add(provider);
             throw e;
@@ -341,9 +375,11 @@ public class DataValueGatherer {
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_STRING), parameters);
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_UUID), parameters);
 
-        gatherPlayer(parameters, (ExtDataBuilder) dataBuilder);
+        StoreExtensionValuesTransaction batch = new StoreExtensionValuesTransaction(definitionCache);
+        gatherPlayer(batch, parameters, (ExtDataBuilder) dataBuilder);
+        batch.storeResult(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues()));
 
-        dbSystem.getDatabase().executeTransaction(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues()));
+        storeBatch(batch);
     }
 
     public void updateValues() {
@@ -360,28 +396,43 @@ public class DataValueGatherer {
 
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.SERVER_NONE), parameters);
 
-        gather(parameters, (ExtDataBuilder) dataBuilder);
+        StoreExtensionValuesTransaction batch = new StoreExtensionValuesTransaction(definitionCache);
+        gather(batch, parameters, (ExtDataBuilder) dataBuilder);
+
+        storeBatch(batch);
     }
 
+    private void storeBatch(StoreExtensionValuesTransaction batch) {
+        dbSystem.getDatabase().executeTransaction(batch)
+                .whenComplete((finished, failure) -> {
+                    if (failure != null) {
+                        // Cached rows might have been removed from the database, store everything on next update.
+                        definitionCache.clear();
+                    } else if (batch.wasSuccessful() && !batch.wasThrownAway()) {
+                        definitionCache.remember(batch);
+                    }
+                });
+    }
 
-    private void gatherPlayer(Parameters parameters, ExtDataBuilder dataBuilder) {
+
+    private void gatherPlayer(StoreExtensionValuesTransaction batch, Parameters parameters, ExtDataBuilder dataBuilder) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storePlayerBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerBoolean(batch, parameters, conditions, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storePlayerNumber(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerNumber(batch, parameters, conditions, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storePlayerDouble(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerDouble(batch, parameters, conditions, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storePlayerString(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerString(batch, parameters, conditions, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storePlayerComponent(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerComponent(batch, parameters, conditions, data));
                 pair.getValue(String[].class).flatMap(data -> data.getMetadata(GroupsDataValue.class))
-                        .ifPresent(data -> storePlayerGroups(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerGroups(batch, parameters, conditions, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storePlayerTable(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerTable(batch, parameters, conditions, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError unexpectedError) {
@@ -390,22 +441,22 @@ public class DataValueGatherer {
         }
     }
 
-    private void gather(Parameters parameters, ExtDataBuilder dataBuilder) {
+    private void gather(StoreExtensionValuesTransaction batch, Parameters parameters, ExtDataBuilder dataBuilder) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storeBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storeBoolean(batch, parameters, conditions, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storeNumber(parameters, conditions, data));
+                        .ifPresent(data -> storeNumber(batch, parameters, conditions, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storeDouble(parameters, conditions, data));
+                        .ifPresent(data -> storeDouble(batch, parameters, conditions, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storeString(parameters, conditions, data));
+                        .ifPresent(data -> storeString(batch, parameters, conditions, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storeComponent(parameters, conditions, data));
+                        .ifPresent(data -> storeComponent(batch, parameters, conditions, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storeTable(parameters, conditions, data));
+                        .ifPresent(data -> storeTable(batch, parameters, conditions, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (RejectedExecutionException ignore) {
@@ -462,7 +513,7 @@ public class DataValueGatherer {
         return json;
     }
 
-    private void storeBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storeBoolean(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, BooleanDataValue data) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
         if (value == null) return;
@@ -472,71 +523,57 @@ public class DataValueGatherer {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerBooleanResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StoreServerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storeNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storeNumber(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, NumberDataValue data) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerNumberResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StoreServerNumberResultTransaction(information, parameters, value));
     }
 
 
-    private void storeDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storeDouble(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, DoubleDataValue data) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerDoubleResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StoreServerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storeString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storeString(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, StringDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storeComponent(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, ComponentDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storeTable(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, TableDataValue data) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
-        }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StoreServerTableResultTransaction(information, parameters, value));
+        batch.storeTableProvider(information, parameters, value);
+        batch.storeResult(new StoreServerTableResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storePlayerBoolean(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, BooleanDataValue data) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
         if (value == null) return;
@@ -546,77 +583,61 @@ public class DataValueGatherer {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerBooleanResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StorePlayerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storePlayerNumber(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, NumberDataValue data) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerNumberResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StorePlayerNumberResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storePlayerDouble(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, DoubleDataValue data) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerDoubleResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StorePlayerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storePlayerString(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, StringDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storePlayerComponent(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, ComponentDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerGroups(Parameters parameters, Conditions conditions, GroupsDataValue data) {
+    private void storePlayerGroups(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, GroupsDataValue data) {
         ProviderInformation information = data.getInformation();
         String[] value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerGroupsResultTransaction(information, parameters, value));
+        batch.storeProvider(information, parameters);
+        batch.storeResult(new StorePlayerGroupsResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storePlayerTable(StoreExtensionValuesTransaction batch, Parameters parameters, Conditions conditions, TableDataValue data) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
-        }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StorePlayerTableResultTransaction(information, parameters, value));
+        batch.storeTableProvider(information, parameters, value);
+        batch.storeResult(new StorePlayerTableResultTransaction(information, parameters, value));
     }
 }
\ No newline at end of file
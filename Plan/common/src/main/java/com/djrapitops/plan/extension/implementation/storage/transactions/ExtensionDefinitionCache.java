@@ -0,0 +1,111 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.icon.IconAccessor;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.table.Table;
+import com.djrapitops.plan.identification.ServerUUID;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of icon and provider rows that have already been stored by a gatherer.
+ * <p>
+ * Provider definitions rarely change, so re-storing them on every value update is wasted work.
+ * Fingerprints contain every stored field so that a changed definition is stored again.
+ *
+ * @author AuroraLS3
+ */
+public class ExtensionDefinitionCache {
+
+    private static final int MAX_SIZE = 2048;
+
+    private final Map<String, Integer> iconIds;
+    private final Set<String> storedProviders;
+
+    public ExtensionDefinitionCache() {
+        iconIds = new ConcurrentHashMap<>();
+        storedProviders = ConcurrentHashMap.newKeySet();
+    }
+
+    static String fingerprint(Icon icon) {
+        return icon.toString();
+    }
+
+    static String fingerprint(ProviderInformation information, ServerUUID serverUUID) {
+        Icon icon = information.getIcon();
+        return serverUUID + "|" + information.getPluginName() + "|" + information.getName() +
+                "|" + information.getText() + "|" + information.getDescription().orElse("") +
+                "|" + (icon != null ? fingerprint(icon) : "") + "|" + information.getPriority() +
+                "|" + information.isShownInPlayersTable() + "|" + information.isHidden() +
+                "|" + information.getProvidedCondition() + "|" + information.getCondition().orElse("") +
+                "|" + information.getTab().orElse("") + "|" + information.getFormatType().orElse(null) +
+                "|" + information.isPlayerName() + "|" + information.getTableColor() +
+                "|" + information.isPercentage() + "|" + information.isComponent();
+    }
+
+    static String fingerprint(ProviderInformation information, ServerUUID serverUUID, Table table, boolean forPlayer) {
+        return fingerprint(information, serverUUID) + "|" + forPlayer +
+                "|" + Arrays.toString(table.getColumns()) +
+                "|" + Arrays.toString(table.getIcons()) +
+                "|" + Arrays.toString(table.getTableColumnFormats());
+    }
+
+    /**
+     * Set the id of an icon that has already been stored.
+     *
+     * @param icon Icon to set the id to.
+     * @return true if the id was known, false if the icon needs to be stored.
+     */
+    public boolean applyKnownIconId(Icon icon) {
+        Integer id = iconIds.get(fingerprint(icon));
+        if (id == null) return false;
+        IconAccessor.setId(icon, id);
+        return true;
+    }
+
+    public boolean isProviderStored(String fingerprint) {
+        return storedProviders.contains(fingerprint);
+    }
+
+    /**
+     * Remember definitions of a transaction after it has been committed.
+     *
+     * @param transaction Successfully executed transaction.
+     */
+    public void remember(StoreExtensionValuesTransaction transaction) {
+        if (iconIds.size() + storedProviders.size() > MAX_SIZE) {
+            // Definitions built from dynamic values would otherwise grow the cache without limit.
+            clear();
+        }
+        for (Icon icon : transaction.getStoredIcons()) {
+            Integer id = IconAccessor.getId(icon);
+            if (id != null) iconIds.put(fingerprint(icon), id);
+        }
+        storedProviders.addAll(transaction.getStoredProviderFingerprints());
+    }
+
+    public void clear() {
+        iconIds.clear();
+        storedProviders.clear();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.icon.IconAccessor;
+import com.djrapitops.plan.extension.implementation.MethodType;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
+import com.djrapitops.plan.extension.table.Table;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.*;
+
+/**
+ * Transaction that stores all icons, providers and results of a single extension update at once.
+ * <p>
+ * Definitions already in {@link ExtensionDefinitionCache} are skipped.
+ * Call {@link ExtensionDefinitionCache#remember(StoreExtensionValuesTransaction)} after the transaction has finished.
+ *
+ * @author AuroraLS3
+ */
+public class StoreExtensionValuesTransaction extends ThrowawayTransaction {
+
+    private final ExtensionDefinitionCache definitionCache;
+
+    private final List<Icon> icons;
+    private final List<Transaction> definitions;
+    private final List<Transaction> results;
+    private final List<String> storedProviderFingerprints;
+
+    public StoreExtensionValuesTransaction(ExtensionDefinitionCache definitionCache) {
+        this.definitionCache = definitionCache;
+        icons = new ArrayList<>();
+        definitions = new ArrayList<>();
+        results = new ArrayList<>();
+        storedProviderFingerprints = new ArrayList<>();
+    }
+
+    public void storeIcon(Icon icon) {
+        if (icon == null || definitionCache.applyKnownIconId(icon)) return;
+        icons.add(icon);
+    }
+
+    public void storeProvider(ProviderInformation information, Parameters parameters) {
+        String fingerprint = ExtensionDefinitionCache.fingerprint(information, parameters.getServerUUID());
+        if (definitionCache.isProviderStored(fingerprint)) return;
+
+        storeIcon(information.getIcon());
+        definitions.add(new StoreProviderTransaction(information, parameters));
+        storedProviderFingerprints.add(fingerprint);
+    }
+
+    public void storeTableProvider(ProviderInformation information, Parameters parameters, Table table) {
+        boolean forPlayer = parameters.getMethodType() == MethodType.PLAYER;
+        String fingerprint = ExtensionDefinitionCache.fingerprint(information, parameters.getServerUUID(), table, forPlayer);
+        if (definitionCache.isProviderStored(fingerprint)) return;
+
+        for (Icon icon : table.getIcons()) {
+            storeIcon(icon);
+        }
+        definitions.add(new StoreTableProviderTransaction(parameters.getServerUUID(), information, table, forPlayer));
+        storedProviderFingerprints.add(fingerprint);
+    }
+
+    public void storeResult(Transaction result) {
+        results.add(result);
+    }
+
+    List<Icon> getStoredIcons() {
+        return icons;
+    }
+
+    List<String> getStoredProviderFingerprints() {
+        return storedProviderFingerprints;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return super.shouldBeExecuted() && (!icons.isEmpty() || !definitions.isEmpty() || !results.isEmpty());
+    }
+
+    @Override
+    protected void performOperations() {
+        // Same icon is often used by multiple providers, each with their own Icon object.
+        Map<String, Integer> iconIds = new HashMap<>();
+        for (Icon icon : icons) {
+            String fingerprint = ExtensionDefinitionCache.fingerprint(icon);
+            Integer id = iconIds.get(fingerprint);
+            if (id != null) {
+                IconAccessor.setId(icon, id);
+            } else {
+                executeOther(new StoreIconTransaction(icon));
+                iconIds.put(fingerprint, IconAccessor.getId(icon));
+            }
+        }
+        for (Transaction definition : definitions) {
+            executeOther(definition);
+        }
+        for (Transaction result : results) {
+            executeOther(result);
+        }
+    }
+}
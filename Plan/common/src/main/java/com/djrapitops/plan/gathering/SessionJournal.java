@@ -0,0 +1,559 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.delivery.domain.PlayerName;
+import com.djrapitops.plan.delivery.domain.ServerIdentifier;
+import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.gathering.domain.event.JoinAddress;
+import com.djrapitops.plan.identification.ServerUUID;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal of active sessions.
+ * <p>
+ * A small record is appended for each session event (start, world or gamemode change, AFK time, death, mob kill,
+ * player kill, end) as it happens, and replaying the records reconstructs the sessions that were still active.
+ * Records are buffered in memory and written with an fsync on {@link #flush()}, which also appends a heartbeat that
+ * is used as the end of sessions that never got an end record. A crash loses at most the records since last flush.
+ * <p>
+ * Records are length-prefixed and checksummed so that a record torn by a crash ends the replay.
+ * The file is only rewritten (with a snapshot record of each active session) when it grows past
+ * {@link #COMPACT_THRESHOLD_BYTES}, or when a previous write failed.
+ *
+ * @author AuroraLS3
+ */
+public class SessionJournal implements ActiveSessionListener {
+
+    private static final long COMPACT_THRESHOLD_BYTES = 1024L * 1024L;
+    private static final int MAX_RECORD_LENGTH = 1024 * 1024;
+    private static final String FILE_EXTENSION = ".journal";
+
+    private static final byte SNAPSHOT = 1;
+    private static final byte STATE_CHANGE = 2;
+    private static final byte AFK_TIME = 3;
+    private static final byte DEATH = 4;
+    private static final byte MOB_KILL = 5;
+    private static final byte PLAYER_KILL = 6;
+    private static final byte END = 7;
+    private static final byte HEARTBEAT = 8;
+
+    private final Path journalLocation;
+    private final Path compactLocation;
+    private final Object fileLock = new Object();
+
+    // Guarded by this
+    private final JournalState state = new JournalState();
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private IOException recordFailure;
+    private boolean compactOnNextFlush = false;
+
+    public SessionJournal(Path journalLocation) {
+        this.journalLocation = journalLocation;
+        this.compactLocation = journalLocation.resolveSibling(journalLocation.getFileName() + ".tmp");
+    }
+
+    /**
+     * Find the journal and journals of previous runs that were moved aside with {@link #moveAside()}.
+     *
+     * @param journalLocation Location of the journal.
+     * @return Paths of existing journals.
+     * @throws IOException If the directory could not be listed.
+     */
+    public static List<Path> findJournals(Path journalLocation) throws IOException {
+        Path directory = journalLocation.getParent();
+        if (directory == null || !Files.isDirectory(directory)) return Collections.emptyList();
+
+        String fileName = journalLocation.getFileName().toString();
+        String baseName = getBaseName(journalLocation);
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.equals(fileName) || (name.startsWith(baseName + '-') && name.endsWith(FILE_EXTENSION));
+            }).sorted().collect(Collectors.toList());
+        }
+    }
+
+    public boolean exists() {
+        return Files.exists(journalLocation);
+    }
+
+    /**
+     * Move the journal of a previous run aside, so that its sessions are kept until they have been stored.
+     *
+     * @throws IOException If the file could not be moved.
+     */
+    public void moveAside() throws IOException {
+        synchronized (fileLock) {
+            if (!exists()) return;
+            String movedName = getBaseName(journalLocation) + '-' + System.currentTimeMillis() + FILE_EXTENSION;
+            Files.move(journalLocation, journalLocation.resolveSibling(movedName));
+        }
+    }
+
+    private static String getBaseName(Path journalLocation) {
+        String fileName = journalLocation.getFileName().toString();
+        return fileName.endsWith(FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - FILE_EXTENSION.length())
+                : fileName;
+    }
+
+    @Override
+    public void sessionStarted(ActiveSession session) {
+        append(SNAPSHOT, out -> writeSnapshot(out, session));
+    }
+
+    @Override
+    public void stateChanged(ActiveSession session, String world, String gameMode, long time) {
+        append(STATE_CHANGE, out -> {
+            writeKey(out, SessionKey.of(session));
+            writeNullable(out, world);
+            writeNullable(out, gameMode);
+            out.writeLong(time);
+        });
+    }
+
+    @Override
+    public void afkTimeAdded(ActiveSession session, long afkTime) {
+        append(AFK_TIME, out -> {
+            writeKey(out, SessionKey.of(session));
+            out.writeLong(afkTime);
+        });
+    }
+
+    @Override
+    public void deathAdded(ActiveSession session) {
+        append(DEATH, out -> writeKey(out, SessionKey.of(session)));
+    }
+
+    @Override
+    public void mobKillAdded(ActiveSession session) {
+        append(MOB_KILL, out -> writeKey(out, SessionKey.of(session)));
+    }
+
+    @Override
+    public void playerKillAdded(ActiveSession session, PlayerKill kill) {
+        append(PLAYER_KILL, out -> {
+            writeKey(out, SessionKey.of(session));
+            writePlayerKill(out, kill);
+        });
+    }
+
+    @Override
+    public void sessionEnded(ActiveSession session, long time) {
+        append(END, out -> {
+            writeKey(out, SessionKey.of(session));
+            out.writeLong(time);
+        });
+    }
+
+    private synchronized void append(byte type, RecordWriter body) {
+        try {
+            byte[] record = encode(type, body);
+            state.apply(record);
+            writeFramed(pending, record);
+        } catch (IOException e) {
+            recordFailure = e;
+        } catch (ConcurrentModificationException e) {
+            recordFailure = new IOException("Session changed while it was being journaled", e);
+        }
+    }
+
+    /**
+     * Write the records appended since last flush and a heartbeat to the journal.
+     * <p>
+     * The journal is removed instead if no sessions are active.
+     *
+     * @throws IOException If the journal could not be written, or a record could not be created since last flush.
+     */
+    public void flush() throws IOException {
+        synchronized (fileLock) {
+            boolean overThreshold = Files.exists(journalLocation) && Files.size(journalLocation) > COMPACT_THRESHOLD_BYTES;
+            byte[] toWrite;
+            boolean compact;
+            IOException failure;
+            synchronized (this) {
+                failure = recordFailure;
+                recordFailure = null;
+                if (state.sessions.isEmpty()) {
+                    pending = new ByteArrayOutputStream();
+                    compactOnNextFlush = false;
+                    Files.deleteIfExists(journalLocation);
+                    if (failure != null) throw failure;
+                    return;
+                }
+                append(HEARTBEAT, out -> out.writeLong(System.currentTimeMillis()));
+                compact = compactOnNextFlush || overThreshold;
+                toWrite = compact ? state.snapshot() : pending.toByteArray();
+                pending = new ByteArrayOutputStream();
+                compactOnNextFlush = false;
+            }
+
+            try {
+                if (compact) {
+                    rewrite(toWrite);
+                } else {
+                    try (FileOutputStream out = new FileOutputStream(journalLocation.toFile(), true)) {
+                        out.write(toWrite);
+                        out.getFD().sync();
+                    }
+                }
+            } catch (IOException e) {
+                // A partially written record would end the replay, so the file is rewritten on next flush.
+                synchronized (this) {
+                    compactOnNextFlush = true;
+                }
+                throw e;
+            }
+            if (failure != null) throw failure;
+        }
+    }
+
+    private void rewrite(byte[] records) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(compactLocation.toFile(), false)) {
+            out.write(records);
+            out.getFD().sync();
+        }
+        try {
+            Files.move(compactLocation, journalLocation, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(compactLocation, journalLocation, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reconstruct the sessions that were still active when the journal was last written.
+     * <p>
+     * Sessions are ended at the latest heartbeat or event time in the journal.
+     *
+     * @return Sessions without an end record.
+     * @throws IOException If the journal could not be read.
+     */
+    public List<FinishedSession> replay() throws IOException {
+        JournalState replayed = new JournalState();
+        synchronized (fileLock) {
+            if (!Files.exists(journalLocation)) return Collections.emptyList();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalLocation)))) {
+                byte[] record;
+                while ((record = readRecord(in)) != null) {
+                    replayed.apply(record);
+                }
+            }
+        }
+        return replayed.toFinishedSessions();
+    }
+
+    /**
+     * Remove the journal after the sessions it contained have been stored.
+     *
+     * @throws IOException If the file could not be deleted.
+     */
+    public void delete() throws IOException {
+        synchronized (fileLock) {
+            Files.deleteIfExists(journalLocation);
+        }
+    }
+
+    private static byte[] encode(byte type, RecordWriter body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(type);
+        body.write(out);
+        return bytes.toByteArray();
+    }
+
+    private static void writeFramed(ByteArrayOutputStream to, byte[] record) throws IOException {
+        DataOutputStream out = new DataOutputStream(to);
+        out.writeInt(record.length);
+        out.write(record);
+        out.writeInt((int) checksum(record));
+    }
+
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException endOfJournal) {
+            return null;
+        }
+        if (length <= 0 || length > MAX_RECORD_LENGTH) return null;
+
+        byte[] record = new byte[length];
+        try {
+            in.readFully(record);
+            long checksum = in.readInt() & 0xFFFFFFFFL;
+            return checksum == checksum(record) ? record : null;
+        } catch (EOFException tornRecord) {
+            return null;
+        }
+    }
+
+    private static long checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return crc.getValue();
+    }
+
+    private static void writeSnapshot(DataOutputStream out, ActiveSession session) throws IOException {
+        writeKey(out, SessionKey.of(session));
+        out.writeLong(session.getAfkTime());
+
+        Optional<WorldTimes> worldTimes = session.getExtraData(WorldTimes.class);
+        out.writeBoolean(worldTimes.isPresent());
+        if (worldTimes.isPresent()) writeWorldTimes(out, worldTimes.get());
+
+        List<PlayerKill> kills = session.getExtraData(PlayerKills.class)
+                .map(playerKills -> new ArrayList<>(playerKills.asList()))
+                .orElseGet(ArrayList::new);
+        out.writeInt(kills.size());
+        for (PlayerKill kill : kills) {
+            writePlayerKill(out, kill);
+        }
+
+        out.writeInt(session.getExtraData(MobKillCounter.class).map(Counter::getCount).orElse(0));
+        out.writeInt(session.getExtraData(DeathCounter.class).map(Counter::getCount).orElse(0));
+        writeNullable(out, session.getExtraData(JoinAddress.class).map(JoinAddress::getAddress).orElse(null));
+        writeNullable(out, session.getExtraData(PlayerName.class).map(PlayerName::get).orElse(null));
+    }
+
+    private static ActiveSession readSnapshot(DataInputStream in) throws IOException {
+        SessionKey key = readKey(in);
+        ActiveSession session = new ActiveSession(key.playerUUID, key.serverUUID, key.start, null, null);
+        session.addAfkTime(in.readLong());
+
+        DataMap extraData = session.getExtraData();
+        if (in.readBoolean()) extraData.put(WorldTimes.class, readWorldTimes(in));
+        int killCount = in.readInt();
+        for (int i = 0; i < killCount; i++) {
+            session.addPlayerKill(readPlayerKill(in));
+        }
+        extraData.put(MobKillCounter.class, new MobKillCounter(in.readInt()));
+        extraData.put(DeathCounter.class, new DeathCounter(in.readInt()));
+        String joinAddress = readNullable(in);
+        if (joinAddress != null) extraData.put(JoinAddress.class, new JoinAddress(joinAddress));
+        String playerName = readNullable(in);
+        if (playerName != null) extraData.put(PlayerName.class, new PlayerName(playerName));
+        return session;
+    }
+
+    private static void writeWorldTimes(DataOutputStream out, WorldTimes worldTimes) throws IOException {
+        writeNullable(out, worldTimes.getCurrentWorld().orElse(null));
+        writeNullable(out, worldTimes.getCurrentGamemode().orElse(null));
+        Map<String, GMTimes> times = worldTimes.getWorldTimes();
+        out.writeInt(times.size());
+        for (Map.Entry<String, GMTimes> world : times.entrySet()) {
+            writeNullable(out, world.getKey());
+            GMTimes gmTimes = world.getValue();
+            writeNullable(out, gmTimes.getState());
+            out.writeLong(gmTimes.getLastStateChange());
+            Map<String, Long> gmTimeMap = gmTimes.getTimes();
+            out.writeInt(gmTimeMap.size());
+            for (Map.Entry<String, Long> gameMode : gmTimeMap.entrySet()) {
+                writeNullable(out, gameMode.getKey());
+                out.writeLong(gameMode.getValue());
+            }
+        }
+    }
+
+    private static WorldTimes readWorldTimes(DataInputStream in) throws IOException {
+        String currentWorld = readNullable(in);
+        String currentGamemode = readNullable(in);
+        int worldCount = in.readInt();
+        Map<String, GMTimes> times = new HashMap<>();
+        for (int i = 0; i < worldCount; i++) {
+            String world = readNullable(in);
+            String state = readNullable(in);
+            long lastStateChange = in.readLong();
+            int gameModeCount = in.readInt();
+            Map<String, Long> gmTimeMap = new HashMap<>();
+            for (int j = 0; j < gameModeCount; j++) {
+                gmTimeMap.put(readNullable(in), in.readLong());
+            }
+            times.put(world, new GMTimes(gmTimeMap, state, lastStateChange));
+        }
+        return new WorldTimes(times, currentWorld, currentGamemode);
+    }
+
+    private static void writePlayerKill(DataOutputStream out, PlayerKill kill) throws IOException {
+        writeUUID(out, kill.getKiller().getUuid());
+        writeNullable(out, kill.getKiller().getName());
+        writeUUID(out, kill.getVictim().getUuid());
+        writeNullable(out, kill.getVictim().getName());
+        out.writeLong(kill.getVictim().getRegisterDate());
+        writeUUID(out, kill.getServer().getUuid().asUUID());
+        writeNullable(out, kill.getServer().getName());
+        writeNullable(out, kill.getWeapon());
+        out.writeLong(kill.getDate());
+    }
+
+    private static PlayerKill readPlayerKill(DataInputStream in) throws IOException {
+        PlayerKill.Killer killer = new PlayerKill.Killer(readUUID(in), readNullable(in));
+        PlayerKill.Victim victim = new PlayerKill.Victim(readUUID(in), readNullable(in), in.readLong());
+        ServerIdentifier server = new ServerIdentifier(ServerUUID.from(readUUID(in)), readNullable(in));
+        String weapon = readNullable(in);
+        return new PlayerKill(killer, victim, server, weapon, in.readLong());
+    }
+
+    private static void writeKey(DataOutputStream out, SessionKey key) throws IOException {
+        writeUUID(out, key.playerUUID);
+        writeUUID(out, key.serverUUID.asUUID());
+        out.writeLong(key.start);
+    }
+
+    private static SessionKey readKey(DataInputStream in) throws IOException {
+        return new SessionKey(readUUID(in), ServerUUID.from(readUUID(in)), in.readLong());
+    }
+
+    private static void writeUUID(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUUID(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Sessions reconstructed from records, used both for replay and for compacting the journal.
+     */
+    private static class JournalState {
+        private final Map<SessionKey, ActiveSession> sessions = new LinkedHashMap<>();
+        private long lastKnownTime;
+
+        void apply(byte[] record) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(record, 1, record.length - 1));
+            byte type = record[0];
+            if (type == HEARTBEAT) {
+                seen(in.readLong());
+                return;
+            }
+            if (type == SNAPSHOT) {
+                ActiveSession session = readSnapshot(in);
+                sessions.put(SessionKey.of(session), session);
+                seen(session.getStart());
+                return;
+            }
+
+            SessionKey key = readKey(in);
+            ActiveSession session = sessions.get(key);
+            if (session == null) return;
+            switch (type) {
+                case STATE_CHANGE:
+                    String world = readNullable(in);
+                    String gameMode = readNullable(in);
+                    long time = in.readLong();
+                    session.changeState(world, gameMode, time);
+                    seen(time);
+                    break;
+                case AFK_TIME:
+                    session.addAfkTime(in.readLong());
+                    break;
+                case DEATH:
+                    session.addDeath();
+                    break;
+                case MOB_KILL:
+                    session.addMobKill();
+                    break;
+                case PLAYER_KILL:
+                    PlayerKill kill = readPlayerKill(in);
+                    session.addPlayerKill(kill);
+                    seen(kill.getDate());
+                    break;
+                case END:
+                    sessions.remove(key);
+                    seen(in.readLong());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void seen(long time) {
+            lastKnownTime = Math.max(lastKnownTime, time);
+        }
+
+        byte[] snapshot() throws IOException {
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            writeFramed(records, encode(HEARTBEAT, out -> out.writeLong(lastKnownTime)));
+            for (ActiveSession session : sessions.values()) {
+                writeFramed(records, encode(SNAPSHOT, out -> writeSnapshot(out, session)));
+            }
+            return records.toByteArray();
+        }
+
+        List<FinishedSession> toFinishedSessions() {
+            List<FinishedSession> finished = new ArrayList<>();
+            for (ActiveSession session : sessions.values()) {
+                finished.add(session.toFinishedSession(Math.max(lastKnownTime, session.getStart())));
+            }
+            return finished;
+        }
+    }
+
+    private static class SessionKey {
+        private final UUID playerUUID;
+        private final ServerUUID serverUUID;
+        private final long start;
+
+        SessionKey(UUID playerUUID, ServerUUID serverUUID, long start) {
+            this.playerUUID = playerUUID;
+            this.serverUUID = serverUUID;
+            this.start = start;
+        }
+
+        static SessionKey of(ActiveSession session) {
+            return new SessionKey(session.getPlayerUUID(), session.getServerUUID(), session.getStart());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SessionKey that = (SessionKey) o;
+            return start == that.start &&
+                    Objects.equals(playerUUID, that.playerUUID) &&
+                    Objects.equals(serverUUID, that.serverUUID);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerUUID, serverUUID, start);
+        }
+    }
+}
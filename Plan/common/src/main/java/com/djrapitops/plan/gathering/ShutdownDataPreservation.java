@@ -27,6 +27,7 @@ import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.PluginLogger;
 import org.apache.commons.text.TextStringBuilder;
 
@@ -37,10 +38,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,6 +54,9 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
     private final ServerShutdownSave serverShutdownSave;
 
     private final Path storeLocation;
+    private final Path journalLocation;
+    private final SessionJournal journal;
+    private volatile boolean journalStarted = false;
 
     @Inject
     public ShutdownDataPreservation(
@@ -68,21 +71,33 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
         this.dbSystem = dbSystem;
 
         storeLocation = files.getDataDirectory().resolve("unsaved-sessions.csv");
+        journalLocation = files.getDataDirectory().resolve("active-sessions.journal");
+        journal = new SessionJournal(journalLocation);
         this.logger = logger;
         this.errorLogger = errorLogger;
         this.serverShutdownSave = serverShutdownSave;
     }
 
     public void storePreviouslyPreservedSessions() {
-        if (storeLocation.toFile().exists()) {
-            try {
+        try {
+            boolean csvExists = storeLocation.toFile().exists();
+            List<Path> journals = SessionJournal.findJournals(journalLocation);
+            if (csvExists || !journals.isEmpty()) {
                 logger.info(locale.getString(PluginLang.ENABLE_NOTIFY_STORING_PRESERVED_SESSIONS));
-                List<FinishedSession> finishedSessions = loadFinishedSessions();
+                List<FinishedSession> finishedSessions = new ArrayList<>(loadFinishedSessions());
+                for (Path previousJournal : journals) {
+                    finishedSessions.addAll(new SessionJournal(previousJournal).replay());
+                }
                 storeInDB(finishedSessions);
-                deleteStorageFile();
-            } catch (IllegalStateException e) {
-                errorLogger.error(e, ErrorContext.builder().related(storeLocation).build());
+                if (csvExists) deleteStorageFile();
+                for (Path previousJournal : journals) {
+                    new SessionJournal(previousJournal).delete();
+                }
             }
+        } catch (IOException e) {
+            errorLogger.error(e, ErrorContext.builder().related(storeLocation, journalLocation).build());
+        } catch (IllegalStateException e) {
+            errorLogger.error(e, ErrorContext.builder().related(storeLocation).build());
         }
     }
 
@@ -100,16 +115,36 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
 
     @Override
     public void run() {
-        try {
+        if (!journalStarted) {
             storePreviouslyPreservedSessions();
-        } finally {
-            cancel();
+            startJournal();
         }
+        flushJournal();
     }
 
     @Override
     public void register(RunnableFactory runnableFactory) {
-        runnableFactory.create(this).runTaskAsynchronously();
+        long period = TimeAmount.toTicks(10, TimeUnit.SECONDS);
+        runnableFactory.create(this).runTaskTimerAsynchronously(0L, period);
+    }
+
+    private void startJournal() {
+        try {
+            // Sessions of a previous run that could not be stored are kept in a separate journal.
+            journal.moveAside();
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder().related(journalLocation).build());
+        }
+        SessionCache.setSessionListener(journal);
+        journalStarted = true;
+    }
+
+    private void flushJournal() {
+        try {
+            journal.flush();
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder().related(journalLocation).build());
+        }
     }
 
     private void deleteStorageFile() {
@@ -149,7 +184,16 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
                     return session.toFinishedSession(now);
                 })
                 .collect(Collectors.toList());
-        storeFinishedSessions(finishedSessions);
+        if (!journalStarted) {
+            storeFinishedSessions(finishedSessions);
+            return;
+        }
+        try {
+            journal.flush();
+        } catch (IOException e) {
+            logger.warn("Could not write active-sessions.journal (" + e + "), writing unsaved-sessions.csv instead.");
+            storeFinishedSessions(finishedSessions);
+        }
     }
 
     void storeFinishedSessions(List<FinishedSession> sessions) {
@@ -0,0 +1,150 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.analysis.TopListQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.TopListQueries.TopListEntry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache for top 10 player lists of a server.
+ * <p>
+ * Each list is queried once per refresh interval and shared by all positions of the list,
+ * so placeholders for the top 10 do not run the aggregate query 10 times.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class LeaderboardCache {
+
+    private static final long REFRESH_INTERVAL_SECONDS = 60L;
+
+    private final DBSystem dbSystem;
+    private final Cache<String, List<TopListEntry<Long>>> cache;
+
+    @Inject
+    public LeaderboardCache(DBSystem dbSystem) {
+        this.dbSystem = dbSystem;
+
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(REFRESH_INTERVAL_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Get the top 10 list of a category.
+     *
+     * @param category   Category to rank players by.
+     * @param timeSpan   How far back the data is taken into account.
+     * @param serverUUID Server to rank players on.
+     * @return List of at most 10 entries, ordered highest first.
+     */
+    public List<TopListEntry<Long>> getLeaderboard(Category category, TimeSpan timeSpan, ServerUUID serverUUID) {
+        String key = category.getName() + '-' + timeSpan.getName() + '-' + serverUUID;
+        return cache.get(key, k -> {
+            long now = System.currentTimeMillis();
+            return dbSystem.getDatabase().query(category.getQuery(serverUUID, timeSpan.getAfter(now), now));
+        });
+    }
+
+    /**
+     * Get nth entry of the top 10 list of a category.
+     *
+     * @param category   Category to rank players by.
+     * @param timeSpan   How far back the data is taken into account.
+     * @param serverUUID Server to rank players on.
+     * @param n          Position in the list, starting from 1. Smaller numbers return the first entry.
+     * @return Entry at the position, or empty if there are not enough players.
+     */
+    public Optional<TopListEntry<Long>> getNth(Category category, TimeSpan timeSpan, ServerUUID serverUUID, int n) {
+        List<TopListEntry<Long>> leaderboard = getLeaderboard(category, timeSpan, serverUUID);
+        int index = Math.max(n - 1, 0);
+        return index < leaderboard.size() ? Optional.of(leaderboard.get(index)) : Optional.empty();
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public enum Category {
+        PLAYTIME("playtime", TopListQueries::fetchTop10PlaytimePlayersOn),
+        ACTIVE_PLAYTIME("active_playtime", TopListQueries::fetchTop10ActivePlaytimePlayersOn),
+        PLAYER_KILLS("player_kills", TopListQueries::fetchTop10PlayerKillCountsOn);
+
+        private final String name;
+        private final TopListQueryCreator queryCreator;
+
+        Category(String name, TopListQueryCreator queryCreator) {
+            this.name = name;
+            this.queryCreator = queryCreator;
+        }
+
+        public static Optional<Category> fromName(String name) {
+            return Arrays.stream(values()).filter(category -> category.name.equalsIgnoreCase(name)).findAny();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        Query<List<TopListEntry<Long>>> getQuery(ServerUUID serverUUID, long after, long before) {
+            return queryCreator.apply(serverUUID, after, before);
+        }
+    }
+
+    public enum TimeSpan {
+        MONTH("month", TimeUnit.DAYS.toMillis(30)),
+        WEEK("week", TimeUnit.DAYS.toMillis(7)),
+        DAY("day", TimeUnit.DAYS.toMillis(1)),
+        TOTAL("total", -1);
+
+        private final String name;
+        private final long millis;
+
+        TimeSpan(String name, long millis) {
+            this.name = name;
+            this.millis = millis;
+        }
+
+        public static Optional<TimeSpan> fromName(String name) {
+            return Arrays.stream(values()).filter(timeSpan -> timeSpan.name.equalsIgnoreCase(name)).findAny();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        long getAfter(long now) {
+            return millis < 0 ? 0 : now - millis;
+        }
+    }
+
+    interface TopListQueryCreator {
+        Query<List<TopListEntry<Long>>> apply(ServerUUID serverUUID, long after, long before);
+    }
+}
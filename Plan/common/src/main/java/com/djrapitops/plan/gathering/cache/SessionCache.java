@@ -17,7 +17,9 @@
 package com.djrapitops.plan.gathering.cache;
 
 import com.djrapitops.plan.gathering.domain.ActiveSession;
+import com.djrapitops.plan.gathering.domain.ActiveSessionListener;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.ServerUUID;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -33,6 +35,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SessionCache {
 
     private static final Map<UUID, ActiveSession> ACTIVE_SESSIONS = new ConcurrentHashMap<>();
+    private static volatile ActiveSessionListener sessionListener;
 
     @Inject
     public SessionCache() {
@@ -44,10 +47,40 @@ public class SessionCache {
         return new HashSet<>(ACTIVE_SESSIONS.values());
     }
 
+    /**
+     * Count active sessions of each server.
+     * <p>
+     * Does not refresh the state of the sessions or copy them, so it is cheap to call often.
+     *
+     * @return Map: Server UUID - Number of active sessions on the server.
+     */
+    public static Map<ServerUUID, Integer> countActiveSessionsByServer() {
+        Map<ServerUUID, Integer> counts = new HashMap<>();
+        for (ActiveSession session : ACTIVE_SESSIONS.values()) {
+            counts.merge(session.getServerUUID(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
     public static void clear() {
         ACTIVE_SESSIONS.clear();
     }
 
+    /**
+     * Set the listener that is told about starts, changes and ends of active sessions.
+     * <p>
+     * Sessions that are already active are passed to {@link ActiveSessionListener#sessionStarted(ActiveSession)}.
+     *
+     * @param listener Listener, or null to stop listening.
+     */
+    public static void setSessionListener(ActiveSessionListener listener) {
+        sessionListener = listener;
+        for (ActiveSession session : ACTIVE_SESSIONS.values()) {
+            session.setListener(listener);
+            if (listener != null) listener.sessionStarted(session);
+        }
+    }
+
     public static void refreshActiveSessionsState() {
         ACTIVE_SESSIONS.values().forEach(ActiveSession::updateState);
     }
@@ -77,6 +110,9 @@ public class SessionCache {
         if (inProgress.isPresent()) {
             finished = endSession(playerUUID, newSession.getStart(), inProgress.get());
         }
+        ActiveSessionListener listener = sessionListener;
+        newSession.setListener(listener);
+        if (listener != null) listener.sessionStarted(newSession);
         ACTIVE_SESSIONS.put(playerUUID, newSession);
         return finished;
     }
@@ -94,6 +130,9 @@ public class SessionCache {
             return Optional.empty();
         }
         ACTIVE_SESSIONS.remove(playerUUID);
+        activeSession.setListener(null);
+        ActiveSessionListener listener = sessionListener;
+        if (listener != null) listener.sessionEnded(activeSession, time);
         if (activeSession.getStart() > time) {
             return Optional.empty();
         }
@@ -33,6 +33,8 @@ public class ActiveSession {
 
     private long lastMovementForAfkCalculation;
 
+    private ActiveSessionListener listener;
+
     public ActiveSession(UUID playerUUID, ServerUUID serverUUID, long start, String world, String gameMode) {
         this.playerUUID = playerUUID;
         this.serverUUID = serverUUID;
@@ -72,20 +74,28 @@ public class ActiveSession {
         return start;
     }
 
+    public long getAfkTime() {
+        return afkTime;
+    }
+
     public void addAfkTime(long time) {
         afkTime += time;
+        if (listener != null) listener.afkTimeAdded(this, time);
     }
 
     public void addDeath() {
         extraData.get(DeathCounter.class).ifPresent(Counter::add);
+        if (listener != null) listener.deathAdded(this);
     }
 
     public void addMobKill() {
         extraData.get(MobKillCounter.class).ifPresent(Counter::add);
+        if (listener != null) listener.mobKillAdded(this);
     }
 
     public void addPlayerKill(PlayerKill kill) {
         extraData.get(PlayerKills.class).ifPresent(kills -> kills.add(kill));
+        if (listener != null) listener.playerKillAdded(this, kill);
     }
 
     public void setAsFirstSessionIfMatches(Long registerDate) {
@@ -108,6 +118,16 @@ public class ActiveSession {
 
     public void changeState(String world, String gameMode, long time) {
         extraData.get(WorldTimes.class).ifPresent(times -> times.updateState(world, gameMode, time));
+        if (listener != null) listener.stateChanged(this, world, gameMode, time);
+    }
+
+    /**
+     * Set the listener that is told about changes to this session.
+     *
+     * @param listener Listener, or null to stop listening.
+     */
+    public void setListener(ActiveSessionListener listener) {
+        this.listener = listener;
     }
 
     public <T> Optional<T> getExtraData(Class<T> ofType) {
@@ -0,0 +1,42 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+/**
+ * Receives changes made to an {@link ActiveSession} as they happen.
+ * <p>
+ * Calls are made on the thread that made the change, so implementations should return quickly.
+ *
+ * @author AuroraLS3
+ * @see com.djrapitops.plan.gathering.cache.SessionCache#setSessionListener(ActiveSessionListener)
+ */
+public interface ActiveSessionListener {
+
+    void sessionStarted(ActiveSession session);
+
+    void stateChanged(ActiveSession session, String world, String gameMode, long time);
+
+    void afkTimeAdded(ActiveSession session, long afkTime);
+
+    void deathAdded(ActiveSession session);
+
+    void mobKillAdded(ActiveSession session);
+
+    void playerKillAdded(ActiveSession session, PlayerKill kill);
+
+    void sessionEnded(ActiveSession session, long time);
+}
@@ -0,0 +1,95 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import com.djrapitops.plan.identification.ServerUUID;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Ping of a player on a server rolled up for a whole day.
+ *
+ * @author AuroraLS3
+ */
+public class DailyPing extends Ping {
+
+    private final double pingSum;
+    private final int pingCount;
+    private final int[] samples;
+
+    /**
+     * Create a new DailyPing.
+     *
+     * @param date       Start of the day, epoch ms.
+     * @param serverUUID UUID of the server.
+     * @param min        Lowest ping of the day.
+     * @param max        Highest ping of the day.
+     * @param pingSum    Sum of the average pings that were rolled up.
+     * @param pingCount  Number of pings that were rolled up.
+     * @param samples    Histogram of the rolled up average pings, in the order of plan_ping_daily columns.
+     */
+    public DailyPing(long date, ServerUUID serverUUID, int min, int max, double pingSum, int pingCount, int[] samples) {
+        super(date, serverUUID, min, max, pingCount > 0 ? pingSum / pingCount : -1.0);
+        this.pingSum = pingSum;
+        this.pingCount = pingCount;
+        this.samples = samples;
+    }
+
+    public double getPingSum() {
+        return pingSum;
+    }
+
+    public int getPingCount() {
+        return pingCount;
+    }
+
+    public int[] getSamples() {
+        return samples;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DailyPing)) return false;
+        if (!super.equals(o)) return false;
+        DailyPing dailyPing = (DailyPing) o;
+        return getDate() == dailyPing.getDate() &&
+                Double.compare(dailyPing.pingSum, pingSum) == 0 &&
+                pingCount == dailyPing.pingCount &&
+                Arrays.equals(samples, dailyPing.samples);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(super.hashCode(), getDate(), pingSum, pingCount);
+        return 31 * result + Arrays.hashCode(samples);
+    }
+
+    @Override
+    public String toString() {
+        return "DailyPing{" +
+                "date=" + getDate() +
+                ", serverUUID=" + getServerUUID() +
+                ", min=" + getMin() +
+                ", max=" + getMax() +
+                ", pingSum=" + pingSum +
+                ", pingCount=" + pingCount +
+                ", samples=" + Arrays.toString(samples) +
+                '}';
+    }
+}
@@ -34,23 +34,35 @@ public class GMTimes extends TimeKeeper {
     public static final String SPECTATOR = "SPECTATOR";
 
     public GMTimes(Map<String, Long> times, String lastState, long lastStateChange) {
-        super(times, lastState, lastStateChange);
+        super(new GameModeTimeMap(times), lastState, lastStateChange);
     }
 
     public GMTimes(String lastState, long lastStateChange) {
-        super(lastState, lastStateChange);
+        super(new GameModeTimeMap(), lastState, lastStateChange);
     }
 
     public GMTimes(String lastState) {
-        super(lastState);
+        this(lastState, 0L);
     }
 
     public GMTimes(Map<String, Long> times) {
-        super(times);
+        this(times, null, 0L);
     }
 
     public GMTimes() {
-        super();
+        this(null, 0L);
+    }
+
+    /**
+     * Creates GMTimes with time of each vanilla GameMode, without a current state.
+     *
+     * @param survival  ms spent in survival
+     * @param creative  ms spent in creative
+     * @param adventure ms spent in adventure
+     * @param spectator ms spent in spectator
+     */
+    public GMTimes(long survival, long creative, long adventure, long spectator) {
+        super(new GameModeTimeMap(survival, creative, adventure, spectator), null, 0L);
     }
 
     public static String[] getGMKeyArray() {
@@ -116,6 +128,14 @@ public class GMTimes extends TimeKeeper {
         resetState(SPECTATOR);
     }
 
+    @Override
+    public long getTotal() {
+        if (times instanceof GameModeTimeMap) {
+            return ((GameModeTimeMap) times).total();
+        }
+        return super.getTotal();
+    }
+
     @Override
     public String getState() {
         String state = super.getState();
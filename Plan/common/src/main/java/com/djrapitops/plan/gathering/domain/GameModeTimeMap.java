@@ -0,0 +1,241 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.*;
+
+/**
+ * Map of GameMode name - time that keeps the four vanilla GameModes in a fixed {@code long[]}.
+ * <p>
+ * Used by {@link GMTimes} so that each world of each session does not need its own HashMap with boxed values.
+ * GameModes other than the four vanilla ones are kept in a regular map that is created only when needed.
+ *
+ * @author AuroraLS3
+ */
+final class GameModeTimeMap extends AbstractMap<String, Long> {
+
+    private static final String[] GAME_MODES = GMTimes.getGMKeyArray();
+    private static final int ALL_PRESENT = 0b1111;
+
+    private final long[] slots = new long[GAME_MODES.length];
+    private int present;
+    private Map<String, Long> others;
+
+    GameModeTimeMap() {
+        /* Empty map */
+    }
+
+    GameModeTimeMap(Map<String, Long> times) {
+        this();
+        if (times != null) putAll(times);
+    }
+
+    GameModeTimeMap(long survival, long creative, long adventure, long spectator) {
+        slots[0] = survival;
+        slots[1] = creative;
+        slots[2] = adventure;
+        slots[3] = spectator;
+        present = ALL_PRESENT;
+    }
+
+    private static int slotOf(Object gameMode) {
+        for (int i = 0; i < GAME_MODES.length; i++) {
+            if (GAME_MODES[i].equals(gameMode)) return i;
+        }
+        return -1;
+    }
+
+    private boolean isPresent(int slot) {
+        return (present & (1 << slot)) != 0;
+    }
+
+    long total() {
+        long total = 0L;
+        for (int i = 0; i < slots.length; i++) {
+            if (isPresent(i)) total += slots[i];
+        }
+        if (others != null) {
+            for (Long time : others.values()) {
+                if (time != null) total += time;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(present) + (others != null ? others.size() : 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0 && isPresent(slot)) return true;
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Long get(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0 && isPresent(slot)) return slots[slot];
+        return others != null ? others.get(key) : null;
+    }
+
+    @Override
+    public Long put(String key, Long value) {
+        int slot = slotOf(key);
+        if (slot < 0 || value == null) {
+            Long previous = slot >= 0 ? removeSlot(slot) : null;
+            if (others == null) others = new HashMap<>();
+            Long previousOther = others.put(key, value);
+            return previous != null ? previous : previousOther;
+        }
+        Long previous = get(key);
+        if (others != null) others.remove(key);
+        slots[slot] = value;
+        present |= 1 << slot;
+        return previous;
+    }
+
+    @Override
+    public Long remove(Object key) {
+        int slot = slotOf(key);
+        Long previous = slot >= 0 ? removeSlot(slot) : null;
+        if (others != null && others.containsKey(key)) return others.remove(key);
+        return previous;
+    }
+
+    private Long removeSlot(int slot) {
+        if (!isPresent(slot)) return null;
+        present &= ~(1 << slot);
+        long previous = slots[slot];
+        slots[slot] = 0L;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        present = 0;
+        Arrays.fill(slots, 0L);
+        others = null;
+    }
+
+    @Override
+    public Set<Entry<String, Long>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Long>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return GameModeTimeMap.this.size();
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Long>> {
+        private int nextSlot = nextPresentSlot(0);
+        private int lastSlot = -1;
+        private Iterator<Entry<String, Long>> otherIterator;
+
+        private int nextPresentSlot(int from) {
+            for (int i = from; i < slots.length; i++) {
+                if (isPresent(i)) return i;
+            }
+            return slots.length;
+        }
+
+        private Iterator<Entry<String, Long>> otherIterator() {
+            if (otherIterator == null) {
+                otherIterator = others != null ? others.entrySet().iterator() : Collections.emptyIterator();
+            }
+            return otherIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < slots.length || otherIterator().hasNext();
+        }
+
+        @Override
+        public Entry<String, Long> next() {
+            if (nextSlot < slots.length) {
+                lastSlot = nextSlot;
+                nextSlot = nextPresentSlot(nextSlot + 1);
+                return new SlotEntry(lastSlot);
+            }
+            lastSlot = -1;
+            return otherIterator().next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot >= 0) {
+                removeSlot(lastSlot);
+                lastSlot = -1;
+            } else {
+                otherIterator().remove();
+            }
+        }
+    }
+
+    private class SlotEntry implements Entry<String, Long> {
+        private final int slot;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return GAME_MODES[slot];
+        }
+
+        @Override
+        public Long getValue() {
+            return slots[slot];
+        }
+
+        @Override
+        public Long setValue(Long value) {
+            if (value == null) throw new IllegalArgumentException("'value' should not be null");
+            long previous = slots[slot];
+            slots[slot] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry<?, ?> that = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Column oriented list of {@link TPS} data points.
+ * <p>
+ * Each value is kept in its own primitive array so that months of per-minute rows
+ * do not need an object per row when they are aggregated or written as graph data.
+ *
+ * @author AuroraLS3
+ */
+public class TPSSeries {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int size;
+    private long[] dates;
+    private double[] tps;
+    private int[] players;
+    private double[] cpu;
+    private long[] ram;
+    private int[] entities;
+    private int[] chunks;
+    private long[] freeDisk;
+
+    public TPSSeries() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TPSSeries(int capacity) {
+        int initial = Math.max(capacity, 1);
+        dates = new long[initial];
+        tps = new double[initial];
+        players = new int[initial];
+        cpu = new double[initial];
+        ram = new long[initial];
+        entities = new int[initial];
+        chunks = new int[initial];
+        freeDisk = new long[initial];
+    }
+
+    public static TPSSeries of(List<TPS> tpsData) {
+        TPSSeries series = new TPSSeries(tpsData.size());
+        for (TPS point : tpsData) {
+            series.add(point);
+        }
+        return series;
+    }
+
+    public void add(TPS point) {
+        add(point.getDate(), point.getTicksPerSecond(), point.getPlayers(), point.getCPUUsage(),
+                point.getUsedMemory(), point.getEntityCount(), point.getChunksLoaded(), point.getFreeDiskSpace());
+    }
+
+    public void add(long date, double ticksPerSecond, int playersOnline, double cpuUsage, long usedMemory, int entityCount, int chunksLoaded, long freeDiskSpace) {
+        if (size == dates.length) grow();
+        dates[size] = date;
+        tps[size] = ticksPerSecond;
+        players[size] = playersOnline;
+        cpu[size] = cpuUsage;
+        ram[size] = usedMemory;
+        entities[size] = entityCount;
+        chunks[size] = chunksLoaded;
+        freeDisk[size] = freeDiskSpace;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = dates.length + (dates.length >> 1) + 1;
+        dates = Arrays.copyOf(dates, capacity);
+        tps = Arrays.copyOf(tps, capacity);
+        players = Arrays.copyOf(players, capacity);
+        cpu = Arrays.copyOf(cpu, capacity);
+        ram = Arrays.copyOf(ram, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        chunks = Arrays.copyOf(chunks, capacity);
+        freeDisk = Arrays.copyOf(freeDisk, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getDate(int index) {
+        return dates[index];
+    }
+
+    public double getTicksPerSecond(int index) {
+        return tps[index];
+    }
+
+    public int getPlayers(int index) {
+        return players[index];
+    }
+
+    public double getCPUUsage(int index) {
+        return cpu[index];
+    }
+
+    public long getUsedMemory(int index) {
+        return ram[index];
+    }
+
+    public int getEntityCount(int index) {
+        return entities[index];
+    }
+
+    public int getChunksLoaded(int index) {
+        return chunks[index];
+    }
+
+    public long getFreeDiskSpace(int index) {
+        return freeDisk[index];
+    }
+
+    public TPS get(int index) {
+        return new TPS(dates[index], tps[index], players[index], cpu[index], ram[index], entities[index], chunks[index], freeDisk[index]);
+    }
+
+    public List<TPS> toList() {
+        List<TPS> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    public TPSSeries copy() {
+        return filter(index -> true);
+    }
+
+    public TPSSeries filter(IntPredicate indexFilter) {
+        TPSSeries filtered = new TPSSeries(size);
+        for (int i = 0; i < size; i++) {
+            if (indexFilter.test(i)) filtered.addFrom(this, i);
+        }
+        return filtered;
+    }
+
+    private void addFrom(TPSSeries other, int index) {
+        add(other.dates[index], other.tps[index], other.players[index], other.cpu[index],
+                other.ram[index], other.entities[index], other.chunks[index], other.freeDisk[index]);
+    }
+
+    /**
+     * Sort the series in ascending date order.
+     * <p>
+     * Rows from the database are already in order, in which case nothing is moved.
+     */
+    public void sortByDate() {
+        if (isSortedByDate()) return;
+
+        int[] order = sortedIndexesByDate();
+        TPSSeries sorted = new TPSSeries(size);
+        for (int index : order) {
+            sorted.addFrom(this, index);
+        }
+        dates = sorted.dates;
+        tps = sorted.tps;
+        players = sorted.players;
+        cpu = sorted.cpu;
+        ram = sorted.ram;
+        entities = sorted.entities;
+        chunks = sorted.chunks;
+        freeDisk = sorted.freeDisk;
+    }
+
+    /**
+     * Bottom-up merge sort of row indexes by date, stable and without boxing.
+     */
+    private int[] sortedIndexesByDate() {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int low = 0; low < size - width; low += 2 * width) {
+                int middle = low + width;
+                int high = Math.min(low + 2 * width, size);
+                int left = low;
+                int right = middle;
+                int to = low;
+                while (left < middle && right < high) {
+                    buffer[to++] = dates[order[right]] < dates[order[left]] ? order[right++] : order[left++];
+                }
+                while (left < middle) buffer[to++] = order[left++];
+                while (right < high) buffer[to++] = order[right++];
+                System.arraycopy(buffer, low, order, low, high - low);
+            }
+        }
+        return order;
+    }
+
+    private boolean isSortedByDate() {
+        for (int i = 1; i < size; i++) {
+            if (dates[i - 1] > dates[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Find the last data point at or before given date, requires the series to be sorted by date.
+     *
+     * @param date Epoch ms
+     * @return index of the data point, or -1 if all points are after the date.
+     */
+    public int floorIndex(long date) {
+        int low = 0;
+        int high = size - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (dates[middle] <= date) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+}
@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Class that tracks the time spent in each World based on GMTimes.
@@ -30,6 +32,9 @@ import java.util.Optional;
  */
 public class WorldTimes {
 
+    // World names are shared between all sessions instead of each database row holding its own copy.
+    private static final Map<String, String> WORLD_NAMES = new ConcurrentHashMap<>();
+
     private final Map<String, GMTimes> times;
     private String currentWorld;
     private String currentGamemode;
@@ -57,13 +62,30 @@ public class WorldTimes {
         this.times = times;
     }
 
+    /**
+     * Re-Creates an existing WorldTimes object that can continue tracking.
+     *
+     * @param times           Map of each World's GMTimes object.
+     * @param currentWorld    World the calculations are currently at, null if unknown.
+     * @param currentGamemode GameMode the calculations are currently at, null if unknown.
+     */
+    public WorldTimes(Map<String, GMTimes> times, String currentWorld, String currentGamemode) {
+        this.times = times;
+        this.currentWorld = currentWorld;
+        this.currentGamemode = currentGamemode;
+    }
+
     public WorldTimes() {
         this(new HashMap<>());
     }
 
+    private static String internWorldName(String worldName) {
+        return worldName != null ? WORLD_NAMES.computeIfAbsent(worldName, Function.identity()) : null;
+    }
+
     private void addWorld(String worldName, String gameMode, long changeTime) {
         if (worldName == null || gameMode == null) return;
-        times.put(worldName, new GMTimes(gameMode, changeTime));
+        times.put(internWorldName(worldName), new GMTimes(gameMode, changeTime));
     }
 
     /**
@@ -141,7 +163,7 @@ public class WorldTimes {
     }
 
     public void setGMTimesForWorld(String world, GMTimes gmTimes) {
-        times.put(world, gmTimes);
+        times.put(internWorldName(world), gmTimes);
     }
 
     @Override
@@ -172,6 +194,10 @@ public class WorldTimes {
         return Optional.ofNullable(currentWorld);
     }
 
+    public Optional<String> getCurrentGamemode() {
+        return Optional.ofNullable(currentGamemode);
+    }
+
     public void add(WorldTimes toAdd) {
         for (Map.Entry<String, GMTimes> entry : toAdd.getWorldTimes().entrySet()) {
             String worldName = entry.getKey();
@@ -16,10 +16,12 @@
  */
 package com.djrapitops.plan.gathering.events;
 
+import com.djrapitops.plan.commands.TabCompleteCache;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.delivery.domain.ServerName;
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
@@ -55,9 +57,11 @@ public class PlayerJoinEventConsumer {
     private final GeolocationCache geolocationCache;
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
+    private final TabCompleteCache tabCompleteCache;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
+    private final LiveEventStream liveEventStream;
 
     @Inject
     public PlayerJoinEventConsumer(
@@ -67,8 +71,10 @@ public class PlayerJoinEventConsumer {
             GeolocationCache geolocationCache,
             SessionCache sessionCache,
             NicknameCache nicknameCache,
+            TabCompleteCache tabCompleteCache,
             ExtensionSvc extensionService,
-            Exporter exporter
+            Exporter exporter,
+            LiveEventStream liveEventStream
     ) {
         this.processing = processing;
         this.config = config;
@@ -76,8 +82,10 @@ public class PlayerJoinEventConsumer {
         this.geolocationCache = geolocationCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
+        this.tabCompleteCache = tabCompleteCache;
         this.extensionService = extensionService;
         this.exporter = exporter;
+        this.liveEventStream = liveEventStream;
     }
 
     public void onJoinGameServer(PlayerJoin join) {
@@ -86,6 +94,7 @@ public class PlayerJoinEventConsumer {
             storeWorldInformation(join);
             storeGamePlayer(join)
                     .thenRunAsync(() -> {
+                        addToTabCompletion(join);
                         storeJoinAddress(join);
                         interruptedSession.ifPresent(this::storeInterruptedSession);
                         storeGeolocation(join);
@@ -101,6 +110,7 @@ public class PlayerJoinEventConsumer {
         cacheActiveSession(join);
         processing.submitCritical(() -> storeProxyPlayer(join)
                 .thenRunAsync(() -> {
+                    addToTabCompletion(join);
                     storeGeolocation(join);
                     updatePlayerDataExtensionValues(join);
                     updateExport(join);
@@ -108,6 +118,10 @@ public class PlayerJoinEventConsumer {
         );
     }
 
+    private void addToTabCompletion(PlayerJoin join) {
+        tabCompleteCache.addPlayerIdentifier(join.getPlayerUUID(), join.getPlayer().getName());
+    }
+
     private void storeJoinAddress(PlayerJoin join) {
         join.getPlayer().getJoinAddress()
                 .map(joinAddress -> config.isTrue(DataGatheringSettings.PRESERVE_JOIN_ADDRESS_CASE) ? joinAddress : StringUtils.lowerCase(joinAddress))
@@ -163,7 +177,9 @@ public class PlayerJoinEventConsumer {
 
     Optional<FinishedSession> cacheActiveSession(PlayerJoin join) {
         ActiveSession session = mapToActiveSession(join);
-        return sessionCache.cacheSession(join.getPlayerUUID(), session);
+        Optional<FinishedSession> interruptedSession = sessionCache.cacheSession(join.getPlayerUUID(), session);
+        liveEventStream.publishJoin(join.getServerUUID(), join.getPlayerUUID(), join.getPlayerName(), join.getTime());
+        return interruptedSession;
     }
 
     private void storeInterruptedSession(FinishedSession finishedSession) {
@@ -192,8 +208,8 @@ public class PlayerJoinEventConsumer {
     }
 
     private void updatePlayerDataExtensionValues(PlayerJoin join) {
-        processing.submitNonCritical(() -> extensionService.updatePlayerValues(
-                join.getPlayerUUID(), join.getPlayerName(), CallEvents.PLAYER_JOIN)
+        extensionService.schedulePlayerValuesUpdate(
+                join.getPlayerUUID(), join.getPlayerName(), CallEvents.PLAYER_JOIN
         );
     }
 
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.events;
 
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.cache.JoinAddressCache;
@@ -50,9 +51,10 @@ public class PlayerLeaveEventConsumer {
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
+    private final LiveEventStream liveEventStream;
 
     @Inject
-    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, ExtensionSvc extensionService, Exporter exporter) {
+    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, ExtensionSvc extensionService, Exporter exporter, LiveEventStream liveEventStream) {
         this.processing = processing;
         this.config = config;
         this.dbSystem = dbSystem;
@@ -61,6 +63,7 @@ public class PlayerLeaveEventConsumer {
         this.sessionCache = sessionCache;
         this.extensionService = extensionService;
         this.exporter = exporter;
+        this.liveEventStream = liveEventStream;
     }
 
     public void beforeLeave(PlayerLeave leave) {
@@ -92,7 +95,9 @@ public class PlayerLeaveEventConsumer {
     }
 
     private Optional<FinishedSession> endSession(PlayerLeave leave) {
-        return sessionCache.endSession(leave.getPlayerUUID(), leave.getTime());
+        Optional<FinishedSession> finishedSession = sessionCache.endSession(leave.getPlayerUUID(), leave.getTime());
+        liveEventStream.publishLeave(leave.getServerUUID(), leave.getPlayerUUID(), leave.getPlayerName(), leave.getTime());
+        return finishedSession;
     }
 
     private void storeFinishedSession(FinishedSession finishedSession) {
@@ -106,8 +111,8 @@ public class PlayerLeaveEventConsumer {
     }
 
     private void updatePlayerDataExtensionValues(PlayerLeave leave) {
-        processing.submitNonCritical(() -> extensionService.updatePlayerValues(
-                leave.getPlayerUUID(), leave.getPlayerName(), CallEvents.PLAYER_LEAVE)
+        extensionService.schedulePlayerValuesUpdate(
+                leave.getPlayerUUID(), leave.getPlayerName(), CallEvents.PLAYER_LEAVE
         );
     }
 
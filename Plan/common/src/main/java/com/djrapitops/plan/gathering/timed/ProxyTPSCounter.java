@@ -16,7 +16,9 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
 import com.djrapitops.plan.gathering.ServerSensor;
+import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -43,6 +45,7 @@ public class ProxyTPSCounter extends TPSCounter {
     private final SystemUsageBuffer systemUsage;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
+    private final LiveEventStream liveEventStream;
     private final Maximum.ForInteger playersOnline;
     private final Average cpu;
     private final TimerAverage ram;
@@ -53,6 +56,7 @@ public class ProxyTPSCounter extends TPSCounter {
             SystemUsageBuffer systemUsage,
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            LiveEventStream liveEventStream,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -61,6 +65,7 @@ public class ProxyTPSCounter extends TPSCounter {
         this.serverSensor = serverSensor;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.liveEventStream = liveEventStream;
         this.systemUsage = systemUsage;
         playersOnline = new Maximum.ForInteger(0);
         cpu = new Average();
@@ -83,16 +88,14 @@ public class ProxyTPSCounter extends TPSCounter {
         long averageRAM = (long) ram.getAverageAndReset(time);
         long freeDiskSpace = systemUsage.getFreeDiskSpace();
 
-        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
-                logger,
-                serverInfo.getServerUUID(),
-                TPSBuilder.get()
-                        .date(timeLastMinute)
-                        .playersOnline(maxPlayers)
-                        .usedCPU(averageCPU)
-                        .usedMemory(averageRAM)
-                        .freeDiskSpace(freeDiskSpace)
-                        .toTPS()
-        ));
+        TPS tps = TPSBuilder.get()
+                .date(timeLastMinute)
+                .playersOnline(maxPlayers)
+                .usedCPU(averageCPU)
+                .usedMemory(averageRAM)
+                .freeDiskSpace(freeDiskSpace)
+                .toTPS();
+        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(logger, serverInfo.getServerUUID(), tps));
+        liveEventStream.publishTPS(serverInfo.getServerUUID(), tps);
     }
 }
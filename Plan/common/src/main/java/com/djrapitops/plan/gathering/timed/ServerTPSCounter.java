@@ -16,7 +16,9 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
+import com.djrapitops.plan.delivery.webserver.LiveEventStream;
 import com.djrapitops.plan.gathering.ServerSensor;
+import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -45,6 +47,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
     private final SystemUsageBuffer systemUsage;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
+    private final LiveEventStream liveEventStream;
     private TPSCalculator indirectTPS;
     private TimerAverage directTPS;
     private final Maximum.ForInteger playersOnline;
@@ -57,6 +60,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
             SystemUsageBuffer systemUsage,
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            LiveEventStream liveEventStream,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -66,6 +70,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
         this.serverSensor = serverSensor;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.liveEventStream = liveEventStream;
         this.systemUsage = systemUsage;
         if (noDirectTPS) {
             indirectTPS = new TPSCalculator();
@@ -100,20 +105,18 @@ public class ServerTPSCounter<W> extends TPSCounter {
         }
         long freeDiskSpace = systemUsage.getFreeDiskSpace();
 
-        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
-                logger,
-                serverInfo.getServerUUID(),
-                TPSBuilder.get()
-                        .date(timeLastMinute)
-                        .tps(averageTPS)
-                        .playersOnline(maxPlayers)
-                        .usedCPU(averageCPU)
-                        .usedMemory(averageRAM)
-                        .entities(entityCount)
-                        .chunksLoaded(chunkCount)
-                        .freeDiskSpace(freeDiskSpace)
-                        .toTPS()
-        ));
+        TPS tps = TPSBuilder.get()
+                .date(timeLastMinute)
+                .tps(averageTPS)
+                .playersOnline(maxPlayers)
+                .usedCPU(averageCPU)
+                .usedMemory(averageRAM)
+                .entities(entityCount)
+                .chunksLoaded(chunkCount)
+                .freeDiskSpace(freeDiskSpace)
+                .toTPS();
+        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(logger, serverInfo.getServerUUID(), tps));
+        liveEventStream.publishTPS(serverInfo.getServerUUID(), tps);
     }
 
     public Optional<Double> pulseTPS(long time) {
@@ -19,12 +19,12 @@ package com.djrapitops.plan.placeholder;
 import com.djrapitops.plan.commands.use.Arguments;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.gathering.cache.LeaderboardCache;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.TopListQueries;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
@@ -33,11 +33,7 @@ import com.djrapitops.plan.utilities.dev.Untrusted;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.utilities.MiscUtils.*;
 
@@ -52,16 +48,19 @@ public class ServerPlaceHolders implements Placeholders {
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final Formatters formatters;
+    private final LeaderboardCache leaderboardCache;
 
     @Inject
     public ServerPlaceHolders(
             DBSystem dbSystem,
             ServerInfo serverInfo,
-            Formatters formatters
+            Formatters formatters,
+            LeaderboardCache leaderboardCache
     ) {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.formatters = formatters;
+        this.leaderboardCache = leaderboardCache;
     }
 
     @Override
@@ -199,7 +198,7 @@ public class ServerPlaceHolders implements Placeholders {
         placeholders.registerStatic("server_uuid",
                 serverInfo::getServerUUID);
 
-        registerDynamicCategoryPlaceholders(placeholders, database);
+        registerDynamicCategoryPlaceholders(placeholders);
     }
 
     private ServerUUID getServerUUID(@Untrusted Arguments parameters) {
@@ -211,64 +210,22 @@ public class ServerPlaceHolders implements Placeholders {
                 .map(Server::getUuid);
     }
 
-    private void registerDynamicCategoryPlaceholders(PlanPlaceholders placeholders, Database database) {
-        List<TopCategoryQuery<Long>> queries = new ArrayList<>();
-        queries.addAll(createCategoryQueriesForAllTimespans("playtime", (index, timespan, parameters) -> TopListQueries.fetchNthTop10PlaytimePlayerOn(getServerUUID(parameters), index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
-        queries.addAll(createCategoryQueriesForAllTimespans("active_playtime", (index, timespan, parameters) -> TopListQueries.fetchNthTop10ActivePlaytimePlayerOn(getServerUUID(parameters), index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
-        queries.addAll(createCategoryQueriesForAllTimespans("player_kills", (index, timespan, parameters) -> TopListQueries.fetchNthTop10PlayerKillCountOn(getServerUUID(parameters), index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
-
+    private void registerDynamicCategoryPlaceholders(PlanPlaceholders placeholders) {
         for (int i = 0; i < 10; i++) {
-            for (TopCategoryQuery<Long> query : queries) {
-                final int nth = i;
-                placeholders.registerStatic(String.format("top_%s_%s_%s", query.getCategory(), query.getTimeSpan(), nth),
-                        parameters -> database.query(query.getQuery(nth, parameters))
-                                .map(TopListQueries.TopListEntry::getPlayerName)
-                                .orElse("-"));
-                placeholders.registerStatic(String.format("top_%s_%s_%s_value", query.getCategory(), query.getTimeSpan(), nth),
-                        parameters -> database.query(query.getQuery(nth, parameters))
-                                .map(TopListQueries.TopListEntry::getValue)
-                                .map(formatters.timeAmount())
-                                .orElse("-"));
+            for (LeaderboardCache.Category category : LeaderboardCache.Category.values()) {
+                for (LeaderboardCache.TimeSpan timeSpan : LeaderboardCache.TimeSpan.values()) {
+                    final int nth = i;
+                    placeholders.registerStatic(String.format("top_%s_%s_%s", category.getName(), timeSpan.getName(), nth),
+                            parameters -> leaderboardCache.getNth(category, timeSpan, getServerUUID(parameters), nth)
+                                    .map(TopListQueries.TopListEntry::getPlayerName)
+                                    .orElse("-"));
+                    placeholders.registerStatic(String.format("top_%s_%s_%s_value", category.getName(), timeSpan.getName(), nth),
+                            parameters -> leaderboardCache.getNth(category, timeSpan, getServerUUID(parameters), nth)
+                                    .map(TopListQueries.TopListEntry::getValue)
+                                    .map(formatters.timeAmount())
+                                    .orElse("-"));
+                }
             }
         }
     }
-
-    private <T> List<TopCategoryQuery<T>> createCategoryQueriesForAllTimespans(String category, QueryCreator<T> queryCreator) {
-        return Arrays.asList(
-                new TopCategoryQuery<>(category, queryCreator, "month", TimeUnit.DAYS.toMillis(30)),
-                new TopCategoryQuery<>(category, queryCreator, "week", TimeUnit.DAYS.toMillis(7)),
-                new TopCategoryQuery<>(category, queryCreator, "day", TimeUnit.DAYS.toMillis(1)),
-                new TopCategoryQuery<>(category, queryCreator, "total", System.currentTimeMillis())
-        );
-    }
-
-    interface QueryCreator<T> {
-        Query<Optional<TopListQueries.TopListEntry<T>>> apply(Integer number, Long timespan, @Untrusted Arguments parameters);
-    }
-
-    public static class TopCategoryQuery<T> {
-        private final String category;
-        private final QueryCreator<T> queryCreator;
-        private final String timeSpan;
-        private final long timeSpanMillis;
-
-        public TopCategoryQuery(String category, QueryCreator<T> queryCreator, String timeSpan, long timespan) {
-            this.category = category;
-            this.queryCreator = queryCreator;
-            this.timeSpan = timeSpan;
-            this.timeSpanMillis = timespan;
-        }
-
-        public String getCategory() {
-            return category;
-        }
-
-        public String getTimeSpan() {
-            return timeSpan;
-        }
-
-        public Query<Optional<TopListQueries.TopListEntry<T>>> getQuery(int i, @Untrusted Arguments parameters) {
-            return queryCreator.apply(i, timeSpanMillis, parameters);
-        }
-    }
 }
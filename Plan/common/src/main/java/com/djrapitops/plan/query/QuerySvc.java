@@ -31,6 +31,7 @@ import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.sql.PreparedStatement;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -115,6 +116,18 @@ public class QuerySvc implements QueryService {
         });
     }
 
+    public void playersRemoved(Collection<UUID> playerUUIDs) {
+        playerRemoveSubscribers.forEach(subscriber -> {
+            try {
+                playerUUIDs.forEach(subscriber);
+            } catch (DBOpException e) {
+                errorLogger.warn(e, ErrorContext.builder()
+                        .whatToDo("Report to this Query API user " + subscriber.getClass().getName())
+                        .related("Subscriber: " + subscriber.getClass().getName()).build());
+            }
+        });
+    }
+
     public void dataCleared() {
         clearSubscribers.forEach(function -> {
             try {
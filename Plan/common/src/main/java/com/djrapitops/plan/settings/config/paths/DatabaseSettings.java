@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.settings.config.paths;
 
+import com.djrapitops.plan.settings.config.paths.key.BooleanSetting;
 import com.djrapitops.plan.settings.config.paths.key.IntegerSetting;
 import com.djrapitops.plan.settings.config.paths.key.Setting;
 import com.djrapitops.plan.settings.config.paths.key.StringSetting;
@@ -39,6 +40,11 @@ public class DatabaseSettings {
     public static final Setting<String> MYSQL_LAUNCH_OPTIONS = new StringSetting("Database.MySQL.Launch_options");
     public static final Setting<Integer> MAX_CONNECTIONS = new IntegerSetting("Database.MySQL.Max_connections", value -> value > 0);
     public static final Setting<Long> MAX_LIFETIME = new TimeSetting("Database.MySQL.Max_Lifetime");
+    public static final Setting<Boolean> MYSQL_REPLICA_ENABLED = new BooleanSetting("Database.MySQL.Read_replica.Enabled");
+    public static final Setting<String> MYSQL_REPLICA_HOST = new StringSetting("Database.MySQL.Read_replica.Host");
+    public static final Setting<String> MYSQL_REPLICA_PORT = new StringSetting("Database.MySQL.Read_replica.Port", NumberUtils::isParsable);
+    public static final Setting<Integer> MYSQL_REPLICA_MAX_CONNECTIONS = new IntegerSetting("Database.MySQL.Read_replica.Max_connections", value -> value > 0);
+    public static final Setting<Long> MYSQL_REPLICA_MAX_LAG = new TimeSetting("Database.MySQL.Read_replica.Max_lag");
 
     private DatabaseSettings() {
         /* static variable class */
@@ -53,6 +53,11 @@ public class WebserverSettings {
     public static final Setting<Long> INVALIDATE_MEMORY_CACHE = new TimeSetting("Webserver.Cache.Invalidate_memory_cache_after", TimeUnit.MINUTES.toMillis(5L));
     public static final Setting<Long> COOKIES_EXPIRE_AFTER = new TimeSetting("Webserver.Security.Cookies_expire_after", TimeUnit.HOURS.toMillis(2L));
     public static final Setting<Integer> REMOVE_ACCESS_LOG_AFTER_DAYS = new IntegerSetting("Webserver.Security.Access_log.Remove_logs_after_days");
+    public static final Setting<Integer> RATE_LIMIT_REQUESTS_PER_SECOND = new IntegerSetting("Webserver.Security.Rate_limit.Requests_per_second", value -> value >= 0);
+    public static final Setting<Integer> RATE_LIMIT_BURST = new IntegerSetting("Webserver.Security.Rate_limit.Burst", value -> value > 0);
+    public static final Setting<List<String>> LIMITED_ENDPOINTS = new StringListSetting("Webserver.Security.Rate_limit.Limited_endpoints.Paths");
+    public static final Setting<Integer> LIMITED_ENDPOINT_MAX_CONCURRENT = new IntegerSetting("Webserver.Security.Rate_limit.Limited_endpoints.Max_concurrent", value -> value > 0);
+    public static final Setting<Integer> LIMITED_ENDPOINT_MAX_QUEUED = new IntegerSetting("Webserver.Security.Rate_limit.Limited_endpoints.Max_queued", value -> value >= 0);
     private WebserverSettings() {
         /* static variable class */
     }
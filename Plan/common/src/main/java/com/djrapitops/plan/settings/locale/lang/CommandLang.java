@@ -85,7 +85,11 @@ public enum CommandLang implements Lang {
     HEADER_WEB_USER_LIST("command.header.webUserList", "Cmd Header - web user list", "username::linked to::permission level"),
 
     INFO_VERSION("command.subcommand.info.version", "Cmd Info - Version", "  §2Version: §f${0}"),
+    INFO_TRANSACTIONS("command.subcommand.info.transactions", "Cmd Info - Transaction queue", "  §2Transactions ${0}: §f${1} queued, ${2} executed, ${3} dropped"),
+    INFO_RATE_LIMITED("command.subcommand.info.rateLimited", "Cmd Info - Rate limited requests", "  §2Rate limited requests: §f${0}"),
+    INFO_REJECTED_REQUESTS("command.subcommand.info.rejectedRequests", "Cmd Info - Rejected requests", "  §2Rejected requests ${0}: §f${1}"),
     INFO_UPDATE("command.subcommand.info.update", "Cmd Info - Update", "  §2Update Available: §f${0}"),
+    INFO_EXTENSION_UPDATES("command.subcommand.info.extensionUpdates", "Cmd Info - Extension updates", "  §2Extension ${0}: §f${1} updates, ${2}ms avg, ${3}ms max, ${4} slow, ${5} pending"),
     INFO_DATABASE("command.subcommand.info.database", "Cmd Info - Database", "  §2Current Database: §f${0}"),
     INFO_PROXY_CONNECTION("command.subcommand.info.proxy", "Cmd Info - Bungee Connection", "  §2Connected to Proxy: §f${0}"),
     INFO_SERVER_UUID("command.subcommand.info.serverUUID", "Cmd Info - Server UUID", "  §2Server UUID: §f${0}"),
@@ -105,6 +109,7 @@ public enum CommandLang implements Lang {
 
     DB_BACKUP_CREATE("command.database.creatingBackup", "Cmd db - creating backup", "Creating a backup file '${0}.db' with contents of ${1}"),
     DB_WRITE("command.database.write", "Cmd db - write", "Writing to ${0}.."),
+    DB_COPY_PROGRESS("command.database.copyProgress", "Cmd db - copy progress", "Copying ${0}.. ${1}%"),
     DB_REMOVAL("command.database.removal", "Cmd db - removal", "Removing Plan-data from ${0}.."),
     DB_REMOVAL_PLAYER("command.database.playerRemoval", "Cmd db - removal player", "Removing data of ${0} from ${1}.."),
     DB_UNINSTALLED("command.database.serverUninstalled", "Cmd db - server uninstalled", "§aIf the server is still installed, it will automatically set itself as installed in the database."),
@@ -57,6 +57,40 @@ public interface Database {
      */
     <T> T query(Query<T> query);
 
+    /**
+     * Execute an SQL Query statement that does not need to see the latest writes.
+     * <p>
+     * The query may be executed on a read replica if one is configured, so the result can lag slightly behind.
+     * Meant for data shown on the website, use {@link #query(Query)} for everything else.
+     *
+     * @param query QueryStatement to execute.
+     * @param <T>   Type of the object to be returned.
+     * @return Result of the query.
+     */
+    default <T> T queryReadOnly(Query<T> query) {
+        return query(query);
+    }
+
+    /**
+     * Create a batch for running multiple independent queries.
+     * <p>
+     * Databases with a connection pool run the queries of the batch concurrently.
+     *
+     * @return new QueryBatch.
+     */
+    default QueryBatch queryBatch() {
+        return new QueryBatch(this, null);
+    }
+
+    /**
+     * Create a batch for running multiple independent queries with {@link #queryReadOnly(Query)}.
+     *
+     * @return new QueryBatch.
+     */
+    default QueryBatch queryBatchReadOnly() {
+        return new QueryBatch(this, null, true);
+    }
+
     default <T> Optional<T> queryOptional(String sql, RowExtractor<T> rowExtractor, Object... parameters) {
         return query(new QueryStatement<>(sql) {
             @Override
@@ -33,7 +33,9 @@ import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.pool.HikariPool;
 import dagger.Lazy;
+import net.playeranalytics.plugin.scheduling.PluginRunnable;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
@@ -56,6 +58,7 @@ public class MySQLDB extends SQLDB {
     private static boolean useMariaDbDriver = false;
 
     protected HikariDataSource dataSource;
+    private volatile MySQLReadReplica readReplica;
 
     @Inject
     public MySQLDB(
@@ -79,6 +82,26 @@ public class MySQLDB extends SQLDB {
         return DBType.MYSQL;
     }
 
+    /**
+     * Get the address of the main database, used to tell databases on different hosts apart.
+     *
+     * @return host:port/database
+     */
+    public String getDatabaseAddress() {
+        return config.get(DatabaseSettings.MYSQL_HOST) + ':' + config.get(DatabaseSettings.MYSQL_PORT)
+                + '/' + config.get(DatabaseSettings.MYSQL_DATABASE);
+    }
+
+    @Override
+    protected int getMaxConcurrentQueries() {
+        try {
+            // Leave half of the pool for transactions and other queries.
+            return Math.max(1, config.get(DatabaseSettings.MAX_CONNECTIONS) / 2);
+        } catch (IllegalStateException invalidSetting) {
+            return 1;
+        }
+    }
+
     @Override
     protected List<String> getDependencyResource() {
         try {
@@ -121,38 +144,11 @@ public class MySQLDB extends SQLDB {
 
     private void loadDataSource() {
         try {
-            HikariConfig hikariConfig = new HikariConfig();
-
-            String host = config.get(DatabaseSettings.MYSQL_HOST);
-            String port = config.get(DatabaseSettings.MYSQL_PORT);
-            String database = config.get(DatabaseSettings.MYSQL_DATABASE);
-            String launchOptions = config.get(DatabaseSettings.MYSQL_LAUNCH_OPTIONS);
-            // REGEX: match "?", match "word=word&" *-times, match "word=word"
-
-            if (launchOptions.isEmpty() || !launchOptions.matches("\\?((([\\w-])+=.+)&)*(([\\w-])+=.+)")) {
-                launchOptions = "?rewriteBatchedStatements=true&useSSL=false";
-                logger.error(locale.getString(PluginLang.DB_MYSQL_LAUNCH_OPTIONS_FAIL, launchOptions));
-            }
-            hikariConfig.setDriverClassName(useMariaDbDriver ? "org.mariadb.jdbc.Driver" : "com.mysql.cj.jdbc.Driver");
-            String protocol = useMariaDbDriver ? "jdbc:mariadb" : "jdbc:mysql";
-            hikariConfig.setJdbcUrl(protocol + "://" + host + ":" + port + "/" + database + launchOptions);
-
-            String username = config.get(DatabaseSettings.MYSQL_USER);
-            String password = config.get(DatabaseSettings.MYSQL_PASS);
-
-            hikariConfig.setUsername(username);
-            hikariConfig.setPassword(password);
-            hikariConfig.addDataSourceProperty("connectionInitSql", "set time_zone = '+00:00'");
-
-            hikariConfig.setPoolName("Plan Connection Pool-" + increment);
-            increment();
-
-            hikariConfig.setAutoCommit(false);
+            HikariConfig hikariConfig = createHikariConfig(config.get(DatabaseSettings.MYSQL_HOST), config.get(DatabaseSettings.MYSQL_PORT));
             setMaxConnections(hikariConfig);
-            hikariConfig.setMaxLifetime(config.get(DatabaseSettings.MAX_LIFETIME));
-            hikariConfig.setLeakDetectionThreshold(config.get(DatabaseSettings.MAX_LIFETIME) + TimeUnit.SECONDS.toMillis(4L));
 
             this.dataSource = new HikariDataSource(hikariConfig);
+            loadReadReplica();
         } catch (HikariPool.PoolInitializationException e) {
             if (e.getMessage().contains("Unknown system variable 'transaction_isolation'")) {
                 throw new MariaDB11Exception("MySQL driver is incompatible with database that is being used.", e);
@@ -167,6 +163,74 @@ public class MySQLDB extends SQLDB {
         }
     }
 
+    private void loadReadReplica() {
+        if (!config.isTrue(DatabaseSettings.MYSQL_REPLICA_ENABLED)) return;
+        try {
+            HikariConfig hikariConfig = createHikariConfig(config.get(DatabaseSettings.MYSQL_REPLICA_HOST), config.get(DatabaseSettings.MYSQL_REPLICA_PORT));
+            hikariConfig.setPoolName(hikariConfig.getPoolName() + "-replica");
+            hikariConfig.setMaximumPoolSize(config.get(DatabaseSettings.MYSQL_REPLICA_MAX_CONNECTIONS));
+            hikariConfig.setReadOnly(true);
+            hikariConfig.setConnectionInitSql("set time_zone = '+00:00'");
+
+            readReplica = new MySQLReadReplica(new HikariDataSource(hikariConfig), config.get(DatabaseSettings.MYSQL_REPLICA_MAX_LAG), logger);
+            readReplica.checkLag();
+            registerReplicaLagCheckTask();
+        } catch (HikariPool.PoolInitializationException | IllegalStateException e) {
+            // Reads can still use the main database
+            logger.warn("Failed to set-up read replica, using main database for all queries: " + e.getMessage());
+            readReplica = null;
+        }
+    }
+
+    private void registerReplicaLagCheckTask() {
+        try {
+            runnableFactory.create(new PluginRunnable() {
+                @Override
+                public void run() {
+                    MySQLReadReplica replica = readReplica;
+                    if (getState() == State.CLOSED || replica == null) {
+                        cancel();
+                        return;
+                    }
+                    replica.checkLag();
+                }
+            }).runTaskTimerAsynchronously(TimeAmount.toTicks(10, TimeUnit.SECONDS), TimeAmount.toTicks(10, TimeUnit.SECONDS));
+        } catch (Exception ignore) {
+            // Task failed to register because plugin is being disabled
+        }
+    }
+
+    private HikariConfig createHikariConfig(String host, String port) {
+        HikariConfig hikariConfig = new HikariConfig();
+
+        String database = config.get(DatabaseSettings.MYSQL_DATABASE);
+        String launchOptions = config.get(DatabaseSettings.MYSQL_LAUNCH_OPTIONS);
+        // REGEX: match "?", match "word=word&" *-times, match "word=word"
+
+        if (launchOptions.isEmpty() || !launchOptions.matches("\\?((([\\w-])+=.+)&)*(([\\w-])+=.+)")) {
+            launchOptions = "?rewriteBatchedStatements=true&useSSL=false";
+            logger.error(locale.getString(PluginLang.DB_MYSQL_LAUNCH_OPTIONS_FAIL, launchOptions));
+        }
+        hikariConfig.setDriverClassName(useMariaDbDriver ? "org.mariadb.jdbc.Driver" : "com.mysql.cj.jdbc.Driver");
+        String protocol = useMariaDbDriver ? "jdbc:mariadb" : "jdbc:mysql";
+        hikariConfig.setJdbcUrl(protocol + "://" + host + ":" + port + "/" + database + launchOptions);
+
+        String username = config.get(DatabaseSettings.MYSQL_USER);
+        String password = config.get(DatabaseSettings.MYSQL_PASS);
+
+        hikariConfig.setUsername(username);
+        hikariConfig.setPassword(password);
+        hikariConfig.addDataSourceProperty("connectionInitSql", "set time_zone = '+00:00'");
+
+        hikariConfig.setPoolName("Plan Connection Pool-" + increment);
+        increment();
+
+        hikariConfig.setAutoCommit(false);
+        hikariConfig.setMaxLifetime(config.get(DatabaseSettings.MAX_LIFETIME));
+        hikariConfig.setLeakDetectionThreshold(config.get(DatabaseSettings.MAX_LIFETIME) + TimeUnit.SECONDS.toMillis(4L));
+        return hikariConfig;
+    }
+
     private void checkMariaDBVersionIncompatibility() {
         executeTransaction(new OperationCriticalTransaction() {
             @Override
@@ -208,12 +272,21 @@ public class MySQLDB extends SQLDB {
     }
 
     @Override
-    public synchronized Connection getConnection() throws SQLException {
+    public Connection getConnection() throws SQLException {
+        MySQLReadReplica replica = readReplica;
+        if (replica != null && isReadOnlyQuery()) {
+            Connection replicaConnection = replica.getConnection();
+            if (replicaConnection != null) return replicaConnection;
+        }
+        return getPrimaryConnection();
+    }
+
+    private synchronized Connection getPrimaryConnection() throws SQLException {
         Connection connection = dataSource.getConnection();
         if (!connection.isValid(5)) {
             connection.close();
             try {
-                return getConnection();
+                return getPrimaryConnection();
             } catch (StackOverflowError databaseHasGoneDown) {
                 throw new DBOpException("Valid connection could not be fetched (Is MySQL down?) - attempted until StackOverflowError occurred.", databaseHasGoneDown);
             }
@@ -233,6 +306,10 @@ public class MySQLDB extends SQLDB {
     public void close() {
         super.close();
 
+        if (readReplica != null) {
+            readReplica.close();
+            readReplica = null;
+        }
         if (dataSource != null) dataSource.close();
     }
 
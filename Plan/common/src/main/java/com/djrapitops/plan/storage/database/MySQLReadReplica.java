@@ -0,0 +1,125 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.playeranalytics.plugin.server.PluginLogger;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read replica of a MySQL database that read only queries can be sent to.
+ * <p>
+ * Replication lag is checked periodically with {@link #checkLag()}.
+ * Connections are only given out while the replica is reachable and is at most the allowed amount behind.
+ *
+ * @author AuroraLS3
+ */
+class MySQLReadReplica {
+
+    private final HikariDataSource dataSource;
+    private final long maxLagMs;
+    private final PluginLogger logger;
+
+    private volatile boolean checked = false;
+    private volatile boolean usable = false;
+
+    MySQLReadReplica(HikariDataSource dataSource, long maxLagMs, PluginLogger logger) {
+        this.dataSource = dataSource;
+        this.maxLagMs = maxLagMs;
+        this.logger = logger;
+    }
+
+    /**
+     * Get a connection to the replica.
+     *
+     * @return Connection, or null if the replica is lagging or down and the main database should be used.
+     */
+    Connection getConnection() {
+        if (!usable) return null;
+        try {
+            // Time zone is set by connectionInitSql of the pool when the connection is created.
+            Connection connection = dataSource.getConnection();
+            if (connection.getAutoCommit()) connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException e) {
+            setUsable(false, "connection failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    void checkLag() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            OptionalLong lagSeconds = getLagSeconds(statement);
+            if (lagSeconds.isEmpty()) {
+                setUsable(false, "replication is not running or its status is not known");
+            } else if (TimeUnit.SECONDS.toMillis(lagSeconds.getAsLong()) > maxLagMs) {
+                setUsable(false, "replication is " + lagSeconds.getAsLong() + "s behind");
+            } else {
+                setUsable(true, null);
+            }
+        } catch (SQLException e) {
+            setUsable(false, "lag check failed: " + e.getMessage());
+        }
+    }
+
+    private OptionalLong getLagSeconds(Statement statement) throws SQLException {
+        SQLException previous;
+        try {
+            return getLagSeconds(statement, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (SQLException olderVersion) {
+            previous = olderVersion;
+        }
+        try {
+            return getLagSeconds(statement, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        } catch (SQLException e) {
+            e.addSuppressed(previous);
+            throw e;
+        }
+    }
+
+    private OptionalLong getLagSeconds(Statement statement, String sql, String column) throws SQLException {
+        try (ResultSet set = statement.executeQuery(sql)) {
+            // Host does not replicate from anywhere, or status is not visible to the user. Lag is not known.
+            if (!set.next()) return OptionalLong.empty();
+            long lag = set.getLong(column);
+            return set.wasNull() ? OptionalLong.empty() : OptionalLong.of(lag);
+        }
+    }
+
+    private void setUsable(boolean usable, String reason) {
+        if (checked && this.usable == usable) return;
+        this.checked = true;
+        this.usable = usable;
+        if (usable) {
+            logger.info("Read replica is up to date, website queries are sent to the replica.");
+        } else {
+            logger.warn("Read replica can not be used (" + reason + "), website queries are sent to the main database.");
+        }
+    }
+
+    void close() {
+        usable = false;
+        dataSource.close();
+    }
+}
@@ -27,8 +27,10 @@ import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.OperationCriticalTransaction;
@@ -84,7 +86,10 @@ public abstract class SQLDB extends AbstractDatabase {
 
     private Supplier<ExecutorService> transactionExecutorServiceProvider;
     private ExecutorService transactionExecutor;
+    private ExecutorService queryBatchExecutor;
+    private final ThreadLocal<Boolean> readOnlyQuery = new ThreadLocal<>();
 
+    private final TransactionQueue transactionQueue = new TransactionQueue();
     private final AtomicInteger transactionQueueSize = new AtomicInteger(0);
     private final AtomicBoolean dropUnimportantTransactions = new AtomicBoolean(false);
     private final AtomicBoolean ranIntoFatalError = new AtomicBoolean(false);
@@ -247,7 +252,12 @@ public abstract class SQLDB extends AbstractDatabase {
                 new WebGroupDefaultGroupsPatch(),
                 new WebGroupAddMissingAdminGroupPatch(),
                 new LegacyPermissionLevelGroupsPatch(),
-                new SecurityTableGroupPatch()
+                new SecurityTableGroupPatch(),
+                new DailyPingBackfillPatch(config.getTimeZone()),
+                new DailyPingUniquePatch(),
+                new UserSummaryBackfillPatch(),
+                new UserSummaryUniquePatch(),
+                new ServerLifecycleBackfillPatch()
         };
     }
 
@@ -309,6 +319,7 @@ public abstract class SQLDB extends AbstractDatabase {
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
         closeTransactionExecutor(transactionExecutor);
+        closeQueryBatchExecutor();
         unloadDriverClassloader();
         setState(State.CLOSED);
     }
@@ -326,11 +337,78 @@ public abstract class SQLDB extends AbstractDatabase {
 
     @Override
     public <T> T query(Query<T> query) {
-        return accessLock.performDatabaseOperation(() -> query.executeQuery(this));
+        return accessLock.performDatabaseOperation(() -> executeQuery(query, false));
+    }
+
+    @Override
+    public <T> T queryReadOnly(Query<T> query) {
+        return accessLock.performDatabaseOperation(() -> executeQuery(query, true));
+    }
+
+    private <T> T executeQuery(Query<T> query, boolean readOnly) {
+        if (readOnlyQuery.get() != null) {
+            // Nested query, keep the decision of the outermost query
+            return query.executeQuery(this);
+        }
+        readOnlyQuery.set(readOnly);
+        try {
+            return query.executeQuery(this);
+        } finally {
+            readOnlyQuery.remove();
+        }
+    }
+
+    /**
+     * Check if connection is being requested for a query made with {@link #queryReadOnly(Query)}.
+     * <p>
+     * Such queries do not need to see the latest writes, so they can be executed on a read replica.
+     *
+     * @return true if connection is only used for reading.
+     */
+    protected boolean isReadOnlyQuery() {
+        return Boolean.TRUE.equals(readOnlyQuery.get());
+    }
+
+    @Override
+    public QueryBatch queryBatch() {
+        return new QueryBatch(this, getQueryBatchExecutor());
+    }
+
+    @Override
+    public QueryBatch queryBatchReadOnly() {
+        return new QueryBatch(this, getQueryBatchExecutor(), true);
+    }
+
+    /**
+     * How many queries can be run at the same time.
+     *
+     * @return 1 if the database has only one connection.
+     */
+    protected int getMaxConcurrentQueries() {
+        return 1;
+    }
+
+    private synchronized ExecutorService getQueryBatchExecutor() {
+        int threads = getMaxConcurrentQueries();
+        if (threads <= 1 || getState() == State.CLOSED) return null;
+        if (queryBatchExecutor == null || queryBatchExecutor.isShutdown()) {
+            queryBatchExecutor = Executors.newFixedThreadPool(threads, new BasicThreadFactory.Builder()
+                    .namingPattern("Plan " + getClass().getSimpleName() + "-query-thread-%d")
+                    .daemon(true)
+                    .build());
+        }
+        return queryBatchExecutor;
+    }
+
+    private synchronized void closeQueryBatchExecutor() {
+        if (queryBatchExecutor != null) {
+            queryBatchExecutor.shutdownNow();
+            queryBatchExecutor = null;
+        }
     }
 
     public <T> T queryWithinTransaction(Query<T> query, Transaction transaction) {
-        return accessLock.performDatabaseOperation(() -> query.executeQuery(this), transaction);
+        return accessLock.performDatabaseOperation(() -> executeQuery(query, false), transaction);
     }
 
     @Override
@@ -341,35 +419,44 @@ public abstract class SQLDB extends AbstractDatabase {
 
         Exception origin = new Exception();
 
-        if (determineIfShouldDropUnimportantTransactions(transactionQueueSize.incrementAndGet())
-                && transaction instanceof ThrowawayTransaction) {
-            // Drop throwaway transaction immediately.
-            return CompletableFuture.completedFuture(null);
-        }
-
-        return CompletableFuture.supplyAsync(() -> {
+        TransactionPriority priority = transaction.getPriority();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        transactionQueueSize.incrementAndGet();
+        boolean queued = transactionQueue.offer(priority, () -> {
             try {
                 accessLock.performDatabaseOperation(() -> {
                     if (!ranIntoFatalError.get()) {transaction.executeTransaction(this);}
                 }, transaction);
-                return CompletableFuture.completedFuture(null);
+                if (transaction instanceof ThrowawayTransaction && ((ThrowawayTransaction) transaction).wasThrownAway()) {
+                    transactionQueue.markDropped(priority);
+                }
+                result.complete(null);
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(new CompletionException(e));
             } finally {
                 transactionQueueSize.decrementAndGet();
             }
-        }, getTransactionExecutor()).exceptionally(errorHandler(transaction, origin));
+        });
+        checkLaneCapacity(priority);
+        if (!queued) {
+            // Lane is full, drop the transaction immediately.
+            transactionQueueSize.decrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        getTransactionExecutor().execute(transactionQueue::runNext);
+        return result.exceptionally(errorHandler(transaction, origin));
     }
 
-    private boolean determineIfShouldDropUnimportantTransactions(int queueSize) {
-        boolean dropTransactions = dropUnimportantTransactions.get();
-        if (queueSize >= 500 && !dropTransactions) {
-            logger.warn("Database queue size: " + queueSize + ", dropping some unimportant transactions. If this keeps happening disable some extensions or optimize MySQL.");
-            dropUnimportantTransactions.set(true);
-            return true;
-        } else if (queueSize < 50 && dropTransactions) {
-            dropUnimportantTransactions.set(false);
-            return false;
+    private void checkLaneCapacity(TransactionPriority priority) {
+        int queueSize = transactionQueue.getSize(priority);
+        if (transactionQueue.isFull(priority)) {
+            if (priority.isDroppable() && !dropUnimportantTransactions.getAndSet(true)) {
+                logger.warn("Database queue size: " + queueSize + " for " + priority + " transactions, dropping some unimportant transactions. If this keeps happening disable some extensions or optimize MySQL.");
+            } else if (!priority.isDroppable() && queueSize == priority.getCapacity()) {
+                logger.warn("Database queue size: " + queueSize + " for " + priority + " transactions. If this keeps happening disable some extensions or optimize MySQL.");
+            }
         }
-        return dropTransactions;
     }
 
     private Function<Throwable, CompletableFuture<Object>> errorHandler(Transaction transaction, Exception origin) {
@@ -444,10 +531,26 @@ public abstract class SQLDB extends AbstractDatabase {
     }
 
     public boolean shouldDropUnimportantTransactions() {
+        if (dropUnimportantTransactions.get()
+                && transactionQueue.getSize(TransactionPriority.BULK) < TransactionPriority.BULK.getCapacity() / 10) {
+            dropUnimportantTransactions.set(false);
+        }
         return dropUnimportantTransactions.get();
     }
 
     public int getTransactionQueueSize() {
         return transactionQueueSize.get();
     }
+
+    public int getTransactionQueueSize(TransactionPriority priority) {
+        return transactionQueue.getSize(priority);
+    }
+
+    public long getExecutedTransactionCount(TransactionPriority priority) {
+        return transactionQueue.getExecutedCount(priority);
+    }
+
+    public long getDroppedTransactionCount(TransactionPriority priority) {
+        return transactionQueue.getDroppedCount(priority);
+    }
 }
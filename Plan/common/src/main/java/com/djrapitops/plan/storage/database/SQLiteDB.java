@@ -189,6 +189,10 @@ public class SQLiteDB extends SQLDB {
         return DBType.SQLITE;
     }
 
+    public String getDbName() {
+        return dbName;
+    }
+
     @Override
     public Connection getConnection() throws SQLException {
         if (connection == null) {
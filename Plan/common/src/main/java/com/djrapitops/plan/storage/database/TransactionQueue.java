@@ -0,0 +1,129 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue of transaction tasks with a separate lane for each {@link TransactionPriority}.
+ * <p>
+ * One task is taken from the highest priority lane that has tasks each time {@link #runNext()} is called.
+ *
+ * @author AuroraLS3
+ */
+class TransactionQueue {
+
+    private final Map<TransactionPriority, Lane> lanes;
+
+    TransactionQueue() {
+        lanes = new EnumMap<>(TransactionPriority.class);
+        for (TransactionPriority priority : TransactionPriority.values()) {
+            lanes.put(priority, new Lane(priority));
+        }
+    }
+
+    /**
+     * Add a task to the lane of given priority.
+     *
+     * @param priority Priority of the task.
+     * @param task     Task to execute.
+     * @return false if the lane was full and the task was dropped.
+     */
+    boolean offer(TransactionPriority priority, Runnable task) {
+        return lanes.get(priority).offer(task);
+    }
+
+    /**
+     * Run the first task of the highest priority lane that has tasks.
+     */
+    void runNext() {
+        for (Lane lane : lanes.values()) {
+            Runnable task = lane.poll();
+            if (task != null) {
+                task.run();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Count a task that was taken from the lane but skipped during execution as dropped instead of executed.
+     *
+     * @param priority Lane of the task.
+     */
+    void markDropped(TransactionPriority priority) {
+        Lane lane = lanes.get(priority);
+        lane.executed.decrementAndGet();
+        lane.dropped.incrementAndGet();
+    }
+
+    boolean isFull(TransactionPriority priority) {
+        return getSize(priority) >= priority.getCapacity();
+    }
+
+    int getSize(TransactionPriority priority) {
+        return lanes.get(priority).size.get();
+    }
+
+    long getExecutedCount(TransactionPriority priority) {
+        return lanes.get(priority).executed.get();
+    }
+
+    long getDroppedCount(TransactionPriority priority) {
+        return lanes.get(priority).dropped.get();
+    }
+
+    private static class Lane {
+        private final TransactionPriority priority;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger(0);
+        private final AtomicLong executed = new AtomicLong(0);
+        private final AtomicLong dropped = new AtomicLong(0);
+
+        private Lane(TransactionPriority priority) {
+            this.priority = priority;
+        }
+
+        boolean offer(Runnable task) {
+            if (priority.isDroppable() && size.incrementAndGet() > priority.getCapacity()) {
+                size.decrementAndGet();
+                dropped.incrementAndGet();
+                return false;
+            } else if (!priority.isDroppable()) {
+                size.incrementAndGet();
+            }
+            tasks.offer(task);
+            return true;
+        }
+
+        Runnable poll() {
+            Runnable task = tasks.poll();
+            if (task != null) {
+                size.decrementAndGet();
+                executed.incrementAndGet();
+            }
+            return task;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
@@ -58,6 +59,29 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Add a session to the totals of the player on the server.
+     *
+     * @param session Session that was stored.
+     * @param dbType  Type of the database the statement is executed on.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeUserSummary(FinishedSession session, DBType dbType) {
+        return new ExecStatement(UserSummaryTable.upsertStatement(dbType)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, session.getPlayerUUID().toString());
+                statement.setString(2, session.getServerUUID().toString());
+                statement.setString(3, session.getPlayerUUID().toString());
+                statement.setString(4, session.getServerUUID().toString());
+                statement.setLong(5, session.getStart());
+                statement.setLong(6, session.getEnd());
+                statement.setLong(7, session.getLength());
+                statement.setLong(8, session.getLength() - session.getAfkTime());
+            }
+        };
+    }
+
     private static Executable storeSessionInformation(FinishedSession session) {
         return new ExecStatement(SessionsTable.INSERT_STATEMENT) {
             @Override
@@ -237,6 +261,34 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Add rolled up Ping data of a player to the row of the day, inserting the row if it doesn't exist yet.
+     *
+     * @param playerUUID UUID of the player.
+     * @param ping       Rolled up ping, dated at the start of the day.
+     * @param dbType     Type of the database the statement is executed on.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeDailyPing(UUID playerUUID, DailyPing ping, DBType dbType) {
+        return new ExecStatement(DailyPingTable.upsertStatement(dbType)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int[] samples = ping.getSamples();
+                statement.setString(1, playerUUID.toString());
+                statement.setString(2, ping.getServerUUID().toString());
+                statement.setLong(3, ping.getDate());
+                statement.setInt(4, ping.getMin());
+                statement.setInt(5, ping.getMax());
+                statement.setDouble(6, ping.getPingSum());
+                statement.setInt(7, ping.getPingCount());
+                statement.setInt(8, samples[0]);
+                statement.setInt(9, samples[1]);
+                statement.setInt(10, samples[2]);
+                statement.setInt(11, samples[3]);
+            }
+        };
+    }
+
     /**
      * Store TPS data of a server.
      *
@@ -315,4 +367,23 @@ public class DataStoreQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Store a start or stop event of a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @param event      {@link ServerLifecycleTable#EVENT_START} or {@link ServerLifecycleTable#EVENT_STOP}.
+     * @param date       Epoch ms the event happened.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeServerLifecycleEvent(ServerUUID serverUUID, String event, long date) {
+        return new ExecStatement(ServerLifecycleTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, event);
+                statement.setLong(3, date);
+            }
+        };
+    }
+}
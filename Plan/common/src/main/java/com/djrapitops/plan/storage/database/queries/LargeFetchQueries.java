@@ -25,6 +25,7 @@ import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -41,6 +42,19 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class LargeFetchQueries {
 
+    private static final String SELECT_ALL_TPS_DATA = SELECT +
+            TPSTable.DATE + ',' +
+            TPSTable.TPS + ',' +
+            TPSTable.PLAYERS_ONLINE + ',' +
+            TPSTable.CPU_USAGE + ',' +
+            TPSTable.RAM_USAGE + ',' +
+            TPSTable.ENTITIES + ',' +
+            TPSTable.CHUNKS + ',' +
+            TPSTable.FREE_DISK + ',' +
+            ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as s_uuid" +
+            FROM + TPSTable.TABLE_NAME +
+            INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.ID + "=" + TPSTable.SERVER_ID;
+
     private LargeFetchQueries() {
         /* Static method class */
     }
@@ -51,44 +65,81 @@ public class LargeFetchQueries {
      * @return Map: Server UUID - List of TPS data
      */
     public static Query<Map<ServerUUID, List<TPS>>> fetchAllTPSData() {
-        String serverIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.ID;
-        String serverUUIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as s_uuid";
-        String sql = SELECT +
-                TPSTable.DATE + ',' +
-                TPSTable.TPS + ',' +
-                TPSTable.PLAYERS_ONLINE + ',' +
-                TPSTable.CPU_USAGE + ',' +
-                TPSTable.RAM_USAGE + ',' +
-                TPSTable.ENTITIES + ',' +
-                TPSTable.CHUNKS + ',' +
-                TPSTable.FREE_DISK + ',' +
-                serverUUIDColumn +
-                FROM + TPSTable.TABLE_NAME +
-                INNER_JOIN + ServerTable.TABLE_NAME + " on " + serverIDColumn + "=" + TPSTable.SERVER_ID;
-
-        return new QueryAllStatement<>(sql, 50000) {
+        return new QueryAllStatement<>(SELECT_ALL_TPS_DATA, 50000) {
             @Override
             public Map<ServerUUID, List<TPS>> processResults(ResultSet set) throws SQLException {
-                Map<ServerUUID, List<TPS>> serverMap = new HashMap<>();
-                while (set.next()) {
-                    ServerUUID serverUUID = ServerUUID.fromString(set.getString("s_uuid"));
-
-                    List<TPS> tpsList = serverMap.computeIfAbsent(serverUUID, Lists::create);
-
-                    TPS tps = TPSBuilder.get()
-                            .date(set.getLong(TPSTable.DATE))
-                            .tps(set.getDouble(TPSTable.TPS))
-                            .playersOnline(set.getInt(TPSTable.PLAYERS_ONLINE))
-                            .usedCPU(set.getDouble(TPSTable.CPU_USAGE))
-                            .usedMemory(set.getLong(TPSTable.RAM_USAGE))
-                            .entities(set.getInt(TPSTable.ENTITIES))
-                            .chunksLoaded(set.getInt(TPSTable.CHUNKS))
-                            .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
-                            .toTPS();
-
-                    tpsList.add(tps);
-                }
-                return serverMap;
+                return extractTPSDataByServer(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for TPS data of a range of TPS row ids.
+     * <p>
+     * Allows going through the whole table in pages without loading all of it into memory.
+     *
+     * @param afterId TPS row id to start after (exclusive).
+     * @param upToId  Last TPS row id to include (inclusive).
+     * @return Map: Server UUID - List of TPS data
+     */
+    public static Query<Map<ServerUUID, List<TPS>>> fetchTPSDataOfIdRange(int afterId, int upToId) {
+        String tpsIDColumn = TPSTable.TABLE_NAME + '.' + TPSTable.ID;
+        String sql = SELECT_ALL_TPS_DATA +
+                WHERE + tpsIDColumn + ">?" +
+                AND + tpsIDColumn + "<=?";
+
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, upToId);
+            }
+
+            @Override
+            public Map<ServerUUID, List<TPS>> processResults(ResultSet set) throws SQLException {
+                return extractTPSDataByServer(set);
+            }
+        };
+    }
+
+    private static Map<ServerUUID, List<TPS>> extractTPSDataByServer(ResultSet set) throws SQLException {
+        Map<ServerUUID, List<TPS>> serverMap = new HashMap<>();
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString("s_uuid"));
+
+            List<TPS> tpsList = serverMap.computeIfAbsent(serverUUID, Lists::create);
+
+            TPS tps = TPSBuilder.get()
+                    .date(set.getLong(TPSTable.DATE))
+                    .tps(set.getDouble(TPSTable.TPS))
+                    .playersOnline(set.getInt(TPSTable.PLAYERS_ONLINE))
+                    .usedCPU(set.getDouble(TPSTable.CPU_USAGE))
+                    .usedMemory(set.getLong(TPSTable.RAM_USAGE))
+                    .entities(set.getInt(TPSTable.ENTITIES))
+                    .chunksLoaded(set.getInt(TPSTable.CHUNKS))
+                    .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
+                    .toTPS();
+
+            tpsList.add(tps);
+        }
+        return serverMap;
+    }
+
+    /**
+     * Query database for the largest row id of a table.
+     * <p>
+     * Used as the upper bound when going through a whole table in id ranges.
+     *
+     * @param tableName Name of the table, the table needs to have an {@code id} column.
+     * @return Largest id in the table, or 0 if the table is empty.
+     */
+    public static Query<Integer> fetchLargestId(String tableName) {
+        String sql = SELECT + "MAX(" + ID + ") as largest_id" + FROM + tableName;
+
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("largest_id") : 0;
             }
         };
     }
@@ -348,6 +348,8 @@ public class LargeStoreQueries {
     }
 
     private static Executable storeAllWorldNames(Collection<FinishedSession> sessions, Set<World> existingWorlds) {
+        // Worlds are stored before the sessions, since StoreWorldNameTransactions in lower priority lanes
+        // might not have been executed yet. Names are truncated the same way so that those are not stored twice.
         Set<World> worlds = sessions.stream().flatMap(session -> {
                     ServerUUID serverUUID = session.getServerUUID();
                     return session.getExtraData(WorldTimes.class)
@@ -355,7 +357,7 @@ public class LargeStoreQueries {
                             .map(Map::keySet)
                             .orElseGet(Collections::emptySet)
                             .stream()
-                            .map(worldName -> new World(worldName, serverUUID));
+                            .map(worldName -> new World(StringUtils.truncate(worldName, 100), serverUUID));
                 }).filter(world -> !existingWorlds.contains(world))
                 .collect(Collectors.toSet());
 
@@ -430,6 +432,34 @@ public class LargeStoreQueries {
         };
     }
 
+    public static Executable storeAllDailyPingData(Map<UUID, List<DailyPing>> ofUsers) {
+        if (ofUsers == null || ofUsers.isEmpty()) return Executable.empty();
+
+        return new ExecBatchStatement(DailyPingTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<UUID, List<DailyPing>> entry : ofUsers.entrySet()) {
+                    UUID uuid = entry.getKey();
+                    for (DailyPing ping : entry.getValue()) {
+                        int[] samples = ping.getSamples();
+                        statement.setString(1, uuid.toString());
+                        statement.setString(2, ping.getServerUUID().toString());
+                        statement.setLong(3, ping.getDate());
+                        statement.setInt(4, ping.getMin());
+                        statement.setInt(5, ping.getMax());
+                        statement.setDouble(6, ping.getPingSum());
+                        statement.setInt(7, ping.getPingCount());
+                        statement.setInt(8, samples[0]);
+                        statement.setInt(9, samples[1]);
+                        statement.setInt(10, samples[2]);
+                        statement.setInt(11, samples[3]);
+                        statement.addBatch();
+                    }
+                }
+            }
+        };
+    }
+
     public static Executable storeGroupNames(List<String> groups) {
         if (groups == null || groups.isEmpty()) return Executable.empty();
 
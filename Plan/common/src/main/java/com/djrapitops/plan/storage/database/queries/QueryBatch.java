@@ -0,0 +1,121 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.storage.database.Database;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs a group of independent queries, concurrently if the database allows it.
+ * <p>
+ * Obtain with {@link Database#queryBatch()}, add all queries and then call get on the results.
+ * If there is no executor (SQLite has a single connection) queries are run one after another when they are added.
+ * <p>
+ * If one of the queries fails, queries of the batch that have not started yet are cancelled,
+ * and the original failure is thrown when any of the cancelled results is requested.
+ *
+ * @author AuroraLS3
+ */
+public class QueryBatch {
+
+    private final Database db;
+    private final Executor executor;
+    private final boolean readOnly;
+
+    private final Queue<CompletableFuture<?>> running = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public QueryBatch(Database db, Executor executor) {
+        this(db, executor, false);
+    }
+
+    /**
+     * Create a new batch.
+     *
+     * @param db       Database to query.
+     * @param executor Executor to run the queries on, null to run them one after another.
+     * @param readOnly Use {@link Database#queryReadOnly(Query)} for the queries.
+     */
+    public QueryBatch(Database db, Executor executor, boolean readOnly) {
+        this.db = db;
+        this.executor = executor;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Add a query to the batch.
+     *
+     * @param query Query to run.
+     * @param <T>   Type of the result.
+     * @return Supplier that waits for the result of the query when called.
+     * @throws com.djrapitops.plan.exceptions.database.DBOpException If the query fails (when result is requested).
+     */
+    public <T> Supplier<T> add(Query<T> query) {
+        if (executor == null) {
+            T result = runQuery(query);
+            return () -> result;
+        }
+        try {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> runQuery(query), executor);
+            running.add(future);
+            future.whenComplete((result, error) -> {
+                if (error != null) cancelRemaining(error);
+            });
+            if (failure.get() != null) future.cancel(false);
+            return () -> join(future);
+        } catch (RejectedExecutionException executorClosed) {
+            T result = runQuery(query);
+            return () -> result;
+        }
+    }
+
+    private <T> T runQuery(Query<T> query) {
+        return readOnly ? db.queryReadOnly(query) : db.query(query);
+    }
+
+    private void cancelRemaining(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException) return;
+        if (failure.compareAndSet(null, cause)) {
+            for (CompletableFuture<?> future : running) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CancellationException cancelled) {
+            Throwable cause = failure.get();
+            if (cause == null) throw cancelled;
+            throw rethrow(cause);
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        throw new CompletionException(cause);
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries.analysis;
 
+import com.djrapitops.plan.delivery.domain.ActivityCounts;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -177,6 +179,110 @@ public class PlayerCountQueries {
         };
     }
 
+    /**
+     * Fetch unique players, new players, playtime and session count of each day on a server with one query.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @param serverUUID     UUID of the Plan server
+     * @return Map: Epoch ms (Start of day at 0 AM, no offset) - Activity of that day
+     */
+    public static Query<NavigableMap<Long, ActivityCounts>> activityPerDay(long after, long before, long timeZoneOffset, ServerUUID serverUUID) {
+        return activityCounts(after, before, timeZoneOffset, serverUUID, false);
+    }
+
+    /**
+     * Fetch unique players, new players, playtime and session count of each hour on a server with one query.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @param serverUUID     UUID of the Plan server
+     * @return Map: Epoch ms (Start of hour, no offset) - Activity of that hour
+     */
+    public static Query<NavigableMap<Long, ActivityCounts>> hourlyActivity(long after, long before, long timeZoneOffset, ServerUUID serverUUID) {
+        return activityCounts(after, before, timeZoneOffset, serverUUID, true);
+    }
+
+    /**
+     * Fetch unique players, new players, playtime and session count of each day on ALL servers with one query.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @return Map: Epoch ms (Start of day at 0 AM, no offset) - Activity of that day
+     */
+    public static Query<NavigableMap<Long, ActivityCounts>> activityPerDay(long after, long before, long timeZoneOffset) {
+        return activityCounts(after, before, timeZoneOffset, null, false);
+    }
+
+    /**
+     * Fetch unique players, new players, playtime and session count of each hour on ALL servers with one query.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @return Map: Epoch ms (Start of hour, no offset) - Activity of that hour
+     */
+    public static Query<NavigableMap<Long, ActivityCounts>> hourlyActivity(long after, long before, long timeZoneOffset) {
+        return activityCounts(after, before, timeZoneOffset, null, true);
+    }
+
+    private static Query<NavigableMap<Long, ActivityCounts>> activityCounts(long after, long before, long timeZoneOffset, ServerUUID serverUUID, boolean hourly) {
+        return database -> {
+            Sql sql = database.getSql();
+            UnaryOperator<String> toStamp = hourly ? sql::dateToHourStamp : sql::dateToDayStamp;
+            boolean network = serverUUID == null;
+            String registerTable = network ? UsersTable.TABLE_NAME : UserInfoTable.TABLE_NAME;
+
+            String selectSessionsPerDate = SELECT +
+                    sql.dateToEpochSecond(toStamp.apply(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    "*1000 as date," +
+                    "COUNT(DISTINCT " + SessionsTable.USER_ID + ") as unique_players," +
+                    "0 as new_players," +
+                    "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime," +
+                    "COUNT(1) as session_count" +
+                    FROM + SessionsTable.TABLE_NAME +
+                    WHERE + SessionsTable.SESSION_END + "<=?" +
+                    AND + SessionsTable.SESSION_START + ">=?" +
+                    (network ? "" : AND + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID) +
+                    GROUP_BY + "date";
+            String selectNewPlayersPerDate = SELECT +
+                    sql.dateToEpochSecond(toStamp.apply(sql.epochSecondToDate('(' + UserInfoTable.REGISTERED + "+?)/1000"))) +
+                    "*1000 as date," +
+                    "0 as unique_players," +
+                    "COUNT(1) as new_players," +
+                    "0 as playtime," +
+                    "0 as session_count" +
+                    FROM + registerTable +
+                    WHERE + UserInfoTable.REGISTERED + "<=?" +
+                    AND + UserInfoTable.REGISTERED + ">=?" +
+                    (network ? "" : AND + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID) +
+                    GROUP_BY + "date";
+            String selectActivityPerDate = SELECT + "date," +
+                    "SUM(unique_players) as unique_players," +
+                    "SUM(new_players) as new_players," +
+                    "SUM(playtime) as playtime," +
+                    "SUM(session_count) as session_count" +
+                    FROM + '(' + selectSessionsPerDate + UNION_ALL + selectNewPlayersPerDate + ") q1" +
+                    GROUP_BY + "date";
+
+            Object[] parameters = network
+                    ? new Object[]{timeZoneOffset, before, after, timeZoneOffset, before, after}
+                    : new Object[]{timeZoneOffset, before, after, serverUUID, timeZoneOffset, before, after, serverUUID};
+            return database.queryMap(selectActivityPerDate,
+                    (set, perDate) -> perDate.put(set.getLong("date"), new ActivityCounts(
+                            set.getInt("unique_players"),
+                            set.getInt("new_players"),
+                            set.getLong("playtime"),
+                            set.getInt("session_count")
+                    )),
+                    TreeMap::new,
+                    parameters);
+        };
+    }
+
     /**
      * Fetch a EpochMs - Count map of unique players on ALL servers.
      *
@@ -20,12 +20,16 @@ import com.djrapitops.plan.delivery.domain.RetentionData;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
-import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
-import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserSummaryTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -43,21 +47,18 @@ public class PlayerRetentionQueries {
     public static Query<List<RetentionData>> fetchRetentionData(ServerUUID serverUUID) {
         String sql = SELECT +
                 UsersTable.USER_UUID + ',' +
-                "ui." + UserInfoTable.REGISTERED + ',' +
-                "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
-                "SUM(" + SessionsTable.SESSION_END + "-" + SessionsTable.SESSION_START + ") as playtime" +
-                FROM + UsersTable.TABLE_NAME + " u" +
-                INNER_JOIN + UserInfoTable.TABLE_NAME + " ui ON ui." + UserInfoTable.USER_ID + "=u." + UsersTable.ID +
-                INNER_JOIN + SessionsTable.TABLE_NAME + " s ON s." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
-                AND + "s." + SessionsTable.SERVER_ID + "=ui." + UserInfoTable.SERVER_ID +
-                WHERE + "s." + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
-                GROUP_BY + UsersTable.USER_UUID + ",ui." + UserInfoTable.REGISTERED;
+                "us." + UserSummaryTable.REGISTERED + ',' +
+                "us." + UserSummaryTable.LAST_SEEN + ',' +
+                "us." + UserSummaryTable.PLAYTIME +
+                FROM + UserSummaryTable.TABLE_NAME + " us" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u ON u." + UsersTable.ID + "=us." + UserSummaryTable.USER_ID +
+                WHERE + "us." + UserSummaryTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
 
         return db -> db.queryList(sql, set -> {
             UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
-            long registerDate = set.getLong(UserInfoTable.REGISTERED);
-            long lastSeenDate = set.getLong("last_seen");
-            long playtime = set.getLong("playtime");
+            long registerDate = set.getLong(UserSummaryTable.REGISTERED);
+            long lastSeenDate = set.getLong(UserSummaryTable.LAST_SEEN);
+            long playtime = set.getLong(UserSummaryTable.PLAYTIME);
             return new RetentionData(playerUUID, registerDate, lastSeenDate, playtime);
         }, serverUUID);
     }
@@ -65,12 +66,15 @@ public class PlayerRetentionQueries {
     public static Query<List<RetentionData>> fetchRetentionData() {
         String sql = SELECT +
                 UsersTable.USER_UUID + ',' +
-                UsersTable.REGISTERED + ',' +
-                "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
-                "SUM(" + SessionsTable.SESSION_END + "-" + SessionsTable.SESSION_START + ") as playtime" +
+                "u." + UsersTable.REGISTERED + ',' +
+                "us.last_seen," +
+                "us.playtime" +
                 FROM + UsersTable.TABLE_NAME + " u" +
-                INNER_JOIN + SessionsTable.TABLE_NAME + " s ON s." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
-                GROUP_BY + UsersTable.USER_UUID + ',' + UserInfoTable.REGISTERED;
+                INNER_JOIN + '(' + SELECT + UserSummaryTable.USER_ID + ',' +
+                "MAX(" + UserSummaryTable.LAST_SEEN + ") as last_seen," +
+                "SUM(" + UserSummaryTable.PLAYTIME + ") as playtime" +
+                FROM + UserSummaryTable.TABLE_NAME +
+                GROUP_BY + UserSummaryTable.USER_ID + ") us ON us." + UserSummaryTable.USER_ID + "=u." + UsersTable.ID;
 
         return db -> db.queryList(sql, set -> {
             UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
@@ -80,4 +84,46 @@ public class PlayerRetentionQueries {
             return new RetentionData(playerUUID, registerDate, lastSeenDate, playtime);
         });
     }
+
+    /**
+     * Count how many players of a server stayed for each number of days.
+     * <p>
+     * Allows drawing a retention curve without sending the data of every player.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Map: Days between registering and last seen - Number of players
+     */
+    public static Query<Map<Integer, Integer>> fetchRetentionCurve(ServerUUID serverUUID) {
+        String sql = SELECT +
+                floor('(' + UserSummaryTable.LAST_SEEN + '-' + UserSummaryTable.REGISTERED + ")/" + TimeUnit.DAYS.toMillis(1L)) + " as days," +
+                "COUNT(1) as player_count" +
+                FROM + UserSummaryTable.TABLE_NAME +
+                WHERE + UserSummaryTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                GROUP_BY + "days";
+
+        return db -> db.queryMap(sql, PlayerRetentionQueries::extractCurvePoint, TreeMap::new, serverUUID);
+    }
+
+    /**
+     * Count how many players of the network stayed for each number of days.
+     *
+     * @return Map: Days between registering and last seen - Number of players
+     */
+    public static Query<Map<Integer, Integer>> fetchRetentionCurve() {
+        String sql = SELECT +
+                floor("(us.last_seen-u." + UsersTable.REGISTERED + ")/" + TimeUnit.DAYS.toMillis(1L)) + " as days," +
+                "COUNT(1) as player_count" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                INNER_JOIN + '(' + SELECT + UserSummaryTable.USER_ID + ',' +
+                "MAX(" + UserSummaryTable.LAST_SEEN + ") as last_seen" +
+                FROM + UserSummaryTable.TABLE_NAME +
+                GROUP_BY + UserSummaryTable.USER_ID + ") us ON us." + UserSummaryTable.USER_ID + "=u." + UsersTable.ID +
+                GROUP_BY + "days";
+
+        return db -> db.queryMap(sql, PlayerRetentionQueries::extractCurvePoint, TreeMap::new);
+    }
+
+    private static void extractCurvePoint(ResultSet set, Map<Integer, Integer> curve) throws SQLException {
+        curve.merge(Math.max(0, set.getInt("days")), set.getInt("player_count"), Integer::sum);
+    }
 }
@@ -23,6 +23,7 @@ import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -34,7 +35,19 @@ public class TopListQueries {
     }
 
     public static Query<Optional<TopListEntry<Long>>> fetchNthTop10PlaytimePlayerOn(ServerUUID serverUUID, int n, long after, long before) {
-        String sql = SELECT + UsersTable.USER_NAME + ", " +
+        String sql = topPlaytimeSql() + OFFSET + "?";
+        return db -> db.queryOptional(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("playtime")),
+                serverUUID, after, before, n - 1);
+    }
+
+    public static Query<List<TopListEntry<Long>>> fetchTop10PlaytimePlayersOn(ServerUUID serverUUID, long after, long before) {
+        String sql = topPlaytimeSql();
+        return db -> db.queryList(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("playtime")),
+                serverUUID, after, before);
+    }
+
+    private static String topPlaytimeSql() {
+        return SELECT + UsersTable.USER_NAME + ", " +
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
                 FROM + SessionsTable.TABLE_NAME + " s" +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
@@ -43,15 +56,23 @@ public class TopListQueries {
                 AND + SessionsTable.SESSION_END + "<?" +
                 GROUP_BY + UsersTable.USER_NAME +
                 ORDER_BY + "playtime DESC" +
-                LIMIT + "10" +
-                OFFSET + "?";
+                LIMIT + "10";
+    }
 
-        return db -> db.queryOptional(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("playtime")),
+    public static Query<Optional<TopListEntry<Long>>> fetchNthTop10ActivePlaytimePlayerOn(ServerUUID serverUUID, int n, long after, long before) {
+        String sql = topActivePlaytimeSql() + OFFSET + "?";
+        return db -> db.queryOptional(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("active_playtime")),
                 serverUUID, after, before, n - 1);
     }
 
-    public static Query<Optional<TopListEntry<Long>>> fetchNthTop10ActivePlaytimePlayerOn(ServerUUID serverUUID, int n, long after, long before) {
-        String sql = SELECT + UsersTable.USER_NAME + ", " +
+    public static Query<List<TopListEntry<Long>>> fetchTop10ActivePlaytimePlayersOn(ServerUUID serverUUID, long after, long before) {
+        String sql = topActivePlaytimeSql();
+        return db -> db.queryList(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("active_playtime")),
+                serverUUID, after, before);
+    }
+
+    private static String topActivePlaytimeSql() {
+        return SELECT + UsersTable.USER_NAME + ", " +
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
                 FROM + SessionsTable.TABLE_NAME + " s" +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
@@ -60,15 +81,23 @@ public class TopListQueries {
                 AND + SessionsTable.SESSION_END + "<?" +
                 GROUP_BY + UsersTable.USER_NAME +
                 ORDER_BY + "active_playtime DESC" +
-                LIMIT + "10" +
-                OFFSET + "?";
+                LIMIT + "10";
+    }
 
-        return db -> db.queryOptional(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("active_playtime")),
+    public static Query<Optional<TopListEntry<Long>>> fetchNthTop10PlayerKillCountOn(ServerUUID serverUUID, int n, long after, long before) {
+        String sql = topKillCountSql() + OFFSET + "?";
+        return db -> db.queryOptional(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("kills")),
                 serverUUID, after, before, n - 1);
     }
 
-    public static Query<Optional<TopListEntry<Long>>> fetchNthTop10PlayerKillCountOn(ServerUUID serverUUID, int n, long after, long before) {
-        String sql = SELECT + UsersTable.USER_NAME + ", " +
+    public static Query<List<TopListEntry<Long>>> fetchTop10PlayerKillCountsOn(ServerUUID serverUUID, long after, long before) {
+        String sql = topKillCountSql();
+        return db -> db.queryList(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("kills")),
+                serverUUID, after, before);
+    }
+
+    private static String topKillCountSql() {
+        return SELECT + UsersTable.USER_NAME + ", " +
                 "COUNT(1) as kills" +
                 FROM + KillsTable.TABLE_NAME + " k" +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=k." + KillsTable.KILLER_UUID +
@@ -77,11 +106,7 @@ public class TopListQueries {
                 AND + KillsTable.DATE + "<?" +
                 GROUP_BY + UsersTable.USER_NAME +
                 ORDER_BY + "kills DESC" +
-                LIMIT + "10" +
-                OFFSET + "?";
-
-        return db -> db.queryOptional(sql, set -> new TopListEntry<>(set.getString(UsersTable.USER_NAME), set.getLong("kills")),
-                serverUUID, after, before, n - 1);
+                LIMIT + "10";
     }
 
     public static class TopListEntry<T> {
@@ -0,0 +1,149 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.containers;
+
+import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
+import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.djrapitops.plan.delivery.domain.keys.Key;
+import com.djrapitops.plan.delivery.domain.keys.PerServerKeys;
+import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+import com.djrapitops.plan.delivery.domain.mutators.PerServerMutator;
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.gathering.domain.event.JoinAddress;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.PerServerAggregateQueries;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
+import com.djrapitops.plan.storage.database.queries.objects.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Used to get a PlayerContainer with everything the player page needs.
+ * <p>
+ * Unlike {@link PlayerContainerQuery} all data is fetched up front in a single {@link QueryBatch}.
+ * Aggregates (kill counts, world times, last seen per server) are calculated by the database,
+ * sessions are fetched without kill and world data, and only the latest sessions are fetched in full
+ * under {@link PlayerKeys#LATEST_SESSIONS}.
+ *
+ * @author AuroraLS3
+ */
+public class PlayerPageContainerQuery implements Query<PlayerContainer> {
+
+    private final UUID uuid;
+    private final int latestSessionLimit;
+
+    public PlayerPageContainerQuery(UUID uuid, int latestSessionLimit) {
+        this.uuid = uuid;
+        this.latestSessionLimit = latestSessionLimit;
+    }
+
+    @Override
+    public PlayerContainer executeQuery(SQLDB db) {
+        QueryBatch batch = db.queryBatch();
+        Supplier<Optional<BaseUser>> baseUser = batch.add(BaseUserQueries.fetchBaseUserOfPlayer(uuid));
+        Supplier<List<GeoInfo>> geoInfo = batch.add(GeoInfoQueries.fetchPlayerGeoInformation(uuid));
+        Supplier<List<Ping>> ping = batch.add(PingQueries.fetchPingDataOfPlayer(uuid));
+        Supplier<List<Nickname>> nicknames = batch.add(NicknameQueries.fetchNicknameDataOfPlayer(uuid));
+        Supplier<Set<UserInfo>> userInformation = batch.add(UserInfoQueries.fetchUserInformationOfUser(uuid));
+        Supplier<Map<ServerUUID, Long>> lastSeenOnServers = batch.add(PerServerAggregateQueries.lastSeenOnServers(uuid));
+        Supplier<Map<ServerUUID, Integer>> playerKillCounts = batch.add(PerServerAggregateQueries.playerKillCountOnServers(uuid));
+        Supplier<Map<ServerUUID, Integer>> mobKillCounts = batch.add(PerServerAggregateQueries.mobKillCountOnServers(uuid));
+        Supplier<Map<ServerUUID, Integer>> deathCounts = batch.add(PerServerAggregateQueries.totalDeathCountOnServers(uuid));
+        Supplier<Map<ServerUUID, WorldTimes>> worldTimesOnServers = batch.add(WorldTimesQueries.fetchPlayerWorldTimesOnServers(uuid));
+        Supplier<WorldTimes> totalWorldTimes = batch.add(WorldTimesQueries.fetchPlayerTotalWorldTimes(uuid));
+        Supplier<List<PlayerKill>> playerKills = batch.add(KillQueries.fetchPlayerKillsOfPlayer(uuid));
+        Supplier<List<PlayerKill>> playerDeaths = batch.add(KillQueries.fetchPlayerDeathsOfPlayer(uuid));
+        Supplier<List<FinishedSession>> sessionSummaries = batch.add(SessionQueries.fetchSessionSummariesOfPlayer(uuid));
+        Supplier<List<FinishedSession>> latestSessions = batch.add(SessionQueries.fetchLatestSessionsOfPlayer(uuid, latestSessionLimit));
+
+        PlayerContainer container = new PlayerContainer();
+        container.putRawData(PlayerKeys.UUID, uuid);
+        Optional<ActiveSession> activeSession = SessionCache.getCachedSession(uuid);
+        activeSession.ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
+
+        baseUser.get().ifPresent(user -> {
+            container.putRawData(PlayerKeys.REGISTERED, user.getRegistered());
+            container.putRawData(PlayerKeys.NAME, user.getName());
+            container.putRawData(PlayerKeys.KICK_COUNT, user.getTimesKicked());
+        });
+        container.putRawData(PlayerKeys.GEO_INFO, geoInfo.get());
+        container.putRawData(PlayerKeys.PING, ping.get());
+        container.putRawData(PlayerKeys.NICKNAMES, nicknames.get());
+
+        PerServerContainer perServer = new PerServerContainer();
+        perServer.putUserInfo(userInformation.get());
+        putToServers(perServer, PerServerKeys.LAST_SEEN, lastSeenOnServers.get());
+        putToServers(perServer, PerServerKeys.PLAYER_KILL_COUNT, playerKillCounts.get());
+        putToServers(perServer, PerServerKeys.MOB_KILL_COUNT, mobKillCounts.get());
+        putToServers(perServer, PerServerKeys.DEATH_COUNT, deathCounts.get());
+        putToServers(perServer, PerServerKeys.WORLD_TIMES, worldTimesOnServers.get());
+        putSessions(perServer, sessionSummaries.get());
+        container.putRawData(PlayerKeys.PER_SERVER, perServer);
+
+        PerServerMutator perServerMutator = new PerServerMutator(perServer);
+        container.putRawData(PlayerKeys.BANNED, perServerMutator.isBanned());
+        container.putRawData(PlayerKeys.OPERATOR, perServerMutator.isOperator());
+
+        List<FinishedSession> sessions = perServerMutator.flatMapSessions();
+        List<FinishedSession> latest = new ArrayList<>(latestSessions.get());
+        WorldTimes worldTimes = totalWorldTimes.get();
+        activeSession.map(ActiveSession::toFinishedSessionFromStillActive).ifPresent(session -> {
+            sessions.add(session);
+            latest.add(0, session);
+            worldTimes.add(session.getExtraData(WorldTimes.class).orElseGet(WorldTimes::new));
+        });
+        container.putRawData(PlayerKeys.SESSIONS, sessions);
+        container.putRawData(PlayerKeys.LATEST_SESSIONS, latest);
+        container.putRawData(PlayerKeys.WORLD_TIMES, worldTimes);
+
+        List<PlayerKill> kills = playerKills.get();
+        container.putRawData(PlayerKeys.PLAYER_KILLS, kills);
+        container.putRawData(PlayerKeys.PLAYER_DEATHS_KILLS, playerDeaths.get());
+        container.putRawData(PlayerKeys.PLAYER_KILL_COUNT, kills.size());
+
+        SessionsMutator sessionsMutator = new SessionsMutator(sessions);
+        container.putRawData(PlayerKeys.MOB_KILL_COUNT, sessionsMutator.toMobKillCount());
+        container.putRawData(PlayerKeys.DEATH_COUNT, sessionsMutator.toDeathCount());
+        container.putRawData(PlayerKeys.LAST_SEEN, activeSession.isPresent() ? System.currentTimeMillis() : sessionsMutator.toLastSeen());
+        return container;
+    }
+
+    private <T> void putToServers(PerServerContainer perServer, Key<T> key, Map<ServerUUID, T> values) {
+        for (Map.Entry<ServerUUID, T> entry : values.entrySet()) {
+            perServer.putToContainerOfServer(entry.getKey(), key, entry.getValue());
+        }
+    }
+
+    private void putSessions(PerServerContainer perServer, List<FinishedSession> sessions) {
+        // Sessions are most recent first, so the first session of each server has the latest join address.
+        for (Map.Entry<ServerUUID, List<FinishedSession>> entry : SessionsMutator.sortByServers(sessions).entrySet()) {
+            ServerUUID serverUUID = entry.getKey();
+            List<FinishedSession> serverSessions = entry.getValue();
+            if (!serverSessions.isEmpty()) {
+                serverSessions.get(0).getExtraData(JoinAddress.class).map(JoinAddress::getAddress)
+                        .ifPresent(address -> perServer.putToContainerOfServer(serverUUID, PerServerKeys.JOIN_ADDRESS, address));
+            }
+            perServer.putToContainerOfServer(serverUUID, PerServerKeys.SESSIONS, serverSessions);
+        }
+    }
+}
@@ -54,6 +54,24 @@ public class BaseUserQueries {
         return db -> db.queryList(sql, BaseUserQueries::extractBaseUser);
     }
 
+    /**
+     * Query database for common user information of a range of user ids.
+     * <p>
+     * Allows going through the whole table in pages without loading all of it into memory.
+     *
+     * @param afterId User id to start after (exclusive).
+     * @param upToId  Last user id to include (inclusive).
+     * @return Collection of BaseUsers
+     */
+    public static Query<Collection<BaseUser>> fetchBaseUsersOfIdRange(int afterId, int upToId) {
+        String sql = Select.all(UsersTable.TABLE_NAME)
+                .where(UsersTable.ID + ">?")
+                .and(UsersTable.ID + "<=?")
+                .toString();
+
+        return db -> db.queryList(sql, BaseUserQueries::extractBaseUser, afterId, upToId);
+    }
+
     public static Query<Map<UUID, BaseUser>> fetchAllBaseUsersByUUID() {
         String sql = Select.all(UsersTable.TABLE_NAME).toString();
 
@@ -20,6 +20,7 @@ import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.RowExtractors;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
@@ -30,6 +31,7 @@ import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Lists;
 import org.apache.commons.text.TextStringBuilder;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
@@ -43,6 +45,13 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class GeoInfoQueries {
 
+    private static final String SELECT_ALL_GEO_INFORMATION = SELECT +
+            GeoInfoTable.GEOLOCATION + ',' +
+            GeoInfoTable.LAST_USED + ',' +
+            UsersTable.USER_UUID +
+            FROM + GeoInfoTable.TABLE_NAME + " g" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on g.user_id=u.id";
+
     private GeoInfoQueries() {
         /* Static method class */
     }
@@ -53,14 +62,35 @@ public class GeoInfoQueries {
      * @return Map: Player UUID - List of GeoInfo
      */
     public static Query<Map<UUID, List<GeoInfo>>> fetchAllGeoInformation() {
-        String sql = SELECT +
-                GeoInfoTable.GEOLOCATION + ',' +
-                GeoInfoTable.LAST_USED + ',' +
-                UsersTable.USER_UUID +
-                FROM + GeoInfoTable.TABLE_NAME + " g" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u on g.user_id=u.id";
+        return new QueryAllStatement<>(SELECT_ALL_GEO_INFORMATION, 10000) {
+            @Override
+            public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
+                return extractGeoInformation(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for GeoInfo data of a range of geolocation row ids.
+     * <p>
+     * Allows going through the whole table in pages without loading all of it into memory.
+     *
+     * @param afterId Geolocation row id to start after (exclusive).
+     * @param upToId  Last geolocation row id to include (inclusive).
+     * @return Map: Player UUID - List of GeoInfo
+     */
+    public static Query<Map<UUID, List<GeoInfo>>> fetchGeoInformationOfIdRange(int afterId, int upToId) {
+        String sql = SELECT_ALL_GEO_INFORMATION +
+                WHERE + "g." + GeoInfoTable.ID + ">?" +
+                AND + "g." + GeoInfoTable.ID + "<=?";
+
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, upToId);
+            }
 
-        return new QueryAllStatement<>(sql, 10000) {
             @Override
             public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
                 return extractGeoInformation(set);
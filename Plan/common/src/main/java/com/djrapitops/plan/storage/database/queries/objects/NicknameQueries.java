@@ -20,10 +20,12 @@ import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.NicknamesTable;
 import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
@@ -37,6 +39,13 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class NicknameQueries {
 
+    private static final String SELECT_ALL_NICKNAME_DATA = SELECT +
+            NicknamesTable.NICKNAME + ',' +
+            NicknamesTable.LAST_USED + ',' +
+            NicknamesTable.USER_UUID + ',' +
+            NicknamesTable.SERVER_UUID +
+            FROM + NicknamesTable.TABLE_NAME;
+
     private NicknameQueries() {
         /* Static method class */
     }
@@ -47,35 +56,60 @@ public class NicknameQueries {
      * @return Multimap: Server UUID - (Player UUID - List of nicknames)
      */
     public static Query<Map<ServerUUID, Map<UUID, List<Nickname>>>> fetchAllNicknameData() {
-        String sql = SELECT +
-                NicknamesTable.NICKNAME + ',' +
-                NicknamesTable.LAST_USED + ',' +
-                NicknamesTable.USER_UUID + ',' +
-                NicknamesTable.SERVER_UUID +
-                FROM + NicknamesTable.TABLE_NAME;
+        return new QueryAllStatement<>(SELECT_ALL_NICKNAME_DATA, 5000) {
+            @Override
+            public Map<ServerUUID, Map<UUID, List<Nickname>>> processResults(ResultSet set) throws SQLException {
+                return extractNicknames(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for nickname data of a range of nickname row ids.
+     * <p>
+     * Allows going through the whole table in pages without loading all of it into memory.
+     *
+     * @param afterId Nickname row id to start after (exclusive).
+     * @param upToId  Last nickname row id to include (inclusive).
+     * @return Multimap: Server UUID - (Player UUID - List of nicknames)
+     */
+    public static Query<Map<ServerUUID, Map<UUID, List<Nickname>>>> fetchNicknameDataOfIdRange(int afterId, int upToId) {
+        String sql = SELECT_ALL_NICKNAME_DATA +
+                WHERE + NicknamesTable.ID + ">?" +
+                AND + NicknamesTable.ID + "<=?";
+
+        return new QueryStatement<>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, upToId);
+            }
 
-        return new QueryAllStatement<>(sql, 5000) {
             @Override
             public Map<ServerUUID, Map<UUID, List<Nickname>>> processResults(ResultSet set) throws SQLException {
-                Map<ServerUUID, Map<UUID, List<Nickname>>> map = new HashMap<>();
-                while (set.next()) {
-                    ServerUUID serverUUID = ServerUUID.fromString(set.getString(NicknamesTable.SERVER_UUID));
-                    UUID uuid = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
-
-                    Map<UUID, List<Nickname>> serverMap = map.computeIfAbsent(serverUUID, Maps::create);
-                    List<Nickname> nicknames = serverMap.computeIfAbsent(uuid, Lists::create);
-
-                    nicknames.add(new Nickname(
-                            set.getString(NicknamesTable.NICKNAME),
-                            set.getLong(NicknamesTable.LAST_USED),
-                            serverUUID
-                    ));
-                }
-                return map;
+                return extractNicknames(set);
             }
         };
     }
 
+    private static Map<ServerUUID, Map<UUID, List<Nickname>>> extractNicknames(ResultSet set) throws SQLException {
+        Map<ServerUUID, Map<UUID, List<Nickname>>> map = new HashMap<>();
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString(NicknamesTable.SERVER_UUID));
+            UUID uuid = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
+
+            Map<UUID, List<Nickname>> serverMap = map.computeIfAbsent(serverUUID, Maps::create);
+            List<Nickname> nicknames = serverMap.computeIfAbsent(uuid, Lists::create);
+
+            nicknames.add(new Nickname(
+                    set.getString(NicknamesTable.NICKNAME),
+                    set.getLong(NicknamesTable.LAST_USED),
+                    serverUUID
+            ));
+        }
+        return map;
+    }
+
     public static Query<Optional<Nickname>> fetchLastSeenNicknameOfPlayer(UUID playerUUID, ServerUUID serverUUID) {
         String subQuery = SELECT + "MAX(" + NicknamesTable.LAST_USED + ") FROM " + NicknamesTable.TABLE_NAME +
                 WHERE + NicknamesTable.USER_UUID + "=?" +
@@ -16,11 +16,13 @@
  */
 package com.djrapitops.plan.storage.database.queries.objects;
 
+import com.djrapitops.plan.gathering.domain.DailyPing;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -41,6 +43,17 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class PingQueries {
 
+    private static final String SELECT_ALL_PING_DATA = SELECT +
+            PingTable.DATE + ',' +
+            PingTable.MAX_PING + ',' +
+            PingTable.MIN_PING + ',' +
+            PingTable.AVG_PING + ',' +
+            "u." + UsersTable.USER_UUID + " as uuid," +
+            "s." + ServerTable.SERVER_UUID + " as server_uuid" +
+            FROM + PingTable.TABLE_NAME + " p" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u.id=p." + PingTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " s on s.id=p." + PingTable.SERVER_ID;
+
     private PingQueries() {
         /* Static method class */
     }
@@ -51,17 +64,34 @@ public class PingQueries {
      * @return Map: Player UUID - List of ping data.
      */
     public static Query<Map<UUID, List<Ping>>> fetchAllPingData() {
-        String sql = SELECT +
-                PingTable.DATE + ',' +
-                PingTable.MAX_PING + ',' +
-                PingTable.MIN_PING + ',' +
-                PingTable.AVG_PING + ',' +
-                "u." + UsersTable.USER_UUID + " as uuid," +
-                "s." + ServerTable.SERVER_UUID + " as server_uuid" +
-                FROM + PingTable.TABLE_NAME + " p" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u on u.id=p." + PingTable.USER_ID +
-                INNER_JOIN + ServerTable.TABLE_NAME + " s on s.id=p." + PingTable.SERVER_ID;
-        return new QueryAllStatement<>(sql, 100000) {
+        return new QueryAllStatement<>(SELECT_ALL_PING_DATA, 100000) {
+            @Override
+            public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
+                return extractUserPings(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for Ping data of a range of ping row ids.
+     * <p>
+     * Allows going through the whole table in pages without loading all of it into memory.
+     *
+     * @param afterId Ping row id to start after (exclusive).
+     * @param upToId  Last Ping row id to include (inclusive).
+     * @return Map: Player UUID - List of ping data.
+     */
+    public static Query<Map<UUID, List<Ping>>> fetchPingDataOfIdRange(int afterId, int upToId) {
+        String sql = SELECT_ALL_PING_DATA +
+                WHERE + "p." + PingTable.ID + ">?" +
+                AND + "p." + PingTable.ID + "<=?";
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, upToId);
+            }
+
             @Override
             public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
                 return extractUserPings(set);
@@ -90,6 +120,106 @@ public class PingQueries {
         return userPings;
     }
 
+    /**
+     * Query database for daily rolled up Ping data of a range of rollup row ids.
+     *
+     * @param afterId Rollup row id to start after (exclusive).
+     * @param upToId  Last rollup row id to include (inclusive).
+     * @return Map: Player UUID - List of daily ping data.
+     */
+    public static Query<Map<UUID, List<DailyPing>>> fetchDailyPingDataOfIdRange(int afterId, int upToId) {
+        String sql = SELECT +
+                "p." + DailyPingTable.DATE + ',' +
+                "p." + DailyPingTable.MIN_PING + ',' +
+                "p." + DailyPingTable.MAX_PING + ',' +
+                "p." + DailyPingTable.PING_SUM + ',' +
+                "p." + DailyPingTable.PING_COUNT + ',' +
+                "p." + DailyPingTable.SAMPLES_UNDER_50 + ',' +
+                "p." + DailyPingTable.SAMPLES_50_TO_99 + ',' +
+                "p." + DailyPingTable.SAMPLES_100_TO_199 + ',' +
+                "p." + DailyPingTable.SAMPLES_200_OR_MORE + ',' +
+                "u." + UsersTable.USER_UUID + " as uuid," +
+                "s." + ServerTable.SERVER_UUID + " as server_uuid" +
+                FROM + DailyPingTable.TABLE_NAME + " p" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u.id=p." + DailyPingTable.USER_ID +
+                INNER_JOIN + ServerTable.TABLE_NAME + " s on s.id=p." + DailyPingTable.SERVER_ID +
+                WHERE + "p." + DailyPingTable.ID + ">?" +
+                AND + "p." + DailyPingTable.ID + "<=?";
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, upToId);
+            }
+
+            @Override
+            public Map<UUID, List<DailyPing>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<DailyPing>> userPings = new HashMap<>();
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString("uuid"));
+                    userPings.computeIfAbsent(uuid, Lists::create).add(extractDailyPing(set));
+                }
+                return userPings;
+            }
+        };
+    }
+
+    /**
+     * Query database for daily rolled up Ping data of a specific player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return List of daily ping data of the player on all servers.
+     */
+    public static Query<List<DailyPing>> fetchDailyPingDataOfPlayer(UUID playerUUID) {
+        String sql = SELECT +
+                "p." + DailyPingTable.DATE + ',' +
+                "p." + DailyPingTable.MIN_PING + ',' +
+                "p." + DailyPingTable.MAX_PING + ',' +
+                "p." + DailyPingTable.PING_SUM + ',' +
+                "p." + DailyPingTable.PING_COUNT + ',' +
+                "p." + DailyPingTable.SAMPLES_UNDER_50 + ',' +
+                "p." + DailyPingTable.SAMPLES_50_TO_99 + ',' +
+                "p." + DailyPingTable.SAMPLES_100_TO_199 + ',' +
+                "p." + DailyPingTable.SAMPLES_200_OR_MORE + ',' +
+                "s." + ServerTable.SERVER_UUID + " as server_uuid" +
+                FROM + DailyPingTable.TABLE_NAME + " p" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " s on s.id=p." + DailyPingTable.SERVER_ID +
+                WHERE + "p." + DailyPingTable.USER_ID + "=" + UsersTable.SELECT_USER_ID;
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public List<DailyPing> processResults(ResultSet set) throws SQLException {
+                List<DailyPing> pings = new ArrayList<>();
+                while (set.next()) {
+                    pings.add(extractDailyPing(set));
+                }
+                return pings;
+            }
+        };
+    }
+
+    private static DailyPing extractDailyPing(ResultSet set) throws SQLException {
+        int[] samples = {
+                set.getInt(DailyPingTable.SAMPLES_UNDER_50),
+                set.getInt(DailyPingTable.SAMPLES_50_TO_99),
+                set.getInt(DailyPingTable.SAMPLES_100_TO_199),
+                set.getInt(DailyPingTable.SAMPLES_200_OR_MORE)
+        };
+        return new DailyPing(
+                set.getLong(DailyPingTable.DATE),
+                ServerUUID.fromString(set.getString("server_uuid")),
+                set.getInt(DailyPingTable.MIN_PING),
+                set.getInt(DailyPingTable.MAX_PING),
+                set.getDouble(DailyPingTable.PING_SUM),
+                set.getInt(DailyPingTable.PING_COUNT),
+                samples
+        );
+    }
+
     /**
      * Query database for Ping data of a specific player.
      *
@@ -166,19 +296,62 @@ public class PingQueries {
         };
     }
 
+    /**
+     * Query database for daily rolled up Ping data of a server.
+     *
+     * @param after      Epoch ms, the day this is on is the first day to include.
+     * @param before     Epoch ms to include days up to.
+     * @param timeZone   Time zone the days were rolled up in, from the config.
+     * @param serverUUID UUID of the Plan server.
+     * @return List of Ping entries, one per day, dated at the start of the day.
+     */
+    public static Query<List<Ping>> fetchDailyPingDataOfServer(long after, long before, TimeZone timeZone, ServerUUID serverUUID) {
+        String sql = SELECT +
+                DailyPingTable.DATE + ',' +
+                "MIN(" + DailyPingTable.MIN_PING + ") as min_ping," +
+                "MAX(" + DailyPingTable.MAX_PING + ") as max_ping," +
+                "SUM(" + DailyPingTable.PING_SUM + ")*1.0/SUM(" + DailyPingTable.PING_COUNT + ") as avg_ping" +
+                FROM + DailyPingTable.TABLE_NAME +
+                WHERE + DailyPingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + DailyPingTable.DATE + ">=?" +
+                AND + DailyPingTable.DATE + "<=?" +
+                GROUP_BY + DailyPingTable.DATE +
+                ORDER_BY + DailyPingTable.DATE;
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, DailyPingTable.toStartOfDay(after, timeZone));
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public List<Ping> processResults(ResultSet set) throws SQLException {
+                List<Ping> pings = new ArrayList<>();
+                while (set.next()) {
+                    pings.add(new Ping(set.getLong(DailyPingTable.DATE), serverUUID,
+                            set.getInt("min_ping"),
+                            set.getInt("max_ping"),
+                            set.getDouble("avg_ping")));
+                }
+                return pings;
+            }
+        };
+    }
+
     public static Query<Map<String, Ping>> fetchPingDataOfServerByGeolocation(ServerUUID serverUUID) {
         String selectPingByGeolocation = SELECT + "a." + GeoInfoTable.GEOLOCATION +
-                ", MIN(" + PingTable.MIN_PING + ") as minPing" +
-                ", MAX(" + PingTable.MAX_PING + ") as maxPing" +
-                ", AVG(" + PingTable.AVG_PING + ") as avgPing" +
+                ", MIN(" + DailyPingTable.MIN_PING + ") as minPing" +
+                ", MAX(" + DailyPingTable.MAX_PING + ") as maxPing" +
+                ", SUM(" + DailyPingTable.PING_SUM + ")*1.0/SUM(" + DailyPingTable.PING_COUNT + ") as avgPing" +
                 FROM + GeoInfoTable.TABLE_NAME + " a" +
                 // Super smart optimization https://stackoverflow.com/a/28090544
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
-                INNER_JOIN + PingTable.TABLE_NAME + " sp on sp." + PingTable.USER_ID + "=a." + GeoInfoTable.USER_ID +
+                INNER_JOIN + DailyPingTable.TABLE_NAME + " sp on sp." + DailyPingTable.USER_ID + "=a." + GeoInfoTable.USER_ID +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
-                AND + "sp." + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + "sp." + DailyPingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
                 GROUP_BY + "a." + GeoInfoTable.GEOLOCATION;
 
         return new QueryStatement<>(selectPingByGeolocation) {
@@ -208,15 +381,15 @@ public class PingQueries {
 
     public static Query<Map<String, Ping>> fetchPingDataOfNetworkByGeolocation() {
         String selectPingByGeolocation = SELECT + "a." + GeoInfoTable.GEOLOCATION +
-                ", MIN(" + PingTable.MIN_PING + ") as minPing" +
-                ", MAX(" + PingTable.MAX_PING + ") as maxPing" +
-                ", AVG(" + PingTable.AVG_PING + ") as avgPing" +
+                ", MIN(" + DailyPingTable.MIN_PING + ") as minPing" +
+                ", MAX(" + DailyPingTable.MAX_PING + ") as maxPing" +
+                ", SUM(" + DailyPingTable.PING_SUM + ")*1.0/SUM(" + DailyPingTable.PING_COUNT + ") as avgPing" +
                 FROM + GeoInfoTable.TABLE_NAME + " a" +
                 // Super smart optimization https://stackoverflow.com/a/28090544
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
-                INNER_JOIN + PingTable.TABLE_NAME + " sp on sp." + PingTable.USER_ID + "=a." + GeoInfoTable.USER_ID +
+                INNER_JOIN + DailyPingTable.TABLE_NAME + " sp on sp." + DailyPingTable.USER_ID + "=a." + GeoInfoTable.USER_ID +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
                 GROUP_BY + "a." + GeoInfoTable.GEOLOCATION;
 
@@ -22,6 +22,7 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.building.Select;
+import com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Maps;
@@ -146,6 +147,23 @@ public class ServerQueries {
         };
     }
 
+    /**
+     * Fetch the time the server was last started.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Epoch ms of the latest start event, empty if no start has been recorded.
+     */
+    public static Query<Optional<Long>> fetchLatestServerStartTime(ServerUUID serverUUID) {
+        String sql = SELECT + ServerLifecycleTable.DATE +
+                FROM + ServerLifecycleTable.TABLE_NAME +
+                WHERE + ServerLifecycleTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+                AND + ServerLifecycleTable.EVENT + "=?" +
+                ORDER_BY + ServerLifecycleTable.DATE + " DESC" +
+                LIMIT + '1';
+        return db -> db.queryOptional(sql, set -> set.getLong(ServerLifecycleTable.DATE),
+                serverUUID, ServerLifecycleTable.EVENT_START);
+    }
+
     public static Query<List<Server>> fetchProxyServers() {
         String sql = SELECT + '*' + FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.INSTALLED + "=?" +
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.DateHolder;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.delivery.domain.ServerIdentifier;
 import com.djrapitops.plan.delivery.domain.ServerName;
+import com.djrapitops.plan.delivery.domain.SessionAggregates;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
@@ -108,6 +109,34 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for Session data with kill and world data of a range of session ids.
+     * <p>
+     * Allows going through the whole table in pages without loading all of it into memory.
+     *
+     * @param afterId Session id to start after (exclusive).
+     * @param upToId  Last session id to include (inclusive).
+     * @return List of sessions
+     */
+    public static Query<List<FinishedSession>> fetchSessionsOfIdRange(int afterId, int upToId) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + "s." + SessionsTable.ID + ">?" +
+                AND + "s." + SessionsTable.ID + "<=?" +
+                ORDER_BY_SESSION_START_DESC;
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, upToId);
+            }
+
+            @Override
+            public List<FinishedSession> processResults(ResultSet set) throws SQLException {
+                return extractDataFromSessionSelectStatement(set);
+            }
+        };
+    }
+
     /**
      * Query the database for Session data of a player with kill and world data.
      *
@@ -132,12 +161,104 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for Session data of a player without kill or world data.
+     * <p>
+     * Enough for totals and calendars, and much lighter than {@link #fetchSessionsOfPlayer(UUID)} for players with a lot of sessions.
+     *
+     * @param playerUUID UUID of the Player.
+     * @return List of sessions, most recent first.
+     */
+    public static Query<List<FinishedSession>> fetchSessionSummariesOfPlayer(UUID playerUUID) {
+        String sql = SELECT +
+                "s." + SessionsTable.ID + ',' +
+                "server." + ServerTable.SERVER_UUID + " as server_uuid," +
+                SessionsTable.SESSION_START + ',' +
+                SessionsTable.SESSION_END + ',' +
+                SessionsTable.MOB_KILLS + ',' +
+                SessionsTable.DEATHS + ',' +
+                SessionsTable.AFK_TIME + ',' +
+                "j." + JoinAddressTable.JOIN_ADDRESS + " as join_address" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + JoinAddressTable.TABLE_NAME + " j on s." + SessionsTable.JOIN_ADDRESS_ID + "=j." + JoinAddressTable.ID +
+                INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                ORDER_BY_SESSION_START_DESC;
+        return db -> db.queryList(sql, set -> {
+            DataMap extraData = new DataMap();
+            extraData.put(FinishedSession.Id.class, new FinishedSession.Id(set.getInt(SessionsTable.ID)));
+            extraData.put(MobKillCounter.class, new MobKillCounter(set.getInt(SessionsTable.MOB_KILLS)));
+            extraData.put(DeathCounter.class, new DeathCounter(set.getInt(SessionsTable.DEATHS)));
+            extraData.put(JoinAddress.class, new JoinAddress(set.getString("join_address")));
+            return new FinishedSession(
+                    playerUUID,
+                    ServerUUID.fromString(set.getString("server_uuid")),
+                    set.getLong(SessionsTable.SESSION_START),
+                    set.getLong(SessionsTable.SESSION_END),
+                    set.getLong(SessionsTable.AFK_TIME),
+                    extraData
+            );
+        }, playerUUID);
+    }
+
+    private static Query<Long> fetchLatestSessionStartLimitForPlayer(UUID playerUUID, int limit) {
+        String sql = SELECT + SessionsTable.SESSION_START + FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                ORDER_BY_SESSION_START_DESC + " LIMIT ?";
+
+        return new QueryStatement<>(sql, limit) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setInt(2, limit);
+            }
+
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                Long last = null;
+                while (set.next()) {
+                    last = set.getLong(SessionsTable.SESSION_START);
+                }
+                return last;
+            }
+        };
+    }
+
+    /**
+     * Query the database for the most recent sessions of a player with kill and world data.
+     *
+     * @param playerUUID UUID of the Player.
+     * @param limit      How many sessions to fetch at most.
+     * @return List of sessions, most recent first.
+     */
+    public static Query<List<FinishedSession>> fetchLatestSessionsOfPlayer(UUID playerUUID, int limit) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                AND + "s." + SessionsTable.SESSION_START + ">=?" +
+                ORDER_BY_SESSION_START_DESC;
+
+        return db -> {
+            Long start = db.query(fetchLatestSessionStartLimitForPlayer(playerUUID, limit));
+            return db.query(new QueryStatement<List<FinishedSession>>(sql) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setString(1, playerUUID.toString());
+                    statement.setLong(2, start != null ? start : 0L);
+                }
+
+                @Override
+                public List<FinishedSession> processResults(ResultSet set) throws SQLException {
+                    return extractDataFromSessionSelectStatement(set);
+                }
+            });
+        };
+    }
+
     private static List<FinishedSession> extractDataFromSessionSelectStatement(ResultSet set) throws SQLException {
         // Server UUID - Player UUID - Session Start - Session
         Map<ServerUUID, Map<UUID, SortedMap<Long, FinishedSession>>> byServer = new HashMap<>();
 
         // Utilities
-        String[] gms = GMTimes.getGMKeyArray();
         Comparator<DateHolder> mostRecentFirst = new DateHolderRecentComparator();
         Comparator<Long> longRecentComparator = (one, two) -> Long.compare(two, one); // Descending order, most recent first.
 
@@ -172,12 +293,12 @@ public class SessionQueries {
             String worldName = set.getString(WorldTable.NAME);
 
             if (!worldTimes.contains(worldName)) {
-                Map<String, Long> gmMap = new HashMap<>();
-                gmMap.put(gms[0], set.getLong(WorldTimesTable.SURVIVAL));
-                gmMap.put(gms[1], set.getLong(WorldTimesTable.CREATIVE));
-                gmMap.put(gms[2], set.getLong(WorldTimesTable.ADVENTURE));
-                gmMap.put(gms[3], set.getLong(WorldTimesTable.SPECTATOR));
-                GMTimes gmTimes = new GMTimes(gmMap);
+                GMTimes gmTimes = new GMTimes(
+                        set.getLong(WorldTimesTable.SURVIVAL),
+                        set.getLong(WorldTimesTable.CREATIVE),
+                        set.getLong(WorldTimesTable.ADVENTURE),
+                        set.getLong(WorldTimesTable.SPECTATOR)
+                );
                 worldTimes.setGMTimesForWorld(worldName, gmTimes);
             }
 
@@ -409,6 +530,78 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query session start count for each hour of the week within range on a server.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset in ms to determine day of week and hour of day.
+     * @param serverUUID     UUID of the Plan server.
+     * @return Matrix [day of week][hour of day], Monday is 0, 0 AM is 0.
+     */
+    public static Query<int[][]> sessionStartsPerHourOfWeek(long after, long before, long timeZoneOffset, ServerUUID serverUUID) {
+        return sessionStartsPerHourOfWeek(timeZoneOffset,
+                WHERE + SessionsTable.SESSION_END + "<=?" +
+                        AND + SessionsTable.SESSION_START + ">=?" +
+                        AND + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID,
+                before, after, serverUUID);
+    }
+
+    /**
+     * Query session start count for each hour of the week within range on all servers.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset in ms to determine day of week and hour of day.
+     * @return Matrix [day of week][hour of day], Monday is 0, 0 AM is 0.
+     */
+    public static Query<int[][]> sessionStartsPerHourOfWeek(long after, long before, long timeZoneOffset) {
+        return sessionStartsPerHourOfWeek(timeZoneOffset,
+                WHERE + SessionsTable.SESSION_END + "<=?" +
+                        AND + SessionsTable.SESSION_START + ">=?",
+                before, after);
+    }
+
+    /**
+     * Query session start count for each hour of the week of all sessions of a player.
+     *
+     * @param playerUUID     UUID of the player.
+     * @param timeZoneOffset Offset in ms to determine day of week and hour of day.
+     * @return Matrix [day of week][hour of day], Monday is 0, 0 AM is 0.
+     */
+    public static Query<int[][]> sessionStartsPerHourOfWeek(UUID playerUUID, long timeZoneOffset) {
+        return sessionStartsPerHourOfWeek(timeZoneOffset,
+                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID,
+                playerUUID);
+    }
+
+    private static Query<int[][]> sessionStartsPerHourOfWeek(long timeZoneOffset, String whereSql, Object... parameters) {
+        return database -> {
+            Sql sql = database.getSql();
+            String sessionStart = sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000");
+            String selectSessionsPerHourOfWeek = SELECT +
+                    sql.dateToDayOfWeek(sessionStart) + " as day_of_week," +
+                    sql.dateToHour(sessionStart) + " as hour_of_day," +
+                    "COUNT(1) as session_count" +
+                    FROM + SessionsTable.TABLE_NAME +
+                    whereSql +
+                    GROUP_BY + "day_of_week,hour_of_day";
+
+            List<int[]> rows = database.queryList(selectSessionsPerHourOfWeek, set -> new int[]{
+                    // 1 is Sunday, move Monday to 0 and Sunday to 6
+                    (set.getInt("day_of_week") + 5) % 7,
+                    set.getInt("hour_of_day"),
+                    set.getInt("session_count")
+            }, timeZoneOffset, timeZoneOffset, parameters);
+
+            int[][] perHourOfWeek = new int[7][24];
+            for (int[] row : rows) {
+                perHourOfWeek[row[0]][row[1]] += row[2];
+            }
+            return perHourOfWeek;
+        };
+    }
+
     /**
      * Query session count for each day within range on a server.
      *
@@ -452,6 +645,35 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Fetch session count, playtime, mob kills and deaths of a server in one query.
+     * <p>
+     * Same as {@link #sessionCount(long, long, ServerUUID)}, {@link #playtime(long, long, ServerUUID)},
+     * {@link KillQueries#mobKillCount(long, long, ServerUUID)} and {@link KillQueries#deathCount(long, long, ServerUUID)}.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param serverUUID UUID of the server
+     * @return Totals of the sessions in the timespan.
+     */
+    public static Query<SessionAggregates> sessionAggregates(long after, long before, ServerUUID serverUUID) {
+        String sql = SELECT + "COUNT(1) as count," +
+                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime," +
+                "SUM(" + SessionsTable.MOB_KILLS + ") as mob_kills," +
+                "SUM(" + SessionsTable.DEATHS + ") as deaths" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + SessionsTable.SESSION_END + ">=?" +
+                AND + SessionsTable.SESSION_START + "<=?";
+        return db -> db.queryOptional(sql, set -> new SessionAggregates(
+                        set.getLong("count"),
+                        set.getLong("playtime"),
+                        set.getLong("mob_kills"),
+                        set.getLong("deaths")
+                ), serverUUID, after, before)
+                .orElseGet(() -> new SessionAggregates(0L, 0L, 0L, 0L));
+    }
+
     public static Query<Long> playtime(long after, long before, ServerUUID serverUUID) {
         String sql = SELECT + "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
                 FROM + SessionsTable.TABLE_NAME +
@@ -789,18 +1011,18 @@ public class SessionQueries {
     }
 
     public static Query<Long> lastSeen(UUID playerUUID) {
-        String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID;
+        String sql = SELECT + "MAX(" + UserSummaryTable.LAST_SEEN + ") as last_seen" +
+                FROM + UserSummaryTable.TABLE_NAME +
+                WHERE + UserSummaryTable.USER_ID + "=" + UsersTable.SELECT_USER_ID;
         return db -> db.queryOptional(sql, set -> set.getLong("last_seen"), playerUUID)
                 .orElse(0L);
     }
 
     public static Query<Long> lastSeen(UUID playerUUID, ServerUUID serverUUID) {
-        String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
-                AND + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
+        String sql = SELECT + UserSummaryTable.LAST_SEEN +
+                FROM + UserSummaryTable.TABLE_NAME +
+                WHERE + UserSummaryTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                AND + UserSummaryTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
         return new QueryStatement<>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -914,6 +1136,25 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Check if a session of the player that started at the given time has already been stored.
+     *
+     * @param playerUUID UUID of the player.
+     * @param serverUUID UUID of the server the session was on.
+     * @param start      Epoch ms the session started.
+     * @return true if the session is in the database.
+     */
+    public static Query<Boolean> isSessionStored(UUID playerUUID, ServerUUID serverUUID, long start) {
+        String sql = SELECT + SessionsTable.ID +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_ID + '=' + UsersTable.SELECT_USER_ID +
+                AND + SessionsTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+                AND + SessionsTable.SESSION_START + "=?" +
+                LIMIT + '1';
+        return db -> db.queryOptional(sql, set -> set.getInt(SessionsTable.ID), playerUUID, serverUUID, start)
+                .isPresent();
+    }
+
     public static Query<Long> earliestSessionStart() {
         String sql = SELECT + "MIN(" + SessionsTable.SESSION_START + ") as m" +
                 FROM + SessionsTable.TABLE_NAME;
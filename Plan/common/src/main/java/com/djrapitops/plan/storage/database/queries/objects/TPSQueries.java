@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
@@ -49,6 +50,10 @@ public class TPSQueries {
     }
 
     public static Query<List<TPS>> fetchTPSDataOfServerInResolution(long after, long before, long resolution, ServerUUID serverUUID) {
+        return db -> db.query(fetchTPSSeriesOfServerInResolution(after, before, resolution, serverUUID)).toList();
+    }
+
+    public static Query<TPSSeries> fetchTPSSeriesOfServerInResolution(long after, long before, long resolution, ServerUUID serverUUID) {
         return db -> {
             String sql = SELECT +
                     min("t." + DATE) + " as " + DATE + ',' +
@@ -66,7 +71,7 @@ public class TPSQueries {
                     GROUP_BY + floor(DATE + "/?") +
                     ORDER_BY + DATE;
 
-            return db.query(new QueryStatement<List<TPS>>(sql, 50000) {
+            return db.query(new QueryStatement<TPSSeries>(sql, 50000) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setString(1, serverUUID.toString());
@@ -76,10 +81,10 @@ public class TPSQueries {
                 }
 
                 @Override
-                public List<TPS> processResults(ResultSet set) throws SQLException {
-                    List<TPS> data = new ArrayList<>();
+                public TPSSeries processResults(ResultSet set) throws SQLException {
+                    TPSSeries data = new TPSSeries();
                     while (set.next()) {
-                        data.add(extractTPS(set));
+                        extractTPS(set, data);
                     }
                     return data;
                 }
@@ -100,7 +105,32 @@ public class TPSQueries {
                 .toTPS();
     }
 
+    private static void extractTPS(ResultSet set, TPSSeries series) throws SQLException {
+        series.add(
+                set.getLong(DATE),
+                set.getDouble(TPS),
+                set.getInt(PLAYERS_ONLINE),
+                set.getDouble(CPU_USAGE),
+                set.getLong(RAM_USAGE),
+                set.getInt(ENTITIES),
+                set.getInt(CHUNKS),
+                set.getLong(FREE_DISK)
+        );
+    }
+
     public static Query<List<TPS>> fetchTPSDataOfServer(long after, long before, ServerUUID serverUUID) {
+        return db -> db.query(fetchTPSSeriesOfServer(after, before, serverUUID)).toList();
+    }
+
+    /**
+     * Fetch TPS data of a server into primitive arrays.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param serverUUID UUID of the Plan server
+     * @return Data points in ascending date order.
+     */
+    public static Query<TPSSeries> fetchTPSSeriesOfServer(long after, long before, ServerUUID serverUUID) {
         String sql = SELECT + "*" + FROM + TABLE_NAME +
                 WHERE + SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
                 AND + DATE + ">=?" +
@@ -116,11 +146,10 @@ public class TPSQueries {
             }
 
             @Override
-            public List<TPS> processResults(ResultSet set) throws SQLException {
-                List<TPS> data = new ArrayList<>();
+            public TPSSeries processResults(ResultSet set) throws SQLException {
+                TPSSeries data = new TPSSeries();
                 while (set.next()) {
-                    TPS tps = extractTPS(set);
-                    data.add(tps);
+                    extractTPS(set, data);
                 }
                 return data;
             }
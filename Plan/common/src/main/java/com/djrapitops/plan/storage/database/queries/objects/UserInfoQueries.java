@@ -41,6 +41,17 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class UserInfoQueries {
 
+    private static final String SELECT_ALL_USER_INFORMATION = SELECT +
+            "ux." + UserInfoTable.REGISTERED + ',' +
+            UserInfoTable.BANNED + ',' +
+            UserInfoTable.OP + ',' +
+            "u." + UsersTable.USER_UUID + ',' +
+            "s." + ServerTable.SERVER_UUID + " as server_uuid," +
+            UserInfoTable.JOIN_ADDRESS +
+            FROM + UserInfoTable.TABLE_NAME + " ux" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + '=' + "ux." + UserInfoTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.ID + '=' + "ux." + UserInfoTable.SERVER_ID;
+
     private UserInfoQueries() {
         /* Static method class */
     }
@@ -53,39 +64,60 @@ public class UserInfoQueries {
      * @return Map: Server UUID - List of user information
      */
     public static Query<Map<ServerUUID, List<UserInfo>>> fetchAllUserInformation() {
-        String sql = SELECT +
-                "ux." + UserInfoTable.REGISTERED + ',' +
-                UserInfoTable.BANNED + ',' +
-                UserInfoTable.OP + ',' +
-                "u." + UsersTable.USER_UUID + ',' +
-                "s." + ServerTable.SERVER_UUID + " as server_uuid," +
-                UserInfoTable.JOIN_ADDRESS +
-                FROM + UserInfoTable.TABLE_NAME + " ux" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + '=' + "ux." + UserInfoTable.USER_ID +
-                INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.ID + '=' + "ux." + UserInfoTable.SERVER_ID;
-
-        return new QueryAllStatement<>(sql, 50000) {
+        return new QueryAllStatement<>(SELECT_ALL_USER_INFORMATION, 50000) {
             @Override
             public Map<ServerUUID, List<UserInfo>> processResults(ResultSet set) throws SQLException {
-                Map<ServerUUID, List<UserInfo>> serverMap = new HashMap<>();
-                while (set.next()) {
-                    ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
-                    UUID uuid = UUID.fromString(set.getString(UsersTable.USER_UUID));
+                return extractUserInformationByServer(set);
+            }
+        };
+    }
 
-                    List<UserInfo> userInfos = serverMap.computeIfAbsent(serverUUID, Lists::create);
+    /**
+     * Query database for user information of a range of user_info row ids.
+     * <p>
+     * Allows going through the whole table in pages without loading all of it into memory.
+     *
+     * @param afterId User info row id to start after (exclusive).
+     * @param upToId  Last user info row id to include (inclusive).
+     * @return Map: Server UUID - List of user information
+     */
+    public static Query<Map<ServerUUID, List<UserInfo>>> fetchUserInformationOfIdRange(int afterId, int upToId) {
+        String sql = SELECT_ALL_USER_INFORMATION +
+                WHERE + "ux." + UserInfoTable.ID + ">?" +
+                AND + "ux." + UserInfoTable.ID + "<=?";
 
-                    long registered = set.getLong(UserInfoTable.REGISTERED);
-                    boolean banned = set.getBoolean(UserInfoTable.BANNED);
-                    boolean op = set.getBoolean(UserInfoTable.OP);
-                    String joinAddress = set.getString(UserInfoTable.JOIN_ADDRESS);
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, upToId);
+            }
 
-                    userInfos.add(new UserInfo(uuid, serverUUID, registered, op, joinAddress, banned));
-                }
-                return serverMap;
+            @Override
+            public Map<ServerUUID, List<UserInfo>> processResults(ResultSet set) throws SQLException {
+                return extractUserInformationByServer(set);
             }
         };
     }
 
+    private static Map<ServerUUID, List<UserInfo>> extractUserInformationByServer(ResultSet set) throws SQLException {
+        Map<ServerUUID, List<UserInfo>> serverMap = new HashMap<>();
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
+            UUID uuid = UUID.fromString(set.getString(UsersTable.USER_UUID));
+
+            List<UserInfo> userInfos = serverMap.computeIfAbsent(serverUUID, Lists::create);
+
+            long registered = set.getLong(UserInfoTable.REGISTERED);
+            boolean banned = set.getBoolean(UserInfoTable.BANNED);
+            boolean op = set.getBoolean(UserInfoTable.OP);
+            String joinAddress = set.getString(UserInfoTable.JOIN_ADDRESS);
+
+            userInfos.add(new UserInfo(uuid, serverUUID, registered, op, joinAddress, banned));
+        }
+        return serverMap;
+    }
+
     /**
      * Query database for User information of a specific player.
      *
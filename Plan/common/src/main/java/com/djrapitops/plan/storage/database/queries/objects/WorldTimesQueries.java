@@ -73,13 +73,11 @@ public class WorldTimesQueries {
 
             @Override
             public WorldTimes processResults(ResultSet set) throws SQLException {
-                String[] gms = GMTimes.getGMKeyArray();
-
                 WorldTimes worldTimes = new WorldTimes();
                 while (set.next()) {
                     String worldName = set.getString(WORLD_COLUMN);
 
-                    GMTimes gmTimes = extractGMTimes(set, gms);
+                    GMTimes gmTimes = extractGMTimes(set);
 
                     worldTimes.setGMTimesForWorld(worldName, gmTimes);
                 }
@@ -108,13 +106,11 @@ public class WorldTimesQueries {
 
             @Override
             public WorldTimes processResults(ResultSet set) throws SQLException {
-                String[] gms = GMTimes.getGMKeyArray();
-
                 WorldTimes worldTimes = new WorldTimes();
                 while (set.next()) {
                     String worldName = set.getString(WORLD_COLUMN);
 
-                    GMTimes gmTimes = extractGMTimes(set, gms);
+                    GMTimes gmTimes = extractGMTimes(set);
 
                     worldTimes.setGMTimesForWorld(worldName, gmTimes);
                 }
@@ -145,15 +141,13 @@ public class WorldTimesQueries {
 
             @Override
             public Map<ServerUUID, WorldTimes> processResults(ResultSet set) throws SQLException {
-                String[] gms = GMTimes.getGMKeyArray();
-
                 Map<ServerUUID, WorldTimes> worldTimesMap = new HashMap<>();
                 while (set.next()) {
                     ServerUUID serverUUID = ServerUUID.fromString(set.getString(ServerTable.SERVER_UUID));
                     WorldTimes worldTimes = worldTimesMap.getOrDefault(serverUUID, new WorldTimes());
                     String worldName = set.getString(WORLD_COLUMN);
 
-                    GMTimes gmTimes = extractGMTimes(set, gms);
+                    GMTimes gmTimes = extractGMTimes(set);
 
                     worldTimes.setGMTimesForWorld(worldName, gmTimes);
                     worldTimesMap.put(serverUUID, worldTimes);
@@ -163,12 +157,13 @@ public class WorldTimesQueries {
         };
     }
 
-    private static GMTimes extractGMTimes(ResultSet set, String[] gms) throws SQLException {
-        Map<String, Long> gmMap = new HashMap<>();
-        for (String gameMode : gms) {
-            gmMap.put(gameMode, set.getLong(gameMode));
-        }
-        return new GMTimes(gmMap);
+    private static GMTimes extractGMTimes(ResultSet set) throws SQLException {
+        return new GMTimes(
+                set.getLong(GMTimes.SURVIVAL),
+                set.getLong(GMTimes.CREATIVE),
+                set.getLong(GMTimes.ADVENTURE),
+                set.getLong(GMTimes.SPECTATOR)
+        );
     }
 
     public static Query<GMTimes> fetchGMTimes(long after, long before, ServerUUID serverUUID) {
@@ -193,7 +188,7 @@ public class WorldTimesQueries {
 
             @Override
             public GMTimes processResults(ResultSet set) throws SQLException {
-                return set.next() ? extractGMTimes(set, GMTimes.getGMKeyArray()) : new GMTimes();
+                return set.next() ? extractGMTimes(set) : new GMTimes();
             }
         };
     }
@@ -23,8 +23,8 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
-import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserSummaryTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 
 import java.sql.PreparedStatement;
@@ -65,12 +65,12 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL;
 
-        String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
-                "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
-                "COUNT(1) as count," +
-                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
-                FROM + SessionsTable.TABLE_NAME + " s" +
-                GROUP_BY + "s." + SessionsTable.USER_ID;
+        String selectSessionData = SELECT + UserSummaryTable.USER_ID + ',' +
+                "MAX(" + UserSummaryTable.LAST_SEEN + ") as last_seen," +
+                "SUM(" + UserSummaryTable.SESSION_COUNT + ") as count," +
+                "SUM(" + UserSummaryTable.ACTIVE_PLAYTIME + ") as active_playtime" +
+                FROM + UserSummaryTable.TABLE_NAME +
+                GROUP_BY + UserSummaryTable.USER_ID;
 
         String selectBanned = SELECT + DISTINCT + "ub." + UserInfoTable.USER_ID +
                 FROM + UserInfoTable.TABLE_NAME + " ub" +
@@ -89,7 +89,7 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 FROM + UsersTable.TABLE_NAME + " u" +
                 LEFT_JOIN + '(' + selectBanned + ") ban on ban." + UserInfoTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + selectLatestGeolocations + ") geo on geo." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
-                LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
+                LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + UserSummaryTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + NetworkActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 ORDER_BY + "ses.last_seen DESC LIMIT ?";
 
@@ -123,4 +123,4 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
             }
         });
     }
-}
\ No newline at end of file
+}
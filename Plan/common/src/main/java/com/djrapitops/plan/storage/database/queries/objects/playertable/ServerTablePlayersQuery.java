@@ -73,13 +73,12 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL;
 
-        String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
-                "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
-                "COUNT(1) as count," +
-                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
-                FROM + SessionsTable.TABLE_NAME + " s" +
-                WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
-                GROUP_BY + "s." + SessionsTable.USER_ID;
+        String selectSessionData = SELECT + UserSummaryTable.USER_ID + ',' +
+                UserSummaryTable.LAST_SEEN + ',' +
+                UserSummaryTable.SESSION_COUNT + " as count," +
+                UserSummaryTable.ACTIVE_PLAYTIME +
+                FROM + UserSummaryTable.TABLE_NAME +
+                WHERE + UserSummaryTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
 
         String selectBaseUsers = SELECT +
                 "u." + UsersTable.USER_UUID + ',' +
@@ -94,7 +93,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 FROM + UsersTable.TABLE_NAME + " u" +
                 INNER_JOIN + UserInfoTable.TABLE_NAME + " on u." + UsersTable.ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectLatestGeolocations + ") geo on geo." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
-                LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
+                LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + UserSummaryTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
                 ORDER_BY + "ses.last_seen DESC LIMIT ?";
@@ -61,4 +61,15 @@ public class SQLiteSchemaQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    public static Query<Boolean> doesIndexExist(String indexName) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + "sqlite_master" + WHERE + "type='index'" + AND + "name=?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, indexName);
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Insert;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
+
+/**
+ * Table information about 'plan_backup_copy_progress'.
+ * <p>
+ * The table only exists in a database while {@link BackupCopyTransaction} is copying data into it,
+ * so that an interrupted copy can continue from the last committed page.
+ *
+ * @author AuroraLS3
+ */
+public class BackupCopyProgressTable {
+
+    public static final String TABLE_NAME = "plan_backup_copy_progress";
+
+    public static final String STEP = "step";
+    public static final String SOURCE = "source_db";
+    public static final String COPIED_UP_TO = "copied_up_to";
+    public static final String FINISHED = "finished";
+
+    public static final String INSERT_STATEMENT = Insert.values(TABLE_NAME,
+            STEP, SOURCE, COPIED_UP_TO, FINISHED);
+    public static final String UPDATE_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            COPIED_UP_TO + "=?," +
+            FINISHED + "=? WHERE " +
+            STEP + "=?";
+
+    private BackupCopyProgressTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(STEP, Sql.varchar(50)).notNull().unique()
+                .column(SOURCE, Sql.varchar(255)).notNull()
+                .column(COPIED_UP_TO, Sql.INT).notNull()
+                .column(FINISHED, Sql.BOOL).notNull().defaultValue(false)
+                .toString();
+    }
+}
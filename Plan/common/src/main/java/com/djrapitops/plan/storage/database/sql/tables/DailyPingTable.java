@@ -0,0 +1,161 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.DailyPingBackfillPatch;
+import com.djrapitops.plan.storage.database.transactions.patches.DailyPingUniquePatch;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table information about 'plan_ping_daily'.
+ * <p>
+ * Holds one row of rolled up {@link PingTable} data per player, server and day (in the configured time zone),
+ * so that graphs over long periods do not need to read every stored ping.
+ * {@link #PING_SUM} / {@link #PING_COUNT} is the average ping of the day.
+ * The samples columns are a histogram of the average ping values rolled up into the row.
+ * <p>
+ * Patches related to this table:
+ * {@link DailyPingBackfillPatch}
+ * {@link DailyPingUniquePatch}
+ *
+ * @author AuroraLS3
+ */
+public class DailyPingTable {
+
+    public static final String TABLE_NAME = "plan_ping_daily";
+
+    public static final String ID = "id";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
+    public static final String DATE = "date";
+    public static final String MAX_PING = "max_ping";
+    public static final String MIN_PING = "min_ping";
+    public static final String PING_SUM = "ping_sum";
+    public static final String PING_COUNT = "ping_count";
+    public static final String SAMPLES_UNDER_50 = "samples_under_50";
+    public static final String SAMPLES_50_TO_99 = "samples_50_to_99";
+    public static final String SAMPLES_100_TO_199 = "samples_100_to_199";
+    public static final String SAMPLES_200_OR_MORE = "samples_200_or_more";
+
+    public static final String UNIQUE_INDEX = "plan_ping_daily_unique_index";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            DATE + ',' +
+            MIN_PING + ',' +
+            MAX_PING + ',' +
+            PING_SUM + ',' +
+            PING_COUNT + ',' +
+            SAMPLES_UNDER_50 + ',' +
+            SAMPLES_50_TO_99 + ',' +
+            SAMPLES_100_TO_199 + ',' +
+            SAMPLES_200_OR_MORE +
+            ") VALUES (" + UsersTable.SELECT_USER_ID + ',' + ServerTable.SELECT_SERVER_ID + ", ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private DailyPingTable() {
+        /* Static information class */
+    }
+
+    /**
+     * Get the start of the day the given date is on.
+     *
+     * @param date     Epoch ms.
+     * @param timeZone Time zone the days are counted in, from the config.
+     * @return Epoch ms of the start of the day in the time zone.
+     */
+    public static long toStartOfDay(long date, TimeZone timeZone) {
+        return date - Math.floorMod(date + timeZone.getOffset(date), TimeUnit.DAYS.toMillis(1L));
+    }
+
+    /**
+     * Create SQL that adds rolled up ping to the row of the day, inserting the row if it doesn't exist yet.
+     * <p>
+     * Relies on {@link #UNIQUE_INDEX} over user_id, server_id and date.
+     *
+     * @param dbType Type of the database, MySQL and SQLite have different syntax for upserts.
+     * @return INSERT statement with the same parameters as {@link #INSERT_STATEMENT}.
+     */
+    public static String upsertStatement(DBType dbType) {
+        if (dbType.supportsMySQLQueries()) {
+            return INSERT_STATEMENT + " ON DUPLICATE KEY UPDATE " +
+                    MIN_PING + "=LEAST(" + MIN_PING + ",VALUES(" + MIN_PING + "))," +
+                    MAX_PING + "=GREATEST(" + MAX_PING + ",VALUES(" + MAX_PING + "))," +
+                    PING_SUM + '=' + PING_SUM + "+VALUES(" + PING_SUM + ")," +
+                    PING_COUNT + '=' + PING_COUNT + "+VALUES(" + PING_COUNT + ")," +
+                    SAMPLES_UNDER_50 + '=' + SAMPLES_UNDER_50 + "+VALUES(" + SAMPLES_UNDER_50 + ")," +
+                    SAMPLES_50_TO_99 + '=' + SAMPLES_50_TO_99 + "+VALUES(" + SAMPLES_50_TO_99 + ")," +
+                    SAMPLES_100_TO_199 + '=' + SAMPLES_100_TO_199 + "+VALUES(" + SAMPLES_100_TO_199 + ")," +
+                    SAMPLES_200_OR_MORE + '=' + SAMPLES_200_OR_MORE + "+VALUES(" + SAMPLES_200_OR_MORE + ')';
+        }
+        return INSERT_STATEMENT + " ON CONFLICT(" + USER_ID + ',' + SERVER_ID + ',' + DATE + ") DO UPDATE SET " +
+                MIN_PING + "=MIN(" + MIN_PING + ",excluded." + MIN_PING + ")," +
+                MAX_PING + "=MAX(" + MAX_PING + ",excluded." + MAX_PING + ")," +
+                PING_SUM + '=' + PING_SUM + "+excluded." + PING_SUM + ',' +
+                PING_COUNT + '=' + PING_COUNT + "+excluded." + PING_COUNT + ',' +
+                SAMPLES_UNDER_50 + '=' + SAMPLES_UNDER_50 + "+excluded." + SAMPLES_UNDER_50 + ',' +
+                SAMPLES_50_TO_99 + '=' + SAMPLES_50_TO_99 + "+excluded." + SAMPLES_50_TO_99 + ',' +
+                SAMPLES_100_TO_199 + '=' + SAMPLES_100_TO_199 + "+excluded." + SAMPLES_100_TO_199 + ',' +
+                SAMPLES_200_OR_MORE + '=' + SAMPLES_200_OR_MORE + "+excluded." + SAMPLES_200_OR_MORE;
+    }
+
+    /**
+     * Get histogram bucket counts for a single ping value.
+     *
+     * @param ping Stored ping.
+     * @return Array with 1 in the index of the bucket the average ping belongs to, in column order.
+     */
+    public static int[] toSampleBuckets(Ping ping) {
+        double average = ping.getAverage();
+        int[] buckets = new int[4];
+        if (average < 50) {
+            buckets[0] = 1;
+        } else if (average < 100) {
+            buckets[1] = 1;
+        } else if (average < 200) {
+            buckets[2] = 1;
+        } else {
+            buckets[3] = 1;
+        }
+        return buckets;
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(MAX_PING, Sql.INT).notNull()
+                .column(MIN_PING, Sql.INT).notNull()
+                .column(PING_SUM, Sql.DOUBLE).notNull()
+                .column(PING_COUNT, Sql.INT).notNull()
+                .column(SAMPLES_UNDER_50, Sql.INT).notNull().defaultValue("0")
+                .column(SAMPLES_50_TO_99, Sql.INT).notNull().defaultValue("0")
+                .column(SAMPLES_100_TO_199, Sql.INT).notNull().defaultValue("0")
+                .column(SAMPLES_200_OR_MORE, Sql.INT).notNull().defaultValue("0")
+                .foreignKey(USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+}
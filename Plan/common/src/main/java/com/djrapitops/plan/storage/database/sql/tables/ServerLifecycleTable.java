@@ -0,0 +1,66 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.ServerLifecycleBackfillPatch;
+
+/**
+ * Table information about 'plan_server_lifecycle'.
+ * <p>
+ * Holds a row for each time a server was started or stopped,
+ * so that uptime does not need to be guessed from gaps in {@link TPSTable} data.
+ * <p>
+ * Patches related to this table:
+ * {@link ServerLifecycleBackfillPatch}
+ *
+ * @author AuroraLS3
+ */
+public class ServerLifecycleTable {
+
+    public static final String TABLE_NAME = "plan_server_lifecycle";
+
+    public static final String ID = "id";
+    public static final String SERVER_ID = "server_id";
+    public static final String EVENT = "event";
+    public static final String DATE = "date";
+
+    public static final String EVENT_START = "start";
+    public static final String EVENT_STOP = "stop";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_ID + ',' +
+            EVENT + ',' +
+            DATE +
+            ") VALUES (" + ServerTable.SELECT_SERVER_ID + ", ?, ?)";
+
+    private ServerLifecycleTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(EVENT, Sql.varchar(5)).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+}
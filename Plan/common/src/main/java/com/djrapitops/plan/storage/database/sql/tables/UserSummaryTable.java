@@ -0,0 +1,143 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.UserSummaryBackfillPatch;
+import com.djrapitops.plan.storage.database.transactions.patches.UserSummaryUniquePatch;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Table information about 'plan_user_summary'.
+ * <p>
+ * Holds one row of {@link SessionsTable} totals per player and server,
+ * so that retention and players tables do not need to group every session of every player.
+ * Updated whenever a session is stored.
+ * <p>
+ * Patches related to this table:
+ * {@link UserSummaryBackfillPatch}
+ * {@link UserSummaryUniquePatch}
+ *
+ * @author AuroraLS3
+ */
+public class UserSummaryTable {
+
+    public static final String TABLE_NAME = "plan_user_summary";
+
+    public static final String ID = "id";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
+    public static final String REGISTERED = "registered";
+    public static final String LAST_SEEN = "last_seen";
+    public static final String PLAYTIME = "playtime";
+    public static final String ACTIVE_PLAYTIME = "active_playtime";
+    public static final String SESSION_COUNT = "session_count";
+
+    public static final String UNIQUE_INDEX = "plan_user_summary_unique_index";
+
+    private static final String SELECT_REGISTERED = '(' + SELECT + "MIN(ui." + UserInfoTable.REGISTERED + ')' +
+            FROM + UserInfoTable.TABLE_NAME + " ui" +
+            WHERE + "ui." + UserInfoTable.USER_ID + '=' + UsersTable.SELECT_USER_ID +
+            AND + "ui." + UserInfoTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID + ')';
+
+    private UserSummaryTable() {
+        /* Static information class */
+    }
+
+    /**
+     * Create SQL that adds a session to the totals of a player, inserting the row if it doesn't exist yet.
+     * <p>
+     * Relies on {@link #UNIQUE_INDEX} over user_id and server_id.
+     *
+     * @param dbType Type of the database, MySQL and SQLite have different syntax for upserts.
+     * @return INSERT statement with parameters: player uuid, server uuid, player uuid, server uuid, session start, session end, playtime, active playtime.
+     */
+    public static String upsertStatement(DBType dbType) {
+        String insert = "INSERT INTO " + TABLE_NAME + " (" +
+                USER_ID + ',' +
+                SERVER_ID + ',' +
+                REGISTERED + ',' +
+                LAST_SEEN + ',' +
+                PLAYTIME + ',' +
+                ACTIVE_PLAYTIME + ',' +
+                SESSION_COUNT +
+                ") VALUES (" + UsersTable.SELECT_USER_ID + ',' + ServerTable.SELECT_SERVER_ID +
+                ", COALESCE(" + SELECT_REGISTERED + ",?), ?, ?, ?, 1)";
+        if (dbType.supportsMySQLQueries()) {
+            return insert + " ON DUPLICATE KEY UPDATE " +
+                    LAST_SEEN + "=GREATEST(" + LAST_SEEN + ",VALUES(" + LAST_SEEN + "))," +
+                    PLAYTIME + '=' + PLAYTIME + "+VALUES(" + PLAYTIME + ")," +
+                    ACTIVE_PLAYTIME + '=' + ACTIVE_PLAYTIME + "+VALUES(" + ACTIVE_PLAYTIME + ")," +
+                    SESSION_COUNT + '=' + SESSION_COUNT + "+1";
+        }
+        return insert + " ON CONFLICT(" + USER_ID + ',' + SERVER_ID + ") DO UPDATE SET " +
+                LAST_SEEN + "=MAX(" + LAST_SEEN + ",excluded." + LAST_SEEN + ")," +
+                PLAYTIME + '=' + PLAYTIME + "+excluded." + PLAYTIME + ',' +
+                ACTIVE_PLAYTIME + '=' + ACTIVE_PLAYTIME + "+excluded." + ACTIVE_PLAYTIME + ',' +
+                SESSION_COUNT + '=' + SESSION_COUNT + "+1";
+    }
+
+    /**
+     * Create SQL that calculates summary rows from sessions table.
+     *
+     * @param sessionsWhere Optional WHERE clause for the sessions to summarize, sessions table is aliased as 's'. Empty String for all.
+     * @return INSERT INTO ... SELECT statement.
+     */
+    public static String insertFromSessionsSQL(String sessionsWhere) {
+        return "INSERT INTO " + TABLE_NAME + " (" +
+                USER_ID + ',' +
+                SERVER_ID + ',' +
+                REGISTERED + ',' +
+                LAST_SEEN + ',' +
+                PLAYTIME + ',' +
+                ACTIVE_PLAYTIME + ',' +
+                SESSION_COUNT +
+                ") " + SELECT +
+                "s." + SessionsTable.USER_ID + ',' +
+                "s." + SessionsTable.SERVER_ID + ',' +
+                "COALESCE((" + SELECT + "MIN(ui." + UserInfoTable.REGISTERED + ')' +
+                FROM + UserInfoTable.TABLE_NAME + " ui" +
+                WHERE + "ui." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID +
+                AND + "ui." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID +
+                "),MIN(s." + SessionsTable.SESSION_START + "))," +
+                "MAX(s." + SessionsTable.SESSION_END + ")," +
+                "SUM(s." + SessionsTable.SESSION_END + "-s." + SessionsTable.SESSION_START + ")," +
+                "SUM(s." + SessionsTable.SESSION_END + "-s." + SessionsTable.SESSION_START + "-s." + SessionsTable.AFK_TIME + ")," +
+                "COUNT(1)" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                sessionsWhere +
+                GROUP_BY + "s." + SessionsTable.USER_ID + ",s." + SessionsTable.SERVER_ID;
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(REGISTERED, Sql.LONG).notNull()
+                .column(LAST_SEEN, Sql.LONG).notNull()
+                .column(PLAYTIME, Sql.LONG).notNull()
+                .column(ACTIVE_PLAYTIME, Sql.LONG).notNull()
+                .column(SESSION_COUNT, Sql.INT).notNull()
+                .foreignKey(USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+}
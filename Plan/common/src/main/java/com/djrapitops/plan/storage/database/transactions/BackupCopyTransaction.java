@@ -17,27 +17,76 @@
 package com.djrapitops.plan.storage.database.transactions;
 
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.MySQLDB;
+import com.djrapitops.plan.storage.database.SQLiteDB;
 import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
 import java.util.function.Function;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
+
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Large tables are copied in pages of row ids so that the whole source database is never in memory at once.
+ * The transaction is committed after every page and the progress is stored in {@link BackupCopyProgressTable},
+ * so that a copy from the same source that was interrupted continues where it left off instead of starting over.
  *
  * @author AuroraLS3
  */
 public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
+    private static final int PAGE_SIZE = 10000;
+    // Session rows are joined with world times and kills, so fewer fit in a page.
+    private static final int SESSION_PAGE_SIZE = 2500;
+
+    private static final String STEP_SERVERS = "servers";
+    private static final String STEP_USERS = "users";
+    private static final String STEP_WORLDS = "worlds";
+    private static final String STEP_TPS = "tps";
+    private static final String STEP_WEB_GROUPS = "web_groups";
+    private static final String STEP_WEB_USERS = "web_users";
+    private static final String STEP_GEOLOCATIONS = "geolocations";
+    private static final String STEP_NICKNAMES = "nicknames";
+    private static final String STEP_SESSIONS = "sessions";
+    private static final String STEP_USER_INFO = "user_info";
+    private static final String STEP_PING = "ping";
+    private static final String STEP_DAILY_PING = "ping_daily";
+    private static final String STEP_USER_SUMMARY = "user_summary";
+
+    private static final List<String> STEPS = Arrays.asList(
+            STEP_SERVERS, STEP_USERS, STEP_WORLDS, STEP_TPS, STEP_WEB_GROUPS, STEP_WEB_USERS,
+            STEP_GEOLOCATIONS, STEP_NICKNAMES, STEP_SESSIONS, STEP_USER_INFO, STEP_PING,
+            STEP_DAILY_PING, STEP_USER_SUMMARY
+    );
+
     private final Database sourceDB;
     private final Database destinationDB;
+    private final ProgressListener progressListener;
+
+    private final Map<String, Integer> copiedUpTo = new HashMap<>();
+    private final Set<String> finishedSteps = new HashSet<>();
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, (step, copied, total) -> {});
+    }
+
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, ProgressListener progressListener) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -47,20 +96,135 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
     @Override
     protected void performOperations() {
-        // Clear the database.
-        super.performOperations();
-
-        copyPlanServerInformation();
-        copyCommonUserInformation();
-        copyWorldNames();
-        copyTPSData();
-        copyWebGroups();
-        copyPlanWebUsers();
-        copyGeoInformation();
-        copyNicknameData();
-        copySessionsWithKillAndWorldData();
-        copyPerServerUserInformation();
-        copyPingData();
+        if (!canResumePreviousCopy()) {
+            // Clear the database.
+            super.performOperations();
+            startProgressTracking();
+        }
+
+        copyAtOnce(STEP_SERVERS, this::copyPlanServerInformation);
+        copyInPages(STEP_USERS, UsersTable.TABLE_NAME, PAGE_SIZE,
+                LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries::fetchBaseUsersOfIdRange);
+        copyAtOnce(STEP_WORLDS, this::copyWorldNames);
+        copyInPages(STEP_TPS, TPSTable.TABLE_NAME, PAGE_SIZE,
+                LargeStoreQueries::storeAllTPSData, LargeFetchQueries::fetchTPSDataOfIdRange);
+        copyAtOnce(STEP_WEB_GROUPS, this::copyWebGroups);
+        copyAtOnce(STEP_WEB_USERS, this::copyPlanWebUsers);
+        copyInPages(STEP_GEOLOCATIONS, GeoInfoTable.TABLE_NAME, PAGE_SIZE,
+                LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries::fetchGeoInformationOfIdRange);
+        copyInPages(STEP_NICKNAMES, NicknamesTable.TABLE_NAME, PAGE_SIZE,
+                LargeStoreQueries::storeAllNicknameData, NicknameQueries::fetchNicknameDataOfIdRange);
+        copyInPages(STEP_SESSIONS, SessionsTable.TABLE_NAME, SESSION_PAGE_SIZE,
+                LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries::fetchSessionsOfIdRange);
+        copyInPages(STEP_USER_INFO, UserInfoTable.TABLE_NAME, PAGE_SIZE,
+                LargeStoreQueries::storePerServerUserInformation, UserInfoQueries::fetchUserInformationOfIdRange);
+        copyInPages(STEP_PING, PingTable.TABLE_NAME, PAGE_SIZE,
+                LargeStoreQueries::storeAllPingData, PingQueries::fetchPingDataOfIdRange);
+        copyInPages(STEP_DAILY_PING, DailyPingTable.TABLE_NAME, PAGE_SIZE,
+                LargeStoreQueries::storeAllDailyPingData, PingQueries::fetchDailyPingDataOfIdRange);
+        copyAtOnce(STEP_USER_SUMMARY, this::calculateUserSummaries);
+
+        dropTable(BackupCopyProgressTable.TABLE_NAME);
+    }
+
+    private void calculateUserSummaries() {
+        // Calculated from the copied sessions instead of copied, so that the totals match the sessions.
+        execute(DELETE_FROM + UserSummaryTable.TABLE_NAME);
+        execute(UserSummaryTable.insertFromSessionsSQL(""));
+    }
+
+    private boolean canResumePreviousCopy() {
+        if (!hasTable(BackupCopyProgressTable.TABLE_NAME)) return false;
+
+        String sql = SELECT + '*' + FROM + BackupCopyProgressTable.TABLE_NAME;
+        boolean sameSource = query(new QueryAllStatement<>(sql) {
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                boolean hasRows = false;
+                while (set.next()) {
+                    hasRows = true;
+                    if (!getSourceIdentifier().equals(set.getString(BackupCopyProgressTable.SOURCE))) {
+                        return false;
+                    }
+                    String step = set.getString(BackupCopyProgressTable.STEP);
+                    copiedUpTo.put(step, set.getInt(BackupCopyProgressTable.COPIED_UP_TO));
+                    if (set.getBoolean(BackupCopyProgressTable.FINISHED)) finishedSteps.add(step);
+                }
+                return hasRows;
+            }
+        });
+        if (!sameSource) {
+            copiedUpTo.clear();
+            finishedSteps.clear();
+        }
+        return sameSource;
+    }
+
+    private void startProgressTracking() {
+        dropTable(BackupCopyProgressTable.TABLE_NAME);
+        execute(BackupCopyProgressTable.createTableSQL(dbType));
+        execute(new ExecBatchStatement(BackupCopyProgressTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (String step : STEPS) {
+                    statement.setString(1, step);
+                    statement.setString(2, getSourceIdentifier());
+                    statement.setInt(3, 0);
+                    statement.setBoolean(4, false);
+                    statement.addBatch();
+                }
+            }
+        });
+        commitMidTransaction();
+    }
+
+    private String getSourceIdentifier() {
+        String identifier = sourceDB.getType().getName();
+        if (sourceDB instanceof SQLiteDB) {
+            identifier += ':' + ((SQLiteDB) sourceDB).getDbName();
+        } else if (sourceDB instanceof MySQLDB) {
+            identifier += ':' + ((MySQLDB) sourceDB).getDatabaseAddress();
+        }
+        return identifier;
+    }
+
+    private void storeProgress(String step, int copied, boolean finished) {
+        execute(new ExecStatement(BackupCopyProgressTable.UPDATE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, copied);
+                statement.setBoolean(2, finished);
+                statement.setString(3, step);
+            }
+        });
+        // Data of the step and the progress are committed together, so resuming never duplicates rows.
+        commitMidTransaction();
+    }
+
+    private void copyAtOnce(String step, Runnable copyOperation) {
+        if (finishedSteps.contains(step)) return;
+
+        copyOperation.run();
+        storeProgress(step, 0, true);
+        progressListener.onProgress(step, 0, 0);
+    }
+
+    private <T> void copyInPages(
+            String step, String tableName, int pageSize,
+            Function<T, Executable> executableCreator, PageQuery<T> pageQuery
+    ) {
+        if (finishedSteps.contains(step)) return;
+
+        int largestId = sourceDB.query(LargeFetchQueries.fetchLargestId(tableName));
+        int copied = copiedUpTo.getOrDefault(step, 0);
+        while (copied < largestId) {
+            int pageEnd = (int) Math.min((long) copied + pageSize, largestId);
+            copy(executableCreator, pageQuery.ofIdRange(copied, pageEnd));
+            copied = pageEnd;
+            storeProgress(step, copied, false);
+            progressListener.onProgress(step, copied, largestId);
+        }
+        storeProgress(step, copied, true);
     }
 
     private void copyWebGroups() {
@@ -74,18 +238,6 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         execute(executableCreator.apply(sourceDB.query(dataQuery)));
     }
 
-    private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
-    }
-
-    private void copyGeoInformation() {
-        copy(LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries.fetchAllGeoInformation());
-    }
-
-    private void copyNicknameData() {
-        copy(LargeStoreQueries::storeAllNicknameData, NicknameQueries.fetchAllNicknameData());
-    }
-
     private void copyPlanWebUsers() {
         copy(LargeStoreQueries::storeAllPlanWebUsers, WebUserQueries.fetchAllUsers());
     }
@@ -95,23 +247,32 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchPlanServerInformationCollection());
     }
 
-    private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
-    }
-
-    private void copyPerServerUserInformation() {
-        copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
-    }
-
     private void copyWorldNames() {
         copy(LargeStoreQueries::storeAllWorldNames, LargeFetchQueries.fetchAllWorldNames());
     }
 
-    private void copyCommonUserInformation() {
-        copy(LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries.fetchAllBaseUsers());
+    /**
+     * Query of one page of a table, used for copying large tables.
+     *
+     * @param <T> Type of the data in the page.
+     */
+    @FunctionalInterface
+    private interface PageQuery<T> {
+        Query<T> ofIdRange(int afterId, int upToId);
     }
 
-    private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+    /**
+     * Receives progress of the copy operation after every committed page.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called after data of a step has been committed.
+         *
+         * @param step       Name of the copied table, eg. "sessions".
+         * @param copiedUpTo Largest row id of the source table that has been copied.
+         * @param largestId  Largest row id of the source table, 0 if the table was copied all at once.
+         */
+        void onProgress(String step, int copiedUpTo, int largestId);
     }
-}
\ No newline at end of file
+}
@@ -27,8 +27,25 @@ import com.djrapitops.plan.storage.database.Database;
  */
 public abstract class ThrowawayTransaction extends Transaction {
 
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.BULK;
+    }
+
+    private boolean thrownAway = false;
+
     @Override
     protected boolean shouldBeExecuted() {
-        return getDBState() != Database.State.CLOSING && dbIsNotUnderHeavyLoad();
+        thrownAway = getDBState() == Database.State.CLOSING || !dbIsNotUnderHeavyLoad();
+        return !thrownAway;
+    }
+
+    /**
+     * Check if the transaction was skipped because the database was closing or under heavy load.
+     *
+     * @return true if the transaction was thrown away.
+     */
+    public boolean wasThrownAway() {
+        return thrownAway;
     }
 }
\ No newline at end of file
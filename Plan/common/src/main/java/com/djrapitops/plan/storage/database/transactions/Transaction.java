@@ -70,7 +70,7 @@ public abstract class Transaction {
 
         attempts++; // Keeps track how many attempts have been made to avoid infinite recursion.
 
-        if (db.isUnderHeavyLoad()) {
+        if (db.isUnderHeavyLoad() && getPriority() != TransactionPriority.CRITICAL) {
             try {
                 Thread.yield();
                 Thread.sleep(db.getHeavyLoadDelayMs());
@@ -169,6 +169,17 @@ public abstract class Transaction {
         return true;
     }
 
+    /**
+     * Override this method to place the transaction in a different lane of the transaction queue.
+     * <p>
+     * Transactions are executed only after all transactions with higher priority have been executed.
+     *
+     * @return Priority of the transaction, {@link TransactionPriority#NORMAL} by default.
+     */
+    public TransactionPriority getPriority() {
+        return TransactionPriority.NORMAL;
+    }
+
     /**
      * Implement this method for transaction execution.
      */
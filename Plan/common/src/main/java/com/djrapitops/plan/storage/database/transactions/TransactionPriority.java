@@ -0,0 +1,62 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+/**
+ * Lanes of the transaction queue, in the order they are executed.
+ * <p>
+ * A transaction is only executed when all lanes with higher priority are empty.
+ *
+ * @author AuroraLS3
+ */
+public enum TransactionPriority {
+
+    /**
+     * Data that would be lost if not stored, like sessions, player registration and schema patches.
+     * <p>
+     * Never dropped, capacity only triggers a warning.
+     */
+    CRITICAL(1000, false),
+    /**
+     * Most transactions.
+     * <p>
+     * Never dropped, capacity only triggers a warning.
+     */
+    NORMAL(2000, false),
+    /**
+     * Data gathered periodically or in large amounts, like TPS, ping and access log.
+     * <p>
+     * New transactions are dropped when the lane is full.
+     */
+    BULK(500, true);
+
+    private final int capacity;
+    private final boolean droppable;
+
+    TransactionPriority(int capacity, boolean droppable) {
+        this.capacity = capacity;
+        this.droppable = droppable;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isDroppable() {
+        return droppable;
+    }
+}
@@ -16,13 +16,17 @@
  */
 package com.djrapitops.plan.storage.database.transactions.commands;
 
+import com.djrapitops.plan.gathering.domain.DailyPing;
+import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.storage.database.queries.objects.PingQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,16 +54,29 @@ public class CombineUserTransaction extends ChangeUserUUIDTransaction {
 
         execute(updateUserId(GeoInfoTable.TABLE_NAME, GeoInfoTable.USER_ID, oldId, newId));
         execute(updateUserId(PingTable.TABLE_NAME, PingTable.USER_ID, oldId, newId));
+        combineDailyPing(oldId);
         execute(updateUserId(SessionsTable.TABLE_NAME, SessionsTable.USER_ID, oldId, newId));
         execute(updateUserId(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID, oldId, newId));
 
         execute(updateUserInfo(newId, oldId));
         execute(DELETE_FROM + UserInfoTable.TABLE_NAME + WHERE + UserInfoTable.USER_ID + "=" + oldId);
+        // Totals of both users are calculated again from the combined sessions.
+        execute(DELETE_FROM + UserSummaryTable.TABLE_NAME + WHERE + UserSummaryTable.USER_ID + " IN (" + oldId + ',' + newId + ')');
+        execute(UserSummaryTable.insertFromSessionsSQL(WHERE + "s." + SessionsTable.USER_ID + "=" + newId));
         execute(DELETE_FROM + UsersTable.TABLE_NAME + WHERE + UsersTable.ID + "=" + oldId);
 
         super.performOperations(); // Change UUID fields to match where user_id is not used
     }
 
+    private void combineDailyPing(Integer oldId) {
+        // Rows of both users can exist for the same day, so they are added together instead of changing the user_id.
+        List<DailyPing> oldDailyPing = query(PingQueries.fetchDailyPingDataOfPlayer(oldUUID));
+        execute(DELETE_FROM + DailyPingTable.TABLE_NAME + WHERE + DailyPingTable.USER_ID + "=" + oldId);
+        for (DailyPing dailyPing : oldDailyPing) {
+            execute(DataStoreQueries.storeDailyPing(newUUID, dailyPing, dbType));
+        }
+    }
+
     private Executable updateUserInfo(Integer newId, Integer oldId) {
         String sql = "UPDATE " + UserInfoTable.TABLE_NAME +
                 " SET " + UserInfoTable.USER_ID + "=?" +
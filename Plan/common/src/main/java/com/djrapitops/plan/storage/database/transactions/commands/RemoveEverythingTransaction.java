@@ -43,9 +43,12 @@ public class RemoveEverythingTransaction extends Patch {
         clearTable(JoinAddressTable.TABLE_NAME);
         clearTable(WorldTable.TABLE_NAME);
         clearTable(PingTable.TABLE_NAME);
+        clearTable(DailyPingTable.TABLE_NAME);
+        clearTable(UserSummaryTable.TABLE_NAME);
         clearTable(UserInfoTable.TABLE_NAME);
         clearTable(UsersTable.TABLE_NAME);
         clearTable(TPSTable.TABLE_NAME);
+        clearTable(ServerLifecycleTable.TABLE_NAME);
         clearTable(WebGroupToPermissionTable.TABLE_NAME);
         clearTable(WebPermissionTable.TABLE_NAME);
         clearTable(WebGroupTable.TABLE_NAME);
@@ -55,6 +55,8 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         deleteFromUserIdTable(WorldTimesTable.TABLE_NAME);
         deleteFromUserIdTable(SessionsTable.TABLE_NAME);
         deleteFromUserIdTable(PingTable.TABLE_NAME);
+        deleteFromUserIdTable(DailyPingTable.TABLE_NAME);
+        deleteFromUserIdTable(UserSummaryTable.TABLE_NAME);
         deleteFromUserIdTable(UserInfoTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
 
@@ -0,0 +1,139 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.commands;
+
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import org.apache.commons.text.TextStringBuilder;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction for removing data of many players from the database at once.
+ * <p>
+ * Same as {@link RemovePlayerTransaction}, but each table is cleared of all the players with one statement.
+ * Keep the amount of players small enough (hundreds) to keep the transaction short.
+ * <p>
+ * Not thrown away under heavy load, since the players would be reported as removed when they were not.
+ *
+ * @author AuroraLS3
+ */
+public class RemovePlayersTransaction extends Transaction {
+
+    private final Collection<UUID> playerUUIDs;
+
+    public RemovePlayersTransaction(Collection<UUID> playerUUIDs) {
+        this.playerUUIDs = playerUUIDs;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return super.shouldBeExecuted() && playerUUIDs != null && !playerUUIDs.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        Map<Integer, String> userNamesById = query(fetchUserNamesById());
+        if (userNamesById.isEmpty()) return;
+
+        for (String userName : userNamesById.values()) {
+            executeOther(new RemoveWebUserTransaction(userName));
+        }
+
+        String userIds = new TextStringBuilder().appendWithSeparators(userNamesById.keySet(), ",").build();
+        String uuids = Sql.nParameters(playerUUIDs.size());
+
+        deleteFromUserIdTable(GeoInfoTable.TABLE_NAME, userIds);
+        deleteFromTable(NicknamesTable.TABLE_NAME, uuids);
+        deleteFromKillsTable(uuids);
+        deleteFromUserIdTable(WorldTimesTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(SessionsTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(PingTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(DailyPingTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(UserSummaryTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(UserInfoTable.TABLE_NAME, userIds);
+        execute(DELETE_FROM + UsersTable.TABLE_NAME + WHERE + UsersTable.ID + " IN (" + userIds + ")");
+
+        deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME, uuids);
+        deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME, uuids);
+        deleteFromTable(ExtensionGroupsTable.TABLE_NAME, uuids);
+    }
+
+    private Query<Map<Integer, String>> fetchUserNamesById() {
+        String sql = SELECT + UsersTable.ID + ',' + UsersTable.USER_NAME +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (" + Sql.nParameters(playerUUIDs.size()) + ")";
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setUUIDs(statement, 1);
+            }
+
+            @Override
+            public Map<Integer, String> processResults(ResultSet set) throws SQLException {
+                Map<Integer, String> userNamesById = new HashMap<>();
+                while (set.next()) {
+                    userNamesById.put(set.getInt(UsersTable.ID), set.getString(UsersTable.USER_NAME));
+                }
+                return userNamesById;
+            }
+        };
+    }
+
+    private void setUUIDs(PreparedStatement statement, int startIndex) throws SQLException {
+        int index = startIndex;
+        for (UUID playerUUID : playerUUIDs) {
+            statement.setString(index, playerUUID.toString());
+            index++;
+        }
+    }
+
+    private void deleteFromTable(String tableName, String uuidParameters) {
+        execute(new ExecStatement(DELETE_FROM + tableName + WHERE + "uuid IN (" + uuidParameters + ")") {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setUUIDs(statement, 1);
+            }
+        });
+    }
+
+    private void deleteFromUserIdTable(String tableName, String userIds) {
+        execute(DELETE_FROM + tableName + WHERE + "user_id IN (" + userIds + ")");
+    }
+
+    private void deleteFromKillsTable(String uuidParameters) {
+        String sql = DELETE_FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.KILLER_UUID + " IN (" + uuidParameters + ")" +
+                OR + KillsTable.VICTIM_UUID + " IN (" + uuidParameters + ")";
+        execute(new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setUUIDs(statement, 1);
+                setUUIDs(statement, 1 + playerUUIDs.size());
+            }
+        });
+    }
+}
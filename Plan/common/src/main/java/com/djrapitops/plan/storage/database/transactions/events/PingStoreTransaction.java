@@ -18,16 +18,20 @@ package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.gathering.domain.DailyPing;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import com.djrapitops.plan.utilities.Predicates;
 import com.djrapitops.plan.utilities.analysis.Median;
 import com.djrapitops.plan.utilities.java.Lists;
 
 import java.util.List;
+import java.util.TimeZone;
 import java.util.UUID;
 
 /**
@@ -40,11 +44,18 @@ public class PingStoreTransaction extends Transaction {
     private final UUID playerUUID;
     private final ServerUUID serverUUID;
     private final List<DateObj<Integer>> pingList;
+    private final TimeZone timeZone;
 
-    public PingStoreTransaction(UUID playerUUID, ServerUUID serverUUID, List<DateObj<Integer>> pingList) {
+    public PingStoreTransaction(UUID playerUUID, ServerUUID serverUUID, List<DateObj<Integer>> pingList, TimeZone timeZone) {
         this.playerUUID = playerUUID;
         this.serverUUID = serverUUID;
         this.pingList = pingList;
+        this.timeZone = timeZone;
+    }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.BULK;
     }
 
     @Override
@@ -66,6 +77,17 @@ public class PingStoreTransaction extends Transaction {
                 throw failed;
             }
         }
+
+        storeDailyPing(ping);
+    }
+
+    private void storeDailyPing(Ping ping) {
+        // Pings without values in range are removed from plan_ping by cleaning, so they are not rolled up either.
+        if (ping.getMin() < 0) return;
+
+        DailyPing dailyPing = new DailyPing(DailyPingTable.toStartOfDay(ping.getDate(), timeZone), serverUUID,
+                ping.getMin(), ping.getMax(), ping.getAverage(), 1, DailyPingTable.toSampleBuckets(ping));
+        execute(DataStoreQueries.storeDailyPing(playerUUID, dailyPing, dbType));
     }
 
     private void retry(Ping ping, DBOpException failed) {
@@ -21,6 +21,7 @@ import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +46,11 @@ public class PlayerRegisterTransaction extends Transaction {
         this.playerName = playerName;
     }
 
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.CRITICAL;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return playerUUID != null && playerName != null;
@@ -18,8 +18,12 @@ package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.util.Collection;
 
@@ -28,7 +32,7 @@ import java.util.Collection;
  *
  * @author AuroraLS3
  */
-public class ServerShutdownTransaction extends ThrowawayTransaction {
+public class ServerShutdownTransaction extends Transaction {
 
     private final Collection<FinishedSession> unsavedSessions;
 
@@ -36,9 +40,24 @@ public class ServerShutdownTransaction extends ThrowawayTransaction {
         this.unsavedSessions = unsavedSessions;
     }
 
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.CRITICAL;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        // Not dropped under heavy load, the sessions would be lost.
+        return getDBState() != Database.State.CLOSING;
+    }
+
     @Override
     protected void performOperations() {
         execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unsavedSessions));
+        for (FinishedSession session : unsavedSessions) {
+            execute(DataStoreQueries.storeUserSummary(session, dbType));
+        }
+        execute(DataStoreQueries.storeServerLifecycleEvent(getServerUUID(), ServerLifecycleTable.EVENT_STOP, System.currentTimeMillis()));
         SessionCache.clear();
     }
 }
\ No newline at end of file
@@ -20,9 +20,13 @@ import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.gathering.domain.PlayerKills;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.util.*;
 import java.util.function.LongSupplier;
@@ -35,11 +39,38 @@ public class ShutdownDataPreservationTransaction extends Transaction {
         this.finishedSessions = finishedSessions;
     }
 
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.CRITICAL;
+    }
+
     @Override
     protected void performOperations() {
+        List<FinishedSession> unstoredSessions = getUnstoredSessions();
+        if (unstoredSessions.isEmpty()) return;
+
         ensureAllPlayersAreRegistered();
 
-        execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(finishedSessions));
+        execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unstoredSessions));
+        for (FinishedSession session : unstoredSessions) {
+            execute(DataStoreQueries.storeUserSummary(session, dbType));
+        }
+    }
+
+    private List<FinishedSession> getUnstoredSessions() {
+        // Same session can be preserved more than once, or have been stored before the server stopped.
+        Set<List<Object>> seen = new HashSet<>();
+        List<FinishedSession> unstored = new ArrayList<>();
+        for (FinishedSession session : finishedSessions) {
+            UUID playerUUID = session.getPlayerUUID();
+            ServerUUID serverUUID = session.getServerUUID();
+            long start = session.getStart();
+            if (seen.add(List.of(playerUUID, serverUUID, start))
+                    && !query(SessionQueries.isSessionStored(playerUUID, serverUUID, start))) {
+                unstored.add(session);
+            }
+        }
+        return unstored;
     }
 
     private void ensureAllPlayersAreRegistered() {
@@ -23,6 +23,7 @@ import com.djrapitops.plan.delivery.webserver.http.InternalRequest;
 import com.djrapitops.plan.storage.database.sql.tables.AccessLogTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
@@ -43,6 +44,11 @@ public class StoreRequestTransaction extends Transaction {
         this.response = response;
     }
 
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.BULK;
+    }
+
     @Override
     protected void performOperations() {
         execute(new ExecStatement(AccessLogTable.INSERT_NO_USER) {
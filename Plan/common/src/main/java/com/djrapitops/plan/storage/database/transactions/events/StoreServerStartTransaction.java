@@ -0,0 +1,51 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.Optional;
+
+/**
+ * Transaction to store the time a server was started.
+ * <p>
+ * Plugin reloads keep the original start time, so the event is only stored if it is not already the latest start.
+ *
+ * @author AuroraLS3
+ */
+public class StoreServerStartTransaction extends Transaction {
+
+    private final ServerUUID serverUUID;
+    private final long startTime;
+
+    public StoreServerStartTransaction(ServerUUID serverUUID, long startTime) {
+        this.serverUUID = serverUUID;
+        this.startTime = startTime;
+    }
+
+    @Override
+    protected void performOperations() {
+        Optional<Long> latestStart = query(ServerQueries.fetchLatestServerStartTime(serverUUID));
+        if (latestStart.isPresent() && latestStart.get() == startTime) return;
+
+        execute(DataStoreQueries.storeServerLifecycleEvent(serverUUID, ServerLifecycleTable.EVENT_START, startTime));
+    }
+}
@@ -19,11 +19,14 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -39,6 +42,11 @@ public class StoreSessionTransaction extends Transaction {
         this.session = session;
     }
 
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.CRITICAL;
+    }
+
     @Override
     protected void performOperations() {
         if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(session.getPlayerUUID())))) {
@@ -57,7 +65,9 @@ public class StoreSessionTransaction extends Transaction {
 
     private void storeSession() {
         storeJoinAddressIfPresent();
+        storeWorldNamesIfMissing();
         execute(DataStoreQueries.storeSession(session));
+        execute(DataStoreQueries.storeUserSummary(session, dbType));
     }
 
     private void storeJoinAddressIfPresent() {
@@ -67,6 +77,18 @@ public class StoreSessionTransaction extends Transaction {
                 .ifPresent(this::executeOther);
     }
 
+    private void storeWorldNamesIfMissing() {
+        // StoreWorldNameTransaction has lower priority, so it might not have been executed yet.
+        session.getExtraData(WorldTimes.class)
+                .map(WorldTimes::getWorldTimes)
+                .map(Map::keySet)
+                .ifPresent(worldNames -> {
+                    for (String worldName : worldNames) {
+                        executeOther(new StoreWorldNameTransaction(session.getServerUUID(), worldName));
+                    }
+                });
+    }
+
     private void retry(DBOpException failed) {
         try {
             registerPlayer();
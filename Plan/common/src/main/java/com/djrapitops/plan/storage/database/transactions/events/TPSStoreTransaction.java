@@ -21,6 +21,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import java.util.concurrent.TimeUnit;
@@ -54,6 +55,11 @@ public class TPSStoreTransaction extends Transaction {
         TPSStoreTransaction.lastStorageCheck = lastStorageCheck;
     }
 
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.BULK;
+    }
+
     @Override
     protected void performOperations() {
         long now = System.currentTimeMillis();
@@ -60,6 +60,22 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(PingTable.TABLE_NAME, "plan_ping_date_index",
                 PingTable.DATE
         );
+        createIndex(DailyPingTable.TABLE_NAME, "plan_ping_daily_date_index",
+                DailyPingTable.DATE
+        );
+        // Replaced by unique index of DailyPingUniquePatch
+        dropIndex(DailyPingTable.TABLE_NAME, "plan_ping_daily_user_index");
+        // Replaced by unique index of UserSummaryUniquePatch
+        dropIndex(UserSummaryTable.TABLE_NAME, "plan_user_summary_user_index");
+        createIndex(UserSummaryTable.TABLE_NAME, "plan_user_summary_server_index",
+                UserSummaryTable.SERVER_ID,
+                UserSummaryTable.LAST_SEEN
+        );
+        createIndex(ServerLifecycleTable.TABLE_NAME, "plan_server_lifecycle_index",
+                ServerLifecycleTable.SERVER_ID,
+                ServerLifecycleTable.EVENT,
+                ServerLifecycleTable.DATE
+        );
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
@@ -42,6 +42,9 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(SessionsTable.createTableSQL(dbType));
         execute(KillsTable.createTableSQL(dbType));
         execute(PingTable.createTableSQL(dbType));
+        execute(DailyPingTable.createTableSQL(dbType));
+        execute(UserSummaryTable.createTableSQL(dbType));
+        execute(ServerLifecycleTable.createTableSQL(dbType));
         execute(TPSTable.createTableSQL(dbType));
         execute(WorldTable.createTableSQL(dbType));
         execute(WorldTimesTable.createTableSQL(dbType));
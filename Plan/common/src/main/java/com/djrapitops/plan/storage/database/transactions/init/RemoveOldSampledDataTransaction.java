@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database.transactions.init;
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
@@ -59,6 +60,7 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
 
         execute(cleanTPSTable(allTimePeak.orElse(-1)));
         execute(cleanPingTable());
+        execute(cleanDailyPingTable());
     }
 
     private Executable cleanTPSTable(int allTimePlayerPeak) {
@@ -91,4 +93,19 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
             }
         };
     }
-}
\ No newline at end of file
+
+    // Daily rollups are small, so they are kept as long as other time series data, even if raw ping is removed sooner.
+    private Executable cleanDailyPingTable() {
+        String sql = DELETE_FROM + DailyPingTable.TABLE_NAME +
+                WHERE + DailyPingTable.DATE + "<?" +
+                AND + DailyPingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, System.currentTimeMillis() - deleteTPSOlderThanMs);
+                statement.setString(2, serverUUID.toString());
+            }
+        };
+    }
+}
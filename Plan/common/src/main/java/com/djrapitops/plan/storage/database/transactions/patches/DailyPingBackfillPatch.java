@@ -0,0 +1,99 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
+import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Fills plan_ping_daily with rollups of ping data that was stored before the table existed.
+ * <p>
+ * New ping data is rolled up when it is stored.
+ *
+ * @author AuroraLS3
+ */
+public class DailyPingBackfillPatch extends Patch {
+
+    private final TimeZone timeZone;
+
+    public DailyPingBackfillPatch(TimeZone timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    @Override
+    public boolean hasBeenApplied() {
+        return !hasRows(PingTable.TABLE_NAME) || hasRows(DailyPingTable.TABLE_NAME);
+    }
+
+    private boolean hasRows(String tableName) {
+        return query(new QueryAllStatement<>(SELECT + "1 as found" + FROM + tableName + LIMIT + "1") {
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next();
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        long day = TimeUnit.DAYS.toMillis(1L);
+        // Current offset of the time zone is used for all of the old data, same as with other day based graphs.
+        int timeZoneOffset = timeZone.getOffset(System.currentTimeMillis());
+        String startOfDay = "(" + PingTable.DATE + "-((" + PingTable.DATE + "+" + timeZoneOffset + ")%" + day + "))";
+        try {
+            execute("INSERT INTO " + DailyPingTable.TABLE_NAME + " (" +
+                    DailyPingTable.USER_ID + ',' +
+                    DailyPingTable.SERVER_ID + ',' +
+                    DailyPingTable.DATE + ',' +
+                    DailyPingTable.MIN_PING + ',' +
+                    DailyPingTable.MAX_PING + ',' +
+                    DailyPingTable.PING_SUM + ',' +
+                    DailyPingTable.PING_COUNT + ',' +
+                    DailyPingTable.SAMPLES_UNDER_50 + ',' +
+                    DailyPingTable.SAMPLES_50_TO_99 + ',' +
+                    DailyPingTable.SAMPLES_100_TO_199 + ',' +
+                    DailyPingTable.SAMPLES_200_OR_MORE +
+                    ") " + SELECT +
+                    PingTable.USER_ID + ',' +
+                    PingTable.SERVER_ID + ',' +
+                    startOfDay + ',' +
+                    "MIN(" + PingTable.MIN_PING + ")," +
+                    "MAX(" + PingTable.MAX_PING + ")," +
+                    "SUM(" + PingTable.AVG_PING + ")," +
+                    "COUNT(1)," +
+                    "SUM(CASE WHEN " + PingTable.AVG_PING + "<50 THEN 1 ELSE 0 END)," +
+                    "SUM(CASE WHEN " + PingTable.AVG_PING + ">=50" + AND + PingTable.AVG_PING + "<100 THEN 1 ELSE 0 END)," +
+                    "SUM(CASE WHEN " + PingTable.AVG_PING + ">=100" + AND + PingTable.AVG_PING + "<200 THEN 1 ELSE 0 END)," +
+                    "SUM(CASE WHEN " + PingTable.AVG_PING + ">=200 THEN 1 ELSE 0 END)" +
+                    FROM + PingTable.TABLE_NAME +
+                    WHERE + PingTable.MIN_PING + ">=0" +
+                    GROUP_BY + PingTable.USER_ID + ',' + PingTable.SERVER_ID + ',' + startOfDay
+            );
+        } catch (Exception e) {
+            throw new DBOpException(DailyPingBackfillPatch.class.getSimpleName() + " failed.", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Merges duplicate rows of plan_ping_daily and adds a unique index over user_id, server_id and date.
+ * <p>
+ * Duplicates could be created when ping of the same player was stored at the same time or when users were combined,
+ * the unique index allows storing the rollups with a single upsert.
+ *
+ * @author AuroraLS3
+ */
+public class DailyPingUniquePatch extends Patch {
+
+    private final String tableName;
+    private final String tempTableName;
+
+    public DailyPingUniquePatch() {
+        tableName = DailyPingTable.TABLE_NAME;
+        tempTableName = "temp_ping_daily";
+    }
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasIndex(tableName, DailyPingTable.UNIQUE_INDEX)
+                && !hasTable(tempTableName); // If this table exists the patch has failed to finish.
+    }
+
+    @Override
+    protected void applyPatch() {
+        try {
+            dropTable(tempTableName);
+            execute(CreateTableBuilder.create(tempTableName, dbType)
+                    .column(DailyPingTable.USER_ID, Sql.INT).notNull()
+                    .column(DailyPingTable.SERVER_ID, Sql.INT).notNull()
+                    .column(DailyPingTable.DATE, Sql.LONG).notNull()
+                    .column(DailyPingTable.MAX_PING, Sql.INT).notNull()
+                    .column(DailyPingTable.MIN_PING, Sql.INT).notNull()
+                    .column(DailyPingTable.PING_SUM, Sql.DOUBLE).notNull()
+                    .column(DailyPingTable.PING_COUNT, Sql.INT).notNull()
+                    .column(DailyPingTable.SAMPLES_UNDER_50, Sql.INT).notNull()
+                    .column(DailyPingTable.SAMPLES_50_TO_99, Sql.INT).notNull()
+                    .column(DailyPingTable.SAMPLES_100_TO_199, Sql.INT).notNull()
+                    .column(DailyPingTable.SAMPLES_200_OR_MORE, Sql.INT).notNull()
+                    .toString());
+
+            String columns = DailyPingTable.USER_ID + ',' +
+                    DailyPingTable.SERVER_ID + ',' +
+                    DailyPingTable.DATE + ',' +
+                    DailyPingTable.MAX_PING + ',' +
+                    DailyPingTable.MIN_PING + ',' +
+                    DailyPingTable.PING_SUM + ',' +
+                    DailyPingTable.PING_COUNT + ',' +
+                    DailyPingTable.SAMPLES_UNDER_50 + ',' +
+                    DailyPingTable.SAMPLES_50_TO_99 + ',' +
+                    DailyPingTable.SAMPLES_100_TO_199 + ',' +
+                    DailyPingTable.SAMPLES_200_OR_MORE;
+            execute("INSERT INTO " + tempTableName + " (" + columns + ") " + SELECT +
+                    DailyPingTable.USER_ID + ',' +
+                    DailyPingTable.SERVER_ID + ',' +
+                    DailyPingTable.DATE + ',' +
+                    "MAX(" + DailyPingTable.MAX_PING + ")," +
+                    "MIN(" + DailyPingTable.MIN_PING + ")," +
+                    "SUM(" + DailyPingTable.PING_SUM + ")," +
+                    "SUM(" + DailyPingTable.PING_COUNT + ")," +
+                    "SUM(" + DailyPingTable.SAMPLES_UNDER_50 + ")," +
+                    "SUM(" + DailyPingTable.SAMPLES_50_TO_99 + ")," +
+                    "SUM(" + DailyPingTable.SAMPLES_100_TO_199 + ")," +
+                    "SUM(" + DailyPingTable.SAMPLES_200_OR_MORE + ')' +
+                    FROM + tableName +
+                    GROUP_BY + DailyPingTable.USER_ID + ',' + DailyPingTable.SERVER_ID + ',' + DailyPingTable.DATE +
+                    " HAVING COUNT(1)>1");
+            execute(DELETE_FROM + tableName + WHERE + "EXISTS (" + SELECT + "1" + FROM + tempTableName + " d" +
+                    WHERE + "d." + DailyPingTable.USER_ID + '=' + tableName + '.' + DailyPingTable.USER_ID +
+                    AND + "d." + DailyPingTable.SERVER_ID + '=' + tableName + '.' + DailyPingTable.SERVER_ID +
+                    AND + "d." + DailyPingTable.DATE + '=' + tableName + '.' + DailyPingTable.DATE + ')');
+            execute("INSERT INTO " + tableName + " (" + columns + ") " + SELECT + columns + FROM + tempTableName);
+            dropTable(tempTableName);
+
+            execute("CREATE UNIQUE INDEX " + DailyPingTable.UNIQUE_INDEX + " ON " + tableName +
+                    " (" + DailyPingTable.USER_ID + ',' + DailyPingTable.SERVER_ID + ',' + DailyPingTable.DATE + ')');
+        } catch (Exception e) {
+            throw new DBOpException(DailyPingUniquePatch.class.getSimpleName() + " failed.", e);
+        }
+    }
+}
@@ -83,6 +83,17 @@ public abstract class Patch extends OperationCriticalTransaction {
         }
     }
 
+    protected boolean hasIndex(String tableName, String indexName) {
+        switch (dbType) {
+            case MYSQL:
+                return query(MySQLSchemaQueries.doesIndexExist(indexName, tableName));
+            case SQLITE:
+                return query(SQLiteSchemaQueries.doesIndexExist(indexName));
+            default:
+                throw new IllegalStateException("Unsupported Database Type: " + dbType.getName());
+        }
+    }
+
     protected void addColumn(String tableName, String columnInfo) {
         execute(ALTER_TABLE + tableName + " ADD " + (dbType.supportsMySQLQueries() ? "" : "COLUMN ") + columnInfo);
     }
@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Fills plan_server_lifecycle with the latest start of each server, guessed from gaps in TPS data.
+ * <p>
+ * New start and stop events are stored when they happen.
+ *
+ * @author AuroraLS3
+ */
+public class ServerLifecycleBackfillPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return !hasRows(TPSTable.TABLE_NAME) || hasRows(ServerLifecycleTable.TABLE_NAME);
+    }
+
+    private boolean hasRows(String tableName) {
+        return query(new QueryAllStatement<>(SELECT + "1 as found" + FROM + tableName + LIMIT + "1") {
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next();
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        long dataGapThreshold = TimeUnit.MINUTES.toMillis(3);
+        for (Server server : query(ServerQueries.fetchPlanServerInformationCollection())) {
+            Optional<Long> latestStart;
+            try {
+                latestStart = query(TPSQueries.fetchLatestServerStartTime(server.getUuid(), dataGapThreshold));
+            } catch (DBOpException windowFunctionsNotSupported) {
+                return;
+            }
+            latestStart.ifPresent(startTime -> execute(
+                    DataStoreQueries.storeServerLifecycleEvent(server.getUuid(), ServerLifecycleTable.EVENT_START, startTime)
+            ));
+        }
+    }
+}
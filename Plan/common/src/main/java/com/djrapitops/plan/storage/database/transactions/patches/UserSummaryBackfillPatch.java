@@ -0,0 +1,60 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserSummaryTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Fills plan_user_summary with totals of sessions that were stored before the table existed.
+ * <p>
+ * New sessions are added to the totals when they are stored.
+ *
+ * @author AuroraLS3
+ */
+public class UserSummaryBackfillPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return !hasRows(SessionsTable.TABLE_NAME) || hasRows(UserSummaryTable.TABLE_NAME);
+    }
+
+    private boolean hasRows(String tableName) {
+        return query(new QueryAllStatement<>(SELECT + "1 as found" + FROM + tableName + LIMIT + "1") {
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next();
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        try {
+            execute(UserSummaryTable.insertFromSessionsSQL(""));
+        } catch (Exception e) {
+            throw new DBOpException(UserSummaryBackfillPatch.class.getSimpleName() + " failed.", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.UserSummaryTable;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Merges duplicate rows of plan_user_summary and adds a unique index over user_id and server_id.
+ * <p>
+ * Duplicates could be created when two sessions of the same player were stored at the same time,
+ * the unique index allows storing the totals with a single upsert.
+ *
+ * @author AuroraLS3
+ */
+public class UserSummaryUniquePatch extends Patch {
+
+    private final String tableName;
+    private final String tempTableName;
+
+    public UserSummaryUniquePatch() {
+        tableName = UserSummaryTable.TABLE_NAME;
+        tempTableName = "temp_user_summary";
+    }
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasIndex(tableName, UserSummaryTable.UNIQUE_INDEX)
+                && !hasTable(tempTableName); // If this table exists the patch has failed to finish.
+    }
+
+    @Override
+    protected void applyPatch() {
+        try {
+            dropTable(tempTableName);
+            execute(CreateTableBuilder.create(tempTableName, dbType)
+                    .column(UserSummaryTable.USER_ID, Sql.INT).notNull()
+                    .column(UserSummaryTable.SERVER_ID, Sql.INT).notNull()
+                    .column(UserSummaryTable.REGISTERED, Sql.LONG).notNull()
+                    .column(UserSummaryTable.LAST_SEEN, Sql.LONG).notNull()
+                    .column(UserSummaryTable.PLAYTIME, Sql.LONG).notNull()
+                    .column(UserSummaryTable.ACTIVE_PLAYTIME, Sql.LONG).notNull()
+                    .column(UserSummaryTable.SESSION_COUNT, Sql.INT).notNull()
+                    .toString());
+
+            String columns = UserSummaryTable.USER_ID + ',' +
+                    UserSummaryTable.SERVER_ID + ',' +
+                    UserSummaryTable.REGISTERED + ',' +
+                    UserSummaryTable.LAST_SEEN + ',' +
+                    UserSummaryTable.PLAYTIME + ',' +
+                    UserSummaryTable.ACTIVE_PLAYTIME + ',' +
+                    UserSummaryTable.SESSION_COUNT;
+            execute("INSERT INTO " + tempTableName + " (" + columns + ") " + SELECT +
+                    UserSummaryTable.USER_ID + ',' +
+                    UserSummaryTable.SERVER_ID + ',' +
+                    "MIN(" + UserSummaryTable.REGISTERED + ")," +
+                    "MAX(" + UserSummaryTable.LAST_SEEN + ")," +
+                    "SUM(" + UserSummaryTable.PLAYTIME + ")," +
+                    "SUM(" + UserSummaryTable.ACTIVE_PLAYTIME + ")," +
+                    "SUM(" + UserSummaryTable.SESSION_COUNT + ')' +
+                    FROM + tableName +
+                    GROUP_BY + UserSummaryTable.USER_ID + ',' + UserSummaryTable.SERVER_ID +
+                    " HAVING COUNT(1)>1");
+            execute(DELETE_FROM + tableName + WHERE + "EXISTS (" + SELECT + "1" + FROM + tempTableName + " d" +
+                    WHERE + "d." + UserSummaryTable.USER_ID + '=' + tableName + '.' + UserSummaryTable.USER_ID +
+                    AND + "d." + UserSummaryTable.SERVER_ID + '=' + tableName + '.' + UserSummaryTable.SERVER_ID + ')');
+            execute("INSERT INTO " + tableName + " (" + columns + ") " + SELECT + columns + FROM + tempTableName);
+            dropTable(tempTableName);
+
+            execute("CREATE UNIQUE INDEX " + UserSummaryTable.UNIQUE_INDEX + " ON " + tableName +
+                    " (" + UserSummaryTable.USER_ID + ',' + UserSummaryTable.SERVER_ID + ')');
+        } catch (Exception e) {
+            throw new DBOpException(UserSummaryUniquePatch.class.getSimpleName() + " failed.", e);
+        }
+    }
+}
@@ -29,12 +29,13 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
-import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayersTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveDuplicateUserInfoTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveOldAccessLogTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveOldExtensionsTransaction;
@@ -53,6 +54,8 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -65,6 +68,10 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 @Singleton
 public class DBCleanTask extends TaskSystem.Task {
 
+    // Kept below 500 so that removal statements stay under the SQLite limit of 999 parameters.
+    private static final int PLAYER_REMOVAL_CHUNK_SIZE = 400;
+    private static final long PLAYER_REMOVAL_TIME_BUDGET_MS = TimeUnit.MINUTES.toMillis(1L);
+
     private final Locale locale;
     private final DBSystem dbSystem;
     private final PlanConfig config;
@@ -76,6 +83,8 @@ public class DBCleanTask extends TaskSystem.Task {
     // This variable assumes that the system is thrown away on reload and new one is constructed.
     // It is to avoid cleaning extension data that has not been updated after uptime longer than the deletion threshold.
     private final long lastReload;
+    // Inactive players are removed in user id ranges, continuing from here if previous run ran out of time.
+    private int removeInactiveAfterUserId = 0;
 
     @Inject
     public DBCleanTask(
@@ -163,29 +172,60 @@ public class DBCleanTask extends TaskSystem.Task {
     public int cleanOldPlayers(Database database) {
         long now = System.currentTimeMillis();
         long keepActiveAfter = now - config.get(TimeSettings.DELETE_INACTIVE_PLAYERS_AFTER);
+        long stopAfter = now + PLAYER_REMOVAL_TIME_BUDGET_MS;
+
+        int largestUserId = database.query(LargeFetchQueries.fetchLargestId(UsersTable.TABLE_NAME));
+        int removed = 0;
+        while (removeInactiveAfterUserId < largestUserId && System.currentTimeMillis() < stopAfter) {
+            int upToUserId = Math.min(removeInactiveAfterUserId + PLAYER_REMOVAL_CHUNK_SIZE, largestUserId);
+            List<UUID> inactivePlayers = database.query(fetchInactivePlayerUUIDs(keepActiveAfter, removeInactiveAfterUserId, upToUserId));
+            if (!inactivePlayers.isEmpty()) {
+                // Waiting for the chunk lets transactions that were queued meanwhile (eg. session saves) execute first.
+                if (!waitForRemoval(database.executeTransaction(new RemovePlayersTransaction(inactivePlayers)))) {
+                    return removed;
+                }
+                queryService.playersRemoved(inactivePlayers);
+                removed += inactivePlayers.size();
+            }
+            removeInactiveAfterUserId = upToUserId;
+        }
+        if (removeInactiveAfterUserId >= largestUserId) {
+            // Whole table has been checked, next run starts from the beginning.
+            removeInactiveAfterUserId = 0;
+        }
+        return removed;
+    }
 
-        List<UUID> inactivePlayers = database.query(fetchInactivePlayerUUIDs(keepActiveAfter));
-        for (UUID playerUUID : inactivePlayers) {
-            queryService.playerRemoved(playerUUID);
-            database.executeTransaction(new RemovePlayerTransaction(playerUUID));
+    private boolean waitForRemoval(Future<?> removal) {
+        try {
+            removal.get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new DBOpException("Failed to remove inactive players: " + e.getMessage(), e);
         }
-        return inactivePlayers.size();
     }
 
-    private Query<List<UUID>> fetchInactivePlayerUUIDs(long keepActiveAfter) {
+    private Query<List<UUID>> fetchInactivePlayerUUIDs(long keepActiveAfter, int afterUserId, int upToUserId) {
         String selectLastSeen = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen, " +
                 SessionsTable.USER_ID +
                 FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_ID + ">?" +
+                AND + SessionsTable.USER_ID + "<=?" +
                 GROUP_BY + SessionsTable.USER_ID;
         String sql = SELECT + "uuid, last_seen" +
                 FROM + '(' + selectLastSeen + ") as q1" +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + '=' + "q1." + SessionsTable.USER_ID +
                 WHERE + "last_seen < ?";
-        return new QueryStatement<>(sql, 20000) {
+        return new QueryStatement<>(sql, PLAYER_REMOVAL_CHUNK_SIZE) {
 
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, keepActiveAfter);
+                statement.setInt(1, afterUserId);
+                statement.setInt(2, upToUserId);
+                statement.setLong(3, keepActiveAfter);
             }
 
             @Override
@@ -198,4 +238,4 @@ public class DBCleanTask extends TaskSystem.Task {
             }
         };
     }
-}
\ No newline at end of file
+}
@@ -28,10 +28,10 @@ import utilities.RandomData;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TabCompleteCacheTest {
@@ -42,35 +42,41 @@ class TabCompleteCacheTest {
     @InjectMocks
     TabCompleteCache underTest;
 
+    private void addPlayerNames(Collection<String> playerNames) {
+        for (String playerName : playerNames) {
+            underTest.addPlayerIdentifier(UUID.randomUUID(), playerName);
+        }
+    }
+
     @Test
     @DisplayName("Tab completion limit check: {limit} + 1 results returns empty")
     void tooManyMatchesGetsEmptyTabCompletionOneOver() {
-        Collection<String> searchList = RandomData.pickMultiple(101, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        addPlayerNames(RandomData.pickMultiple(101, () -> RandomData.randomString(100)));
+        List<String> matches = underTest.getMatchingPlayerIdentifiers(null);
         assertTrue(matches.isEmpty());
     }
 
     @Test
     @DisplayName("Tab completion limit check: {limit} results returns empty")
     void tooManyMatchesGetsEmptyTabCompletionAtLimit() {
-        Collection<String> searchList = RandomData.pickMultiple(100, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        addPlayerNames(RandomData.pickMultiple(100, () -> RandomData.randomString(100)));
+        List<String> matches = underTest.getMatchingPlayerIdentifiers(null);
         assertTrue(matches.isEmpty());
     }
 
     @Test
     @DisplayName("Tab completion limit check: {limit} - 1 results returns results")
     void tooManyMatchesGetsResultsTabCompletionOneUnder() {
-        Collection<String> searchList = RandomData.pickMultiple(99, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        addPlayerNames(RandomData.pickMultiple(99, () -> RandomData.randomString(100)));
+        List<String> matches = underTest.getMatchingPlayerIdentifiers(null);
         assertEquals(99, matches.size());
     }
 
     @Test
     @DisplayName("Tab completion empty search string returns results")
     void emptyStringReturnsAllResults() {
-        Collection<String> searchList = RandomData.pickMultiple(99, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, "");
+        addPlayerNames(RandomData.pickMultiple(99, () -> RandomData.randomString(100)));
+        List<String> matches = underTest.getMatchingPlayerIdentifiers("");
         assertEquals(99, matches.size());
     }
 
@@ -83,8 +89,9 @@ class TabCompleteCacheTest {
             searchList.add("start-" + i);
             searchList.add("nope-" + i);
         }
+        addPlayerNames(searchList);
 
-        List<String> matches = underTest.findMatches(searchList, "start-");
+        List<String> matches = underTest.getMatchingPlayerIdentifiers("start-");
         assertEquals(25, matches.size());
     }
 
@@ -98,16 +105,46 @@ class TabCompleteCacheTest {
     }
 
     @Test
-    @DisplayName("Tab completion online players are searched")
-    void tabCompletionOnlinePlayersAreListed() {
-        List<String> playerNames = new ArrayList<>();
+    @DisplayName("Tab completion joined players are searched")
+    void tabCompletionJoinedPlayersAreListed() {
         for (int i = 0; i < 25; i++) {
-            playerNames.add("start-" + i);
+            underTest.addPlayerIdentifier(UUID.randomUUID(), "start-" + i);
+            underTest.addPlayerIdentifier(UUID.randomUUID(), "nope-" + i);
         }
-        when(serverSensor.getOnlinePlayerNames()).thenReturn(playerNames);
 
         List<String> matches = underTest.getMatchingPlayerIdentifiers("start-");
         assertEquals(25, matches.size());
     }
 
+    @Test
+    @DisplayName("Tab completion matches are case-insensitive and sorted")
+    void searchIsCaseInsensitiveAndSorted() {
+        addPlayerNames(List.of("Steve", "alex", "steven", "STEVE", "Bob"));
+
+        List<String> matches = underTest.getMatchingPlayerIdentifiers("stE");
+        assertEquals(List.of("STEVE", "Steve", "steven"), matches);
+    }
+
+    @Test
+    @DisplayName("Tab completion removed players are not searched")
+    void removedPlayersAreNotListed() {
+        UUID removedUUID = UUID.randomUUID();
+        underTest.addPlayerIdentifier(removedUUID, "Steve");
+        underTest.addPlayerIdentifier(UUID.randomUUID(), "steven");
+
+        underTest.removePlayerIdentifier(removedUUID);
+
+        assertEquals(List.of("steven"), underTest.getMatchingPlayerIdentifiers("ste"));
+    }
+
+    @Test
+    @DisplayName("Tab completion previous name of a player is not searched")
+    void previousNameOfPlayerIsNotListed() {
+        UUID playerUUID = UUID.randomUUID();
+        underTest.addPlayerIdentifier(playerUUID, "Steve");
+        underTest.addPlayerIdentifier(playerUUID, "Stephen");
+
+        assertEquals(List.of("Stephen"), underTest.getMatchingPlayerIdentifiers("ste"));
+    }
+
 }
\ No newline at end of file
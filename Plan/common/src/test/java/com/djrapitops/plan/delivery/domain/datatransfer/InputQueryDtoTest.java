@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.datatransfer;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests for {@link InputQueryDto}.
+ *
+ * @author AuroraLS3
+ */
+class InputQueryDtoTest {
+
+    private static final String SERVER_1 = "e4ec2edd-e0ed-3c58-a87d-8a9021899479";
+    private static final String SERVER_2 = "c2f0f1a6-5e3c-4ae4-9d8a-3b0f3a0e2c11";
+
+    private final Gson gson = new Gson();
+
+    private ViewDto view(String... servers) {
+        StringBuilder serverJson = new StringBuilder();
+        for (String server : servers) {
+            if (serverJson.length() > 0) serverJson.append(',');
+            serverJson.append("{\"serverUUID\":\"").append(server).append("\",\"serverName\":\"Server\",\"proxy\":false}");
+        }
+        return gson.fromJson("{\"afterDate\":\"01/01/2023\",\"afterTime\":\"00:00\"," +
+                "\"beforeDate\":\"01/02/2023\",\"beforeTime\":\"00:00\",\"servers\":[" + serverJson + "]}", ViewDto.class);
+    }
+
+    private InputFilterDto filter(String kind, String... keysAndValues) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            parameters.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return new InputFilterDto(kind, parameters);
+    }
+
+    @Test
+    void hashIgnoresServerAndParameterOrder() {
+        InputQueryDto query = new InputQueryDto(view(SERVER_1, SERVER_2),
+                List.of(filter("playedBetween", "afterDate", "01/01/2023", "beforeDate", "01/02/2023")));
+        InputQueryDto reordered = new InputQueryDto(view(SERVER_2, SERVER_1),
+                List.of(filter("playedBetween", "beforeDate", "01/02/2023", "afterDate", "01/01/2023")));
+
+        assertEquals(query.getCanonicalHash(), reordered.getCanonicalHash());
+    }
+
+    @Test
+    void hashChangesWithFilters() {
+        InputQueryDto query = new InputQueryDto(view(SERVER_1), List.of(filter("allPlayers")));
+        InputQueryDto other = new InputQueryDto(view(SERVER_1), List.of(filter("operators", "selected", "[\"Yes\"]")));
+
+        assertNotEquals(query.getCanonicalHash(), other.getCanonicalHash());
+    }
+
+    @Test
+    void hashChangesWithServers() {
+        InputQueryDto query = new InputQueryDto(view(SERVER_1), List.of(filter("allPlayers")));
+        InputQueryDto other = new InputQueryDto(view(SERVER_2), List.of(filter("allPlayers")));
+
+        assertNotEquals(query.getCanonicalHash(), other.getCanonicalHash());
+    }
+}
@@ -16,8 +16,11 @@
  */
 package com.djrapitops.plan.delivery.domain.mutators;
 
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.PlayersOnlineArrays;
 import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
+import com.google.gson.Gson;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -154,4 +159,68 @@ class TPSMutatorTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void seriesKeepsAllValues() {
+        List<TPS> expected = new ArrayList<>(testData);
+        Collections.shuffle(expected);
+        assertEquals(expected, new TPSMutator(expected).all());
+    }
+
+    @Test
+    void playersOnlineResolverFindsLatestValueBeforeDate() {
+        List<TPS> data = new ArrayList<>();
+        data.add(TPSBuilder.get().date(3000L).playersOnline(3).toTPS());
+        data.add(TPSBuilder.get().date(1000L).playersOnline(1).toTPS());
+        data.add(TPSBuilder.get().date(2000L).playersOnline(2).toTPS());
+
+        PlayersOnlineResolver resolver = new PlayersOnlineResolver(new TPSMutator(data));
+
+        assertFalse(resolver.getOnlineOn(999L).isPresent());
+        assertEquals(Optional.of(1), resolver.getOnlineOn(1000L));
+        assertEquals(Optional.of(2), resolver.getOnlineOn(2999L));
+        assertEquals(Optional.of(3), resolver.getOnlineOn(5000L));
+        assertFalse(resolver.isServerOnline(999L, 1000L));
+        assertTrue(resolver.isServerOnline(3500L, 1000L));
+        assertFalse(resolver.isServerOnline(4000L, 1000L));
+    }
+
+    @Test
+    void sortingByDateMovesAllColumnsTogether() {
+        List<TPS> data = new ArrayList<>();
+        data.add(TPSBuilder.get().date(3000L).tps(3.0).playersOnline(3).usedMemory(3L).toTPS());
+        data.add(TPSBuilder.get().date(1000L).tps(1.0).playersOnline(1).usedMemory(1L).toTPS());
+        data.add(TPSBuilder.get().date(2000L).tps(2.0).playersOnline(2).usedMemory(2L).toTPS());
+        data.add(TPSBuilder.get().date(1000L).tps(1.5).playersOnline(4).usedMemory(4L).toTPS());
+
+        TPSSeries series = TPSSeries.of(data);
+        series.sortByDate();
+
+        assertEquals(List.of(1000L, 1000L, 2000L, 3000L), List.of(series.getDate(0), series.getDate(1), series.getDate(2), series.getDate(3)));
+        assertEquals(List.of(1, 4, 2, 3), List.of(series.getPlayers(0), series.getPlayers(1), series.getPlayers(2), series.getPlayers(3)));
+        assertEquals(List.of(1.0, 1.5, 2.0, 3.0), List.of(series.getTicksPerSecond(0), series.getTicksPerSecond(1), series.getTicksPerSecond(2), series.getTicksPerSecond(3)));
+        assertEquals(List.of(1L, 4L, 2L, 3L), List.of(series.getUsedMemory(0), series.getUsedMemory(1), series.getUsedMemory(2), series.getUsedMemory(3)));
+    }
+
+    @Test
+    void playersOnlineArraysAreWrittenFromColumns() {
+        List<TPS> data = new ArrayList<>();
+        data.add(TPSBuilder.get().date(1000L).playersOnline(1).toTPS());
+        data.add(TPSBuilder.get().date(2000L).playersOnline(2).toTPS());
+
+        String result = new Gson().toJson(Map.of("playersOnline", new TPSMutator(data).toPlayersOnlineArrays()));
+        assertEquals("{\"playersOnline\":[[1000,1],[2000,2]]}", result);
+    }
+
+    @Test
+    void playersOnlineArraysAreReadBack() {
+        List<TPS> data = new ArrayList<>();
+        data.add(TPSBuilder.get().date(1000L).playersOnline(1).toTPS());
+        data.add(TPSBuilder.get().date(2000L).playersOnline(2).toTPS());
+
+        Gson gson = new Gson();
+        String written = gson.toJson(new TPSMutator(data).toPlayersOnlineArrays());
+        PlayersOnlineArrays read = gson.fromJson(written, PlayersOnlineArrays.class);
+        assertEquals(written, gson.toJson(read));
+    }
+}
@@ -107,6 +107,7 @@ class AccessControlTest {
                 Arguments.of("/v1/sessions?server=" + TestConstants.SERVER_UUID_STRING + "", WebPermission.PAGE_SERVER_SESSIONS_LIST, 200, 403),
                 Arguments.of("/v1/retention?server=" + TestConstants.SERVER_UUID_STRING + "", WebPermission.PAGE_SERVER_RETENTION, 200, 403),
                 Arguments.of("/v1/joinAddresses?server=" + TestConstants.SERVER_UUID_STRING + "", WebPermission.PAGE_SERVER_RETENTION, 200, 403),
+                Arguments.of("/v1/leaderboard?category=playtime&server=" + TestConstants.SERVER_UUID_STRING + "", WebPermission.PAGE_SERVER_PLAYERS, 200, 403),
                 Arguments.of("/network", WebPermission.ACCESS_NETWORK, 302, 403),
                 Arguments.of("/v1/network/overview", WebPermission.PAGE_NETWORK_OVERVIEW_NUMBERS, 200, 403),
                 Arguments.of("/v1/network/servers", WebPermission.PAGE_NETWORK_SERVER_LIST, 200, 403),
@@ -143,6 +144,7 @@ class AccessControlTest {
                 Arguments.of("/v1/metadata", WebPermission.ACCESS, 200, 200),
                 Arguments.of("/v1/networkMetadata", WebPermission.ACCESS, 200, 200),
                 Arguments.of("/v1/serverIdentity?server=" + TestConstants.SERVER_UUID_STRING + "", WebPermission.ACCESS_SERVER, 200, 403),
+                Arguments.of("/v1/live", WebPermission.ACCESS_SERVER, 200, 403),
                 Arguments.of("/v1/locale", WebPermission.ACCESS, 200, 200),
                 Arguments.of("/v1/locale/EN", WebPermission.ACCESS, 200, 200),
                 Arguments.of("/v1/locale/NonexistingLanguage", WebPermission.ACCESS, 404, 404),
@@ -0,0 +1,187 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.ActiveSession;
+import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LiveEventStream}.
+ *
+ * @author AuroraLS3
+ */
+class LiveEventStreamTest {
+
+    private final LiveEventStream underTest = new LiveEventStream();
+
+    @BeforeEach
+    void setUp() {
+        SessionCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.close();
+        SessionCache.clear();
+    }
+
+    @Test
+    void eventIsSerializedOnceForAllSubscribers() throws InterruptedException {
+        QueueSubscriber first = new QueueSubscriber();
+        QueueSubscriber second = new QueueSubscriber();
+        subscribe(first, true);
+        subscribe(second, true);
+        assertTrue(first.next().startsWith("event: online"));
+        assertTrue(second.next().startsWith("event: online"));
+
+        new SessionCache().cacheSession(TestConstants.PLAYER_ONE_UUID, new ActiveSession(TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID, 0, null, null));
+        underTest.publishJoin(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME, 0);
+
+        byte[] received = first.nextFrame();
+        assertSame(received, second.nextFrame());
+        String event = new String(received, StandardCharsets.UTF_8);
+        assertTrue(event.startsWith("event: join\ndata: "), event);
+        assertTrue(event.contains("\"sessionsInProgress\":{\"" + TestConstants.SERVER_UUID + "\":1}"), event);
+        assertTrue(event.endsWith("\n\n"), event);
+    }
+
+    @Test
+    void latestTPSIsSentToNewSubscribers() throws InterruptedException {
+        underTest.publishTPS(TestConstants.SERVER_UUID, TPSBuilder.get().date(1000L).tps(19.5).playersOnline(3).toTPS());
+
+        QueueSubscriber subscriber = new QueueSubscriber();
+        subscribe(subscriber, true);
+
+        String event = subscriber.next();
+        assertTrue(event.startsWith("event: tps\ndata: "), event);
+        assertTrue(event.contains("\"tps\":19.5"), event);
+        assertTrue(event.contains("\"playersOnline\":3"), event);
+        assertTrue(subscriber.next().startsWith("event: online"));
+    }
+
+    @Test
+    void disconnectedSubscriberIsRemoved() throws InterruptedException {
+        QueueSubscriber subscriber = new QueueSubscriber();
+        subscribe(subscriber, true);
+        subscriber.next();
+        assertEquals(1, underTest.getSubscriberCount());
+
+        subscriber.disconnected = true;
+        underTest.publishLeave(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME, 0);
+
+        assertTrue(subscriber.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, underTest.getSubscriberCount());
+    }
+
+    @Test
+    void playersAreHiddenFromSubscribersThatCanNotSeeThem() throws InterruptedException {
+        QueueSubscriber withPlayers = new QueueSubscriber();
+        QueueSubscriber withoutPlayers = new QueueSubscriber();
+        subscribe(withPlayers, true);
+        subscribe(withoutPlayers, false);
+        withPlayers.next();
+        withoutPlayers.next();
+
+        underTest.publishJoin(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME, 0);
+
+        String event = withPlayers.next();
+        assertTrue(event.contains(TestConstants.PLAYER_ONE_NAME), event);
+        assertTrue(event.contains(TestConstants.PLAYER_ONE_UUID.toString()), event);
+        String hidden = withoutPlayers.next();
+        assertTrue(hidden.startsWith("event: join\ndata: "), hidden);
+        assertFalse(hidden.contains(TestConstants.PLAYER_ONE_NAME), hidden);
+        assertFalse(hidden.contains(TestConstants.PLAYER_ONE_UUID.toString()), hidden);
+    }
+
+    @Test
+    void streamsOverTheLimitCanNotBeReserved() {
+        for (int i = 0; i < LiveEventStream.MAX_SUBSCRIBERS; i++) {
+            assertTrue(underTest.reserve(true).isPresent());
+        }
+        assertFalse(underTest.reserve(true).isPresent());
+    }
+
+    @Test
+    void cancelledAndClosedStreamsFreeTheirReservation() throws InterruptedException {
+        LiveEventStream.Reservation cancelled = null;
+        QueueSubscriber subscriber = new QueueSubscriber();
+        for (int i = 0; i < LiveEventStream.MAX_SUBSCRIBERS; i++) {
+            LiveEventStream.Reservation reservation = underTest.reserve(true).orElseThrow(AssertionError::new);
+            if (i == 0) cancelled = reservation;
+            if (i == 1) {
+                underTest.claim(reservation.getId());
+                underTest.subscribe(reservation, subscriber);
+                subscriber.next();
+            }
+        }
+
+        underTest.claim(cancelled.getId()).ifPresent(underTest::cancel);
+        assertTrue(underTest.reserve(true).isPresent());
+        assertFalse(underTest.reserve(true).isPresent());
+
+        subscriber.disconnected = true;
+        underTest.publishLeave(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME, 0);
+        assertTrue(subscriber.closed.await(5, TimeUnit.SECONDS));
+        assertTrue(underTest.reserve(true).isPresent());
+    }
+
+    private void subscribe(QueueSubscriber subscriber, boolean playersVisible) {
+        LiveEventStream.Reservation reservation = underTest.reserve(playersVisible).orElseThrow(AssertionError::new);
+        underTest.subscribe(underTest.claim(reservation.getId()).orElseThrow(AssertionError::new), subscriber);
+    }
+
+    static class QueueSubscriber implements LiveEventStream.Subscriber {
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile boolean disconnected = false;
+
+        @Override
+        public void send(byte[] frame) throws IOException {
+            if (disconnected) throw new IOException("Connection closed");
+            frames.add(frame);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        byte[] nextFrame() throws InterruptedException {
+            byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "No event was received");
+            return frame;
+        }
+
+        String next() throws InterruptedException {
+            return new String(nextFrame(), StandardCharsets.UTF_8);
+        }
+    }
+}
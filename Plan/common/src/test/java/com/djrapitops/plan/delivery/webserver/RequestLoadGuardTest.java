@@ -0,0 +1,95 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverLogMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RequestLoadGuard}.
+ *
+ * @author AuroraLS3
+ */
+class RequestLoadGuardTest {
+
+    private RequestLoadGuard underTest;
+
+    @BeforeEach
+    void setUp() {
+        WebserverConfiguration configuration = Mockito.mock(WebserverConfiguration.class);
+        when(configuration.getWebserverLogMessages()).thenReturn(Mockito.mock(WebserverLogMessages.class));
+        when(configuration.getRequestsPerSecondLimit()).thenReturn(1);
+        when(configuration.getRequestBurstLimit()).thenReturn(2);
+        when(configuration.getLimitedEndpoints()).thenReturn(List.of("/v1/query"));
+        when(configuration.getLimitedEndpointMaxConcurrent()).thenReturn(1);
+        when(configuration.getLimitedEndpointMaxQueued()).thenReturn(0);
+
+        underTest = new RequestLoadGuard(configuration);
+    }
+
+    @Test
+    void requestsOverBurstAreRateLimited() {
+        assertEquals(0, underTest.consumeToken("192.168.0.2"));
+        assertEquals(0, underTest.consumeToken("192.168.0.2"));
+        assertTrue(underTest.consumeToken("192.168.0.2") > 0);
+        assertEquals(1, underTest.getRateLimitedCount());
+    }
+
+    @Test
+    void addressesHaveSeparateBuckets() {
+        underTest.consumeToken("192.168.0.2");
+        underTest.consumeToken("192.168.0.2");
+        assertEquals(0, underTest.consumeToken("192.168.0.3"));
+    }
+
+    @Test
+    void localhostIsNotRateLimited() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, underTest.consumeToken("127.0.0.1"));
+        }
+    }
+
+    @Test
+    void limitedEndpointRejectsRequestsOverCapacity() {
+        Optional<Optional<String>> result = underTest.processLimited("/v1/query",
+                () -> underTest.processLimited("/v1/query", () -> "inner"));
+
+        assertEquals(Optional.of(Optional.empty()), result);
+        assertEquals(1, underTest.getRejectedCount());
+        assertEquals(Map.of("/v1/query", 1L), underTest.getRejectedCountsByPath());
+        assertEquals(Optional.of("after"), underTest.processLimited("/v1/query", () -> "after"));
+    }
+
+    @Test
+    void otherEndpointsAreNotLimited() {
+        Optional<Optional<String>> result = underTest.processLimited("/v1/query",
+                () -> underTest.processLimited("/v1/serverOverview", () -> "inner"));
+
+        assertEquals(Optional.of(Optional.of("inner")), result);
+        assertEquals(0, underTest.getRejectedCount());
+    }
+}
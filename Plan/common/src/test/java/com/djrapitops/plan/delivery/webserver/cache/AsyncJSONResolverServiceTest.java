@@ -0,0 +1,153 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AsyncJSONResolverService}.
+ *
+ * @author AuroraLS3
+ */
+class AsyncJSONResolverServiceTest {
+
+    private AsyncJSONResolverService underTest;
+    private Processing processing;
+    private AtomicBoolean processingStalls;
+    private AtomicBoolean processingFails;
+    private ErrorLogger errorLogger;
+    private AtomicInteger created;
+    private Supplier<String> jsonCreator;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = mock(PlanConfig.class);
+        when(config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE)).thenReturn(0L);
+        when(config.get(WebserverSettings.REDUCED_REFRESH_BARRIER)).thenReturn(0L);
+
+        processingStalls = new AtomicBoolean(false);
+        processingFails = new AtomicBoolean(false);
+        processing = mock(Processing.class);
+        when(processing.submitNonCritical(any(Callable.class))).then(invocation -> {
+            if (processingStalls.get()) return new CompletableFuture<>();
+            if (processingFails.get()) return CompletableFuture.failedFuture(new IllegalStateException("Test"));
+            Callable<?> task = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(task.call());
+        });
+
+        JSONStorage jsonStorage = mock(JSONStorage.class);
+        when(jsonStorage.storeJson(anyString(), (Object) any())).then(invocation ->
+                new JSONStorage.StoredJSON("{}", System.currentTimeMillis()));
+
+        errorLogger = mock(ErrorLogger.class);
+        underTest = new AsyncJSONResolverService(config, mock(Formatters.class), processing, jsonStorage, errorLogger);
+        created = new AtomicInteger(0);
+        jsonCreator = () -> {
+            created.incrementAndGet();
+            return "{}";
+        };
+    }
+
+    @Test
+    void frequentlyAccessedJSONIsRefreshed() {
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, jsonCreator);
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, jsonCreator);
+        assertEquals(2, created.get());
+
+        underTest.refreshHotJSON(1000L);
+        assertEquals(3, created.get());
+    }
+
+    @Test
+    void rarelyAccessedJSONIsNotRefreshed() {
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, jsonCreator);
+        assertEquals(1, created.get());
+
+        underTest.refreshHotJSON(1000L);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void serverJSONIsRefreshedWithTheCreatorOfTheIdentifier() {
+        List<String> creators = new ArrayList<>();
+        Function<ServerUUID, String> first = serverUUID -> {
+            creators.add("first-" + serverUUID);
+            return "{}";
+        };
+        Function<ServerUUID, String> second = serverUUID -> {
+            creators.add("second-" + serverUUID);
+            return "{}";
+        };
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, TestConstants.SERVER_UUID, first);
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, TestConstants.SERVER_UUID, second);
+
+        underTest.refreshHotJSON(1000L);
+        String expected = "first-" + TestConstants.SERVER_UUID;
+        assertEquals(expected, creators.get(creators.size() - 1));
+    }
+
+    @Test
+    void refreshingStopsWhenTimeBudgetRunsOut() {
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, jsonCreator);
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, jsonCreator);
+        underTest.resolve(Optional.empty(), DataID.SESSIONS, jsonCreator);
+        underTest.resolve(Optional.empty(), DataID.SESSIONS, jsonCreator);
+
+        processingStalls.set(true);
+        assertTimeoutPreemptively(Duration.ofSeconds(5L), () -> underTest.refreshHotJSON(100L));
+        // Second refresh is not submitted after the first one runs out of time
+        verify(processing, times(5)).submitNonCritical(any(Callable.class));
+    }
+
+    @Test
+    void failedRefreshIsLoggedAndNextJSONIsRefreshed() {
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, jsonCreator);
+        underTest.resolve(Optional.empty(), DataID.SERVER_OVERVIEW, jsonCreator);
+        underTest.resolve(Optional.empty(), DataID.SESSIONS, jsonCreator);
+        underTest.resolve(Optional.empty(), DataID.SESSIONS, jsonCreator);
+
+        processingFails.set(true);
+        assertDoesNotThrow(() -> underTest.refreshHotJSON(1000L));
+        verify(processing, times(6)).submitNonCritical(any(Callable.class));
+        verify(errorLogger, times(2)).warn(any(IllegalStateException.class), any(ErrorContext.class));
+    }
+}
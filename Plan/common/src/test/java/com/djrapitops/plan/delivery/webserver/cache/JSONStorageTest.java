@@ -36,6 +36,7 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.Mockito.when;
 
 class JSONStorageTest {
@@ -170,4 +171,33 @@ class JSONStorageTest {
         JSONStorage.StoredJSON stored = UNDER_TEST.storeJson(DataID.SESSIONS_OVERVIEW.name(), Collections.singletonList("data"), timestamp);
         assertFalse(UNDER_TEST.fetchJsonMadeBefore(DataID.SESSIONS.name(), timestamp + TimeUnit.DAYS.toMillis(1L)).isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void etagChangesWhenOnlyTimestampChanges() {
+        // Dashboard polls again if the timestamp is old, so a cached response with old timestamp must not match.
+        String json = "{\"data\":1}";
+        JSONStorage.StoredJSON first = UNDER_TEST.storeJson("Identifier", json, 1000L);
+        JSONStorage.StoredJSON second = UNDER_TEST.storeJson("Identifier", json, 2000L);
+
+        assertNotEquals(first.json, second.json);
+        assertNotEquals(first.getEtag(), second.getEtag());
+    }
+
+    @Test
+    void etagChangesWhenContentChanges() {
+        JSONStorage.StoredJSON first = UNDER_TEST.storeJson("Identifier", "{\"data\":1}", 1000L);
+        JSONStorage.StoredJSON second = UNDER_TEST.storeJson("Identifier", "{\"data\":2}", 1000L);
+
+        assertNotEquals(first.getEtag(), second.getEtag());
+    }
+
+    @Test
+    void etagOfReadJsonMatchesStoredJson() {
+        JSONStorage.StoredJSON stored = UNDER_TEST.storeJson("Identifier", "{\"data\":1}", 1000L);
+        String result = UNDER_TEST.fetchExactJson("Identifier", 1000L)
+                .map(JSONStorage.StoredJSON::getEtag)
+                .orElseThrow(AssertionError::new);
+
+        assertEquals(stored.getEtag(), result);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.formatting.Formatter;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
+import org.eclipse.jetty.http.HttpHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for ETag handling in {@link JSONResolver}.
+ *
+ * @author AuroraLS3
+ */
+class JSONResolverTest {
+
+    private final JSONResolver underTest = new JSONResolver() {
+        @Override
+        protected Formatter<Long> getHttpLastModifiedFormatter() {
+            return Object::toString;
+        }
+
+        @Override
+        public boolean canAccess(Request request) {
+            return true;
+        }
+
+        @Override
+        public Optional<Response> resolve(Request request) {
+            return Optional.empty();
+        }
+    };
+
+    private static Request requestWithEtag(String etag) {
+        Map<String, String> headers = etag == null
+                ? Collections.emptyMap()
+                : Collections.singletonMap(HttpHeader.IF_NONE_MATCH.asString(), etag);
+        return new Request("GET", "/v1/serverOverview", null, headers);
+    }
+
+    @Test
+    void responseContainsEtagOfStoredJson() {
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{\"timestamp\": 1000,\"data\":1}", 1000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag(null), stored);
+
+        assertEquals(200, response.getCode());
+        assertEquals(stored.getEtag(), response.getHeaders().get(HttpHeader.ETAG.asString()));
+    }
+
+    @Test
+    void matchingEtagGetsNotModified() {
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{\"timestamp\": 1000,\"data\":1}", 1000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag(stored.getEtag()), stored);
+
+        assertEquals(304, response.getCode());
+        assertArrayEquals(new byte[0], response.getBytes());
+        assertEquals(stored.getEtag(), response.getHeaders().get(HttpHeader.ETAG.asString()));
+    }
+
+    @Test
+    void weakAndListedEtagsGetNotModified() {
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{\"timestamp\": 1000,\"data\":1}", 1000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag("\"other\", W/" + stored.getEtag()), stored);
+
+        assertEquals(304, response.getCode());
+    }
+
+    @Test
+    void etagOfOlderTimestampGetsFullResponse() {
+        JSONStorage.StoredJSON older = new JSONStorage.StoredJSON("{\"timestamp\": 1000,\"data\":1}", 1000L);
+        JSONStorage.StoredJSON newer = new JSONStorage.StoredJSON("{\"timestamp\": 2000,\"data\":1}", 2000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag(older.getEtag()), newer);
+
+        assertEquals(200, response.getCode());
+        assertEquals(newer.getEtag(), response.getHeaders().get(HttpHeader.ETAG.asString()));
+    }
+}
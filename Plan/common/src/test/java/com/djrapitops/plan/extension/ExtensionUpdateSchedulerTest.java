@@ -0,0 +1,172 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension;
+
+import com.djrapitops.plan.processing.Processing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestPluginLogger;
+import utilities.mocks.objects.TestRunnableFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ExtensionUpdateScheduler}.
+ *
+ * @author AuroraLS3
+ */
+class ExtensionUpdateSchedulerTest {
+
+    private static final String PLUGIN_NAME = "TestExtension";
+
+    private List<Runnable> submitted;
+    private List<String> ran;
+
+    @BeforeEach
+    void setUp() {
+        submitted = new ArrayList<>();
+        ran = new ArrayList<>();
+    }
+
+    private ExtensionUpdateScheduler createScheduler(long timeBudgetMs) {
+        Processing processing = mock(Processing.class);
+        when(processing.submitNonCritical(any(Runnable.class))).then(invocation -> {
+            submitted.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(true);
+        });
+        return new ExtensionUpdateScheduler(processing, new TestRunnableFactory(), new TestPluginLogger(), timeBudgetMs);
+    }
+
+    private void schedulePlayer(ExtensionUpdateScheduler scheduler, String playerName) {
+        scheduler.schedulePlayerUpdate(PLUGIN_NAME, null, playerName, () -> ran.add(playerName));
+    }
+
+    private void runSubmitted(int index) {
+        submitted.get(index).run();
+    }
+
+    @Test
+    void concurrentUpdatesAreLimitedPerExtension() {
+        ExtensionUpdateScheduler scheduler = createScheduler(ExtensionUpdateScheduler.DEFAULT_TIME_BUDGET_MS);
+        for (int i = 0; i < 5; i++) {
+            schedulePlayer(scheduler, "Player" + i);
+        }
+        assertEquals(ExtensionUpdateScheduler.MAX_CONCURRENT_UPDATES, submitted.size());
+        assertEquals(3, scheduler.getStatistics(PLUGIN_NAME).orElseThrow().getPendingUpdates());
+
+        runSubmitted(0);
+        assertEquals(ExtensionUpdateScheduler.MAX_CONCURRENT_UPDATES + 1, submitted.size());
+    }
+
+    @Test
+    void pendingUpdatesOfSamePlayerAreCoalesced() {
+        ExtensionUpdateScheduler scheduler = createScheduler(ExtensionUpdateScheduler.DEFAULT_TIME_BUDGET_MS);
+        schedulePlayer(scheduler, "Running1");
+        schedulePlayer(scheduler, "Running2");
+        UUID playerUUID = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            String update = "Update" + i;
+            scheduler.schedulePlayerUpdate(PLUGIN_NAME, playerUUID, "Player", () -> ran.add(update));
+        }
+
+        ExtensionUpdateStatistics statistics = scheduler.getStatistics(PLUGIN_NAME).orElseThrow();
+        assertEquals(1, statistics.getPendingUpdates());
+        assertEquals(2, statistics.getCoalescedUpdates());
+
+        runSubmitted(0);
+        runSubmitted(2);
+        assertEquals(List.of("Running1", "Update2"), ran);
+    }
+
+    @Test
+    void serverUpdatesAreRunBeforeOfflinePlayers() {
+        ExtensionUpdateScheduler scheduler = createScheduler(ExtensionUpdateScheduler.DEFAULT_TIME_BUDGET_MS);
+        schedulePlayer(scheduler, "Running1");
+        schedulePlayer(scheduler, "Running2");
+        schedulePlayer(scheduler, "Offline");
+        scheduler.scheduleServerUpdate(PLUGIN_NAME, () -> ran.add("Server"));
+
+        runSubmitted(0);
+        runSubmitted(1);
+        runSubmitted(2);
+        runSubmitted(3);
+        assertEquals(List.of("Running1", "Running2", "Server", "Offline"), ran);
+    }
+
+    @Test
+    void slowExtensionIsBackedOff() {
+        ExtensionUpdateScheduler scheduler = createScheduler(-1L); // Every update is over the budget
+        for (int i = 0; i < ExtensionUpdateScheduler.SLOW_UPDATES_BEFORE_BACKOFF + 2; i++) {
+            schedulePlayer(scheduler, "Player" + i);
+        }
+        for (int i = 0; i < ExtensionUpdateScheduler.SLOW_UPDATES_BEFORE_BACKOFF; i++) {
+            runSubmitted(i);
+        }
+
+        ExtensionUpdateStatistics statistics = scheduler.getStatistics(PLUGIN_NAME).orElseThrow();
+        assertEquals(ExtensionUpdateScheduler.SLOW_UPDATES_BEFORE_BACKOFF, statistics.getSlowUpdates());
+        assertTrue(statistics.isBackingOff(System.currentTimeMillis()));
+        // Updates that were already running are allowed to finish, nothing new is started
+        int submittedBeforeBackoff = submitted.size();
+        schedulePlayer(scheduler, "DuringBackoff");
+        assertEquals(submittedBeforeBackoff, submitted.size());
+    }
+
+    @Test
+    void clearDropsPendingUpdates() {
+        ExtensionUpdateScheduler scheduler = createScheduler(ExtensionUpdateScheduler.DEFAULT_TIME_BUDGET_MS);
+        for (int i = 0; i < 5; i++) {
+            schedulePlayer(scheduler, "Player" + i);
+        }
+        scheduler.clear();
+        runSubmitted(0);
+        runSubmitted(1);
+
+        assertEquals(2, submitted.size());
+        assertTrue(scheduler.getStatistics().isEmpty());
+    }
+
+    @Test
+    void updateIsKeptPendingWhenProcessingRejectsIt() {
+        Processing processing = mock(Processing.class);
+        when(processing.submitNonCritical(any(Runnable.class)))
+                .thenThrow(new RejectedExecutionException("Test"))
+                .then(invocation -> {
+                    submitted.add(invocation.getArgument(0));
+                    return CompletableFuture.completedFuture(true);
+                });
+        ExtensionUpdateScheduler scheduler = new ExtensionUpdateScheduler(processing, new TestRunnableFactory(), new TestPluginLogger(), ExtensionUpdateScheduler.DEFAULT_TIME_BUDGET_MS);
+
+        schedulePlayer(scheduler, "Rejected");
+        assertTrue(submitted.isEmpty());
+        assertEquals(1, scheduler.getStatistics(PLUGIN_NAME).orElseThrow().getPendingUpdates());
+
+        schedulePlayer(scheduler, "Next");
+        runSubmitted(0);
+        runSubmitted(1);
+        assertEquals(List.of("Rejected", "Next"), ran);
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.Group;
+import com.djrapitops.plan.extension.NotReadyException;
+import com.djrapitops.plan.extension.annotation.NumberProvider;
+import com.djrapitops.plan.extension.annotation.PluginInfo;
+import com.djrapitops.plan.extension.annotation.StringProvider;
+import com.djrapitops.plan.identification.ServerUUID;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MethodWrapper}.
+ *
+ * @author AuroraLS3
+ */
+class MethodWrapperTest {
+
+    private static final ServerUUID SERVER_UUID = ServerUUID.randomUUID();
+    private static final UUID PLAYER_UUID = UUID.randomUUID();
+
+    private static <T> MethodWrapper<T> wrap(Class<?> extensionClass, String methodName, Class<T> returnType, Class<?>... parameterTypes) throws NoSuchMethodException {
+        Method method = extensionClass.getMethod(methodName, parameterTypes);
+        method.setAccessible(true); // Done by ExtensionExtractor during registration
+        return new MethodWrapper<>(method, returnType);
+    }
+
+    @Test
+    void playerMethodIsCalledWithUUID() throws NoSuchMethodException {
+        MethodWrapper<String> wrapper = wrap(TestExtension.class, "uuid", String.class, UUID.class);
+        String result = wrapper.callMethod(new TestExtension(), Parameters.player(SERVER_UUID, PLAYER_UUID, "Player"));
+        assertEquals(PLAYER_UUID.toString(), result);
+    }
+
+    @Test
+    void playerMethodIsCalledWithName() throws NoSuchMethodException {
+        MethodWrapper<String> wrapper = wrap(TestExtension.class, "name", String.class, String.class);
+        String result = wrapper.callMethod(new TestExtension(), Parameters.player(SERVER_UUID, PLAYER_UUID, "Player"));
+        assertEquals("Player", result);
+    }
+
+    @Test
+    void serverMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap(TestExtension.class, "number", Long.class);
+        Long result = wrapper.callMethod(new TestExtension(), Parameters.server(SERVER_UUID));
+        assertEquals(5L, result);
+    }
+
+    @Test
+    void groupMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<String> wrapper = wrap(TestExtension.class, "group", String.class, Group.class);
+        String result = wrapper.callMethod(new TestExtension(), Parameters.group(SERVER_UUID, "Group"));
+        assertEquals("Group", result);
+    }
+
+    @Test
+    void notReadyExceptionReturnsNull() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap(TestExtension.class, "notReady", Long.class);
+        assertNull(wrapper.callMethod(new TestExtension(), Parameters.server(SERVER_UUID)));
+    }
+
+    @Test
+    void failingMethodThrowsMethodCallException() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap(TestExtension.class, "failing", Long.class);
+        TestExtension extension = new TestExtension();
+        Parameters parameters = Parameters.server(SERVER_UUID);
+        DataExtensionMethodCallException thrown = assertThrows(DataExtensionMethodCallException.class, () -> wrapper.callMethod(extension, parameters));
+        assertEquals("MethodWrapperTest", thrown.getPluginName());
+        assertTrue(thrown.getMessage().contains("IllegalStateException"), thrown::getMessage);
+    }
+
+    @Test
+    void preparedWrapperIsReusedBetweenCallsAndInstances() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap(TestExtension.class, "calls", Long.class);
+        TestExtension first = new TestExtension();
+        TestExtension second = new TestExtension();
+        Parameters parameters = Parameters.server(SERVER_UUID);
+
+        assertEquals(1L, wrapper.callMethod(first, parameters));
+        assertEquals(2L, wrapper.callMethod(first, parameters));
+        assertEquals(1L, wrapper.callMethod(second, parameters));
+    }
+
+    @Test
+    void disabledWrapperIsNotCalled() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap(TestExtension.class, "calls", Long.class);
+        TestExtension extension = new TestExtension();
+        wrapper.disable();
+
+        assertNull(wrapper.callMethod(extension, Parameters.server(SERVER_UUID)));
+        assertEquals(0L, extension.callCount);
+    }
+
+    @Test
+    void benchmarkFiftyProviderExtension() throws NoSuchMethodException {
+        List<MethodWrapper<Long>> wrappers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            wrappers.add(wrap(FiftyProviderExtension.class, "value" + i, Long.class, UUID.class));
+        }
+        FiftyProviderExtension extension = new FiftyProviderExtension();
+        Parameters parameters = Parameters.player(SERVER_UUID, PLAYER_UUID, "Player");
+
+        int rounds = 20_000;
+        long sum = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (MethodWrapper<Long> wrapper : wrappers) {
+                sum += wrapper.callMethod(extension, parameters);
+            }
+        }
+        long durationNanos = Math.max(1L, System.nanoTime() - start);
+
+        long invocations = rounds * 50L;
+        assertEquals(rounds * (49L * 50L / 2L), sum);
+        long perSecond = invocations * TimeUnit.SECONDS.toNanos(1L) / durationNanos;
+        Logger.getLogger("Plan").log(Level.INFO, () -> "MethodWrapper: " + perSecond + " invocations/s (" + invocations + " calls to 50 providers)");
+    }
+
+    @PluginInfo(name = "MethodWrapperTest")
+    public static class TestExtension implements DataExtension {
+        private long callCount = 0;
+
+        @NumberProvider(text = "Calls")
+        public long calls() {
+            return ++callCount;
+        }
+
+        @StringProvider(text = "UUID")
+        public String uuid(UUID playerUUID) {
+            return playerUUID.toString();
+        }
+
+        @StringProvider(text = "Name")
+        public String name(String playerName) {
+            return playerName;
+        }
+
+        @StringProvider(text = "Group")
+        public String group(Group group) {
+            return group.getGroupName();
+        }
+
+        @NumberProvider(text = "Number")
+        public long number() {
+            return 5L;
+        }
+
+        @NumberProvider(text = "Not ready")
+        public long notReady() {
+            throw new NotReadyException();
+        }
+
+        @NumberProvider(text = "Failing")
+        public long failing() {
+            throw new IllegalStateException("Test failure");
+        }
+    }
+
+    @PluginInfo(name = "FiftyProviderExtension")
+    public static class FiftyProviderExtension implements DataExtension {
+        @NumberProvider(text = "Value 0")
+        public long value0(UUID playerUUID) {
+            return 0;
+        }
+
+        @NumberProvider(text = "Value 1")
+        public long value1(UUID playerUUID) {
+            return 1;
+        }
+
+        @NumberProvider(text = "Value 2")
+        public long value2(UUID playerUUID) {
+            return 2;
+        }
+
+        @NumberProvider(text = "Value 3")
+        public long value3(UUID playerUUID) {
+            return 3;
+        }
+
+        @NumberProvider(text = "Value 4")
+        public long value4(UUID playerUUID) {
+            return 4;
+        }
+
+        @NumberProvider(text = "Value 5")
+        public long value5(UUID playerUUID) {
+            return 5;
+        }
+
+        @NumberProvider(text = "Value 6")
+        public long value6(UUID playerUUID) {
+            return 6;
+        }
+
+        @NumberProvider(text = "Value 7")
+        public long value7(UUID playerUUID) {
+            return 7;
+        }
+
+        @NumberProvider(text = "Value 8")
+        public long value8(UUID playerUUID) {
+            return 8;
+        }
+
+        @NumberProvider(text = "Value 9")
+        public long value9(UUID playerUUID) {
+            return 9;
+        }
+
+        @NumberProvider(text = "Value 10")
+        public long value10(UUID playerUUID) {
+            return 10;
+        }
+
+        @NumberProvider(text = "Value 11")
+        public long value11(UUID playerUUID) {
+            return 11;
+        }
+
+        @NumberProvider(text = "Value 12")
+        public long value12(UUID playerUUID) {
+            return 12;
+        }
+
+        @NumberProvider(text = "Value 13")
+        public long value13(UUID playerUUID) {
+            return 13;
+        }
+
+        @NumberProvider(text = "Value 14")
+        public long value14(UUID playerUUID) {
+            return 14;
+        }
+
+        @NumberProvider(text = "Value 15")
+        public long value15(UUID playerUUID) {
+            return 15;
+        }
+
+        @NumberProvider(text = "Value 16")
+        public long value16(UUID playerUUID) {
+            return 16;
+        }
+
+        @NumberProvider(text = "Value 17")
+        public long value17(UUID playerUUID) {
+            return 17;
+        }
+
+        @NumberProvider(text = "Value 18")
+        public long value18(UUID playerUUID) {
+            return 18;
+        }
+
+        @NumberProvider(text = "Value 19")
+        public long value19(UUID playerUUID) {
+            return 19;
+        }
+
+        @NumberProvider(text = "Value 20")
+        public long value20(UUID playerUUID) {
+            return 20;
+        }
+
+        @NumberProvider(text = "Value 21")
+        public long value21(UUID playerUUID) {
+            return 21;
+        }
+
+        @NumberProvider(text = "Value 22")
+        public long value22(UUID playerUUID) {
+            return 22;
+        }
+
+        @NumberProvider(text = "Value 23")
+        public long value23(UUID playerUUID) {
+            return 23;
+        }
+
+        @NumberProvider(text = "Value 24")
+        public long value24(UUID playerUUID) {
+            return 24;
+        }
+
+        @NumberProvider(text = "Value 25")
+        public long value25(UUID playerUUID) {
+            return 25;
+        }
+
+        @NumberProvider(text = "Value 26")
+        public long value26(UUID playerUUID) {
+            return 26;
+        }
+
+        @NumberProvider(text = "Value 27")
+        public long value27(UUID playerUUID) {
+            return 27;
+        }
+
+        @NumberProvider(text = "Value 28")
+        public long value28(UUID playerUUID) {
+            return 28;
+        }
+
+        @NumberProvider(text = "Value 29")
+        public long value29(UUID playerUUID) {
+            return 29;
+        }
+
+        @NumberProvider(text = "Value 30")
+        public long value30(UUID playerUUID) {
+            return 30;
+        }
+
+        @NumberProvider(text = "Value 31")
+        public long value31(UUID playerUUID) {
+            return 31;
+        }
+
+        @NumberProvider(text = "Value 32")
+        public long value32(UUID playerUUID) {
+            return 32;
+        }
+
+        @NumberProvider(text = "Value 33")
+        public long value33(UUID playerUUID) {
+            return 33;
+        }
+
+        @NumberProvider(text = "Value 34")
+        public long value34(UUID playerUUID) {
+            return 34;
+        }
+
+        @NumberProvider(text = "Value 35")
+        public long value35(UUID playerUUID) {
+            return 35;
+        }
+
+        @NumberProvider(text = "Value 36")
+        public long value36(UUID playerUUID) {
+            return 36;
+        }
+
+        @NumberProvider(text = "Value 37")
+        public long value37(UUID playerUUID) {
+            return 37;
+        }
+
+        @NumberProvider(text = "Value 38")
+        public long value38(UUID playerUUID) {
+            return 38;
+        }
+
+        @NumberProvider(text = "Value 39")
+        public long value39(UUID playerUUID) {
+            return 39;
+        }
+
+        @NumberProvider(text = "Value 40")
+        public long value40(UUID playerUUID) {
+            return 40;
+        }
+
+        @NumberProvider(text = "Value 41")
+        public long value41(UUID playerUUID) {
+            return 41;
+        }
+
+        @NumberProvider(text = "Value 42")
+        public long value42(UUID playerUUID) {
+            return 42;
+        }
+
+        @NumberProvider(text = "Value 43")
+        public long value43(UUID playerUUID) {
+            return 43;
+        }
+
+        @NumberProvider(text = "Value 44")
+        public long value44(UUID playerUUID) {
+            return 44;
+        }
+
+        @NumberProvider(text = "Value 45")
+        public long value45(UUID playerUUID) {
+            return 45;
+        }
+
+        @NumberProvider(text = "Value 46")
+        public long value46(UUID playerUUID) {
+            return 46;
+        }
+
+        @NumberProvider(text = "Value 47")
+        public long value47(UUID playerUUID) {
+            return 47;
+        }
+
+        @NumberProvider(text = "Value 48")
+        public long value48(UUID playerUUID) {
+            return 48;
+        }
+
+        @NumberProvider(text = "Value 49")
+        public long value49(UUID playerUUID) {
+            return 49;
+        }
+    }
+}
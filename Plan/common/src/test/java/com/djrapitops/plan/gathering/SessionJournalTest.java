@@ -0,0 +1,153 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.gathering.domain.ActiveSession;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.PlayerKill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SessionJournal}.
+ *
+ * @author AuroraLS3
+ */
+class SessionJournalTest {
+
+    private Path journalLocation;
+    private SessionJournal underTest;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) {
+        journalLocation = temporaryFolder.resolve("active-sessions.journal");
+        underTest = new SessionJournal(journalLocation);
+    }
+
+    private ActiveSession startSession(UUID playerUUID, long start) {
+        ActiveSession session = new ActiveSession(playerUUID, TestConstants.SERVER_UUID, start, "World", "SURVIVAL");
+        session.setListener(underTest);
+        underTest.sessionStarted(session);
+        return session;
+    }
+
+    @Test
+    void sessionEventsAreReplayed() throws Exception {
+        long start = System.currentTimeMillis() - 60_000L;
+        ActiveSession session = startSession(TestConstants.PLAYER_ONE_UUID, start);
+        session.changeState("World2", "CREATIVE", start + 10_000L);
+        session.addAfkTime(5_000L);
+        session.addDeath();
+        session.addMobKill();
+        for (PlayerKill kill : RandomData.randomKills(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_TWO_UUID)) {
+            session.addPlayerKill(kill);
+        }
+        underTest.flush();
+
+        List<FinishedSession> result = underTest.replay();
+        assertEquals(1, result.size());
+        FinishedSession replayed = result.get(0);
+        assertEquals(session.toFinishedSession(replayed.getEnd()), replayed);
+    }
+
+    @Test
+    void endedSessionsAreNotReplayed() throws Exception {
+        long start = System.currentTimeMillis() - 60_000L;
+        ActiveSession ended = startSession(TestConstants.PLAYER_ONE_UUID, start);
+        ActiveSession active = startSession(TestConstants.PLAYER_TWO_UUID, start);
+        underTest.flush();
+        underTest.sessionEnded(ended, start + 30_000L);
+        underTest.flush();
+
+        List<FinishedSession> result = underTest.replay();
+        assertEquals(1, result.size());
+        assertEquals(active.getPlayerUUID(), result.get(0).getPlayerUUID());
+    }
+
+    @Test
+    void journalIsRemovedWhenNoSessionsAreActive() throws Exception {
+        ActiveSession session = startSession(TestConstants.PLAYER_ONE_UUID, System.currentTimeMillis());
+        underTest.flush();
+        assertTrue(underTest.exists());
+
+        underTest.sessionEnded(session, System.currentTimeMillis());
+        underTest.flush();
+        assertFalse(underTest.exists());
+    }
+
+    @Test
+    void tornRecordAtTheEndIsIgnored() throws Exception {
+        long start = System.currentTimeMillis() - 60_000L;
+        ActiveSession session = startSession(TestConstants.PLAYER_ONE_UUID, start);
+        underTest.flush();
+        session.addDeath();
+        underTest.flush();
+
+        byte[] written = Files.readAllBytes(journalLocation);
+        Files.write(journalLocation, Arrays.copyOf(written, written.length - 3));
+
+        List<FinishedSession> result = underTest.replay();
+        assertEquals(1, result.size());
+        assertEquals(session.getStart(), result.get(0).getStart());
+    }
+
+    @Test
+    void largeJournalIsCompactedWithoutLosingEvents() throws Exception {
+        long start = System.currentTimeMillis() - 60_000L;
+        ActiveSession session = startSession(TestConstants.PLAYER_ONE_UUID, start);
+        int afkEvents = 30_000;
+        for (int i = 0; i < afkEvents; i++) {
+            session.addAfkTime(1L);
+        }
+        underTest.flush();
+        long sizeBeforeCompaction = Files.size(journalLocation);
+
+        session.addMobKill();
+        underTest.flush();
+
+        assertTrue(Files.size(journalLocation) < sizeBeforeCompaction, "Journal was not compacted");
+        List<FinishedSession> result = underTest.replay();
+        assertEquals(1, result.size());
+        assertEquals(afkEvents, result.get(0).getAfkTime());
+        assertEquals(1, result.get(0).getMobKillCount());
+    }
+
+    @Test
+    void journalOfPreviousRunIsMovedAside() throws Exception {
+        startSession(TestConstants.PLAYER_ONE_UUID, System.currentTimeMillis());
+        underTest.flush();
+
+        SessionJournal nextRun = new SessionJournal(journalLocation);
+        nextRun.moveAside();
+
+        assertFalse(nextRun.exists());
+        List<Path> journals = SessionJournal.findJournals(journalLocation);
+        assertEquals(1, journals.size());
+        assertEquals(1, new SessionJournal(journals.get(0)).replay().size());
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import utilities.TestConstants;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -75,4 +76,12 @@ class SessionCacheTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void activeSessionsAreCountedByServer() {
+        ServerUUID otherServerUUID = ServerUUID.randomUUID();
+        sessionCache.cacheSession(TestConstants.PLAYER_TWO_UUID, new ActiveSession(TestConstants.PLAYER_TWO_UUID, otherServerUUID, 12345L, "World1", "SURVIVAL"));
+
+        assertEquals(Map.of(serverUUID, 1, otherServerUUID, 1), SessionCache.countActiveSessionsByServer());
+    }
+}
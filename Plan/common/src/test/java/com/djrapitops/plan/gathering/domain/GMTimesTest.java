@@ -19,6 +19,7 @@ package com.djrapitops.plan.gathering.domain;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -133,4 +134,26 @@ class GMTimesTest {
         assertEquals(20L, test.getTime("CREATIVE"));
         assertEquals(0L, test.getTime("ADVENTURE"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void timesAreSameAsGivenMap() {
+        Map<String, Long> expected = new HashMap<>();
+        expected.put("SURVIVAL", 5L);
+        expected.put("CREATIVE", 0L);
+        expected.put("MODDED", 3L);
+        GMTimes gmTimes = new GMTimes(expected);
+
+        assertEquals(expected, gmTimes.getTimes());
+        assertEquals(expected.hashCode(), gmTimes.getTimes().hashCode());
+        assertEquals(8L, gmTimes.getTotal());
+    }
+
+    @Test
+    void vanillaTimesConstructorEqualsMapConstructor() {
+        GMTimes expected = new GMTimes(Map.of("SURVIVAL", 1L, "CREATIVE", 2L, "ADVENTURE", 3L, "SPECTATOR", 4L));
+        GMTimes result = new GMTimes(1L, 2L, 3L, 4L);
+
+        assertEquals(expected, result);
+        assertEquals(10L, result.getTotal());
+    }
+}
@@ -29,6 +29,7 @@ import com.djrapitops.plan.query.QuerySvc;
 import com.djrapitops.plan.settings.config.Config;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.FormatSettings;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
@@ -158,6 +159,60 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         assertFalse(found.isEmpty(), "All users were deleted!! D:");
     }
 
+    @Test
+    default void cleanRemovesInactivePlayers() {
+        saveUserOne();
+        saveTwoWorlds();
+
+        long sessionStart = System.currentTimeMillis() - config().get(TimeSettings.DELETE_INACTIVE_PLAYERS_AFTER) - TimeUnit.DAYS.toMillis(1L);
+        ActiveSession session = new ActiveSession(playerUUID, serverUUID(), sessionStart, worlds[0], "SURVIVAL");
+        db().executeTransaction(new StoreSessionTransaction(session.toFinishedSession(sessionStart + 22345L)));
+
+        int removed = new DBCleanTask(
+                config(),
+                new Locale(),
+                dbSystem(),
+                new QuerySvc(config(), dbSystem(), serverInfo(), null),
+                serverInfo(),
+                new TestPluginLogger(),
+                null
+        ).cleanOldPlayers(db());
+
+        assertEquals(1, removed);
+        assertFalse(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+        assertTrue(db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).isEmpty());
+    }
+
+    @Test
+    default void sessionIsStoredBeforeEarlierQueuedWorldName() {
+        saveUserOne();
+        saveUserTwo();
+
+        SQLDB sqlDB = (SQLDB) db();
+        TransactionQueue queue = new TransactionQueue();
+        List<String> ran = new ArrayList<>();
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        Transaction storeWorld = new StoreWorldNameTransaction(serverUUID(), worlds[0]);
+        Transaction storeSession = new StoreSessionTransaction(session);
+        queue.offer(storeWorld.getPriority(), () -> {
+            storeWorld.executeTransaction(sqlDB);
+            ran.add("world");
+        });
+        queue.offer(storeSession.getPriority(), () -> {
+            storeSession.executeTransaction(sqlDB);
+            ran.add("session");
+        });
+
+        queue.runNext();
+        queue.runNext();
+
+        // StoreSessionTransaction stores the world names itself, since it overtakes StoreWorldNameTransaction
+        assertEquals(List.of("session", "world"), ran);
+        assertTrue(storeWorld.wasSuccessful());
+        assertTrue(storeSession.wasSuccessful());
+        assertEquals(List.of(session), db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID()));
+    }
+
     @Test
     default void playerContainerSupportsAllPlayerKeys() throws IllegalAccessException {
         saveUserOne();
@@ -168,7 +223,7 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         db().executeTransaction(new StoreNicknameTransaction(playerUUID, RandomData.randomNickname(serverUUID()), (uuid, name) -> false /* Not cached */));
         saveGeoInfo(playerUUID, new GeoInfo("TestLoc", RandomData.randomTime()));
         assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
-        db().executeTransaction(new PingStoreTransaction(playerUUID, serverUUID(), RandomData.randomIntDateObjects()));
+        db().executeTransaction(new PingStoreTransaction(playerUUID, serverUUID(), RandomData.randomIntDateObjects(), config().getTimeZone()));
 
         PlayerContainer playerContainer = db().query(ContainerFetchQueries.fetchPlayerContainer(playerUUID));
         // Active sessions are added after fetching
@@ -417,4 +472,15 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         Set<UserInfo> result = db().query(UserInfoQueries.fetchUserInformationOfUser(playerUUID));
         assertEquals(expected, result);
     }
+
+    @Test
+    default void onlyReadOnlyQueriesCanBeSentToReadReplica() {
+        Query<Boolean> isReadOnlyQuery = SQLDB::isReadOnlyQuery;
+
+        assertFalse(db().query(isReadOnlyQuery));
+        assertFalse(db().queryBatch().add(isReadOnlyQuery).get());
+        assertTrue(db().queryReadOnly(isReadOnlyQuery));
+        assertTrue(db().queryBatchReadOnly().add(isReadOnlyQuery).get());
+        assertFalse(db().query(sqldb -> sqldb.queryReadOnly(isReadOnlyQuery)), "Nested query should follow the outermost query");
+    }
 }
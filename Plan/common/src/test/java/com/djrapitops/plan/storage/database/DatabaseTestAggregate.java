@@ -24,6 +24,8 @@ import com.djrapitops.plan.storage.database.transactions.commands.ChangeUserUUID
 import com.djrapitops.plan.storage.database.transactions.commands.CombineUserTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.patches.AfterBadJoinAddressDataCorrectionPatchTest;
 import com.djrapitops.plan.storage.database.transactions.patches.BadJoinAddressDataCorrectionPatchTest;
+import com.djrapitops.plan.storage.database.transactions.patches.DailyPingUniquePatchTest;
+import com.djrapitops.plan.storage.database.transactions.patches.UserSummaryPatchTest;
 
 public interface DatabaseTestAggregate extends
         ActivityIndexQueriesTest,
@@ -45,6 +47,8 @@ public interface DatabaseTestAggregate extends
         ExtensionQueryResultTableDataQueryTest,
         BadJoinAddressDataCorrectionPatchTest,
         AfterBadJoinAddressDataCorrectionPatchTest,
+        UserSummaryPatchTest,
+        DailyPingUniquePatchTest,
         PlayerRetentionQueriesTest {
     /* Collects all query tests together so its easier to implement database tests */
 }
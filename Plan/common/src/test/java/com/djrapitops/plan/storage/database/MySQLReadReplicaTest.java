@@ -0,0 +1,116 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestPluginLogger;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link MySQLReadReplica} lag checks.
+ *
+ * @author AuroraLS3
+ */
+class MySQLReadReplicaTest {
+
+    private HikariDataSource dataSource;
+    private Connection connection;
+    private Statement statement;
+    private MySQLReadReplica replica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(HikariDataSource.class);
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        replica = new MySQLReadReplica(dataSource, TimeUnit.SECONDS.toMillis(30L), new TestPluginLogger());
+    }
+
+    private ResultSet replicaStatus(Long lagSeconds) throws SQLException {
+        ResultSet set = mock(ResultSet.class);
+        when(set.next()).thenReturn(lagSeconds != null);
+        when(set.getLong(anyString())).thenReturn(lagSeconds != null ? lagSeconds : 0L);
+        when(set.wasNull()).thenReturn(false);
+        return set;
+    }
+
+    @Test
+    void replicaWithinMaxLagIsUsed() throws SQLException {
+        ResultSet status = replicaStatus(5L);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+
+        replica.checkLag();
+
+        assertSame(connection, replica.getConnection());
+        verify(status).getLong("Seconds_Behind_Source");
+    }
+
+    @Test
+    void replicaOverMaxLagIsNotUsed() throws SQLException {
+        ResultSet status = replicaStatus(60L);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+
+        replica.checkLag();
+
+        assertNull(replica.getConnection());
+    }
+
+    @Test
+    void missingReplicaStatusIsUnknownLag() throws SQLException {
+        ResultSet status = replicaStatus(null);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+
+        replica.checkLag();
+
+        assertNull(replica.getConnection());
+    }
+
+    @Test
+    void stoppedReplicationIsUnknownLag() throws SQLException {
+        ResultSet status = replicaStatus(0L);
+        when(status.wasNull()).thenReturn(true);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+
+        replica.checkLag();
+
+        assertNull(replica.getConnection());
+    }
+
+    @Test
+    void olderVersionsAreCheckedWithSlaveStatus() throws SQLException {
+        ResultSet status = replicaStatus(5L);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenThrow(new SQLException("Syntax error"));
+        when(statement.executeQuery("SHOW SLAVE STATUS")).thenReturn(status);
+
+        replica.checkLag();
+
+        assertSame(connection, replica.getConnection());
+        verify(status).getLong("Seconds_Behind_Master");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TransactionQueue}.
+ *
+ * @author AuroraLS3
+ */
+class TransactionQueueTest {
+
+    @Test
+    void higherPriorityTasksAreRunFirst() {
+        TransactionQueue queue = new TransactionQueue();
+        List<String> ran = new ArrayList<>();
+        queue.offer(TransactionPriority.BULK, () -> ran.add("bulk"));
+        queue.offer(TransactionPriority.NORMAL, () -> ran.add("normal"));
+        queue.offer(TransactionPriority.CRITICAL, () -> ran.add("critical-1"));
+        queue.offer(TransactionPriority.CRITICAL, () -> ran.add("critical-2"));
+
+        for (int i = 0; i < 4; i++) {
+            queue.runNext();
+        }
+
+        assertEquals(List.of("critical-1", "critical-2", "normal", "bulk"), ran);
+        assertEquals(2, queue.getExecutedCount(TransactionPriority.CRITICAL));
+        assertEquals(0, queue.getSize(TransactionPriority.BULK));
+    }
+
+    @Test
+    void bulkTasksSkippedAtExecutionAreCountedAsDropped() {
+        TransactionQueue queue = new TransactionQueue();
+        queue.offer(TransactionPriority.BULK, () -> {});
+        queue.offer(TransactionPriority.BULK, () -> {});
+
+        queue.runNext();
+        queue.markDropped(TransactionPriority.BULK);
+        queue.runNext();
+
+        assertEquals(1, queue.getExecutedCount(TransactionPriority.BULK));
+        assertEquals(1, queue.getDroppedCount(TransactionPriority.BULK));
+    }
+
+    @Test
+    void bulkTasksAreDroppedWhenLaneIsFull() {
+        TransactionQueue queue = new TransactionQueue();
+        int capacity = TransactionPriority.BULK.getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            assertTrue(queue.offer(TransactionPriority.BULK, () -> {}));
+        }
+
+        assertTrue(queue.isFull(TransactionPriority.BULK));
+        assertFalse(queue.offer(TransactionPriority.BULK, () -> {}));
+        assertEquals(1, queue.getDroppedCount(TransactionPriority.BULK));
+        assertEquals(capacity, queue.getSize(TransactionPriority.BULK));
+    }
+
+    @Test
+    void criticalTasksAreNotDroppedWhenLaneIsFull() {
+        TransactionQueue queue = new TransactionQueue();
+        int capacity = TransactionPriority.CRITICAL.getCapacity();
+        for (int i = 0; i < capacity + 1; i++) {
+            assertTrue(queue.offer(TransactionPriority.CRITICAL, () -> {}));
+        }
+
+        assertEquals(0, queue.getDroppedCount(TransactionPriority.CRITICAL));
+        assertEquals(capacity + 1, queue.getSize(TransactionPriority.CRITICAL));
+    }
+}
@@ -25,6 +25,8 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.SQLiteDB;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.queries.schema.SQLiteSchemaQueries;
+import com.djrapitops.plan.storage.database.sql.tables.BackupCopyProgressTable;
 import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
 import com.djrapitops.plan.storage.database.transactions.commands.StoreWebUserTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
@@ -32,14 +34,17 @@ import com.djrapitops.plan.utilities.PassEncryptUtil;
 import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.jupiter.api.Test;
 import utilities.RandomData;
+import utilities.TestErrorLogger;
 import utilities.TestConstants;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public interface DatabaseBackupTest extends DatabaseTestPreparer {
 
@@ -66,7 +71,7 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
 
         db().executeTransaction(new PingStoreTransaction(
                 playerUUID, serverUUID(),
-                Collections.singletonList(new DateObj<>(System.currentTimeMillis(), RandomData.randomInt(-1, 40))))
+                Collections.singletonList(new DateObj<>(System.currentTimeMillis(), RandomData.randomInt(-1, 40))), config().getTimeZone())
         );
 
         User user = new User("test", "console", null, PassEncryptUtil.createHash("testPass"), "admin", Collections.emptyList());
@@ -103,6 +108,69 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
         }
     }
 
+    @Test
+    default void backupCopyReportsProgressAndRemovesProgressTracking() throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "backup-", ".db").toFile();
+        tempFile.deleteOnExit();
+        SQLiteDB backup = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        try {
+            backup.init();
+
+            saveDataForBackup();
+
+            Set<String> reportedSteps = new HashSet<>();
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup,
+                    (step, copiedUpTo, largestId) -> reportedSteps.add(step)));
+
+            assertTrue(reportedSteps.contains("sessions"), () -> "Sessions were not reported, got " + reportedSteps);
+            assertTrue(reportedSteps.contains("tps"), () -> "TPS was not reported, got " + reportedSteps);
+            assertFalse(backup.query(SQLiteSchemaQueries.doesTableExist(BackupCopyProgressTable.TABLE_NAME)));
+            assertQueryResultIsEqual(db(), backup, SessionQueries.fetchAllSessions());
+            assertQueryResultIsEqual(db(), backup, PingQueries.fetchAllPingData());
+        } finally {
+            backup.close();
+        }
+    }
+
+    @Test
+    default void interruptedBackupCopyContinuesFromCommittedProgress() throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "backup-", ".db").toFile();
+        tempFile.deleteOnExit();
+        SQLiteDB backup = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        try {
+            backup.init();
+
+            saveDataForBackup();
+
+            TestErrorLogger.throwErrors(false);
+            try {
+                backup.executeTransaction(new BackupCopyTransaction(db(), backup, (step, copiedUpTo, largestId) -> {
+                    if ("sessions".equals(step)) throw new IllegalStateException("Interrupted copy for test");
+                })).get();
+            } finally {
+                TestErrorLogger.throwErrors(true);
+            }
+            assertTrue(backup.query(SQLiteSchemaQueries.doesTableExist(BackupCopyProgressTable.TABLE_NAME)));
+
+            Set<String> reportedSteps = new HashSet<>();
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup,
+                    (step, copiedUpTo, largestId) -> reportedSteps.add(step))).get();
+
+            assertFalse(reportedSteps.contains("servers"), () -> "Servers were copied again, got " + reportedSteps);
+            assertFalse(reportedSteps.contains("users"), () -> "Users were copied again, got " + reportedSteps);
+            assertTrue(reportedSteps.contains("ping"), () -> "Ping was not copied, got " + reportedSteps);
+            assertFalse(backup.query(SQLiteSchemaQueries.doesTableExist(BackupCopyProgressTable.TABLE_NAME)));
+            assertQueryResultIsEqual(db(), backup, BaseUserQueries.fetchAllBaseUsers());
+            assertQueryResultIsEqual(db(), backup, ServerQueries.fetchPlanServerInformation());
+            assertQueryResultIsEqual(db(), backup, SessionQueries.fetchAllSessions());
+            assertQueryResultIsEqual(db(), backup, PingQueries.fetchAllPingData());
+        } finally {
+            backup.close();
+        }
+    }
+
     default <T> void assertQueryResultIsEqual(Database one, Database two, Query<T> query) {
         assertEquals(one.query(query), two.query(query));
     }
@@ -38,6 +38,9 @@ import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionProviderTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
@@ -52,11 +55,14 @@ import utilities.RandomData;
 import utilities.TestConstants;
 import utilities.TestErrorLogger;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -131,6 +137,63 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         }));
     }
 
+    @Test
+    default void extensionPlayerValuesAreUpdatedWithCachedDefinitions() {
+        db().executeTransaction(new PlayerRegisterTransaction(TestConstants.PLAYER_ONE_UUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME));
+
+        ExtensionSvc extensionService = extensionService();
+
+        extensionService.register(new PlayerExtension());
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        changeStoredProviderText("value", "Changed");
+        // Second update skips icon and provider rows that were stored by the first one
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+
+        ExtensionTabData tabData = fetchPlayerTabData();
+        OptionalAssert.equals("5", tabData.getNumber("value").map(data -> data.getFormattedValue(Object::toString)));
+        OptionalAssert.equals("Something", tabData.getString("stringVal").map(ExtensionStringData::getFormattedValue));
+        OptionalAssert.equals("Changed", tabData.getNumber("value").map(data -> data.getDescription().getText()));
+    }
+
+    @Test
+    default void extensionDefinitionsAreStoredAgainAfterDataIsCleared() {
+        db().executeTransaction(new PlayerRegisterTransaction(TestConstants.PLAYER_ONE_UUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME));
+
+        ExtensionSvc extensionService = extensionService();
+
+        extensionService.register(new PlayerExtension());
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        changeStoredProviderText("value", "Changed");
+        system().getQueryService().dataCleared();
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+
+        OptionalAssert.equals("a number", fetchPlayerTabData().getNumber("value").map(data -> data.getDescription().getText()));
+    }
+
+    private void changeStoredProviderText(String providerName, String text) {
+        executeTransactions(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(new ExecStatement("UPDATE " + ExtensionProviderTable.TABLE_NAME + " SET " + ExtensionProviderTable.TEXT + "=?" +
+                        WHERE + ExtensionProviderTable.PROVIDER_NAME + "=?") {
+                    @Override
+                    public void prepare(PreparedStatement statement) throws SQLException {
+                        statement.setString(1, text);
+                        statement.setString(2, providerName);
+                    }
+                });
+            }
+        });
+    }
+
+    private ExtensionTabData fetchPlayerTabData() {
+        Map<ServerUUID, List<ExtensionData>> playerDataByServerUUID = db().query(new ExtensionPlayerDataQuery(playerUUID));
+        List<ExtensionData> ofServer = playerDataByServerUUID.get(serverUUID());
+        assertNotNull(ofServer);
+        assertFalse(ofServer.isEmpty());
+        return ofServer.get(0).getTabs().get(0);
+    }
+
     @Test
     default void extensionPlayerValuesCanBeQueriedAsTableData() {
         extensionPlayerValuesAreStored();
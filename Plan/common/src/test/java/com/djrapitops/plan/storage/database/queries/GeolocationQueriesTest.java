@@ -156,7 +156,7 @@ public interface GeolocationQueriesTest extends DatabaseTestPreparer {
         long time = System.currentTimeMillis();
         List<DateObj<Integer>> ping = Collections.singletonList(new DateObj<>(time, 5));
         for (UUID uuid : uuids) {
-            db.executeTransaction(new PingStoreTransaction(uuid, serverUUID(), ping));
+            db.executeTransaction(new PingStoreTransaction(uuid, serverUUID(), ping, config().getTimeZone()));
         }
 
         Map<String, Ping> got = db.query(PingQueries.fetchPingDataOfServerByGeolocation(serverUUID()));
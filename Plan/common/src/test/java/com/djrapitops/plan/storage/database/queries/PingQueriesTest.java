@@ -22,6 +22,7 @@ import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.PingQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
@@ -48,7 +49,7 @@ public interface PingQueriesTest extends DatabaseTestPreparer {
         DateObj<Integer> saved = RandomData.randomIntDateObject();
         int value = saved.getValue();
         db().executeTransaction(new PingStoreTransaction(player2UUID, serverUUID(),
-                Collections.singletonList(saved)
+                Collections.singletonList(saved), config().getTimeZone()
         )).get();
 
         Map<UUID, List<Ping>> expected = Collections.singletonMap(player2UUID, Collections.singletonList(
@@ -61,7 +62,7 @@ public interface PingQueriesTest extends DatabaseTestPreparer {
     @Test
     default void pingStoreTransactionOutOfOrderUpdatesUserInformation() throws ExecutionException, InterruptedException {
         db().executeTransaction(new PingStoreTransaction(player2UUID, serverUUID(),
-                Collections.singletonList(RandomData.randomIntDateObject())
+                Collections.singletonList(RandomData.randomIntDateObject()), config().getTimeZone()
         )).get();
         long registerDate = RandomData.randomTime();
         db().executeTransaction(new PlayerRegisterTransaction(player2UUID, () -> registerDate, TestConstants.PLAYER_ONE_NAME)).get();
@@ -78,7 +79,7 @@ public interface PingQueriesTest extends DatabaseTestPreparer {
         DateObj<Integer> saved = RandomData.randomIntDateObject(1, 4001); // accepted ping range 1-4000 ms
         int value = saved.getValue();
         db().executeTransaction(new PingStoreTransaction(playerUUID, serverUUID(),
-                Collections.singletonList(saved)
+                Collections.singletonList(saved), config().getTimeZone()
         )).get();
         Map<UUID, List<Ping>> expected = Collections.singletonMap(playerUUID, Collections.singletonList(
                 new Ping(saved.getDate(), serverUUID(), value, value, value)
@@ -97,6 +98,23 @@ public interface PingQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, fetched);
     }
 
+    @Test
+    default void storedPingIsRolledUpDaily() throws ExecutionException, InterruptedException {
+        prepareForPingStorage();
+
+        long dayStart = DailyPingTable.toStartOfDay(System.currentTimeMillis(), config().getTimeZone());
+        db().executeTransaction(new PingStoreTransaction(playerUUID, serverUUID(),
+                Collections.singletonList(new DateObj<>(dayStart + 1000L, 20)), config().getTimeZone()
+        ));
+        db().executeTransaction(new PingStoreTransaction(playerUUID, serverUUID(),
+                Collections.singletonList(new DateObj<>(dayStart + 2000L, 120)), config().getTimeZone()
+        )).get();
+
+        List<Ping> expected = Collections.singletonList(new Ping(dayStart, serverUUID(), 20, 120, 70.0));
+        List<Ping> fetched = db().query(PingQueries.fetchDailyPingDataOfServer(dayStart, dayStart + 3000L, config().getTimeZone(), serverUUID()));
+        assertEquals(expected, fetched);
+    }
+
     @Test
     default void removeEverythingRemovesPing() {
         pingIsStored();
@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.Database;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link QueryBatch}.
+ *
+ * @author AuroraLS3
+ */
+class QueryBatchTest {
+
+    @Test
+    void failedQueryCancelsQueriesThatHaveNotStarted() throws InterruptedException {
+        Database db = Mockito.mock(Database.class);
+        when(db.query(any())).thenAnswer(invocation -> invocation.getArgument(0, Query.class).executeQuery(null));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch allAdded = new CountDownLatch(1);
+        AtomicBoolean secondRan = new AtomicBoolean(false);
+        Query<Integer> failing = sqldb -> {
+            try {
+                allAdded.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new DBOpException("Test failure");
+        };
+        Query<Integer> second = sqldb -> {
+            secondRan.set(true);
+            return 1;
+        };
+
+        try {
+            QueryBatch batch = new QueryBatch(db, executor);
+            Supplier<Integer> failingResult = batch.add(failing);
+            Supplier<Integer> secondResult = batch.add(second);
+            allAdded.countDown();
+
+            DBOpException thrown = assertThrows(DBOpException.class, secondResult::get);
+            assertEquals("Test failure", thrown.getMessage());
+            assertThrows(DBOpException.class, failingResult::get);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertFalse(secondRan.get());
+    }
+}
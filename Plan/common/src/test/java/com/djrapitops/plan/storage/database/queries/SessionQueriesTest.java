@@ -16,14 +16,19 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.ActivityCounts;
+import com.djrapitops.plan.delivery.domain.SessionAggregates;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerQuery;
+import com.djrapitops.plan.storage.database.queries.containers.PlayerPageContainerQuery;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
@@ -35,6 +40,7 @@ import com.djrapitops.plan.storage.database.transactions.StoreServerInformationT
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
+import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import com.djrapitops.plan.utilities.java.Maps;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import org.junit.jupiter.api.RepeatedTest;
@@ -45,6 +51,7 @@ import utilities.TestConstants;
 import java.sql.PreparedStatement;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,6 +101,51 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(session, savedSessions.get(0));
     }
 
+    @Test
+    default void sessionStoreTransactionOutOfOrderDoesNotFailDueToMissingWorldNames() {
+        // Session transactions run in the CRITICAL lane and can overtake the NORMAL world name transactions.
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        db().executeTransaction(new StoreSessionTransaction(session));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+
+        Map<ServerUUID, List<FinishedSession>> sessions = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID));
+        List<FinishedSession> savedSessions = sessions.get(serverUUID());
+
+        assertNotNull(savedSessions);
+        assertEquals(1, savedSessions.size());
+        assertEquals(session, savedSessions.get(0));
+    }
+
+    @Test
+    default void serverShutdownTransactionDoesNotFailDueToMissingWorldNames() {
+        executeTransactions(
+                new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                        TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME),
+                new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                        TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME)
+        );
+
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        executeTransactions(
+                new ServerShutdownTransaction(List.of(session)),
+                new StoreWorldNameTransaction(serverUUID(), worlds[0]),
+                new StoreWorldNameTransaction(serverUUID(), worlds[1])
+        );
+
+        List<FinishedSession> savedSessions = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID());
+        assertNotNull(savedSessions);
+        assertEquals(List.of(session), savedSessions);
+        assertEquals(worlds.length, db().query(WorldTimesQueries.fetchWorlds()).stream()
+                .filter(world -> serverUUID().equals(world.getServerUUID()))
+                .count());
+    }
+
     @Test
     default void shutdownDataPreservationTransactionOutOfOrderDoesNotFailDueToMissingMainUser() {
         db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
@@ -133,6 +185,27 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(session, savedSessions.get(0));
     }
 
+    @Test
+    default void shutdownDataPreservationTransactionDoesNotStoreSameSessionTwice() {
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        db().executeTransaction(new StoreSessionTransaction(session));
+        FinishedSession preserved = new FinishedSession(session.getPlayerUUID(), session.getServerUUID(),
+                session.getStart(), session.getStart() + 1, 0L, session.getExtraData());
+        db().executeTransaction(new ShutdownDataPreservationTransaction(List.of(preserved, preserved)));
+
+        List<FinishedSession> savedSessions = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID());
+
+        assertNotNull(savedSessions);
+        assertEquals(List.of(session), savedSessions);
+    }
+
     @Test
     default void killsAreAvailableAfter2ndUserRegisterEvenIfOutOfOrder() {
         db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
@@ -193,6 +266,57 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(0, afterTimeSessionsMutator.count());
     }
 
+    @Test
+    default void sessionAggregatesMatchSeparateQueries() {
+        prepareForSessionSave();
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, player2UUID, playerUUID)));
+
+        forcePersistenceCheck();
+
+        long now = System.currentTimeMillis();
+        QueryBatch batch = db().queryBatch();
+        Supplier<SessionAggregates> aggregates = batch.add(SessionQueries.sessionAggregates(0L, now, serverUUID()));
+        Supplier<Long> sessionCount = batch.add(SessionQueries.sessionCount(0L, now, serverUUID()));
+        Supplier<Long> playtime = batch.add(SessionQueries.playtime(0L, now, serverUUID()));
+        Supplier<Long> mobKills = batch.add(KillQueries.mobKillCount(0L, now, serverUUID()));
+        Supplier<Long> deaths = batch.add(KillQueries.deathCount(0L, now, serverUUID()));
+
+        SessionAggregates expected = new SessionAggregates(sessionCount.get(), playtime.get(), mobKills.get(), deaths.get());
+        assertEquals(2L, expected.getSessionCount());
+        assertEquals(expected, aggregates.get());
+    }
+
+    @Test
+    default void activityPerDayMatchesSeparateQueries() {
+        prepareForSessionSave();
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, player2UUID, playerUUID)));
+
+        forcePersistenceCheck();
+
+        long now = System.currentTimeMillis();
+        long offset = TimeZone.getDefault().getOffset(now);
+        NavigableMap<Long, Integer> uniquePerDay = db().query(PlayerCountQueries.uniquePlayerCounts(0L, now, offset, serverUUID()));
+        NavigableMap<Long, Integer> newPerDay = db().query(PlayerCountQueries.newPlayerCounts(0L, now, offset, serverUUID()));
+        NavigableMap<Long, Long> playtimePerDay = db().query(SessionQueries.playtimePerDay(0L, now, offset, serverUUID()));
+        NavigableMap<Long, Integer> sessionsPerDay = db().query(SessionQueries.sessionCountPerDay(0L, now, offset, serverUUID()));
+
+        Map<Long, ActivityCounts> expected = new TreeMap<>();
+        Set<Long> days = new HashSet<>(uniquePerDay.keySet());
+        days.addAll(newPerDay.keySet());
+        for (Long day : days) {
+            expected.put(day, new ActivityCounts(
+                    uniquePerDay.getOrDefault(day, 0),
+                    newPerDay.getOrDefault(day, 0),
+                    playtimePerDay.getOrDefault(day, 0L),
+                    sessionsPerDay.getOrDefault(day, 0)
+            ));
+        }
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, db().query(PlayerCountQueries.activityPerDay(0L, now, offset, serverUUID())));
+    }
+
     default void prepareForSessionSave() {
         db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
         db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
@@ -219,6 +343,25 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(session, savedSessions.get(0));
     }
 
+    @Test
+    default void sessionStartsAreGroupedByHourOfWeek() {
+        prepareForSessionSave();
+        long mondayAt13 = 1672665300000L; // Monday 2023-01-02 13:15 UTC
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, mondayAt13, playerUUID, player2UUID);
+        db().executeTransaction(new StoreSessionTransaction(session));
+
+        int[][] expected = new int[7][24];
+        expected[0][13] = 1;
+        long now = System.currentTimeMillis();
+        assertArrayEquals(expected, db().query(SessionQueries.sessionStartsPerHourOfWeek(mondayAt13, now, 0L, serverUUID())));
+        assertArrayEquals(expected, db().query(SessionQueries.sessionStartsPerHourOfWeek(mondayAt13, now, 0L)));
+        assertArrayEquals(expected, db().query(SessionQueries.sessionStartsPerHourOfWeek(playerUUID, 0L)));
+
+        int[][] expectedWithOffset = new int[7][24];
+        expectedWithOffset[1][1] = 1; // Tuesday 1 AM at UTC+12
+        assertArrayEquals(expectedWithOffset, db().query(SessionQueries.sessionStartsPerHourOfWeek(playerUUID, TimeUnit.HOURS.toMillis(12L))));
+    }
+
     @Test
     default void mostRecentSessionsCanBeQueried() {
         prepareForSessionSave();
@@ -408,6 +551,32 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(new HashSet<>(Arrays.asList(expected)), result);
     }
 
+    @Test
+    default void playerPageContainerMatchesPlayerContainer() {
+        prepareForSessionSave();
+        List<FinishedSession> player1Sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        player1Sessions.forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+
+        forcePersistenceCheck();
+
+        PlayerContainer expected = db().query(new PlayerContainerQuery(playerUUID));
+        PlayerContainer result = db().query(new PlayerPageContainerQuery(playerUUID, 2));
+
+        SessionsMutator expectedSessions = SessionsMutator.forContainer(expected);
+        SessionsMutator resultSessions = SessionsMutator.forContainer(result);
+        assertEquals(expectedSessions.count(), resultSessions.count());
+        assertEquals(expectedSessions.toPlaytime(), resultSessions.toPlaytime());
+        assertEquals(expectedSessions.toLastSeen(), resultSessions.toLastSeen());
+        assertEquals(expected.getValue(PlayerKeys.MOB_KILL_COUNT), result.getValue(PlayerKeys.MOB_KILL_COUNT));
+        assertEquals(expected.getValue(PlayerKeys.DEATH_COUNT), result.getValue(PlayerKeys.DEATH_COUNT));
+        assertEquals(expected.getValue(PlayerKeys.PLAYER_KILL_COUNT), result.getValue(PlayerKeys.PLAYER_KILL_COUNT));
+        assertEquals(expected.getValue(PlayerKeys.WORLD_TIMES), result.getValue(PlayerKeys.WORLD_TIMES));
+
+        List<FinishedSession> latest = result.getValue(PlayerKeys.LATEST_SESSIONS).orElseThrow(AssertionError::new);
+        List<FinishedSession> expectedLatest = expectedSessions.sort(new DateHolderRecentComparator()).all();
+        assertEquals(expectedLatest.subList(0, Math.min(2, expectedLatest.size())), latest);
+    }
+
     @RepeatedTest(value = 3, name = "Players table and Player page playtimes match {currentRepetition}/{totalRepetitions}")
     default void playersTableAndPlayerPagePlaytimeMatches() {
         prepareForSessionSave();
@@ -21,8 +21,10 @@ import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerStartTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
 import com.djrapitops.plan.utilities.comparators.TPSComparator;
 import com.djrapitops.plan.utilities.java.Lists;
@@ -139,4 +141,18 @@ public interface TPSQueriesTest extends DatabaseTestPreparer {
         assertTrue(result.isPresent());
         assertEquals(stored2.getDate(), result.get());
     }
+
+    @Test
+    default void recordedServerStartDateIsFetched() {
+        long firstStart = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1L);
+        long secondStart = System.currentTimeMillis();
+        db().executeTransaction(new StoreServerStartTransaction(serverUUID(), firstStart));
+        db().executeTransaction(new StoreServerStartTransaction(serverUUID(), secondStart));
+        // Plugin reload stores the same start time again
+        db().executeTransaction(new StoreServerStartTransaction(serverUUID(), secondStart));
+
+        Optional<Long> result = db().query(ServerQueries.fetchLatestServerStartTime(serverUUID()));
+        assertTrue(result.isPresent());
+        assertEquals(secondStart, result.get());
+    }
 }
@@ -27,6 +27,8 @@ import utilities.RandomData;
 import utilities.TestConstants;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -74,4 +76,24 @@ public interface PlayerRetentionQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, result);
     }
 
-}
\ No newline at end of file
+    @Test
+    default void retentionCurveIsFetchedFromSummaries() {
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        long registerTime = session.getStart() - TimeUnit.DAYS.toMillis(3L);
+
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, () -> registerTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, () -> registerTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+
+        db().executeTransaction(new StoreSessionTransaction(session));
+
+        int expectedDays = (int) TimeUnit.MILLISECONDS.toDays(session.getEnd() - registerTime);
+        Map<Integer, Integer> expected = Map.of(expectedDays, 1);
+        assertEquals(expected, db().query(PlayerRetentionQueries.fetchRetentionCurve(serverUUID())));
+        assertEquals(expected, db().query(PlayerRetentionQueries.fetchRetentionCurve()));
+    }
+
+}
@@ -25,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import utilities.RandomData;
 import utilities.TestConstants;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public interface TopListQueriesTest extends DatabaseTestPreparer {
@@ -62,4 +64,16 @@ public interface TopListQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, result);
     }
 
-}
\ No newline at end of file
+    @Test
+    default void topPlaytimeListMatchesNthQueries() {
+        storeSessionForTopListQueries();
+
+        long now = System.currentTimeMillis();
+        List<TopListQueries.TopListEntry<Long>> leaderboard = db().query(TopListQueries.fetchTop10PlaytimePlayersOn(serverUUID(), 0, now));
+        assertEquals(1, leaderboard.size());
+        TopListQueries.TopListEntry<Long> expected = db().query(TopListQueries.fetchNthTop10PlaytimePlayerOn(serverUUID(), 1, 0, now))
+                .orElseThrow(AssertionError::new);
+        assertEquals(expected.getPlayerName(), leaderboard.get(0).getPlayerName());
+        assertEquals(expected.getValue(), leaderboard.get(0).getValue());
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.commands;
 
+import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.ServerIdentifier;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.identification.Server;
@@ -24,9 +25,12 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
+import com.djrapitops.plan.storage.database.queries.objects.PingQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
@@ -90,4 +94,22 @@ public interface CombineUserTransactionTest extends DatabaseTestPreparer {
         assertTrue(db.query(KillQueries.fetchPlayerKillsOfPlayer(oldUUID)).isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    default void uuidChangeAddsDailyPingOfSameDayTogether() {
+        UUID oldUUID = UUID.randomUUID();
+        UUID newUUID = UUID.randomUUID();
+        long dayStart = DailyPingTable.toStartOfDay(System.currentTimeMillis(), config().getTimeZone());
+
+        executeTransactions(
+                new StoreServerPlayerTransaction(oldUUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME),
+                new StoreServerPlayerTransaction(newUUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME),
+                new PingStoreTransaction(oldUUID, serverUUID(), List.of(new DateObj<>(dayStart + 1000L, 20)), config().getTimeZone()),
+                new PingStoreTransaction(newUUID, serverUUID(), List.of(new DateObj<>(dayStart + 2000L, 120)), config().getTimeZone()),
+                new CombineUserTransaction(oldUUID, newUUID)
+        );
+
+        List<DailyPing> expected = List.of(new DailyPing(dayStart, serverUUID(), 20, 120, 140.0, 2, new int[]{1, 0, 1, 0}));
+        assertEquals(expected, db().query(PingQueries.fetchDailyPingDataOfPlayer(newUUID)));
+    }
+
+}
@@ -26,6 +26,7 @@ import utilities.TestConstants;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -54,7 +55,7 @@ class PingMedianTest {
         List<Integer> collect = testPing.stream().map(DateObj::getValue).sorted().collect(Collectors.toList());
 
         int expected = (int) Median.forList(collect).calculate();
-        int result = new PingStoreTransaction(TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID, testPing)
+        int result = new PingStoreTransaction(TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID, testPing, TimeZone.getTimeZone("UTC"))
                 .getMeanValue();
 
         assertEquals(expected, result);
@@ -64,7 +65,7 @@ class PingMedianTest {
     void medianCalculationForSingleEntryIsEntry() {
         int expected = 50;
         int result = new PingStoreTransaction(TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID,
-                Collections.singletonList(new DateObj<>(0, expected)))
+                Collections.singletonList(new DateObj<>(0, expected)), TimeZone.getTimeZone("UTC"))
                 .getMeanValue();
 
         assertEquals(expected, result);
@@ -73,7 +74,7 @@ class PingMedianTest {
     @Test
     void medianCalculationForNoEntriesIsMinusOne() {
         int expected = -1;
-        int result = new PingStoreTransaction(TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID, new ArrayList<>())
+        int result = new PingStoreTransaction(TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID, new ArrayList<>(), TimeZone.getTimeZone("UTC"))
                 .getMeanValue();
 
         assertEquals(expected, result);
@@ -0,0 +1,88 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.DailyPing;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.PingQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyPingTable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.List;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link DailyPingUniquePatch}.
+ *
+ * @author AuroraLS3
+ */
+public interface DailyPingUniquePatchTest extends DatabaseTestPreparer {
+
+    @Test
+    default void duplicateDailyPingRowsAreMergedByUniquePatch() {
+        long dayStart = DailyPingTable.toStartOfDay(System.currentTimeMillis(), config().getTimeZone());
+        executeTransactions(
+                new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                        TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME),
+                new PingStoreTransaction(playerUUID, serverUUID(), List.of(new DateObj<>(dayStart + 1000L, 20)), config().getTimeZone())
+        );
+        executeTransactions(new Transaction() {
+            @Override
+            protected void performOperations() {
+                if (dbType == DBType.MYSQL) {
+                    // Non-unique index that existed before the patch, MySQL needs an index for the foreign key.
+                    execute("CREATE INDEX plan_ping_daily_user_index ON " + DailyPingTable.TABLE_NAME +
+                            " (" + DailyPingTable.USER_ID + ',' + DailyPingTable.SERVER_ID + ',' + DailyPingTable.DATE + ')');
+                    execute("DROP INDEX " + DailyPingTable.UNIQUE_INDEX + " ON " + DailyPingTable.TABLE_NAME);
+                } else {
+                    execute("DROP INDEX " + DailyPingTable.UNIQUE_INDEX);
+                }
+                String columns = DailyPingTable.USER_ID + ',' +
+                        DailyPingTable.SERVER_ID + ',' +
+                        DailyPingTable.DATE + ',' +
+                        DailyPingTable.MAX_PING + ',' +
+                        DailyPingTable.MIN_PING + ',' +
+                        DailyPingTable.PING_SUM + ',' +
+                        DailyPingTable.PING_COUNT + ',' +
+                        DailyPingTable.SAMPLES_UNDER_50 + ',' +
+                        DailyPingTable.SAMPLES_50_TO_99 + ',' +
+                        DailyPingTable.SAMPLES_100_TO_199 + ',' +
+                        DailyPingTable.SAMPLES_200_OR_MORE;
+                execute("INSERT INTO " + DailyPingTable.TABLE_NAME + " (" + columns + ") " +
+                        "SELECT " + columns + FROM + DailyPingTable.TABLE_NAME);
+            }
+        });
+
+        DailyPingUniquePatch patch = new DailyPingUniquePatch();
+        executeTransactions(patch);
+        assertTrue(patch.wasApplied());
+        assertTrue(patch.isApplied());
+
+        List<DailyPing> expected = List.of(new DailyPing(dayStart, serverUUID(), 20, 20, 40.0, 2, new int[]{2, 0, 0, 0}));
+        assertEquals(expected, db().query(PingQueries.fetchDailyPingDataOfPlayer(playerUUID)));
+    }
+}
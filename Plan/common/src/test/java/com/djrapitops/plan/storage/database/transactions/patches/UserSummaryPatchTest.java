@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.delivery.domain.RetentionData;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueries;
+import com.djrapitops.plan.storage.database.sql.tables.UserSummaryTable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.List;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link UserSummaryBackfillPatch} and {@link UserSummaryUniquePatch}.
+ *
+ * @author AuroraLS3
+ */
+public interface UserSummaryPatchTest extends DatabaseTestPreparer {
+
+    private FinishedSession storePlayerWithSession() {
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        executeTransactions(
+                new StoreWorldNameTransaction(serverUUID(), worlds[0]),
+                new StoreWorldNameTransaction(serverUUID(), worlds[1]),
+                new StoreServerPlayerTransaction(playerUUID, session::getStart,
+                        TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME),
+                new StoreServerPlayerTransaction(player2UUID, session::getStart,
+                        TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME),
+                new StoreSessionTransaction(session)
+        );
+        return session;
+    }
+
+    @Test
+    default void userSummaryIsCalculatedFromSessionsByBackfillPatch() {
+        FinishedSession session = storePlayerWithSession();
+        executeTransactions(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(DELETE_FROM + UserSummaryTable.TABLE_NAME);
+            }
+        });
+
+        UserSummaryBackfillPatch patch = new UserSummaryBackfillPatch();
+        executeTransactions(patch);
+        assertTrue(patch.wasApplied());
+
+        List<RetentionData> expected = List.of(new RetentionData(playerUUID, session.getStart(), session.getEnd(), session.getLength()));
+        assertEquals(expected, db().query(PlayerRetentionQueries.fetchRetentionData(serverUUID())));
+    }
+
+    @Test
+    default void userSummaryOfSecondSessionIsAddedToSameRow() {
+        FinishedSession session = storePlayerWithSession();
+        FinishedSession secondSession = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        executeTransactions(new StoreSessionTransaction(secondSession));
+
+        List<RetentionData> expected = List.of(new RetentionData(playerUUID, session.getStart(),
+                Math.max(session.getEnd(), secondSession.getEnd()), session.getLength() + secondSession.getLength()));
+        assertEquals(expected, db().query(PlayerRetentionQueries.fetchRetentionData(serverUUID())));
+    }
+
+    @Test
+    default void duplicateUserSummariesAreMergedByUniquePatch() {
+        FinishedSession session = storePlayerWithSession();
+        executeTransactions(new Transaction() {
+            @Override
+            protected void performOperations() {
+                if (dbType == DBType.MYSQL) {
+                    // Non-unique index that existed before the patch, MySQL needs an index for the foreign key.
+                    execute("CREATE INDEX plan_user_summary_user_index ON " + UserSummaryTable.TABLE_NAME +
+                            " (" + UserSummaryTable.USER_ID + ',' + UserSummaryTable.SERVER_ID + ')');
+                    execute("DROP INDEX " + UserSummaryTable.UNIQUE_INDEX + " ON " + UserSummaryTable.TABLE_NAME);
+                } else {
+                    execute("DROP INDEX " + UserSummaryTable.UNIQUE_INDEX);
+                }
+                String columns = UserSummaryTable.USER_ID + ',' +
+                        UserSummaryTable.SERVER_ID + ',' +
+                        UserSummaryTable.REGISTERED + ',' +
+                        UserSummaryTable.LAST_SEEN + ',' +
+                        UserSummaryTable.PLAYTIME + ',' +
+                        UserSummaryTable.ACTIVE_PLAYTIME + ',' +
+                        UserSummaryTable.SESSION_COUNT;
+                execute("INSERT INTO " + UserSummaryTable.TABLE_NAME + " (" + columns + ") " +
+                        "SELECT " + columns + FROM + UserSummaryTable.TABLE_NAME);
+            }
+        });
+
+        UserSummaryUniquePatch patch = new UserSummaryUniquePatch();
+        executeTransactions(patch);
+        assertTrue(patch.wasApplied());
+        assertTrue(patch.isApplied());
+
+        List<RetentionData> expected = List.of(new RetentionData(playerUUID, session.getStart(), session.getEnd(), session.getLength() * 2));
+        assertEquals(expected, db().query(PlayerRetentionQueries.fetchRetentionData(serverUUID())));
+    }
+}
@@ -114,7 +114,7 @@ public class FabricPingCounter extends TaskSystem.Task implements FabricListener
                 history.add(new DateObj<>(time, ping));
                 if (history.size() >= 30) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history), config.getTimeZone())
                     );
                     history.clear();
                 }
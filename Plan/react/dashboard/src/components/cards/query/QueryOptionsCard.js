@@ -133,7 +133,7 @@ const QueryOptionsCard = () => {
         setResult(data);
         window.scrollTo(0, 0);
         if (data?.data) {
-            navigate('../result?timestamp=' + data.timestamp);
+            navigate('../result?hash=' + data.hash);
         }
     }
 
@@ -10,7 +10,7 @@ export const postQuery = async (inputDto) => {
     return doSomePostRequest(url, [standard200option], inputDto);
 }
 
-export const fetchExistingResults = async (timestamp) => {
-    const url = `/v1/query?timestamp=${timestamp}`;
+export const fetchExistingResults = async (hash, timestamp) => {
+    const url = hash ? `/v1/query?hash=${encodeURIComponent(hash)}` : `/v1/query?timestamp=${timestamp}`;
     return doGetRequest(url);
 }
\ No newline at end of file
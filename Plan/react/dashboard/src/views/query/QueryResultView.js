@@ -21,10 +21,11 @@ const QueryResultView = () => {
 
     const getResult = useCallback(async () => {
         const urlParams = new URLSearchParams(window.location.search);
+        const hash = urlParams.get('hash');
         const timestamp = urlParams.get('timestamp');
-        if (!timestamp) return {};
+        if (!hash && !timestamp) return {};
 
-        const {data: result} = await fetchExistingResults(timestamp);
+        const {data: result} = await fetchExistingResults(hash, timestamp);
         if (result) {
             return result;
         } else {
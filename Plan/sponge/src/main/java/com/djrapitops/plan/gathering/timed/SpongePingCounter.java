@@ -104,7 +104,7 @@ public class SpongePingCounter extends TaskSystem.Task {
                 history.add(new DateObj<>(time, ping));
                 if (history.size() >= 30) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history), config.getTimeZone())
                     );
                     history.clear();
                 }